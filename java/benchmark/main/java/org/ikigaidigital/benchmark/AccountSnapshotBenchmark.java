@@ -0,0 +1,107 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotReader;
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotWriter;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing an account snapshot file and scanning it for a balance total per plan, which decodes only the plan code and
+ * balance columns. The rows come from memory, so the database read of the export is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class AccountSnapshotBenchmark {
+    private static final int ROW_GROUP_SIZE = 65536;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int accounts;
+
+    @Param({"BALANCED"})
+    private PlanMix planMix;
+
+    private int[] ids;
+    private String[] planTypes;
+    private int[] days;
+    private long[] balanceCents;
+    private Path writeFile;
+    private Path scanFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final List<TimeDepositsDto> deposits = BenchmarkData.deposits(accounts, planMix);
+        ids = new int[accounts];
+        planTypes = new String[accounts];
+        days = new int[accounts];
+        balanceCents = new long[accounts];
+        for (int row = 0; row < accounts; row++) {
+            final TimeDepositsDto dto = deposits.get(row);
+            ids[row] = dto.getId();
+            planTypes[row] = dto.getPlanType();
+            days[row] = dto.getDays();
+            balanceCents[row] = dto.getBalance().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+        writeFile = Files.createTempFile("accounts-", ".snapshot");
+        scanFile = Files.createTempFile("accounts-", ".snapshot");
+        write(scanFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(writeFile);
+        Files.deleteIfExists(scanFile);
+    }
+
+    @Benchmark
+    public long write() throws IOException {
+        return write(writeFile);
+    }
+
+    @Benchmark
+    public long[] scanBalanceTotalsByPlan() throws IOException {
+        try (AccountSnapshotReader reader = AccountSnapshotReader.open(scanFile)) {
+            final long[] totals = new long[reader.planTypes().size()];
+            while (reader.nextRowGroup()) {
+                final byte[] planCodes = reader.planCodeColumn();
+                final long[] balances = reader.balanceCentsColumn();
+                for (int row = 0; row < reader.rows(); row++) {
+                    totals[planCodes[row] & 0xff] += balances[row];
+                }
+            }
+            return totals;
+        }
+    }
+
+    private long write(final Path file) throws IOException {
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.open(file, Instant.EPOCH, ROW_GROUP_SIZE)) {
+            for (int row = 0; row < accounts; row++) {
+                writer.add(ids[row], planTypes[row], days[row], balanceCents[row], row % 3, row % 3 * 10_000L, row % 3 == 0 ? 0 : 19_800);
+            }
+            return writer.finish();
+        }
+    }
+}
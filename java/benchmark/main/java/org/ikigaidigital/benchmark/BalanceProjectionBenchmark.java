@@ -0,0 +1,72 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.projection.BalanceProjector;
+import org.ikigaidigital.domain.component.projection.ProjectionProperties;
+import org.ikigaidigital.domain.model.dto.TimeDepositProjectionDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projecting a whole book {@code months} accruals ahead with {@link BalanceProjector#project(List, int)}, against
+ * running {@link TimeDepositCalculator#updateBalance(List)} that many times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BalanceProjectionBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int accounts;
+
+    @Param({"1", "12", "120"})
+    private int months;
+
+    private TimeDepositCalculator calculator;
+    private BalanceProjector projector;
+    private List<TimeDepositsDto> deposits;
+    private List<TimeDepositsDto> accrued;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        calculator = new TimeDepositCalculator(BenchmarkData.planProperties(), new AccrualProperties());
+        projector = new BalanceProjector(calculator, new ProjectionProperties());
+        deposits = BenchmarkData.deposits(accounts, PlanMix.BALANCED);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyDeposits() {
+        accrued = deposits.stream().map(dto -> new TimeDepositsDto(dto.getId(), dto.getPlanType(), dto.getBalance(), dto.getDays())).toList();
+    }
+
+    @Benchmark
+    public List<TimeDepositProjectionDto> project() {
+        return projector.project(deposits, months);
+    }
+
+    @Benchmark
+    public List<TimeDepositsDto> repeatedUpdateBalance() {
+        for (int month = 0; month < months; month++) {
+            calculator.updateBalance(accrued);
+            accrued.forEach(dto -> dto.setDays(dto.getDays() + 30));
+        }
+        return accrued;
+    }
+}
@@ -0,0 +1,88 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.entity.TimeDeposits;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic dataset generator shared by the benchmarks, seeded so that runs across versions see the same book.
+ */
+public final class BenchmarkData {
+    private static final long SEED = 20240531L;
+    private static final String[] PLAN_TYPES = {"BASIC", "STUDENT", "PREMIUM"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @return The plans from {@code application.yml}: student 3% ending after 365 days, premium 5% and basic 1%.
+     */
+    public static PlanProperties planProperties() {
+        final PlanProperties planProperties = new PlanProperties();
+        planProperties.setPlans(List.of(
+                plan("student", "0.03", 30, true, 365),
+                plan("premium", "0.05", 45, false, null),
+                plan("basic", "0.01", 30, false, null)));
+        return planProperties;
+    }
+
+    public static List<TimeDepositsDto> deposits(final int count, final PlanMix planMix) {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final List<TimeDepositsDto> deposits = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            final String planType = planType(random, planMix);
+            deposits.add(new TimeDepositsDto(id, planType, balance(random), days(random, planMix, planType)));
+        }
+        return deposits;
+    }
+
+    public static List<TimeDeposits> entities(final int count, final PlanMix planMix) {
+        final List<TimeDeposits> entities = new ArrayList<>(count);
+        for (TimeDepositsDto dto : deposits(count, planMix)) {
+            final TimeDeposits entity = new TimeDeposits();
+            entity.setId(dto.getId());
+            entity.setPlanType(dto.getPlanType());
+            entity.setBalance(dto.getBalance());
+            entity.setDays(dto.getDays());
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private static String planType(final SplittableRandom random, final PlanMix planMix) {
+        if (planMix == PlanMix.NON_ACCRUING && random.nextInt(20) == 0) {
+            return "LEGACY";
+        }
+        return PLAN_TYPES[random.nextInt(PLAN_TYPES.length)];
+    }
+
+    private static BigDecimal balance(final SplittableRandom random) {
+        return BigDecimal.valueOf(random.nextLong(100L, 100_000_000L), 2);
+    }
+
+    private static int days(final SplittableRandom random, final PlanMix planMix, final String planType) {
+        return switch (planMix) {
+            case BALANCED -> random.nextInt(730);
+            case ACCRUING -> "STUDENT".equals(planType) ? random.nextInt(46, 366) : random.nextInt(46, 730);
+            case NON_ACCRUING -> "STUDENT".equals(planType) && random.nextBoolean()
+                    ? random.nextInt(366, 730)
+                    : random.nextInt(0, 31);
+        };
+    }
+
+    private static PlanProperties.Plan plan(final String planType, final String interestRate, final int interestFreeDays,
+                                            final boolean interestEnds, final Integer interestEndsAfterDays) {
+        final PlanProperties.Plan plan = new PlanProperties.Plan();
+        plan.setPlanType(planType);
+        plan.setInterestRate(new BigDecimal(interestRate));
+        plan.setInterestFreeDays(interestFreeDays);
+        plan.setInterestEnds(interestEnds);
+        plan.setInterestEndsAfterDays(interestEndsAfterDays);
+        return plan;
+    }
+}
@@ -0,0 +1,87 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.component.importer.MappedCsvReader;
+import org.ikigaidigital.domain.component.importer.TimeDepositImportRows;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a time deposit import file with the {@link MappedCsvReader} into {@link TimeDepositImportRows}, as the
+ * bulk import does before inserting; the buffer is flushed by clearing it, so only reading and parsing is measured.
+ * Multiply the score by the accounts for the parse throughput in rows per millisecond.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CsvImportBenchmark {
+    private static final int FLUSH_ROWS = 10000;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int accounts;
+
+    @Param({"BALANCED"})
+    private PlanMix planMix;
+
+    private Path file;
+    private TimeDepositImportRows rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("time-deposits-", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            writer.write("id,plan_type,days,balance\n");
+            for (TimeDepositsDto dto : BenchmarkData.deposits(accounts, planMix)) {
+                writer.write(dto.getId() + "," + dto.getPlanType() + "," + dto.getDays() + ","
+                        + dto.getBalance().setScale(2, RoundingMode.HALF_UP).toPlainString() + "\n");
+            }
+        }
+        rows = new TimeDepositImportRows(FLUSH_ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int parse() throws IOException {
+        int parsed = 0;
+        try (MappedCsvReader reader = MappedCsvReader.open(file)) {
+            reader.nextRecord();
+            while (reader.nextRecord()) {
+                rows.add(reader.intField(), reader.tokenField(8), reader.intField(), reader.decimalField(2), reader.lineNumber());
+                reader.endOfRecord();
+                if (rows.isFull()) {
+                    parsed += rows.size();
+                    rows.clear();
+                }
+            }
+        }
+        parsed += rows.size();
+        rows.clear();
+        return parsed;
+    }
+}
@@ -0,0 +1,59 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.component.calculator.InterestKernel;
+import org.ikigaidigital.domain.component.calculator.InterestKernels;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.TimeDepositColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Month-end interest calculation over a whole book held in {@link TimeDepositColumns}, with the scalar and the
+ * {@code jdk.incubator.vector} kernel. Compare with the {@code COLUMNAR} engine of
+ * {@link TimeDepositCalculatorBenchmark}, which includes the copy from and to the DTOs. The kernels overwrite the
+ * accrued balances only, so every invocation sees the same input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules=jdk.incubator.vector"})
+public class InterestKernelBenchmark {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int accounts;
+
+    @Param({"BALANCED", "ACCRUING", "NON_ACCRUING"})
+    private PlanMix planMix;
+
+    @Param({"false", "true"})
+    private boolean vector;
+
+    private InterestKernel kernel;
+    private TimeDepositColumns columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        kernel = InterestKernels.create(vector);
+        columns = TimeDepositColumns.of(BenchmarkData.deposits(accounts, planMix),
+                PlanEvaluatorIndex.compile(BenchmarkData.planProperties().getPlans()));
+    }
+
+    @Benchmark
+    public TimeDepositColumns accrue() {
+        kernel.accrue(columns);
+        return columns;
+    }
+}
@@ -0,0 +1,71 @@
+package org.ikigaidigital.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.core.helpers.NOPAppender;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per-row debug log line written while converting accounts, with DEBUG enabled and disabled.
+ * Output goes to a no-op appender, so only the formatting, MDC and level checks are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggerUtilsBenchmark {
+    private static final String TRACE_ID = "5b0a2f4e-6a55-4d8e-9c61-3f1f6f0e9a10";
+
+    @Param({"DEBUG", "INFO"})
+    private String level;
+
+    private final LoggerUtils.Sampler sampler = LoggerUtils.sampleEvery(1000);
+    private TimeDepositsDto dto;
+
+    @Setup
+    public void setUp() {
+        final Logger logger = (Logger) LoggerFactory.getLogger(LoggerUtils.class);
+        logger.detachAndStopAllAppenders();
+        final NOPAppender<ch.qos.logback.classic.spi.ILoggingEvent> appender = new NOPAppender<>();
+        appender.setContext(logger.getLoggerContext());
+        appender.start();
+        logger.addAppender(appender);
+        logger.setAdditive(false);
+        logger.setLevel(Level.toLevel(level));
+        dto = new TimeDepositsDto(42, "PREMIUM", new BigDecimal("5020.83"), 120);
+    }
+
+    @Benchmark
+    public void logDebugPerRow() {
+        LoggerUtils.logDebug(TRACE_ID, Sources.SERVICE_LAYER, "Time Deposit entity converted {}.", dto);
+    }
+
+    @Benchmark
+    public void logDebugPerRowSampled() {
+        LoggerUtils.logDebugSampled(sampler, TRACE_ID, Sources.SERVICE_LAYER, "Time Deposit entity converted {}.", dto);
+    }
+
+    @Benchmark
+    public void logInfoPerRun() {
+        LoggerUtils.logInfo(TRACE_ID, Sources.SERVICE_LAYER, "Retrieve and update all time deposit accounts.");
+    }
+}
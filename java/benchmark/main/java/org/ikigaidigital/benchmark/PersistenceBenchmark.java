@@ -0,0 +1,101 @@
+package org.ikigaidigital.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
+import org.ikigaidigital.domain.component.listing.ListingProperties;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.repository.time.deposits.AdaptiveBatchWriter;
+import org.ikigaidigital.repository.time.deposits.BatchWriterProperties;
+import org.ikigaidigital.repository.time.deposits.TimeDepositsRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chunked read and batch write of the accrual against an in-memory H2 database created from {@code schema.sql}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PersistenceBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int accounts;
+
+    @Param({"1000", "10000"})
+    private int chunkSize;
+
+    private SingleConnectionDataSource dataSource;
+    private TimeDepositsRepositoryImpl repository;
+    private List<TimeDepositsDto> firstChunk;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "sa", "sa", true);
+        ScriptUtils.executeSqlScript(dataSource.getConnection(), new ClassPathResource("schema.sql"));
+
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.batchUpdate("INSERT INTO time_deposits (id, plan_type, days, balance) VALUES (?, ?, ?, ?)",
+                BenchmarkData.deposits(accounts, PlanMix.BALANCED), 10_000,
+                (ps, dto) -> {
+                    ps.setInt(1, dto.getId());
+                    ps.setString(2, dto.getPlanType());
+                    ps.setInt(3, dto.getDays());
+                    ps.setBigDecimal(4, dto.getBalance());
+                });
+
+        repository = new TimeDepositsRepositoryImpl(jdbcTemplate, new TimeDepositsDataVersion(jdbcTemplate, new ListingProperties()),
+                new AdaptiveBatchWriter(jdbcTemplate, new BatchWriterProperties(), new SimpleMeterRegistry()));
+        firstChunk = repository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, chunkSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void readAllChunks(final Blackhole blackhole) {
+        long afterId = Long.MIN_VALUE;
+        List<TimeDepositsDto> chunk;
+        do {
+            chunk = repository.findTimeDepositsInIdRange(afterId, Long.MAX_VALUE, chunkSize);
+            blackhole.consume(chunk);
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == chunkSize);
+    }
+
+    @Benchmark
+    public void batchUpdateChunk() {
+        repository.batchUpdateTimeDepositAccounts(firstChunk);
+    }
+
+    @Benchmark
+    public void batchUpdateChunkBalances() {
+        repository.batchUpdateTimeDepositBalances(firstChunk);
+    }
+}
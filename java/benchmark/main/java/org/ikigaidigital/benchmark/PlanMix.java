@@ -0,0 +1,13 @@
+package org.ikigaidigital.benchmark;
+
+/**
+ * Shape of the generated account book: which plans the accounts are on and how many of them earn interest.
+ */
+public enum PlanMix {
+    /** Even split across basic, student and premium, with days spread over two years. */
+    BALANCED,
+    /** Every account is inside its plan's interest window, so every row takes the full calculation path. */
+    ACCRUING,
+    /** Mostly interest-free or expired student deposits, with a few unknown plan types. */
+    NON_ACCRUING
+}
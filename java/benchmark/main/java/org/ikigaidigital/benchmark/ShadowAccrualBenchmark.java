@@ -0,0 +1,99 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.component.shadow.ShadowAccrualProperties;
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotWriter;
+import org.ikigaidigital.domain.component.snapshot.SnapshotProperties;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.request.ShadowAccrualRequest;
+import org.ikigaidigital.domain.model.response.ShadowAccrualResponse;
+import org.ikigaidigital.domain.service.impl.ShadowAccrualServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A shadow accrual of a whole book with the premium rate raised from 5% to 6%, scanning an account snapshot file on
+ * {@code parallelism} workers, with and without streaming the diff of the premium accounts to a file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ShadowAccrualBenchmark {
+    private static final int ROW_GROUP_SIZE = 65536;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int accounts;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    @Param({"false", "true"})
+    private boolean diff;
+
+    private Path snapshotFile;
+    private Path diffFile;
+    private ShadowAccrualServiceImpl shadowAccrualService;
+    private ShadowAccrualRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        snapshotFile = Files.createTempFile("accounts-", ".snapshot");
+        diffFile = Files.createTempFile("shadow-accrual-", ".csv");
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.open(snapshotFile, Instant.EPOCH, ROW_GROUP_SIZE)) {
+            for (TimeDepositsDto dto : BenchmarkData.deposits(accounts, PlanMix.BALANCED)) {
+                writer.add(dto.getId(), dto.getPlanType(), dto.getDays(),
+                        dto.getBalance().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact(), 0, 0, 0);
+            }
+            writer.finish();
+        }
+
+        final SnapshotProperties snapshotProperties = new SnapshotProperties();
+        snapshotProperties.setFile(snapshotFile);
+        final ShadowAccrualProperties shadowAccrualProperties = new ShadowAccrualProperties();
+        shadowAccrualProperties.setParallelism(parallelism);
+        shadowAccrualProperties.setDiffFile(diff ? diffFile : null);
+        // The snapshot file exists, so the export service is never called
+        shadowAccrualService = new ShadowAccrualServiceImpl(
+                new TimeDepositCalculator(BenchmarkData.planProperties(), new AccrualProperties()), null, snapshotProperties, shadowAccrualProperties);
+
+        final List<PlanProperties.Plan> plans = BenchmarkData.planProperties().getPlans();
+        plans.get(1).setInterestRate(new BigDecimal("0.06"));
+        request = new ShadowAccrualRequest(plans, 10, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(diffFile);
+    }
+
+    @Benchmark
+    public ShadowAccrualResponse runShadowAccrual() {
+        return shadowAccrualService.runShadowAccrual("benchmark", request);
+    }
+}
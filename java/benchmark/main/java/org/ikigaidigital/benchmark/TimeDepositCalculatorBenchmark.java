@@ -0,0 +1,69 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.constant.CalculationEngine;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Month-end interest calculation over a whole book: {@link TimeDepositCalculator#updateBalance(List)}.
+ * Balances are restored before every invocation so each one sees the same input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TimeDepositCalculatorBenchmark {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int accounts;
+
+    @Param({"BALANCED", "ACCRUING", "NON_ACCRUING"})
+    private PlanMix planMix;
+
+    @Param({"BIG_DECIMAL", "FIXED_POINT", "COLUMNAR"})
+    private CalculationEngine calculationEngine;
+
+    private TimeDepositCalculator calculator;
+    private List<TimeDepositsDto> deposits;
+    private BigDecimal[] originalBalances;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final AccrualProperties accrualProperties = new AccrualProperties();
+        accrualProperties.setCalculationEngine(calculationEngine);
+        calculator = new TimeDepositCalculator(BenchmarkData.planProperties(), accrualProperties);
+        deposits = BenchmarkData.deposits(accounts, planMix);
+        originalBalances = deposits.stream().map(TimeDepositsDto::getBalance).toArray(BigDecimal[]::new);
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreBalances() {
+        for (int i = 0; i < originalBalances.length; i++) {
+            deposits.get(i).setBalance(originalBalances[i]);
+        }
+    }
+
+    @Benchmark
+    public List<TimeDepositsDto> updateBalance() {
+        calculator.updateBalance(deposits);
+        return deposits;
+    }
+}
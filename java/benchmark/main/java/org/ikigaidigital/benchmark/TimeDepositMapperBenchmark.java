@@ -0,0 +1,53 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.mapper.TimeDepositMapper;
+import org.ikigaidigital.domain.model.entity.TimeDeposits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO conversion of a whole book with {@link TimeDepositMapper#toDto(TimeDeposits)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TimeDepositMapperBenchmark {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int accounts;
+
+    @Param({"BALANCED"})
+    private PlanMix planMix;
+
+    private TimeDepositMapper mapper;
+    private List<TimeDeposits> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new TimeDepositMapper();
+        entities = BenchmarkData.entities(accounts, planMix);
+    }
+
+    @Benchmark
+    public void toDto(final Blackhole blackhole) {
+        for (TimeDeposits entity : entities) {
+            blackhole.consume(mapper.toDto(entity));
+        }
+    }
+}
@@ -3,4 +3,8 @@ package org.ikigaidigital.api.constant;
 public final class UriConstants {
     public static final String PATCH_UPDATE_ALL_TIME_DEPOSIT_ACCOUNTS_URL = "/update-all-accounts";
     public static final String GET_ALL_TIME_DEPOSIT_ACCOUNTS_URL = "/get-all-accounts";
+    public static final String GET_PROJECTED_BALANCES_URL = "/projected-balances";
+    public static final String POST_SHADOW_ACCRUAL_URL = "/shadow-accrual";
+    public static final String GET_LISTING_CACHE_STATS_URL = "/listing-cache-stats";
+    public static final String ACCRUAL_JOB_URL = "/accrual-jobs/{jobId}";
 }
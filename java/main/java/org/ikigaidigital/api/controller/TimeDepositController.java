@@ -1,16 +1,26 @@
 package org.ikigaidigital.api.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.ikigaidigital.domain.component.cache.CacheStats;
 import org.ikigaidigital.domain.exception.DataConversionException;
 import org.ikigaidigital.domain.exception.TimeDepositException;
 import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.request.ShadowAccrualRequest;
+import org.ikigaidigital.domain.model.response.AccrualJobResponse;
+import org.ikigaidigital.domain.model.response.ShadowAccrualResponse;
+import org.ikigaidigital.domain.model.response.TimeDepositProjectionsResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
 
 @Tag(name = "XA Bank Time Deposit", description = "Endpoints for managing and retrieving XA Bank time deposit accounts.")
 public interface TimeDepositController {
@@ -46,8 +56,94 @@ public interface TimeDepositController {
     })
     ResponseEntity<?> updateAllTimeDepositAccounts();
 
+    @Operation(summary = "Catch Up On Missed Updates Of All Time Deposit Accounts",
+            description = "Selected with catchUp=true. Applies every month-end update missed since the last recorded run, "
+                    + "up to the current month, in one pass that reads and writes each account once.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "The missed updates were applied",
+                    content = @Content(mediaType = "text/plain", examples = @ExampleObject(value = "Success!"))),
+            @ApiResponse(responseCode = "400", description = "Too many missed periods or an error while updating",
+                    content = @Content(mediaType = "text/plain",
+                            examples = @ExampleObject(value = "More periods were missed than the accrual catch-up may apply in one run"))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error message",
+                    content = @Content(mediaType = "text/plain", examples = @ExampleObject(value = "Unexpected error")))
+    })
+    ResponseEntity<?> catchUpTimeDepositAccounts();
+
+    @Operation(summary = "Reject Asynchronous Catch Up Of All Time Deposit Accounts",
+            description = "Selected with catchUp=true and async=true together. The catch-up only runs on the request thread, "
+                    + "so the request is rejected rather than running either update.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "400", description = "catchUp=true was combined with async=true",
+                    content = @Content(mediaType = "text/plain",
+                            examples = @ExampleObject(value = "catchUp=true cannot be combined with async=true")))
+    })
+    ResponseEntity<?> rejectAsyncCatchUp();
+
+    @Operation(summary = "Submit Asynchronous Update Of All Time Deposit Accounts",
+            description = "Selected with async=true. Queues the update of all time deposit accounts for the current month "
+                    + "and returns the job straight away, with its polling URL in the Location header. If an update job is "
+                    + "already queued or running, that job is returned instead.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "The update job was accepted",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AccrualJobResponse.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "jobId": "0f8e4b0a-2a55-4d8e-9c61-3f1f6f0e9a10",
+                                        "period": "2026-10",
+                                        "status": "QUEUED",
+                                        "rowsDone": 0,
+                                        "rowsPerSecond": 0.0,
+                                        "cancelRequested": false,
+                                        "submittedAt": "2026-10-31T00:00:00"
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "The job could not be submitted",
+                    content = @Content(mediaType = "text/plain", examples = @ExampleObject(value = "Error submitting the accrual job")))
+    })
+    ResponseEntity<?> submitAccrualJob();
+
+    @Operation(summary = "Get Asynchronous Update Job",
+            description = "Returns the progress of an update job: status, current stage, rows done, throughput and an "
+                    + "estimate of the remaining seconds.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Progress of the job",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AccrualJobResponse.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "jobId": "0f8e4b0a-2a55-4d8e-9c61-3f1f6f0e9a10",
+                                        "period": "2026-10",
+                                        "status": "RUNNING",
+                                        "stage": "persist",
+                                        "rowsDone": 1250000,
+                                        "totalRows": 5000000,
+                                        "rowsPerSecond": 41666.7,
+                                        "etaSeconds": 90,
+                                        "cancelRequested": false,
+                                        "submittedAt": "2026-10-31T00:00:00",
+                                        "startedAt": "2026-10-31T00:00:00"
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "404", description = "No such job",
+                    content = @Content(mediaType = "text/plain", examples = @ExampleObject(value = "Accrual job not found")))
+    })
+    ResponseEntity<?> getAccrualJob(@Parameter(description = "The job ID returned on submission.") final String jobId);
+
+    @Operation(summary = "Cancel Asynchronous Update Job",
+            description = "Requests cancellation of an update job. A running job stops before its next chunk; chunks "
+                    + "already committed are kept and the next update of the month resumes after them.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Cancellation was requested",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AccrualJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No such job",
+                    content = @Content(mediaType = "text/plain", examples = @ExampleObject(value = "Accrual job not found")))
+    })
+    ResponseEntity<?> cancelAccrualJob(@Parameter(description = "The job ID returned on submission.") final String jobId);
+
     @Operation(summary = "Get All Time Deposit Accounts",
-            description = "Retrieves all time deposit accounts with their balances and plan types.")
+            description = "Retrieves all time deposit accounts with their balances and plan types. When any of the pagination "
+                    + "or filter parameters is given, a single keyset page is returned instead, with a nextCursor while more "
+                    + "accounts follow.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful retrieval of time deposit accounts",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = TimeDepositsDto.class),
@@ -81,6 +177,20 @@ public interface TimeDepositController {
                                                 "count": 0,
                                                 "accounts": []
                                             }
+                                            """),
+                                    @ExampleObject(name = "page", value = """
+                                            {
+                                                "count": 1,
+                                                "accounts": [
+                                                    {
+                                                        "id": 3,
+                                                        "planType": "PREMIUM",
+                                                        "balance": 5000.00,
+                                                        "days": 50
+                                                    }
+                                                ],
+                                                "nextCursor": "djE6Mw"
+                                            }
                                             """)
                             })),
             @ApiResponse(responseCode = "400", description = "Time deposit error",
@@ -93,5 +203,150 @@ public interface TimeDepositController {
                                     "Unspecified error occurred"
                                     """)))
     })
-    ResponseEntity<?> getAllTimeDepositAccounts();
+    ResponseEntity<?> getAllTimeDepositAccounts(
+            @Parameter(description = "Return accounts with an ID greater than this one. Ignored when a cursor is given.") final Long afterId,
+            @Parameter(description = "Opaque cursor from the nextCursor of the previous page.") final String cursor,
+            @Parameter(description = "Maximum number of accounts on the page; capped to the configured maximum.") final Integer limit,
+            @Parameter(description = "Only return accounts of this plan type, e.g. PREMIUM.") final String planType,
+            @Parameter(description = "Only return accounts with at least this balance.") final BigDecimal minBalance,
+            @Parameter(description = "Only return accounts with at most this balance.") final BigDecimal maxBalance,
+            @Parameter(description = "Attach the withdrawals of each account.") final boolean includeWithdrawals);
+
+    @Operation(summary = "Stream All Time Deposit Accounts",
+            description = "Selected with stream=true. Writes the same JSON document as 'Get All Time Deposit Accounts' "
+                    + "incrementally from the database cursor, with the count after the accounts. Errors after the first "
+                    + "bytes abort the response, leaving a truncated document without the count. Streams the whole book, "
+                    + "so pagination, filter and includeWithdrawals parameters are rejected.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Time deposit accounts streamed as they are read",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "accounts": [
+                                            {
+                                                "id": 1,
+                                                "planType": "BASIC",
+                                                "balance": 1000.00,
+                                                "days": 10
+                                            }
+                                        ],
+                                        "count": 1
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "Pagination, filter or includeWithdrawals parameters given with stream=true",
+                    content = @Content(mediaType = "text/plain",
+                            examples = @ExampleObject(value = "stream=true cannot be combined with pagination, filter or includeWithdrawals parameters")))
+    })
+    ResponseEntity<StreamingResponseBody> streamAllTimeDepositAccounts(@Parameter(hidden = true) final MultiValueMap<String, String> parameters);
+
+    @Operation(summary = "Project All Time Deposit Balances",
+            description = "Projects the balance of a page of time deposit accounts after the given number of month-end accruals, "
+                    + "with each deposit held 30 days longer at every following accrual, without changing any balance. "
+                    + "Pages are keyed by account ID; follow nextCursor, which is absent on the last page, to project the whole book.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Projected balances of all time deposit accounts",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TimeDepositProjectionsResponse.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "months": 12,
+                                        "count": 3,
+                                        "nextCursor": "djE6Mw",
+                                        "projections": [
+                                            {
+                                                "id": 1,
+                                                "planType": "BASIC",
+                                                "days": 10,
+                                                "balance": 1000.00,
+                                                "projectedBalance": 1009.21,
+                                                "interestMonths": 11
+                                            },
+                                            {
+                                                "id": 2,
+                                                "planType": "STUDENT",
+                                                "days": 40,
+                                                "balance": 2000.00,
+                                                "projectedBalance": 2055.70,
+                                                "interestMonths": 11
+                                            },
+                                            {
+                                                "id": 3,
+                                                "planType": "PREMIUM",
+                                                "days": 50,
+                                                "balance": 5000.00,
+                                                "projectedBalance": 5255.81,
+                                                "interestMonths": 12
+                                            }
+                                        ]
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "Months out of range, invalid limit or cursor, or time deposit error",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TimeDepositException.class))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error message",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Exception.class)))
+    })
+    ResponseEntity<?> projectAllTimeDepositAccounts(
+            @Parameter(description = "Number of month-end accruals to project, from 1 to the configured maximum.") final int months,
+            @Parameter(description = "Project accounts with an ID greater than this one. Ignored when a cursor is given.") final Long afterId,
+            @Parameter(description = "Opaque cursor from the nextCursor of the previous page.") final String cursor,
+            @Parameter(description = "Maximum number of accounts on the page; capped to the configured maximum.") final Integer limit);
+
+    @Operation(summary = "Run Shadow Accrual",
+            description = "Runs the next month-end accrual under the given plans as a dry run against the account snapshot "
+                    + "and reports the interest under the configured and the given plans in total and per plan type, "
+                    + "and the accounts whose interest would change most. No account is changed or locked.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Interest impact of the given plans",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ShadowAccrualResponse.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "snapshotTime": "2026-05-31T23:00:00Z",
+                                        "snapshotAgeSeconds": 0,
+                                        "accounts": 10,
+                                        "affectedAccounts": 3,
+                                        "currentInterest": 125.83,
+                                        "shadowInterest": 146.67,
+                                        "interestDelta": 20.84,
+                                        "plans": [
+                                            {
+                                                "planType": "PREMIUM",
+                                                "accounts": 3,
+                                                "affectedAccounts": 3,
+                                                "currentInterest": 104.16,
+                                                "shadowInterest": 125.00,
+                                                "interestDelta": 20.84
+                                            }
+                                        ],
+                                        "topMovers": [
+                                            {
+                                                "id": 9,
+                                                "planType": "PREMIUM",
+                                                "days": 365,
+                                                "balance": 12000.00,
+                                                "currentBalance": 12050.00,
+                                                "shadowBalance": 12060.00,
+                                                "interestDelta": 10.00
+                                            }
+                                        ],
+                                        "diffFile": "/var/lib/xa/shadow-accrual.csv",
+                                        "elapsedMillis": 12,
+                                        "rowsPerSecond": 833.3
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "Empty plans, top movers out of range or snapshot error",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TimeDepositException.class))),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error message",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Exception.class)))
+    })
+    ResponseEntity<?> runShadowAccrual(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "The plans to accrue with, in the shape of "
+                    + "application.plans, the number of top movers to report and whether to export a fresh snapshot first (default true).")
+            final ShadowAccrualRequest request);
+
+    @Operation(summary = "Get Listing Cache Statistics",
+            description = "Returns the hit, miss, load-time and eviction statistics of the account listing cache.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Current cache statistics",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStats.class)))
+    })
+    ResponseEntity<CacheStats> getListingCacheStats();
 }
@@ -1,24 +1,61 @@
 package org.ikigaidigital.api.controller.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import org.ikigaidigital.api.constant.UriConstants;
 import org.ikigaidigital.api.controller.TimeDepositController;
+import org.ikigaidigital.domain.component.cache.CacheStats;
+import org.ikigaidigital.domain.constant.ErrorMessages;
 import org.ikigaidigital.domain.constant.Sources;
 import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.request.ShadowAccrualRequest;
+import org.ikigaidigital.domain.model.request.TimeDepositAccountsPageRequest;
+import org.ikigaidigital.domain.model.response.AccrualJobResponse;
+import org.ikigaidigital.domain.model.response.ShadowAccrualResponse;
 import org.ikigaidigital.domain.model.response.TimeDepositAccountsResponse;
+import org.ikigaidigital.domain.model.response.TimeDepositProjectionsResponse;
+import org.ikigaidigital.domain.service.AccrualJobService;
+import org.ikigaidigital.domain.service.ShadowAccrualService;
 import org.ikigaidigital.domain.service.TimeDepositService;
 import org.ikigaidigital.domain.utils.GeneralUtils;
 import org.ikigaidigital.domain.utils.LoggerUtils;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 public class TimeDepositControllerImpl implements TimeDepositController {
+    // Parameters of the paginated listing that the full-book stream cannot honour
+    private static final Set<String> LISTING_PARAMETERS =
+            Set.of("afterId", "cursor", "limit", "planType", "minBalance", "maxBalance", "includeWithdrawals");
+
     private final TimeDepositService timeDepositService;
+    private final AccrualJobService accrualJobService;
+    private final ShadowAccrualService shadowAccrualService;
+    private final ObjectMapper objectMapper;
 
     @Override
     @PatchMapping(UriConstants.PATCH_UPDATE_ALL_TIME_DEPOSIT_ACCOUNTS_URL)
@@ -36,13 +73,86 @@ public class TimeDepositControllerImpl implements TimeDepositController {
         }
     }
 
+    @Override
+    @PatchMapping(value = UriConstants.PATCH_UPDATE_ALL_TIME_DEPOSIT_ACCOUNTS_URL, params = {"catchUp=true", "async!=true"})
+    public ResponseEntity<String> catchUpTimeDepositAccounts() {
+        final String traceId = GeneralUtils.generateTraceId();
+        try {
+            timeDepositService.catchUpTimeDepositAccounts(traceId);
+            return new ResponseEntity<>("Success!", HttpStatus.OK);
+        } catch (TimeDepositException tDEx) {
+            LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "{} error catching up time deposit accounts: {}", tDEx.getClass().getSimpleName(), tDEx.getMessage());
+            return new ResponseEntity<>(tDEx.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "Unexpected error catching up time deposit accounts: {}", ex.getMessage());
+            return new ResponseEntity<>(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    @PatchMapping(value = UriConstants.PATCH_UPDATE_ALL_TIME_DEPOSIT_ACCOUNTS_URL, params = {"catchUp=true", "async=true"})
+    public ResponseEntity<String> rejectAsyncCatchUp() {
+        final String traceId = GeneralUtils.generateTraceId();
+        LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "catchUp=true given with async=true.");
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(ErrorMessages.CATCH_UP_ASYNC_NOT_SUPPORTED.getMessage());
+    }
+
+    @Override
+    @PatchMapping(value = UriConstants.PATCH_UPDATE_ALL_TIME_DEPOSIT_ACCOUNTS_URL, params = {"async=true", "catchUp!=true"})
+    public ResponseEntity<?> submitAccrualJob() {
+        final String traceId = GeneralUtils.generateTraceId();
+        try {
+            final AccrualJobResponse job = accrualJobService.submitAccrualJob(traceId, YearMonth.now());
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                            .path(UriConstants.ACCRUAL_JOB_URL)
+                            .buildAndExpand(job.getJobId())
+                            .toUri())
+                    .body(job);
+        } catch (TimeDepositException tDEx) {
+            LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "{} error submitting accrual job: {}", tDEx.getClass().getSimpleName(), tDEx.getMessage());
+            return new ResponseEntity<>(tDEx.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "Unexpected error submitting accrual job: {}", ex.getMessage());
+            return new ResponseEntity<>(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    @GetMapping(UriConstants.ACCRUAL_JOB_URL)
+    public ResponseEntity<?> getAccrualJob(@PathVariable final String jobId) {
+        return accrualJobService.getAccrualJob(jobId)
+                .<ResponseEntity<?>>map(job -> new ResponseEntity<>(job, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(ErrorMessages.ACCRUAL_JOB_NOT_FOUND.getMessage(), HttpStatus.NOT_FOUND));
+    }
+
+    @Override
+    @DeleteMapping(UriConstants.ACCRUAL_JOB_URL)
+    public ResponseEntity<?> cancelAccrualJob(@PathVariable final String jobId) {
+        return accrualJobService.cancelAccrualJob(jobId)
+                .<ResponseEntity<?>>map(job -> new ResponseEntity<>(job, HttpStatus.ACCEPTED))
+                .orElseGet(() -> new ResponseEntity<>(ErrorMessages.ACCRUAL_JOB_NOT_FOUND.getMessage(), HttpStatus.NOT_FOUND));
+    }
+
     @Override
     @GetMapping (UriConstants.GET_ALL_TIME_DEPOSIT_ACCOUNTS_URL)
-    public ResponseEntity<?> getAllTimeDepositAccounts() {
+    public ResponseEntity<?> getAllTimeDepositAccounts(@RequestParam(required = false) final Long afterId,
+                                                       @RequestParam(required = false) final String cursor,
+                                                       @RequestParam(required = false) final Integer limit,
+                                                       @RequestParam(required = false) final String planType,
+                                                       @RequestParam(required = false) final BigDecimal minBalance,
+                                                       @RequestParam(required = false) final BigDecimal maxBalance,
+                                                       @RequestParam(defaultValue = "false") final boolean includeWithdrawals) {
         final String traceId = GeneralUtils.generateTraceId();
+        final TimeDepositAccountsPageRequest pageRequest =
+                new TimeDepositAccountsPageRequest(afterId, cursor, limit, planType, minBalance, maxBalance, includeWithdrawals);
         try {
             LoggerUtils.logDebug(traceId, Sources.CONTROLLER_LAYER, "Fetching all time deposit accounts.");
-            final TimeDepositAccountsResponse response = timeDepositService.getAllTimeDepositAccounts(traceId);
+            final TimeDepositAccountsResponse response = pageRequest.isPaginated()
+                    ? timeDepositService.getTimeDepositAccountsPage(traceId, pageRequest)
+                    : timeDepositService.getAllTimeDepositAccounts(traceId, includeWithdrawals);
             return new ResponseEntity<>(response, HttpStatus.OK);
         } catch (TimeDepositException tDEx) {
             LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "{} error fetching time deposit accounts: {}", tDEx.getClass().getSimpleName(), tDEx.getMessage());
@@ -52,4 +162,103 @@ public class TimeDepositControllerImpl implements TimeDepositController {
             return new ResponseEntity<>(eX.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    @Override
+    @GetMapping(value = UriConstants.GET_ALL_TIME_DEPOSIT_ACCOUNTS_URL, params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllTimeDepositAccounts(@RequestParam final MultiValueMap<String, String> parameters) {
+        final String traceId = GeneralUtils.generateTraceId();
+        if (LISTING_PARAMETERS.stream().anyMatch(parameters::containsKey)) {
+            LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "Listing parameters {} given with stream=true.", parameters.keySet());
+            final byte[] message = ErrorMessages.STREAM_FILTERS_NOT_SUPPORTED.getMessage().getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(outputStream -> outputStream.write(message));
+        }
+        LoggerUtils.logDebug(traceId, Sources.CONTROLLER_LAYER, "Streaming all time deposit accounts.");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(streamTimeDepositAccounts(traceId));
+    }
+
+    @Override
+    @GetMapping(UriConstants.GET_PROJECTED_BALANCES_URL)
+    public ResponseEntity<?> projectAllTimeDepositAccounts(@RequestParam final int months,
+                                                           @RequestParam(required = false) final Long afterId,
+                                                           @RequestParam(required = false) final String cursor,
+                                                           @RequestParam(required = false) final Integer limit) {
+        final String traceId = GeneralUtils.generateTraceId();
+        final TimeDepositAccountsPageRequest pageRequest = new TimeDepositAccountsPageRequest(afterId, cursor, limit, null, null, null);
+        try {
+            LoggerUtils.logDebug(traceId, Sources.CONTROLLER_LAYER, "Projecting a page of time deposit balances over {} months.", months);
+            final TimeDepositProjectionsResponse response = timeDepositService.projectAllTimeDepositAccounts(traceId, months, pageRequest);
+            return new ResponseEntity<>(response, HttpStatus.OK);
+        } catch (TimeDepositException tDEx) {
+            LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "{} error projecting time deposit balances: {}", tDEx.getClass().getSimpleName(), tDEx.getMessage());
+            return new ResponseEntity<>(tDEx.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "Unexpected error projecting time deposit balances: {}", ex.getMessage());
+            return new ResponseEntity<>(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    @PostMapping(UriConstants.POST_SHADOW_ACCRUAL_URL)
+    public ResponseEntity<?> runShadowAccrual(@RequestBody final ShadowAccrualRequest request) {
+        final String traceId = GeneralUtils.generateTraceId();
+        try {
+            LoggerUtils.logDebug(traceId, Sources.CONTROLLER_LAYER, "Running a shadow accrual.");
+            final ShadowAccrualResponse response = shadowAccrualService.runShadowAccrual(traceId, request);
+            return new ResponseEntity<>(response, HttpStatus.OK);
+        } catch (TimeDepositException tDEx) {
+            LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "{} error running the shadow accrual: {}", tDEx.getClass().getSimpleName(), tDEx.getMessage());
+            return new ResponseEntity<>(tDEx.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "Unexpected error running the shadow accrual: {}", ex.getMessage());
+            return new ResponseEntity<>(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    @GetMapping(UriConstants.GET_LISTING_CACHE_STATS_URL)
+    public ResponseEntity<CacheStats> getListingCacheStats() {
+        return new ResponseEntity<>(timeDepositService.getListingCacheStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Builds a response body that writes {@code {"accounts":[...],"count":N}} while the accounts are read.
+     * <p>
+     * The document has the same fields as {@link TimeDepositAccountsResponse}, but the count is written after the
+     * accounts, once it is known. The status and headers are committed with the first bytes, so an error part-way
+     * through can only be logged and the connection aborted; clients detect it as a truncated document. The
+     * generator does not close open arrays and objects when it is closed, so a failed stream never ends in a
+     * well-formed document without its count.
+     * </p>
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     * @return The {@link StreamingResponseBody} to run on the async request thread.
+     */
+    private StreamingResponseBody streamTimeDepositAccounts(final String traceId) {
+        final ObjectWriter accountWriter = objectMapper.writerFor(TimeDepositsDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("accounts");
+                final long count = timeDepositService.streamAllTimeDepositAccounts(traceId, timeDepositsDto -> {
+                    try {
+                        accountWriter.writeValue(generator, timeDepositsDto);
+                    } catch (IOException ioEx) {
+                        throw new UncheckedIOException(ioEx);
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeNumberField("count", count);
+                generator.writeEndObject();
+            } catch (Exception ex) {
+                LoggerUtils.logError(traceId, Sources.CONTROLLER_LAYER, "Error streaming time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+                throw ex;
+            }
+        };
+    }
 }
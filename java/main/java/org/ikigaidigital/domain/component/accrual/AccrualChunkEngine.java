@@ -0,0 +1,65 @@
+package org.ikigaidigital.domain.component.accrual;
+
+/**
+ * The engine-specific part of accruing one chunk of a partition.
+ * <p>
+ * {@link AccrualRunner} drives every chunk through the same stages, timing each one and mapping its failures, and
+ * then moves the partition checkpoint past the chunk in the same transaction. An engine only supplies what happens in
+ * them:
+ * <li> 1. {@link #fetch} reads the next chunk of accounts after the checkpoint, keyset-paginated by ID. </li>
+ * <li> 2. {@link Chunk#compute} works out the new balances in the application, unless {@link #hasComputeStage()}
+ *    is {@code false}. </li>
+ * <li> 3. {@link Chunk#persist} writes them back. </li>
+ * </p>
+ */
+public interface AccrualChunkEngine {
+
+    /**
+     * Reads the next chunk of accounts of a partition.
+     *
+     * @param traceId   A unique identifier for tracing the request through the system.
+     * @param afterId   The exclusive lower bound of the chunk, i.e. the current checkpoint.
+     * @param upToId    The inclusive upper bound of the partition.
+     * @param chunkSize The maximum number of accounts in the chunk.
+     * @return The chunk; empty when the partition is exhausted.
+     */
+    Chunk fetch(String traceId, long afterId, long upToId, int chunkSize);
+
+    /**
+     * @return {@code false} if the engine computes nothing in the application, so no compute stage is recorded.
+     */
+    default boolean hasComputeStage() {
+        return true;
+    }
+
+    /**
+     * One chunk of accounts as read by its engine.
+     */
+    interface Chunk {
+
+        /**
+         * @return The number of accounts read.
+         */
+        int size();
+
+        /**
+         * @return The ID of the last account read, i.e. the new checkpoint. Only called on a non-empty chunk.
+         */
+        long lastId();
+
+        /**
+         * Works out the new balances of the chunk and counts it per plan and outcome.
+         *
+         * @param traceId A unique identifier for tracing the request through the system.
+         */
+        void compute(String traceId);
+
+        /**
+         * Writes back the accounts of the chunk that changed.
+         *
+         * @param traceId A unique identifier for tracing the request through the system.
+         * @return The number of accounts written.
+         */
+        int persist(String traceId);
+    }
+}
@@ -0,0 +1,210 @@
+package org.ikigaidigital.domain.component.accrual;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.TimeDepositColumns;
+import org.ikigaidigital.domain.constant.AccrualOutcome;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer instrumentation of the month-end accrual.
+ * <p>
+ * Publishes, with percentile histograms for the timers:
+ * <li> {@code accrual.stage.duration} - time per chunk spent in each {@link Stage}, tagged {@code stage}. </li>
+ * <li> {@code accrual.run.duration} - time per accrual run. </li>
+ * <li> {@code accrual.rows} - accounts processed; its rate is the throughput in rows per second. </li>
+ * <li> {@code accrual.run.rows.per.second} - throughput of the last completed run. </li>
+ * <li> {@code accrual.accounts} - accounts per {@code plan} and {@link AccrualOutcome} {@code outcome}. </li>
+ * <li> {@code accrual.writes} - accounts whose balance was written back or skipped as unchanged, tagged
+ * {@code result}. </li>
+ * </p>
+ */
+@Component
+public class AccrualMetrics {
+    private static final String UNKNOWN_PLAN_TAG = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Timer runTimer;
+    private final Counter rowsCounter;
+    private final Counter writtenCounter;
+    private final Counter skippedCounter;
+    private final AtomicLong lastRunRowsPerSecond = new AtomicLong();
+    private final Map<String, Counter> outcomeCounters = new ConcurrentHashMap<>();
+
+    public AccrualMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("accrual.stage.duration")
+                    .description("Time spent per chunk in each accrual stage")
+                    .tag("stage", stage.getTag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.runTimer = Timer.builder("accrual.run.duration")
+                .description("Duration of a month-end accrual run")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rowsCounter = Counter.builder("accrual.rows")
+                .description("Time deposit accounts processed by the accrual")
+                .register(meterRegistry);
+        this.writtenCounter = writesCounter(meterRegistry, "written");
+        this.skippedCounter = writesCounter(meterRegistry, "skipped");
+        Gauge.builder("accrual.run.rows.per.second", lastRunRowsPerSecond, AtomicLong::get)
+                .description("Throughput of the last completed accrual run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the time one chunk spent in a stage.
+     *
+     * @param stage The accrual stage.
+     * @param nanos The elapsed time in nanoseconds.
+     */
+    public void recordStage(final Stage stage, final long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts the accounts of a chunk, in total and per plan and {@link AccrualOutcome}.
+     * <p>
+     * The chunk is tallied locally first, so each counter is incremented at most once per chunk.
+     * </p>
+     *
+     * @param timeDepositsDtoChunk The accounts of the chunk, with the days they have been held.
+     * @param planEvaluatorIndex   The compiled plans the chunk is accrued with; {@code null} counts every account
+     *                             as an unknown plan.
+     */
+    public void recordOutcomes(final List<TimeDepositsDto> timeDepositsDtoChunk, final PlanEvaluatorIndex planEvaluatorIndex) {
+        final Map<PlanEvaluator, long[]> tallies = new IdentityHashMap<>();
+        long unknownPlans = 0;
+        for (TimeDepositsDto timeDepositsDto : timeDepositsDtoChunk) {
+            final PlanEvaluator evaluator = planEvaluatorIndex != null ? planEvaluatorIndex.find(timeDepositsDto.getPlanType()) : null;
+            if (evaluator == null) {
+                unknownPlans++;
+                continue;
+            }
+            tallies.computeIfAbsent(evaluator, e -> new long[AccrualOutcome.values().length])[evaluator.outcome(timeDepositsDto.getDays()).ordinal()]++;
+        }
+
+        tallies.forEach((evaluator, tally) -> {
+            final String plan = evaluator.getPlanType().toLowerCase(Locale.ROOT);
+            for (AccrualOutcome outcome : AccrualOutcome.values()) {
+                if (tally[outcome.ordinal()] > 0) {
+                    outcomeCounter(plan, outcome).increment(tally[outcome.ordinal()]);
+                }
+            }
+        });
+        if (unknownPlans > 0) {
+            outcomeCounter(UNKNOWN_PLAN_TAG, AccrualOutcome.UNKNOWN_PLAN).increment(unknownPlans);
+        }
+        rowsCounter.increment(timeDepositsDtoChunk.size());
+    }
+
+    /**
+     * Counts the accounts of a columnar chunk, in total and per plan and {@link AccrualOutcome}, like
+     * {@link #recordOutcomes(List, PlanEvaluatorIndex)} but tallied by plan ordinal.
+     *
+     * @param columns The accounts of the chunk.
+     */
+    public void recordOutcomes(final TimeDepositColumns columns) {
+        final long[][] tallies = new long[columns.planCount()][AccrualOutcome.values().length];
+        long unknownPlans = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            final int ordinal = columns.planOrdinal(row);
+            if (ordinal == TimeDepositColumns.UNKNOWN_PLAN) {
+                unknownPlans++;
+                continue;
+            }
+            tallies[ordinal][columns.plan(ordinal).outcome(columns.days(row)).ordinal()]++;
+        }
+
+        for (int ordinal = 0; ordinal < tallies.length; ordinal++) {
+            final String plan = columns.plan(ordinal).getPlanType().toLowerCase(Locale.ROOT);
+            for (AccrualOutcome outcome : AccrualOutcome.values()) {
+                if (tallies[ordinal][outcome.ordinal()] > 0) {
+                    outcomeCounter(plan, outcome).increment(tallies[ordinal][outcome.ordinal()]);
+                }
+            }
+        }
+        if (unknownPlans > 0) {
+            outcomeCounter(UNKNOWN_PLAN_TAG, AccrualOutcome.UNKNOWN_PLAN).increment(unknownPlans);
+        }
+        rowsCounter.increment(columns.size());
+    }
+
+    /**
+     * Counts the accounts of a chunk accrued inside the database, whose days and plans are not read into the
+     * application and therefore not counted per outcome.
+     *
+     * @param rows The number of accounts in the chunk.
+     */
+    public void recordRows(final int rows) {
+        rowsCounter.increment(rows);
+    }
+
+    /**
+     * Counts the accounts of a committed chunk whose balance was written back and those skipped as unchanged.
+     *
+     * @param written The number of accounts written.
+     * @param skipped The number of accounts skipped.
+     */
+    public void recordWrites(final long written, final long skipped) {
+        writtenCounter.increment(written);
+        skippedCounter.increment(skipped);
+    }
+
+    /**
+     * Records a completed accrual run.
+     *
+     * @param rows  The number of accounts processed.
+     * @param nanos The duration of the run in nanoseconds.
+     */
+    public void recordRun(final long rows, final long nanos) {
+        runTimer.record(nanos, TimeUnit.NANOSECONDS);
+        lastRunRowsPerSecond.set(nanos > 0 ? rows * TimeUnit.SECONDS.toNanos(1) / nanos : 0);
+    }
+
+    private static Counter writesCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("accrual.writes")
+                .description("Time deposit accounts written back or skipped as unchanged by the accrual")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter outcomeCounter(final String plan, final AccrualOutcome outcome) {
+        return outcomeCounters.computeIfAbsent(plan + '|' + outcome.getTag(), key -> Counter.builder("accrual.accounts")
+                .description("Time deposit accounts seen by the accrual, per plan and outcome")
+                .tag("plan", plan)
+                .tag("outcome", outcome.getTag())
+                .register(meterRegistry));
+    }
+
+    @Getter
+    public enum Stage {
+        FETCH("fetch"),
+        COMPUTE("compute"),
+        PERSIST("persist");
+
+        private final String tag;
+
+        Stage(final String tag) {
+            this.tag = tag;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.ikigaidigital.domain.component.accrual;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A contiguous slice of the time deposit ID space, processed by a single accrual worker.
+ * The lower bound is exclusive and the upper bound inclusive so that it plugs straight into keyset pagination.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class AccrualPartition {
+    private final long afterId;
+    private final long upToId;
+
+    /**
+     * Splits the inclusive ID range {@code [minId, maxId]} into at most {@code partitionCount} equally sized,
+     * non-overlapping partitions that together cover the whole range.
+     *
+     * @param minId          The smallest ID in the range.
+     * @param maxId          The largest ID in the range.
+     * @param partitionCount The requested number of partitions; values below one are treated as one.
+     * @return The partitions in ascending ID order.
+     */
+    public static List<AccrualPartition> split(final long minId, final long maxId, final int partitionCount) {
+        final List<AccrualPartition> partitions = new ArrayList<>();
+        if (maxId < minId) {
+            return partitions;
+        }
+
+        final long span = maxId - minId + 1;
+        final long count = Math.min(Math.max(partitionCount, 1), span);
+        final long size = (span + count - 1) / count;
+
+        long afterId = minId - 1;
+        while (afterId < maxId) {
+            final long upToId = Math.min(maxId, afterId + size);
+            partitions.add(new AccrualPartition(afterId, upToId));
+            afterId = upToId;
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,103 @@
+package org.ikigaidigital.domain.component.accrual;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live progress of one month-end accrual, shared between the workers that run it and the callers that poll it.
+ * <p>
+ * Workers report the stage they are in and the rows they commit; callers read the counters and may request
+ * cancellation, which the workers honour cooperatively between two chunks. All fields are safe to read and write
+ * from any thread.
+ * </p>
+ */
+public class AccrualProgress {
+    private final AtomicLong rowsDone = new AtomicLong();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private volatile long totalRows = -1;
+    private volatile long startNanos = System.nanoTime();
+    private volatile AccrualMetrics.Stage stage;
+    private volatile boolean cancelRequested;
+
+    /**
+     * Restarts the clock used for the throughput and ETA, e.g. when a queued job starts running.
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+    }
+
+    public void stage(final AccrualMetrics.Stage stage) {
+        this.stage = stage;
+    }
+
+    public void addRows(final long rows) {
+        rowsDone.addAndGet(rows);
+    }
+
+    public void addWrittenRows(final long rows) {
+        rowsWritten.addAndGet(rows);
+    }
+
+    public void setTotalRows(final long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public AccrualMetrics.Stage getStage() {
+        return stage;
+    }
+
+    public long getRowsDone() {
+        return rowsDone.get();
+    }
+
+    /**
+     * @return The committed rows whose balance changed and was written back.
+     */
+    public long getRowsWritten() {
+        return rowsWritten.get();
+    }
+
+    /**
+     * @return The committed rows whose balance did not change and were therefore not written.
+     */
+    public long getRowsSkipped() {
+        return rowsDone.get() - rowsWritten.get();
+    }
+
+    /**
+     * @return The number of accounts in the book when the run started, or {@code -1} if it is not known.
+     */
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    /**
+     * @return The rows committed per second since {@link #start()}.
+     */
+    public double getRowsPerSecond() {
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        return elapsedNanos > 0 ? rowsDone.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0;
+    }
+
+    /**
+     * Estimates the remaining time from the current throughput. Rows committed by an earlier, resumed attempt of the
+     * run are counted as remaining, so the estimate errs on the long side.
+     *
+     * @return The estimated seconds until completion, or {@code -1} while the total or the throughput is unknown.
+     */
+    public long getEtaSeconds() {
+        final double rowsPerSecond = getRowsPerSecond();
+        if (totalRows < 0 || rowsPerSecond <= 0) {
+            return -1;
+        }
+        return (long) Math.ceil(Math.max(0, totalRows - rowsDone.get()) / rowsPerSecond);
+    }
+}
@@ -0,0 +1,132 @@
+package org.ikigaidigital.domain.component.accrual;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.ikigaidigital.domain.constant.CalculationEngine;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "application.accrual")
+public class AccrualProperties {
+
+    /**
+     * Number of time deposit accounts read, computed and written per chunk during the month-end accrual.
+     */
+    @Min(1)
+    private int chunkSize = 1000;
+
+    /**
+     * Number of ID-range partitions accrued concurrently, each on its own worker thread, transaction and connection.
+     * A value of one keeps the single-threaded path.
+     */
+    @Min(1)
+    private int parallelism = 1;
+
+    /**
+     * Number of ID-range shards a new run is split into, at least {@code parallelism}. Every node that runs the
+     * accrual claims unleased shards for its workers until none are left, so a run with more shards than workers
+     * per node spreads over all nodes sharing the database.
+     */
+    @Min(1)
+    private int shards = 1;
+
+    /**
+     * Identifies this node as the owner of shard leases. Must differ between the nodes sharing the database; defaults
+     * to the host name and process ID.
+     */
+    private String nodeId = defaultNodeId();
+
+    /**
+     * How long a shard stays leased to its node without being renewed. Leases are renewed before every chunk, so
+     * this must exceed the time of one chunk; it is also how long the shard of a node that died waits before another
+     * node takes it over.
+     */
+    @NotNull
+    @DurationMin(millis = 1)
+    private Duration leaseDuration = Duration.ofMinutes(5);
+
+    /**
+     * How often a node that has no shard left to claim checks whether the shards leased by other nodes completed or
+     * can be taken over.
+     */
+    @NotNull
+    @DurationMin(millis = 1)
+    private Duration leasePollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Arithmetic used for the interest calculation. {@code FIXED_POINT} works on {@code long} cents and falls back to
+     * {@code BIG_DECIMAL} only for values that could overflow; both produce identical balances. {@code IN_DATABASE}
+     * accrues each chunk with one set-based {@code UPDATE} per plan inside the database, so balances never travel to
+     * the application, and computes the same balances with {@code BIG_DECIMAL} rounding. {@code COLUMNAR} reads each
+     * chunk into primitive arrays and accrues it with a batch kernel, again with identical balances.
+     */
+    private CalculationEngine calculationEngine = CalculationEngine.BIG_DECIMAL;
+
+    /**
+     * Uses the SIMD kernel of the {@code COLUMNAR} engine. Needs the JVM to be started with
+     * {@code --add-modules jdk.incubator.vector}; without it the scalar kernel is used and a warning is logged.
+     */
+    private boolean vectorKernel = false;
+
+    /**
+     * Pushes the interest eligibility of every configured plan down into the accrual read, so that only accounts
+     * whose balance can change are read, computed and checkpointed. Accounts in their interest-free period, past the
+     * end of their interest or of an unknown plan are then neither read nor counted in the per-outcome metrics.
+     */
+    private boolean eligibilityPushdown = true;
+
+    /**
+     * Runs asynchronous accrual jobs on a virtual thread instead of a dedicated platform thread. Requires Java 21;
+     * on older runtimes the platform thread is used and a warning is logged.
+     */
+    private boolean jobVirtualThreads = false;
+
+    /**
+     * Number of finished asynchronous accrual jobs whose final progress is kept for polling.
+     */
+    @Min(1)
+    private int retainedJobs = 100;
+
+    /**
+     * Makes the month-end schedule catch up on every period up to the current one that no run in the ledger covers,
+     * with one run per contiguous gap that reads and writes each account once, instead of accruing the current period
+     * only.
+     */
+    private boolean catchUp = false;
+
+    /**
+     * Largest number of missed periods one catch-up may apply, counted over all the gaps it finds. A ledger further
+     * behind is more likely a wrong ledger than an outage, so the catch-up then fails instead of applying interest.
+     */
+    @Min(1)
+    private int catchUpMaxPeriods = 12;
+
+    /**
+     * Days a deposit is held longer at each period a catch-up run applies after the first; the days it writes back
+     * are those seen by its last period. The month-end run never changes the days, so with the default of 0 a
+     * catch-up of several periods leaves the book as that many month-end runs would.
+     */
+    @Min(0)
+    private int catchUpDaysPerPeriod = 0;
+
+    private static String defaultNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + ":" + ProcessHandle.current().pid();
+        } catch (UnknownHostException ex) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
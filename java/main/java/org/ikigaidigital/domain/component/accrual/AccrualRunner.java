@@ -0,0 +1,585 @@
+package org.ikigaidigital.domain.component.accrual;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.constant.CalculationEngine;
+import org.ikigaidigital.domain.constant.ErrorMessages;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.exception.AccrualCancelledException;
+import org.ikigaidigital.domain.exception.PartitionLostException;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.AccrualRunDto;
+import org.ikigaidigital.domain.model.dto.AccrualRunPartitionDto;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.ikigaidigital.repository.accrual.AccrualRunRepository;
+import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the month-end accrual and its catch-up: the accrual run ledger, the partitions of a run and their leases, and
+ * the chunks each partition is accrued in.
+ * <p>
+ * Every chunk goes through the same fetch, compute and persist stages, timed through {@link AccrualMetrics}, and
+ * commits together with its partition checkpoint, so a run that stopped part-way resumes where it left off; what each
+ * stage does is up to the {@link AccrualChunkEngine} of the configured {@link CalculationEngine}, or the
+ * {@link CatchUpAccrualChunkEngine} for a run that applies several periods.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AccrualRunner {
+    private final TimeDepositCalculator timeDepositCalculator;
+    private final TimeDepositsRepository timeDepositsRepository;
+    private final AccrualProperties accrualProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final TimeDepositsDataVersion timeDepositsDataVersion;
+    private final AccrualMetrics accrualMetrics;
+    private final AccrualRunRepository accrualRunRepository;
+
+    /**
+     * Accrues the given period at most once, starting its run or resuming it from its checkpoints, as described in
+     * {@link org.ikigaidigital.domain.service.TimeDepositService#updateAllTimeDepositAccounts(String, YearMonth)}.
+     *
+     * @param traceId  A unique identifier for tracing the request through the system.
+     * @param period   The month to accrue interest for.
+     * @param progress The tracker to report the stage and committed rows to.
+     * @throws AccrualCancelledException If cancellation was requested through the tracker.
+     * @throws TimeDepositException      If the accrual fails.
+     */
+    public void accrue(final String traceId, final YearMonth period, final AccrualProgress progress) {
+        accrueRun(traceId, period, 1, progress);
+    }
+
+    /**
+     * Applies every period missing from the accrual run ledger up to the given period, one run per contiguous gap,
+     * as described in {@link org.ikigaidigital.domain.service.TimeDepositService#catchUpTimeDepositAccounts(String, YearMonth)}.
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     * @param upTo    The last month to accrue interest for.
+     * @throws TimeDepositException If more periods were missed than may be caught up, or the accrual fails.
+     */
+    public void catchUp(final String traceId, final YearMonth upTo) {
+        final AccrualProgress progress = new AccrualProgress();
+        final List<AccrualRunDto> runs = findAllRuns(traceId);
+        if (runs.isEmpty()) {
+            LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "No accrual run recorded yet, accruing {} only.", upTo);
+            accrueRun(traceId, upTo, 1, progress);
+            return;
+        }
+
+        final Set<YearMonth> coveredPeriods = new HashSet<>();
+        YearMonth firstPeriod = upTo;
+        for (AccrualRunDto run : runs) {
+            final YearMonth runFirstPeriod = run.getPeriod().minusMonths(run.getPeriods() - 1L);
+            if (runFirstPeriod.isBefore(firstPeriod)) {
+                firstPeriod = runFirstPeriod;
+            }
+            for (YearMonth period = runFirstPeriod; !period.isAfter(run.getPeriod()); period = period.plusMonths(1)) {
+                coveredPeriods.add(period);
+            }
+            if (run.getStatus() != AccrualRunStatus.COMPLETED && !run.getPeriod().isAfter(upTo)) {
+                LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Finishing the {} accrual run for {} before catching up.", run.getStatus(), run.getPeriod());
+                accrueRun(traceId, run.getPeriod(), run.getPeriods(), progress);
+            }
+        }
+
+        final List<YearMonth> missedPeriods = new ArrayList<>();
+        for (YearMonth period = firstPeriod; !period.isAfter(upTo); period = period.plusMonths(1)) {
+            if (!coveredPeriods.contains(period)) {
+                missedPeriods.add(period);
+            }
+        }
+        if (missedPeriods.isEmpty()) {
+            LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Accrual is applied up to {}, nothing to catch up.", upTo);
+            return;
+        }
+        if (missedPeriods.size() > accrualProperties.getCatchUpMaxPeriods()) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "{} periods missed up to {}, more than the {} a catch-up may apply.",
+                    missedPeriods.size(), upTo, accrualProperties.getCatchUpMaxPeriods());
+            throw new TimeDepositException(ErrorMessages.CATCH_UP_PERIODS_EXCEEDED);
+        }
+
+        int gapStart = 0;
+        for (int i = 1; i <= missedPeriods.size(); i++) {
+            if (i == missedPeriods.size() || !missedPeriods.get(i).equals(missedPeriods.get(i - 1).plusMonths(1))) {
+                final YearMonth gapEnd = missedPeriods.get(i - 1);
+                LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Catching up {} accrual periods from {} to {}.", i - gapStart, missedPeriods.get(gapStart), gapEnd);
+                accrueRun(traceId, gapEnd, i - gapStart, progress);
+                gapStart = i;
+            }
+        }
+    }
+
+    /**
+     * Starts or resumes the run of the period and accrues it, as described in
+     * {@link org.ikigaidigital.domain.service.TimeDepositService#updateAllTimeDepositAccounts(String, YearMonth)}.
+     *
+     * @param traceId  A unique identifier for tracing the request through the system.
+     * @param period   The month to accrue interest for, the last of the periods of the run.
+     * @param periods  The number of periods a new run applies; a resumed run keeps its own.
+     * @param progress The tracker to report the stage and committed rows to.
+     */
+    private void accrueRun(final String traceId, final YearMonth period, final int periods, final AccrualProgress progress) {
+        final long runStart = System.nanoTime();
+        final Optional<AccrualRunDto> run = startOrResumeRun(traceId, period, periods);
+        if (run.isEmpty()) {
+            LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Accrual run for {} has already completed.", period);
+            return;
+        }
+
+        final long updatedCount;
+        try {
+            final int workers = Math.min(accrualProperties.getParallelism(), pendingPartitions(traceId, run.get()).size());
+            updatedCount = workers > 1
+                    ? accruePartitionsInParallel(traceId, run.get(), workers, progress)
+                    : accrueClaimedPartitions(traceId, run.get(), progress);
+            if (!accrualRunRepository.completeRunIfPartitionsCompleted(run.get().getId())) {
+                LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Accrual run {} was completed by another node or has partitions left.", run.get().getId());
+            }
+        } catch (RuntimeException ex) {
+            markRunStopped(traceId, run.get(), ex instanceof AccrualCancelledException ? AccrualRunStatus.CANCELLED : AccrualRunStatus.FAILED);
+            if (ex instanceof TimeDepositException) {
+                throw ex;
+            }
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error completing accrual run: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RECORDING_ACCRUAL_RUN);
+        } finally {
+            // Once per run and after its chunks committed, also when it stopped part-way
+            timeDepositsDataVersion.publish(traceId);
+        }
+        accrualMetrics.recordRun(updatedCount, System.nanoTime() - runStart);
+
+        if (updatedCount == 0) {
+            LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "No time deposit accounts found to update.");
+            return;
+        }
+
+        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "All time deposit accounts update completed, {} accounts updated.", updatedCount);
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Accrual run for {} wrote {} balances and skipped {} unchanged.", period,
+                progress.getRowsWritten(), progress.getRowsSkipped());
+    }
+
+    /**
+     * Counts the accounts a full accrual run reads, i.e. the accounts that can accrue interest when
+     * {@code application.accrual.eligibility-pushdown} is set with an in-application engine, and all accounts otherwise.
+     *
+     * @return The number of accounts an accrual run processes.
+     */
+    public long countAccountsToAccrue() {
+        if (accrualProperties.isEligibilityPushdown() && accrualProperties.getCalculationEngine() != CalculationEngine.IN_DATABASE) {
+            return timeDepositsRepository.countAccrualEligibleTimeDeposits(timeDepositCalculator.planEvaluatorIndex().evaluators());
+        }
+        return timeDepositsRepository.count();
+    }
+
+    /**
+     * Finds the run of the period in the ledger, or records a new one.
+     * <p>
+     * A new run is split into {@code application.accrual.parallelism} ID partitions over the current ID range; a
+     * resumed run keeps the partitions it was started with. If another caller records the run of the same period
+     * first, that run is resumed instead.
+     * </p>
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     * @param period  The month to accrue interest for.
+     * @param periods The number of periods, ending at {@code period}, a new run applies.
+     * @return The run to execute, or empty if the run of the period has already completed.
+     */
+    private Optional<AccrualRunDto> startOrResumeRun(final String traceId, final YearMonth period, final int periods) {
+        try {
+            final Optional<AccrualRunDto> existing = accrualRunRepository.findRunByPeriod(period);
+            if (existing.isPresent()) {
+                return resumeRun(traceId, existing.get());
+            }
+            try {
+                final AccrualRunDto run = accrualRunRepository.createRun(period, periods, planPartitions());
+                LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Started accrual run {} for {} applying {} periods.", run.getId(), period, periods);
+                return Optional.of(run);
+            } catch (DuplicateKeyException ex) {
+                return resumeRun(traceId, accrualRunRepository.findRunByPeriod(period).orElseThrow());
+            }
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error starting accrual run: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RECORDING_ACCRUAL_RUN);
+        }
+    }
+
+    private Optional<AccrualRunDto> resumeRun(final String traceId, final AccrualRunDto run) {
+        if (run.getStatus() == AccrualRunStatus.COMPLETED) {
+            return Optional.empty();
+        }
+        if (run.getStatus() == AccrualRunStatus.RUNNING) {
+            // Another node is accruing the run, or one that died left it running; its partitions are claimed by lease
+            LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Joining running accrual run {} for {}.", run.getId(), run.getPeriod());
+            return Optional.of(run);
+        }
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Resuming {} accrual run {} for {} from its checkpoints.", run.getStatus(), run.getId(), run.getPeriod());
+        accrualRunRepository.updateRunStatus(run.getId(), AccrualRunStatus.RUNNING);
+        return Optional.of(run);
+    }
+
+    private List<AccrualRunDto> findAllRuns(final String traceId) {
+        try {
+            return accrualRunRepository.findAllRuns();
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error reading the accrual runs: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RECORDING_ACCRUAL_RUN);
+        }
+    }
+
+    private List<AccrualPartition> planPartitions() {
+        final int partitionCount = Math.max(accrualProperties.getParallelism(), accrualProperties.getShards());
+        if (partitionCount <= 1) {
+            return List.of(new AccrualPartition(Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+        final Optional<Integer> minId = timeDepositsRepository.findMinTimeDepositId();
+        final Optional<Integer> maxId = timeDepositsRepository.findMaxTimeDepositId();
+        if (minId.isEmpty() || maxId.isEmpty()) {
+            return List.of();
+        }
+        return AccrualPartition.split(minId.get(), maxId.get(), partitionCount);
+    }
+
+    private List<AccrualRunPartitionDto> pendingPartitions(final String traceId, final AccrualRunDto run) {
+        try {
+            return accrualRunRepository.findPartitions(run.getId()).stream()
+                    .filter(partition -> partition.getStatus() != AccrualRunStatus.COMPLETED)
+                    .toList();
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error reading accrual run partitions: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RECORDING_ACCRUAL_RUN);
+        }
+    }
+
+    private void markRunStopped(final String traceId, final AccrualRunDto run, final AccrualRunStatus status) {
+        try {
+            accrualRunRepository.updateRunStatus(run.getId(), status);
+        } catch (Exception ex) {
+            // The run stays RUNNING in the ledger, which resumes the same way as FAILED or CANCELLED
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error marking accrual run {} as {}: {}", run.getId(), status, ex.getMessage());
+        }
+    }
+
+    /**
+     * Claims and accrues partitions of the run on the given number of workers, each as in
+     * {@link #accrueClaimedPartitions}.
+     * <p>
+     * Every chunk runs in a separate transaction, and therefore on a separate connection, so the connection pool
+     * must allow at least one connection per worker. If any worker fails, the remaining workers are interrupted and
+     * the failure is rethrown; chunks that already committed stay committed and are skipped when the run is resumed.
+     * </p>
+     *
+     * @param traceId  A unique identifier for tracing the request through the system.
+     * @param run      The run to accrue.
+     * @param workers  The number of workers.
+     * @param progress The tracker shared by all workers.
+     * @return The number of accounts updated by this call across all workers.
+     */
+    private long accruePartitionsInParallel(final String traceId, final AccrualRunDto run, final int workers,
+                                            final AccrualProgress progress) {
+        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Accruing partitions on {} workers in parallel.", workers);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("accrual-worker-"));
+        try {
+            final List<Future<Long>> futures = new ArrayList<>();
+            for (int worker = 0; worker < workers; worker++) {
+                futures.add(executor.submit(() -> accrueClaimedPartitions(traceId, run, progress)));
+            }
+
+            long updatedCount = 0;
+            for (Future<Long> future : futures) {
+                updatedCount += future.get();
+            }
+            return updatedCount;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof TimeDepositException timeDepositException) {
+                throw timeDepositException;
+            }
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error accruing time deposit partition: {}, {}", ex.getCause().getClass().getSimpleName(), ex.getCause().getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_UPDATING_TIME_DEPOSIT_ACCOUNTS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Interrupted while accruing time deposit partitions.");
+            throw new TimeDepositException(ErrorMessages.ERROR_UPDATING_TIME_DEPOSIT_ACCOUNTS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Claims partitions of the run one at a time and accrues each, until every unfinished partition is leased by
+     * this node.
+     * <p>
+     * When nothing is left to claim but other nodes still hold partitions, waits
+     * {@code application.accrual.lease-poll-interval} before claiming again, so that the partition of a node that
+     * died is taken over once its lease expires. A partition whose accrual fails or is cancelled is released, so that
+     * another node can take it over right away.
+     * </p>
+     *
+     * @param traceId  A unique identifier for tracing the request through the system.
+     * @param run      The run to accrue.
+     * @param progress The tracker to report committed rows to.
+     * @return The number of accounts updated by this call.
+     * @throws AccrualCancelledException If cancellation was requested through the tracker.
+     */
+    private long accrueClaimedPartitions(final String traceId, final AccrualRunDto run, final AccrualProgress progress) {
+        long updatedCount = 0;
+        while (true) {
+            final Optional<AccrualRunPartitionDto> claimed = claimPartition(traceId, run);
+            if (claimed.isPresent()) {
+                final AccrualRunPartitionDto partition = claimed.get();
+                try {
+                    updatedCount += accruePartition(traceId, partition, run.getPeriods(), progress);
+                } catch (RuntimeException ex) {
+                    releasePartition(traceId, partition);
+                    throw ex;
+                }
+            } else if (!awaitPartitionsOfOtherNodes(traceId, run, progress)) {
+                return updatedCount;
+            }
+        }
+    }
+
+    private Optional<AccrualRunPartitionDto> claimPartition(final String traceId, final AccrualRunDto run) {
+        try {
+            final Optional<AccrualRunPartitionDto> claimed = accrualRunRepository.claimPartition(run.getId(),
+                    accrualProperties.getNodeId(), accrualProperties.getLeaseDuration());
+            claimed.ifPresent(partition -> LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Claimed partition {} of accrual run {} with lease token {}.",
+                    partition.getPartitionNo(), run.getId(), partition.getLeaseToken()));
+            return claimed;
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error claiming accrual run partition: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RECORDING_ACCRUAL_RUN);
+        }
+    }
+
+    private void releasePartition(final String traceId, final AccrualRunPartitionDto partition) {
+        try {
+            accrualRunRepository.releasePartition(partition.getRunId(), partition.getPartitionNo(), partition.getLeaseToken());
+        } catch (Exception ex) {
+            // The lease then expires on its own and the partition is taken over after lease-duration
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error releasing accrual run partition {}: {}", partition.getPartitionNo(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Waits one poll interval if a partition of the run is unfinished and not leased by this node.
+     *
+     * @return {@code true} if the caller should try to claim again, {@code false} if nothing is left for this node.
+     * @throws AccrualCancelledException If cancellation was requested through the tracker.
+     */
+    private boolean awaitPartitionsOfOtherNodes(final String traceId, final AccrualRunDto run, final AccrualProgress progress) {
+        final String nodeId = accrualProperties.getNodeId();
+        final long awaited = pendingPartitions(traceId, run).stream()
+                .filter(partition -> !nodeId.equals(partition.getLeaseOwner()))
+                .count();
+        if (awaited == 0) {
+            return false;
+        }
+        if (progress.isCancelRequested()) {
+            LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Accrual run {} cancelled while waiting for other nodes.", run.getId());
+            throw new AccrualCancelledException();
+        }
+        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Waiting for {} partitions of accrual run {} leased by other nodes.", awaited, run.getId());
+        try {
+            Thread.sleep(accrualProperties.getLeasePollInterval().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Interrupted while waiting for accrual run partitions.");
+            throw new TimeDepositException(ErrorMessages.ERROR_UPDATING_TIME_DEPOSIT_ACCOUNTS);
+        }
+        return true;
+    }
+
+    /**
+     * Accrues interest for every account in the uncommitted part of a partition, one chunk per transaction.
+     * <p>
+     * Starts after the partition's last committed ID and marks the partition completed once a short or empty chunk
+     * is read. Cancellation is checked and the lease of the partition renewed before every chunk; if the lease has
+     * been taken over by another node, either then or while a chunk was accrued, the chunk rolls back and the
+     * partition is left to that node, so that this node can claim the next one. Every chunk is accrued by
+     * {@link #accrueChunk} with the engine picked by {@link #chunkEngine(int)}.
+     * </p>
+     *
+     * @param traceId   A unique identifier for tracing the request through the system.
+     * @param partition The leased partition checkpoint to continue from.
+     * @param periods   The number of periods the run applies.
+     * @param progress  The tracker to report committed rows to.
+     * @return The number of accounts updated by this call in the partition.
+     * @throws AccrualCancelledException If cancellation was requested through the tracker.
+     */
+    private long accruePartition(final String traceId, final AccrualRunPartitionDto partition, final int periods, final AccrualProgress progress) {
+        final AccrualPartition remaining = partition.remaining();
+        final int chunkSize = accrualProperties.getChunkSize();
+        final AccrualChunkEngine engine = chunkEngine(periods);
+        long afterId = remaining.getAfterId();
+        long updatedCount = 0;
+
+        while (true) {
+            if (progress.isCancelRequested()) {
+                LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Accrual of partition {} cancelled after ID {}.", partition.getPartitionNo(), afterId);
+                throw new AccrualCancelledException();
+            }
+            if (afterId != remaining.getAfterId() && !renewLease(traceId, partition)) {
+                LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Lease of partition {} was taken over, leaving it after ID {}.", partition.getPartitionNo(), afterId);
+                return updatedCount;
+            }
+            final long chunkAfterId = afterId;
+            final AccruedChunk accruedChunk;
+            try {
+                accruedChunk = transactionTemplate.execute(status -> accrueChunk(traceId, partition, chunkAfterId, remaining.getUpToId(),
+                        chunkSize, engine, progress));
+            } catch (PartitionLostException ex) {
+                LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Lease of partition {} was taken over before the chunk after ID {} committed, leaving it.",
+                        partition.getPartitionNo(), afterId);
+                return updatedCount;
+            }
+
+            updatedCount += accruedChunk.size();
+            progress.addRows(accruedChunk.size());
+            progress.addWrittenRows(accruedChunk.written());
+            accrualMetrics.recordWrites(accruedChunk.written(), accruedChunk.size() - accruedChunk.written());
+            // An empty chunk has no last ID to go on from, whatever the chunk size
+            if (accruedChunk.size() == 0 || accruedChunk.size() < chunkSize) {
+                break;
+            }
+            afterId = accruedChunk.lastId();
+        }
+
+        try {
+            if (!accrualRunRepository.completePartition(partition.getRunId(), partition.getPartitionNo(), partition.getLeaseToken())) {
+                LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Lease of partition {} was taken over before it completed.", partition.getPartitionNo());
+            }
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error completing accrual run partition: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RECORDING_ACCRUAL_RUN);
+        }
+        return updatedCount;
+    }
+
+    private boolean renewLease(final String traceId, final AccrualRunPartitionDto partition) {
+        try {
+            return accrualRunRepository.renewLease(partition.getRunId(), partition.getPartitionNo(), partition.getLeaseToken(),
+                    accrualProperties.getLeaseDuration());
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error renewing accrual run partition lease: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RECORDING_ACCRUAL_RUN);
+        }
+    }
+
+    /**
+     * Picks the engine the chunks of a partition are accrued with: the catch-up engine for a run that applies several
+     * periods, whatever the configured engine, and the configured {@link CalculationEngine} otherwise.
+     *
+     * @param periods The number of periods the run applies.
+     * @return A new {@link AccrualChunkEngine} for the partition.
+     */
+    private AccrualChunkEngine chunkEngine(final int periods) {
+        if (periods > 1) {
+            return new CatchUpAccrualChunkEngine(timeDepositCalculator, timeDepositsRepository, accrualMetrics, periods,
+                    accrualProperties.getCatchUpDaysPerPeriod());
+        }
+        return switch (accrualProperties.getCalculationEngine()) {
+            case IN_DATABASE -> new InDatabaseAccrualChunkEngine(timeDepositCalculator, timeDepositsRepository, accrualMetrics);
+            case COLUMNAR -> new ColumnarAccrualChunkEngine(timeDepositCalculator, timeDepositsRepository, accrualMetrics,
+                    accrualProperties.isEligibilityPushdown());
+            default -> new DtoAccrualChunkEngine(timeDepositCalculator, timeDepositsRepository, accrualMetrics,
+                    accrualProperties.isEligibilityPushdown());
+        };
+    }
+
+    /**
+     * Accrues one chunk of accounts with the given engine and moves the partition checkpoint past it. Must run in a
+     * transaction, so that the new balances and the checkpoint commit or roll back together.
+     * <p>
+     * Each stage is timed through {@link AccrualMetrics}. This method performs the following steps:
+     * <li> 1. Fetches the next chunk of accounts in the partition. </li>
+     * <li> 2. Computes its new balances, if the engine computes in the application. </li>
+     * <li> 3. Persists them and advances the checkpoint, failing with a {@link PartitionLostException} if the lease
+     *    token no longer matches. </li>
+     * </p>
+     *
+     * @param traceId   A unique identifier for tracing the request through the system.
+     * @param partition The partition the chunk belongs to.
+     * @param afterId   The exclusive lower bound of the chunk, i.e. the current checkpoint.
+     * @param upToId    The inclusive upper bound of the partition.
+     * @param chunkSize The maximum number of accounts in the chunk.
+     * @param engine    The engine that fetches, computes and persists the chunk.
+     * @param progress  The tracker to report the current stage to.
+     * @return The size and last ID of the chunk; empty when the partition is exhausted.
+     */
+    private AccruedChunk accrueChunk(final String traceId, final AccrualRunPartitionDto partition, final long afterId,
+                                     final long upToId, final int chunkSize, final AccrualChunkEngine engine,
+                                     final AccrualProgress progress) {
+        final AccrualChunkEngine.Chunk chunk;
+        progress.stage(AccrualMetrics.Stage.FETCH);
+        long stageStart = System.nanoTime();
+        try {
+            chunk = engine.fetch(traceId, afterId, upToId, chunkSize);
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error retrieving time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RETRIEVING_TIME_DEPOSIT_ACCOUNTS);
+        }
+        accrualMetrics.recordStage(AccrualMetrics.Stage.FETCH, System.nanoTime() - stageStart);
+
+        if (chunk.size() == 0) {
+            return AccruedChunk.EMPTY;
+        }
+
+        if (engine.hasComputeStage()) {
+            progress.stage(AccrualMetrics.Stage.COMPUTE);
+            stageStart = System.nanoTime();
+            try {
+                chunk.compute(traceId);
+            } catch (Exception ex) {
+                LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error updating time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+                throw new TimeDepositException(ErrorMessages.ERROR_COMPUTING_TIME_DEPOSIT_INTEREST);
+            }
+            accrualMetrics.recordStage(AccrualMetrics.Stage.COMPUTE, System.nanoTime() - stageStart);
+        }
+
+        final long lastId = chunk.lastId();
+        progress.stage(AccrualMetrics.Stage.PERSIST);
+        stageStart = System.nanoTime();
+        final int writtenCount;
+        final boolean advanced;
+        try {
+            writtenCount = chunk.persist(traceId);
+            advanced = accrualRunRepository.advanceCheckpoint(partition.getRunId(), partition.getPartitionNo(), partition.getLeaseToken(), afterId,
+                    lastId, chunk.size());
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error saving updated time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_UPDATING_TIME_DEPOSIT_ACCOUNTS);
+        }
+        if (!advanced) {
+            // Another node took the partition over; rolling back keeps this chunk's interest from being applied twice
+            throw new PartitionLostException();
+        }
+        accrualMetrics.recordStage(AccrualMetrics.Stage.PERSIST, System.nanoTime() - stageStart);
+        return new AccruedChunk(chunk.size(), writtenCount, lastId);
+    }
+
+    /**
+     * The number of accounts in an accrued chunk, how many of them were written back, and the ID of its last account,
+     * i.e. the new checkpoint.
+     */
+    private record AccruedChunk(int size, int written, long lastId) {
+        private static final AccruedChunk EMPTY = new AccruedChunk(0, 0, 0);
+    }
+}
@@ -0,0 +1,83 @@
+package org.ikigaidigital.domain.component.accrual;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies several periods to a chunk at once, the engine of every run that applies more than one period.
+ * <p>
+ * Every account is read, computed and written once for all the periods. Its balance after them comes from
+ * {@link PlanEvaluator#projectedBalance(int, BigDecimal, int, int)}, and its days are advanced to those seen by the
+ * last period, each period seeing the deposit held {@code daysPerPeriod} days longer than the one before. The
+ * eligibility pushdown does not apply, as an account still in its interest-free period may leave it within the
+ * periods applied.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class CatchUpAccrualChunkEngine implements AccrualChunkEngine {
+    private final TimeDepositCalculator timeDepositCalculator;
+    private final TimeDepositsRepository timeDepositsRepository;
+    private final AccrualMetrics accrualMetrics;
+    private final int periods;
+    private final int daysPerPeriod;
+
+    @Override
+    public Chunk fetch(final String traceId, final long afterId, final long upToId, final int chunkSize) {
+        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Fetching time deposit accounts after ID {} to catch up.", afterId);
+        return new CatchUpChunk(timeDepositsRepository.findTimeDepositsInIdRange(afterId, upToId, chunkSize));
+    }
+
+    @RequiredArgsConstructor
+    private final class CatchUpChunk implements Chunk {
+        private final List<TimeDepositsDto> timeDepositsDtoChunk;
+        private final List<TimeDepositsDto> changedDtoChunk = new ArrayList<>();
+
+        @Override
+        public int size() {
+            return timeDepositsDtoChunk.size();
+        }
+
+        @Override
+        public long lastId() {
+            return timeDepositsDtoChunk.get(timeDepositsDtoChunk.size() - 1).getId();
+        }
+
+        @Override
+        public void compute(final String traceId) {
+            final PlanEvaluatorIndex planEvaluatorIndex = timeDepositCalculator.planEvaluatorIndex();
+            accrualMetrics.recordOutcomes(timeDepositsDtoChunk, planEvaluatorIndex);
+            for (TimeDepositsDto timeDepositsDto : timeDepositsDtoChunk) {
+                final PlanEvaluator plan = planEvaluatorIndex.find(timeDepositsDto.getPlanType());
+                if (plan == null) {
+                    continue;
+                }
+                final BigDecimal balance = plan.projectedBalance(timeDepositsDto.getDays(), timeDepositsDto.getBalance(), periods, daysPerPeriod);
+                final int days = Math.toIntExact(timeDepositsDto.getDays() + (periods - 1L) * daysPerPeriod);
+                if (balance.compareTo(timeDepositsDto.getBalance()) != 0 || days != timeDepositsDto.getDays()) {
+                    timeDepositsDto.setBalance(balance);
+                    timeDepositsDto.setDays(days);
+                    changedDtoChunk.add(timeDepositsDto);
+                }
+            }
+            LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Updating {} of {} time deposit accounts in the repository.", changedDtoChunk.size(), timeDepositsDtoChunk.size());
+        }
+
+        @Override
+        public int persist(final String traceId) {
+            if (!changedDtoChunk.isEmpty()) {
+                timeDepositsRepository.batchUpdateTimeDepositBalancesAndDays(changedDtoChunk);
+            }
+            return changedDtoChunk.size();
+        }
+    }
+}
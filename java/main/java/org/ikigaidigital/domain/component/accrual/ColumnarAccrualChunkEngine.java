@@ -0,0 +1,62 @@
+package org.ikigaidigital.domain.component.accrual;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.calculator.TimeDepositColumns;
+import org.ikigaidigital.domain.constant.CalculationEngine;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+
+/**
+ * Accrues a chunk held in {@link TimeDepositColumns}, the {@link CalculationEngine#COLUMNAR} engine.
+ * <p>
+ * Works like {@link DtoAccrualChunkEngine}, but the chunk is read straight into primitive columns and accrued by the
+ * calculator's {@code InterestKernel}, without an object per account.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ColumnarAccrualChunkEngine implements AccrualChunkEngine {
+    private final TimeDepositCalculator timeDepositCalculator;
+    private final TimeDepositsRepository timeDepositsRepository;
+    private final AccrualMetrics accrualMetrics;
+    private final boolean eligibilityPushdown;
+
+    @Override
+    public Chunk fetch(final String traceId, final long afterId, final long upToId, final int chunkSize) {
+        final PlanEvaluatorIndex planEvaluatorIndex = timeDepositCalculator.planEvaluatorIndex();
+        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Fetching time deposit account columns after ID {}.", afterId);
+        return new ColumnarChunk(eligibilityPushdown
+                ? timeDepositsRepository.findAccrualEligibleTimeDepositColumnsInIdRange(planEvaluatorIndex, afterId, upToId, chunkSize)
+                : timeDepositsRepository.findTimeDepositColumnsInIdRange(planEvaluatorIndex, afterId, upToId, chunkSize));
+    }
+
+    @RequiredArgsConstructor
+    private final class ColumnarChunk implements Chunk {
+        private final TimeDepositColumns columns;
+
+        @Override
+        public int size() {
+            return columns.size();
+        }
+
+        @Override
+        public long lastId() {
+            return columns.id(columns.size() - 1);
+        }
+
+        @Override
+        public void compute(final String traceId) {
+            accrualMetrics.recordOutcomes(columns);
+            timeDepositCalculator.accrue(columns);
+        }
+
+        @Override
+        public int persist(final String traceId) {
+            final int writtenCount = timeDepositsRepository.batchUpdateAccruedBalances(columns);
+            LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Updated {} of {} time deposit accounts in the repository.", writtenCount, columns.size());
+            return writtenCount;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.ikigaidigital.domain.component.accrual;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accrues a chunk as {@link TimeDepositsDto}s with the {@link TimeDepositCalculator}, the default engine.
+ * <p>
+ * Only the accounts that can accrue interest are read when {@code application.accrual.eligibility-pushdown} is set,
+ * and only the balance of the accounts whose balance changed is written back, in batch. Accounts in the interest-free
+ * period, past the end of their interest or of an unknown plan are skipped.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class DtoAccrualChunkEngine implements AccrualChunkEngine {
+    private final TimeDepositCalculator timeDepositCalculator;
+    private final TimeDepositsRepository timeDepositsRepository;
+    private final AccrualMetrics accrualMetrics;
+    private final boolean eligibilityPushdown;
+
+    @Override
+    public Chunk fetch(final String traceId, final long afterId, final long upToId, final int chunkSize) {
+        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Fetching time deposit accounts after ID {}.", afterId);
+        return new DtoChunk(eligibilityPushdown
+                ? timeDepositsRepository.findAccrualEligibleTimeDepositsInIdRange(timeDepositCalculator.planEvaluatorIndex().evaluators(), afterId, upToId, chunkSize)
+                : timeDepositsRepository.findTimeDepositsInIdRange(afterId, upToId, chunkSize));
+    }
+
+    /**
+     * Copies the balances of a chunk, by position, before the calculator updates them in place.
+     *
+     * @param timeDepositsDtoChunk The accounts of the chunk, as read.
+     * @return The balance of each account of the chunk, in the same order.
+     */
+    private static BigDecimal[] balancesOf(final List<TimeDepositsDto> timeDepositsDtoChunk) {
+        final BigDecimal[] balances = new BigDecimal[timeDepositsDtoChunk.size()];
+        for (int i = 0; i < balances.length; i++) {
+            balances[i] = timeDepositsDtoChunk.get(i).getBalance();
+        }
+        return balances;
+    }
+
+    /**
+     * Selects the accounts of a chunk whose balance differs in value from the balance they were read with.
+     *
+     * @param timeDepositsDtoChunk The accounts of the chunk, after the calculator updated them.
+     * @param balancesAsRead       The balances of the chunk as read, in the same order.
+     * @return The accounts whose balance changed, in chunk order.
+     */
+    private static List<TimeDepositsDto> changedBalances(final List<TimeDepositsDto> timeDepositsDtoChunk, final BigDecimal[] balancesAsRead) {
+        final List<TimeDepositsDto> changed = new ArrayList<>();
+        for (int i = 0; i < balancesAsRead.length; i++) {
+            final TimeDepositsDto timeDepositsDto = timeDepositsDtoChunk.get(i);
+            if (timeDepositsDto.getBalance().compareTo(balancesAsRead[i]) != 0) {
+                changed.add(timeDepositsDto);
+            }
+        }
+        return changed;
+    }
+
+    @RequiredArgsConstructor
+    private final class DtoChunk implements Chunk {
+        private final List<TimeDepositsDto> timeDepositsDtoChunk;
+        private List<TimeDepositsDto> changedDtoChunk = List.of();
+
+        @Override
+        public int size() {
+            return timeDepositsDtoChunk.size();
+        }
+
+        @Override
+        public long lastId() {
+            return timeDepositsDtoChunk.get(timeDepositsDtoChunk.size() - 1).getId();
+        }
+
+        @Override
+        public void compute(final String traceId) {
+            accrualMetrics.recordOutcomes(timeDepositsDtoChunk, timeDepositCalculator.planEvaluatorIndex());
+            final BigDecimal[] balancesAsRead = balancesOf(timeDepositsDtoChunk);
+            timeDepositCalculator.updateBalance(timeDepositsDtoChunk);
+            changedDtoChunk = changedBalances(timeDepositsDtoChunk, balancesAsRead);
+            LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Updating {} of {} time deposit accounts in the repository.", changedDtoChunk.size(), timeDepositsDtoChunk.size());
+        }
+
+        @Override
+        public int persist(final String traceId) {
+            if (!changedDtoChunk.isEmpty()) {
+                timeDepositsRepository.batchUpdateTimeDepositBalances(changedDtoChunk);
+            }
+            return changedDtoChunk.size();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.ikigaidigital.domain.component.accrual;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.constant.CalculationEngine;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+
+import java.util.List;
+
+/**
+ * Accrues a chunk inside the database, the {@link CalculationEngine#IN_DATABASE} engine.
+ * <p>
+ * No balances are read into the application: only the IDs of the chunk are fetched, and one set-based {@code UPDATE}
+ * per configured plan runs over the chunk's ID range, so there is no compute stage.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class InDatabaseAccrualChunkEngine implements AccrualChunkEngine {
+    private final TimeDepositCalculator timeDepositCalculator;
+    private final TimeDepositsRepository timeDepositsRepository;
+    private final AccrualMetrics accrualMetrics;
+
+    @Override
+    public Chunk fetch(final String traceId, final long afterId, final long upToId, final int chunkSize) {
+        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Fetching time deposit account IDs after ID {}.", afterId);
+        return new IdChunk(afterId, timeDepositsRepository.findTimeDepositIdsInIdRange(afterId, upToId, chunkSize));
+    }
+
+    @Override
+    public boolean hasComputeStage() {
+        return false;
+    }
+
+    @RequiredArgsConstructor
+    private final class IdChunk implements Chunk {
+        private final long afterId;
+        private final List<Long> idChunk;
+
+        @Override
+        public int size() {
+            return idChunk.size();
+        }
+
+        @Override
+        public long lastId() {
+            return idChunk.get(idChunk.size() - 1);
+        }
+
+        @Override
+        public void compute(final String traceId) {
+            // The balances are computed by the UPDATE statements of the persist stage
+        }
+
+        @Override
+        public int persist(final String traceId) {
+            final int accruedCount = timeDepositsRepository.accrueInterestInIdRange(
+                    timeDepositCalculator.planEvaluatorIndex().evaluators(), afterId, lastId());
+            LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Accrued interest on {} of {} time deposit accounts in the database.", accruedCount, idChunk.size());
+            accrualMetrics.recordRows(idChunk.size());
+            return accruedCount;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.ikigaidigital.domain.component.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Point-in-time statistics of a {@link VersionedCache}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long loadFailureCount;
+    private final long evictionCount;
+    private final long totalLoadTimeNanos;
+    private final int size;
+    private final long dataVersion;
+
+    /**
+     * @return The share of lookups served from the cache, or 0 if there were none.
+     */
+    public double getHitRate() {
+        final long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * @return The mean time spent loading a value, in nanoseconds, or 0 if nothing was loaded.
+     */
+    public long getAverageLoadTimeNanos() {
+        final long attempts = loadCount + loadFailureCount;
+        return attempts == 0 ? 0 : totalLoadTimeNanos / attempts;
+    }
+}
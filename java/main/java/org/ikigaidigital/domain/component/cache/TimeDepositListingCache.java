@@ -0,0 +1,16 @@
+package org.ikigaidigital.domain.component.cache;
+
+import org.ikigaidigital.domain.component.listing.ListingProperties;
+import org.ikigaidigital.domain.model.response.TimeDepositAccountsResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache of account listing responses, invalidated whenever the time deposit data version changes.
+ * Sized by {@code application.listing.cache-max-entries}.
+ */
+@Component
+public class TimeDepositListingCache extends VersionedCache<Object, TimeDepositAccountsResponse> {
+    public TimeDepositListingCache(final ListingProperties listingProperties, final TimeDepositsDataVersion timeDepositsDataVersion) {
+        super(listingProperties.getCacheMaxEntries(), timeDepositsDataVersion::current);
+    }
+}
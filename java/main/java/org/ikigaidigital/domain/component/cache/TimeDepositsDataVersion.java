@@ -0,0 +1,113 @@
+package org.ikigaidigital.domain.component.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.listing.ListingProperties;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global version stamp of the time deposit data, used to invalidate everything cached from it at once.
+ * <p>
+ * Every write to the time deposits or withdrawals must call {@link #bump()}. Inside a transaction the version is
+ * bumped both immediately and again once the transaction completes, so that a reader which reloads while the
+ * transaction is still open, and therefore sees the old rows, cannot keep its result cached past the commit.
+ * </p>
+ * <p>
+ * Accruals and imports also run on other nodes, which cannot bump this node's counter. Once a run or import is over,
+ * and outside its chunk transactions, {@link #publish(String)} therefore increments the shared {@code DATA_VERSIONS}
+ * row in a statement of its own, so the parallel workers and nodes of a run never queue on its row lock.
+ * {@link #current()} reads that row at most once per {@code application.listing.version-poll-interval}, on one thread
+ * at a time while the others keep the local version, and moves the local version on when it changed. Writes on this
+ * node invalidate its caches at once; writes on other nodes within the poll interval after their run or import.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeDepositsDataVersion {
+    private static final String SHARED_VERSION_NAME = "TIME_DEPOSITS";
+    private static final String SELECT_SHARED_VERSION_SQL = "SELECT version FROM data_versions WHERE name = ?";
+    private static final String BUMP_SHARED_VERSION_SQL = "UPDATE data_versions SET version = version + 1 WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ListingProperties listingProperties;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    // Only read and written by the thread that set polling
+    private long sharedVersion = Long.MIN_VALUE;
+    private volatile long lastPollNanos;
+    private volatile boolean polled;
+
+    /**
+     * @return The current data version, after catching up with the shared version if the poll interval has passed.
+     */
+    public long current() {
+        pollSharedVersion();
+        return version.get();
+    }
+
+    /**
+     * Marks the time deposit data as changed on this node. Called by every write; the other nodes learn of the change
+     * through {@link #publish(String)}.
+     */
+    public void bump() {
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Marks the time deposit data as changed on every node, by incrementing the shared version. Called once a run or
+     * import is over, outside any transaction, so that the shared row is not locked for the length of a chunk. A
+     * failure is logged and the other nodes then see the change with the next publish.
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     */
+    public void publish(final String traceId) {
+        version.incrementAndGet();
+        try {
+            jdbcTemplate.update(BUMP_SHARED_VERSION_SQL, SHARED_VERSION_NAME);
+        } catch (DataAccessException ex) {
+            LoggerUtils.logError(traceId, Sources.REPOSITORY_LAYER, "Error publishing the shared data version: {}", ex.getMessage());
+        }
+    }
+
+    private void pollSharedVersion() {
+        final long now = System.nanoTime();
+        if (polled && now - lastPollNanos < listingProperties.getVersionPollInterval().toNanos()) {
+            return;
+        }
+        // One thread polls; the others serve the local version instead of waiting on the database
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            polled = true;
+            lastPollNanos = now;
+            final Long polledVersion = jdbcTemplate.queryForObject(SELECT_SHARED_VERSION_SQL, Long.class, SHARED_VERSION_NAME);
+            if (polledVersion != null && polledVersion != sharedVersion) {
+                sharedVersion = polledVersion;
+                version.incrementAndGet();
+            }
+        } catch (DataAccessException ex) {
+            // Keep serving the local version; the next poll retries
+            LoggerUtils.logError("N/A", Sources.REPOSITORY_LAYER, "Error reading the shared data version: {}", ex.getMessage());
+        } finally {
+            polling.set(false);
+        }
+    }
+}
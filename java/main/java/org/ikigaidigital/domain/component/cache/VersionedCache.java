@@ -0,0 +1,153 @@
+package org.ikigaidigital.domain.component.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, in-process read-through cache whose entries are only valid for one data version.
+ * <p>
+ * Entries are evicted least-recently-used once {@code maxEntries} is reached. As soon as the data version moves on,
+ * the next lookup drops every entry at once, so a stale value is never served. Concurrent misses for the same key
+ * and version are collapsed into a single load (single-flight): one caller runs the loader and the others wait for
+ * its result or its exception. A value loaded while the version changed is returned to its callers but not cached.
+ * A {@code maxEntries} of zero or less disables caching but keeps the single-flight behaviour.
+ * </p>
+ *
+ * @param <K> The key type; must implement {@code equals} and {@code hashCode}.
+ * @param <V> The value type. Cached values are shared between callers and must not be mutated.
+ */
+public class VersionedCache<K, V> {
+    private final int maxEntries;
+    private final LongSupplier versionSupplier;
+    private final Map<K, V> entries;
+    private final ConcurrentHashMap<VersionedKey<K>, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    private long entriesVersion;
+
+    public VersionedCache(final int maxEntries, final LongSupplier versionSupplier) {
+        this.maxEntries = maxEntries;
+        this.versionSupplier = versionSupplier;
+        this.entriesVersion = versionSupplier.getAsLong();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                if (size() > VersionedCache.this.maxEntries) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for the key at the current data version, loading it on a miss.
+     *
+     * @param key    The cache key.
+     * @param loader Loads the value on a miss; may throw, in which case nothing is cached.
+     * @return The cached or freshly loaded value.
+     */
+    public V get(final K key, final Supplier<V> loader) {
+        final long version = versionSupplier.getAsLong();
+        final V cached = lookup(key, version);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+
+        final VersionedKey<K> versionedKey = new VersionedKey<>(key, version);
+        final CompletableFuture<V> newLoad = new CompletableFuture<>();
+        final CompletableFuture<V> existingLoad = inFlightLoads.putIfAbsent(versionedKey, newLoad);
+        if (existingLoad != null) {
+            return await(existingLoad);
+        }
+
+        final long start = System.nanoTime();
+        try {
+            final V value = loader.get();
+            loadCount.increment();
+            store(key, version, value);
+            newLoad.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            loadFailureCount.increment();
+            newLoad.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            totalLoadTimeNanos.add(System.nanoTime() - start);
+            inFlightLoads.remove(versionedKey, newLoad);
+        }
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return A snapshot of the cache statistics.
+     */
+    public CacheStats stats() {
+        final int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadCount.sum(), loadFailureCount.sum(),
+                evictionCount.sum(), totalLoadTimeNanos.sum(), size, versionSupplier.getAsLong());
+    }
+
+    private synchronized V lookup(final K key, final long version) {
+        if (version > entriesVersion) {
+            entries.clear();
+            entriesVersion = version;
+        }
+        return version == entriesVersion ? entries.get(key) : null;
+    }
+
+    private void store(final K key, final long version, final V value) {
+        // The version supplier may query the database, so it is read before taking the monitor the readers share
+        final long currentVersion = versionSupplier.getAsLong();
+        synchronized (this) {
+            if (maxEntries > 0 && value != null && version == entriesVersion && version == currentVersion) {
+                entries.put(key, value);
+            }
+        }
+    }
+
+    private static <V> V await(final CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private record VersionedKey<K>(K key, long version) {
+        private VersionedKey {
+            Objects.requireNonNull(key);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.ikigaidigital.domain.component.calculator;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Annual interest rate compiled for monthly interest on balances held as {@code long} cents.
+ * <p>
+ * With the rate written as {@code R / 10^k}, the exact monthly interest in units of 10^-8 is
+ * {@code cents * R * 10^6 / (12 * 10^k)}. It is reduced to one multiplier and one divisor, rounded HALF_UP to
+ * 8 decimals and then HALF_UP to cents. This gives the same double rounding as the BigDecimal calculation in
+ * {@link PlanEvaluator}, so results match it exactly. Balances whose product with the multiplier could overflow a
+ * {@code long} are rejected by {@link #canAccrue(long)}; callers then use the BigDecimal path.
+ * </p>
+ */
+@Getter
+public final class FixedPointRate {
+    private static final int INTEREST_SCALE = 8;
+    private static final int BALANCE_SCALE = 2;
+    private static final long MONTHS_PER_YEAR = 12L;
+    private static final long EIGHT_DECIMAL_UNITS_PER_CENT = 1_000_000L;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L
+    };
+
+    private final long multiplier;
+    private final long divisor;
+    private final long maxExactCents;
+
+    private FixedPointRate(final long multiplier, final long divisor) {
+        this.multiplier = multiplier;
+        this.divisor = divisor;
+        this.maxExactCents = multiplier == 0 ? Long.MAX_VALUE : Long.MAX_VALUE / Math.abs(multiplier);
+    }
+
+    /**
+     * Compiles an annual interest rate.
+     *
+     * @param annualRate The annual interest rate, e.g. 0.05 for 5%.
+     * @return The compiled {@link FixedPointRate}, or {@code null} if the rate cannot be represented exactly with
+     * {@code long} arithmetic (too many significant digits or decimal places).
+     */
+    public static FixedPointRate of(final BigDecimal annualRate) {
+        if (annualRate == null) {
+            return null;
+        }
+        final BigDecimal rate = annualRate.scale() < 0 ? annualRate.setScale(0) : annualRate;
+        final BigInteger unscaled = rate.unscaledValue();
+        if (unscaled.bitLength() > 62) {
+            return null;
+        }
+
+        final int decimalShift = INTEREST_SCALE - BALANCE_SCALE - rate.scale();
+        try {
+            if (decimalShift >= 0) {
+                return decimalShift < POWERS_OF_TEN.length
+                        ? new FixedPointRate(Math.multiplyExact(unscaled.longValueExact(), POWERS_OF_TEN[decimalShift]), MONTHS_PER_YEAR)
+                        : null;
+            }
+            return -decimalShift < POWERS_OF_TEN.length
+                    ? new FixedPointRate(unscaled.longValueExact(), Math.multiplyExact(MONTHS_PER_YEAR, POWERS_OF_TEN[-decimalShift]))
+                    : null;
+        } catch (ArithmeticException overflow) {
+            return null;
+        }
+    }
+
+    /**
+     * @param balanceCents A balance in cents.
+     * @return {@code true} if the monthly interest on the balance can be computed without overflowing.
+     */
+    public boolean canAccrue(final long balanceCents) {
+        return balanceCents <= maxExactCents && balanceCents >= -maxExactCents;
+    }
+
+    /**
+     * Calculates one month of interest on a balance, rounded HALF_UP to 8 decimals and then HALF_UP to cents.
+     * The caller must have checked {@link #canAccrue(long)}.
+     *
+     * @param balanceCents The balance in cents.
+     * @return The interest in cents.
+     */
+    public long monthlyInterestCents(final long balanceCents) {
+        final long interestEightDecimals = divideHalfUp(balanceCents * multiplier, divisor);
+        return divideHalfUp(interestEightDecimals, EIGHT_DECIMAL_UNITS_PER_CENT);
+    }
+
+    /**
+     * Divides and rounds HALF_UP, i.e. ties away from zero, as {@link java.math.RoundingMode#HALF_UP} does.
+     *
+     * @param dividend Any value other than {@link Long#MIN_VALUE}.
+     * @param divisor  A positive divisor.
+     * @return The rounded quotient.
+     */
+    static long divideHalfUp(final long dividend, final long divisor) {
+        final long magnitude = Math.abs(dividend);
+        long quotient = magnitude / divisor;
+        final long remainder = magnitude - quotient * divisor;
+        if (remainder >= divisor - remainder) {
+            quotient++;
+        }
+        return dividend < 0 ? -quotient : quotient;
+    }
+}
@@ -0,0 +1,23 @@
+package org.ikigaidigital.domain.component.calculator;
+
+/**
+ * Batch interest calculation over {@link TimeDepositColumns}.
+ * <p>
+ * Implementations fill the accrued balance of every account and must produce exactly the balances of
+ * {@link PlanEvaluator#updatedBalance(int, java.math.BigDecimal)}; accounts of an unknown plan keep their balance.
+ * </p>
+ */
+public interface InterestKernel {
+
+    /**
+     * Accrues one month of interest for every account of the columns.
+     *
+     * @param columns The accounts; their accrued balances are overwritten.
+     */
+    void accrue(TimeDepositColumns columns);
+
+    /**
+     * @return A short name for logs, e.g. {@code scalar}.
+     */
+    String name();
+}
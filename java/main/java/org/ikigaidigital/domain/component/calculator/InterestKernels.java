@@ -0,0 +1,30 @@
+package org.ikigaidigital.domain.component.calculator;
+
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+
+/**
+ * Chooses the {@link InterestKernel} for the {@code COLUMNAR} calculation engine.
+ */
+public final class InterestKernels {
+    private InterestKernels() {
+    }
+
+    /**
+     * Creates the vector kernel when it is requested and {@code jdk.incubator.vector} is available, and the scalar
+     * kernel otherwise.
+     *
+     * @param vector {@code true} to prefer the SIMD kernel.
+     * @return The kernel.
+     */
+    public static InterestKernel create(final boolean vector) {
+        if (vector) {
+            try {
+                return new VectorInterestKernel();
+            } catch (LinkageError | UnsupportedOperationException ex) {
+                LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "Vector interest kernel unavailable, start the JVM with --add-modules jdk.incubator.vector; using the scalar kernel: {}", ex.toString());
+            }
+        }
+        return new ScalarInterestKernel();
+    }
+}
@@ -0,0 +1,264 @@
+package org.ikigaidigital.domain.component.calculator;
+
+import lombok.Getter;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.constant.AccrualOutcome;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable, precompiled form of a {@link PlanProperties.Plan}.
+ * <p>
+ * The interest window is reduced to two integer thresholds, and the monthly rate is precomputed whenever
+ * {@code interestRate / 12} has a finite decimal expansion. When it does not (for example 0.01 / 12), the division
+ * is kept per balance, because folding a rounded monthly rate into the product would change the 8-decimal
+ * intermediate result and therefore the balance.
+ * The rate is also compiled into a {@link FixedPointRate} for the {@code long}-cents engine when it fits.
+ * </p>
+ */
+@Getter
+public final class PlanEvaluator {
+    private static final BigDecimal MONTHS_PER_YEAR = BigDecimal.valueOf(12);
+    private static final int INTEREST_SCALE = 8;
+    private static final int BALANCE_SCALE = 2;
+    // Integer digits of a balance whose cents always fit in a long
+    private static final int MAX_CENTS_INTEGER_DIGITS = 16;
+
+    private final String planType;
+    private final BigDecimal interestRate;
+    private final BigDecimal monthlyRate;
+    private final FixedPointRate fixedPointRate;
+    private final int interestFreeDays;
+    private final int lastInterestDay;
+
+    private PlanEvaluator(final PlanProperties.Plan plan) {
+        this.planType = plan.getPlanType();
+        this.interestRate = plan.getInterestRate();
+        this.monthlyRate = exactMonthlyRate(plan.getInterestRate());
+        this.fixedPointRate = FixedPointRate.of(plan.getInterestRate());
+        this.interestFreeDays = plan.getInterestFreeDays();
+        this.lastInterestDay = plan.isInterestEnds() && plan.getInterestEndsAfterDays() != null
+                ? plan.getInterestEndsAfterDays()
+                : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Compiles a configured plan into an evaluator.
+     *
+     * @param plan The {@link PlanProperties.Plan} to compile. Must have a plan type.
+     * @return The compiled {@link PlanEvaluator}.
+     */
+    public static PlanEvaluator compile(final PlanProperties.Plan plan) {
+        return new PlanEvaluator(plan);
+    }
+
+    /**
+     * Checks whether a deposit held for the given number of days earns interest under this plan,
+     * i.e. it is past the interest-free period and, if interest ends, not past the last interest day.
+     *
+     * @param days The number of days the deposit has been held.
+     * @return {@code true} if interest applies.
+     */
+    public boolean accruesInterest(final int days) {
+        return days > interestFreeDays && days <= lastInterestDay;
+    }
+
+    /**
+     * Classifies a deposit held for the given number of days under this plan.
+     *
+     * @param days The number of days the deposit has been held.
+     * @return {@link AccrualOutcome#INTEREST_FREE} within the interest-free period, {@link AccrualOutcome#INTEREST_ENDED}
+     * past the last interest day, and {@link AccrualOutcome#ACCRUED} otherwise.
+     */
+    public AccrualOutcome outcome(final int days) {
+        if (days <= interestFreeDays) {
+            return AccrualOutcome.INTEREST_FREE;
+        }
+        return days <= lastInterestDay ? AccrualOutcome.ACCRUED : AccrualOutcome.INTEREST_ENDED;
+    }
+
+    /**
+     * Calculates the new balance of a time deposit for one month.
+     * <p>
+     * The interest is {@code (balance * interestRate) / 12} rounded to 8 decimal places and then to 2, both HALF_UP,
+     * and the result is rounded to 2 decimal places. Deposits that do not accrue interest keep their balance, rounded
+     * to 2 decimal places.
+     * </p>
+     *
+     * @param days    The number of days the deposit has been held.
+     * @param balance The current balance of the time deposit.
+     * @return The updated balance after applying the interest.
+     */
+    public BigDecimal updatedBalance(final int days, final BigDecimal balance) {
+        if (!accruesInterest(days)) {
+            return balance.setScale(BALANCE_SCALE, RoundingMode.HALF_UP);
+        }
+        return balance.add(interest(balance)).setScale(BALANCE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Calculates the new balance of a time deposit for one month with {@code long}-cents arithmetic.
+     * <p>
+     * Produces exactly the same value and scale as {@link #updatedBalance(int, BigDecimal)}. It falls back to that
+     * method when the balance has more than 2 decimal places, does not fit in a {@code long} number of cents, or is
+     * large enough that the interest product could overflow.
+     * </p>
+     *
+     * @param days    The number of days the deposit has been held.
+     * @param balance The current balance of the time deposit.
+     * @return The updated balance after applying the interest.
+     */
+    public BigDecimal updatedBalanceFixedPoint(final int days, final BigDecimal balance) {
+        if (!accruesInterest(days)) {
+            return balance.setScale(BALANCE_SCALE, RoundingMode.HALF_UP);
+        }
+        if (fixedPointRate != null && balance.scale() <= BALANCE_SCALE) {
+            try {
+                final long balanceCents = balance.scaleByPowerOfTen(BALANCE_SCALE).longValueExact();
+                if (fixedPointRate.canAccrue(balanceCents)) {
+                    return BigDecimal.valueOf(Math.addExact(balanceCents, fixedPointRate.monthlyInterestCents(balanceCents)), BALANCE_SCALE);
+                }
+            } catch (ArithmeticException overflow) {
+                // Fall through to the BigDecimal calculation
+            }
+        }
+        return updatedBalance(days, balance);
+    }
+
+    /**
+     * Calculates the new balance of a time deposit for one month in cents.
+     * <p>
+     * Produces exactly the cents of {@link #updatedBalance(int, BigDecimal)}, with the {@link FixedPointRate} when the
+     * interest cannot overflow and with {@code BigDecimal} otherwise.
+     * </p>
+     *
+     * @param days         The number of days the deposit has been held.
+     * @param balanceCents The current balance of the time deposit in cents.
+     * @return The updated balance in cents after applying the interest.
+     * @throws ArithmeticException If the updated balance does not fit in a {@code long} number of cents.
+     */
+    public long updatedBalanceCents(final int days, final long balanceCents) {
+        if (!accruesInterest(days)) {
+            return balanceCents;
+        }
+        if (fixedPointRate != null && fixedPointRate.canAccrue(balanceCents)) {
+            final long interest = fixedPointRate.monthlyInterestCents(balanceCents);
+            final long accrued = balanceCents + interest;
+            if (((balanceCents ^ accrued) & (interest ^ accrued)) >= 0) {
+                return accrued;
+            }
+        }
+        return updatedBalance(days, BigDecimal.valueOf(balanceCents, BALANCE_SCALE)).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Counts the months in which a deposit earns interest over a projection of {@code months} month-end accruals,
+     * where the accrual of month {@code k} (from 1) sees the deposit held for {@code days + (k - 1) * daysPerMonth}
+     * days.
+     * <p>
+     * As the days only grow, the months that earn interest form one segment, between leaving the interest-free
+     * period and passing the last interest day; both ends are found in closed form.
+     * </p>
+     *
+     * @param days         The number of days the deposit has been held at the first accrual.
+     * @param months       The number of monthly accruals projected.
+     * @param daysPerMonth The days a deposit is held longer at each following accrual, at least 0.
+     * @return The number of months that earn interest, between 0 and {@code months}.
+     */
+    public int interestMonths(final int days, final int months, final int daysPerMonth) {
+        return (int) Math.max(0, lastInterestMonth(days, months, daysPerMonth) - firstInterestMonth(days, daysPerMonth) + 1);
+    }
+
+    /**
+     * Projects the balance of a time deposit over {@code months} month-end accruals, the accrual of month {@code k}
+     * (from 1) seeing the deposit held for {@code days + (k - 1) * daysPerMonth} days.
+     * <p>
+     * Returns exactly what {@code months} successive calls of {@link #updatedBalance(int, BigDecimal)} with those
+     * days would. The months outside the interest segment (see {@link #interestMonths(int, int, int)}) are skipped
+     * in one step. Within it, the HALF_UP rounding of every month's interest makes each balance depend on the
+     * rounded one before, so those months are compounded one by one, in {@code long} cents with the
+     * {@link FixedPointRate} when the balance allows it, and stop early once the interest rounds to zero.
+     * </p>
+     *
+     * @param days         The number of days the deposit has been held at the first accrual.
+     * @param balance      The current balance of the time deposit.
+     * @param months       The number of monthly accruals projected, at least 0.
+     * @param daysPerMonth The days a deposit is held longer at each following accrual, at least 0.
+     * @return The projected balance, at 2 decimal places.
+     */
+    public BigDecimal projectedBalance(final int days, final BigDecimal balance, final int months, final int daysPerMonth) {
+        final int interestMonths = interestMonths(days, months, daysPerMonth);
+        if (interestMonths == 0) {
+            return balance.setScale(BALANCE_SCALE, RoundingMode.HALF_UP);
+        }
+        // Months without interest before the segment round the balance before any interest is computed on it
+        BigDecimal projected = firstInterestMonth(days, daysPerMonth) > 1 ? balance.setScale(BALANCE_SCALE, RoundingMode.HALF_UP) : balance;
+        int remaining = interestMonths;
+        if (fixedPointRate != null && projected.scale() <= BALANCE_SCALE && projected.precision() - projected.scale() <= MAX_CENTS_INTEGER_DIGITS) {
+            long cents = projected.scaleByPowerOfTen(BALANCE_SCALE).longValueExact();
+            while (remaining > 0 && fixedPointRate.canAccrue(cents)) {
+                final long interest = fixedPointRate.monthlyInterestCents(cents);
+                final long accrued = cents + interest;
+                if (((cents ^ accrued) & (interest ^ accrued)) < 0) {
+                    break;
+                }
+                if (interest == 0) {
+                    remaining = 0;
+                    break;
+                }
+                cents = accrued;
+                remaining--;
+            }
+            projected = BigDecimal.valueOf(cents, BALANCE_SCALE);
+        }
+        for (; remaining > 0; remaining--) {
+            final BigDecimal interest = interest(projected);
+            if (interest.signum() == 0) {
+                break;
+            }
+            projected = projected.add(interest).setScale(BALANCE_SCALE, RoundingMode.HALF_UP);
+        }
+        return projected.setScale(BALANCE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @return The first month, from 1, whose accrual sees the deposit past its interest-free period, or
+     * {@link Long#MAX_VALUE} if there is none.
+     */
+    private long firstInterestMonth(final int days, final int daysPerMonth) {
+        if (days > interestFreeDays) {
+            return 1;
+        }
+        return daysPerMonth == 0 ? Long.MAX_VALUE : ((long) interestFreeDays - days) / daysPerMonth + 2;
+    }
+
+    /**
+     * @return The last month, at most {@code months}, whose accrual sees the deposit within its last interest day, or
+     * 0 if there is none.
+     */
+    private long lastInterestMonth(final int days, final int months, final int daysPerMonth) {
+        if (days > lastInterestDay) {
+            return 0;
+        }
+        return daysPerMonth == 0 ? months : Math.min(months, ((long) lastInterestDay - days) / daysPerMonth + 1);
+    }
+
+    private BigDecimal interest(final BigDecimal balance) {
+        final BigDecimal monthlyInterest = monthlyRate != null
+                ? balance.multiply(monthlyRate).setScale(INTEREST_SCALE, RoundingMode.HALF_UP)
+                : balance.multiply(interestRate).divide(MONTHS_PER_YEAR, INTEREST_SCALE, RoundingMode.HALF_UP);
+        return monthlyInterest.setScale(BALANCE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal exactMonthlyRate(final BigDecimal interestRate) {
+        if (interestRate == null) {
+            return null;
+        }
+        try {
+            return interestRate.divide(MONTHS_PER_YEAR);
+        } catch (ArithmeticException nonTerminating) {
+            return null;
+        }
+    }
+}
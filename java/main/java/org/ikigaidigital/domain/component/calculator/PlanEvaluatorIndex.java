@@ -0,0 +1,96 @@
+package org.ikigaidigital.domain.component.calculator;
+
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable lookup table from plan type to {@link PlanEvaluator}, compiled from one snapshot of the configured plans.
+ * <p>
+ * Each plan is indexed under its configured, lower-case and upper-case spelling, so the common spellings resolve
+ * with a single hash lookup and no allocation; any other casing falls back to a normalized lower-case lookup.
+ * When several plans share a type, the first one wins, as with the previous linear scan.
+ * </p>
+ */
+public final class PlanEvaluatorIndex {
+    private final List<PlanProperties.Plan> source;
+    private final Map<String, PlanEvaluator> evaluatorsByPlanType;
+    private final Map<String, PlanEvaluator> evaluatorsByNormalizedPlanType;
+
+    private PlanEvaluatorIndex(final List<PlanProperties.Plan> source) {
+        this.source = source;
+        final Map<String, PlanEvaluator> byPlanType = new HashMap<>();
+        final Map<String, PlanEvaluator> byNormalizedPlanType = new LinkedHashMap<>();
+
+        if (source != null) {
+            for (PlanProperties.Plan plan : source) {
+                if (plan == null || plan.getPlanType() == null) {
+                    continue;
+                }
+                final String normalizedPlanType = normalize(plan.getPlanType());
+                if (byNormalizedPlanType.containsKey(normalizedPlanType)) {
+                    continue;
+                }
+                final PlanEvaluator evaluator = PlanEvaluator.compile(plan);
+                byNormalizedPlanType.put(normalizedPlanType, evaluator);
+                byPlanType.putIfAbsent(plan.getPlanType(), evaluator);
+                byPlanType.putIfAbsent(normalizedPlanType, evaluator);
+                byPlanType.putIfAbsent(plan.getPlanType().toUpperCase(Locale.ROOT), evaluator);
+            }
+        }
+
+        this.evaluatorsByPlanType = Map.copyOf(byPlanType);
+        this.evaluatorsByNormalizedPlanType = Collections.unmodifiableMap(byNormalizedPlanType);
+    }
+
+    /**
+     * Compiles the given plans into an index.
+     *
+     * @param plans The configured plans; may be null or empty.
+     * @return The compiled {@link PlanEvaluatorIndex}.
+     */
+    public static PlanEvaluatorIndex compile(final List<PlanProperties.Plan> plans) {
+        return new PlanEvaluatorIndex(plans);
+    }
+
+    /**
+     * Checks whether this index was compiled from the given plan list instance.
+     *
+     * @param plans The currently configured plan list.
+     * @return {@code true} if the index is up to date with the configuration.
+     */
+    public boolean isCompiledFrom(final List<PlanProperties.Plan> plans) {
+        return source == plans;
+    }
+
+    /**
+     * Finds the evaluator for a plan type, ignoring case.
+     *
+     * @param planType The plan type of a deposit.
+     * @return The matching {@link PlanEvaluator}, or {@code null} if the plan type is null or unknown.
+     */
+    public PlanEvaluator find(final String planType) {
+        if (planType == null) {
+            return null;
+        }
+        final PlanEvaluator evaluator = evaluatorsByPlanType.get(planType);
+        return evaluator != null ? evaluator : evaluatorsByNormalizedPlanType.get(normalize(planType));
+    }
+
+    /**
+     * @return The compiled evaluators in configuration order.
+     */
+    public Collection<PlanEvaluator> evaluators() {
+        return evaluatorsByNormalizedPlanType.values();
+    }
+
+    private static String normalize(final String planType) {
+        return planType.toLowerCase(Locale.ROOT);
+    }
+}
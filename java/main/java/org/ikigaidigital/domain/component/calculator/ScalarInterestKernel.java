@@ -0,0 +1,71 @@
+package org.ikigaidigital.domain.component.calculator;
+
+/**
+ * {@link InterestKernel} that accrues one account at a time with the {@link FixedPointRate} of its plan.
+ * <p>
+ * Accounts whose plan rate has no {@code long} form, whose balance is held as a {@code BigDecimal} or whose interest
+ * could overflow are accrued with {@link PlanEvaluator#updatedBalance(int, java.math.BigDecimal)} instead.
+ * </p>
+ */
+public final class ScalarInterestKernel implements InterestKernel {
+
+    @Override
+    public void accrue(final TimeDepositColumns columns) {
+        columns.resetWideAccruedBalances();
+        accrueRows(columns, 0, columns.size());
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    /**
+     * Accrues the accounts in {@code [from, to)}.
+     */
+    static void accrueRows(final TimeDepositColumns columns, final int from, final int to) {
+        final PlanEvaluator[] plans = columns.plans();
+        final byte[] planOrdinals = columns.planOrdinalsColumn();
+        final int[] days = columns.daysColumn();
+        final long[] balanceCents = columns.balanceCentsColumn();
+        final long[] accruedCents = columns.accruedCentsColumn();
+
+        for (int row = from; row < to; row++) {
+            final int ordinal = planOrdinals[row];
+            final long cents = balanceCents[row];
+            accruedCents[row] = cents;
+            if (ordinal == TimeDepositColumns.UNKNOWN_PLAN) {
+                continue;
+            }
+            if (columns.isWide(row)) {
+                accrueRow(columns, row);
+                continue;
+            }
+            final PlanEvaluator plan = plans[ordinal];
+            if (!plan.accruesInterest(days[row])) {
+                continue;
+            }
+            final FixedPointRate rate = plan.getFixedPointRate();
+            if (rate != null && rate.canAccrue(cents)) {
+                final long interest = rate.monthlyInterestCents(cents);
+                final long accrued = cents + interest;
+                if (((cents ^ accrued) & (interest ^ accrued)) >= 0) {
+                    accruedCents[row] = accrued;
+                    continue;
+                }
+            }
+            accrueRow(columns, row);
+        }
+    }
+
+    /**
+     * Accrues one account with {@link PlanEvaluator#updatedBalance(int, java.math.BigDecimal)}.
+     */
+    static void accrueRow(final TimeDepositColumns columns, final int row) {
+        final int ordinal = columns.planOrdinal(row);
+        if (ordinal == TimeDepositColumns.UNKNOWN_PLAN) {
+            return;
+        }
+        columns.setAccruedBalance(row, columns.plan(ordinal).updatedBalance(columns.days(row), columns.balance(row)));
+    }
+}
@@ -1,83 +1,106 @@
 package org.ikigaidigital.domain.component.calculator;
 
 import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
 import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.constant.CalculationEngine;
 import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class TimeDepositCalculator {
     private final PlanProperties planProperties;
+    private final AccrualProperties accrualProperties;
+    private volatile PlanEvaluatorIndex planEvaluatorIndex = PlanEvaluatorIndex.compile(null);
+    private volatile InterestKernel interestKernel;
 
     /**
      * Updates the balance of a list of time deposits based on their plan type and duration.
      *
      * For each deposit in the list:
-     * <li> 1 Finds the corresponding plan based on the plan type. </li>
+     * <li> 1 Finds the corresponding compiled plan based on the plan type. </li>
      * <li> 2 If no matching plan is found, skips the deposit. </li>
-     * <li> 3 Calculates the new balance using the plan's interest rate and duration. </li>
+     * <li> 3 Calculates the new balance using the plan's interest rate and duration, with the configured
+     *   {@link CalculationEngine}. </li>
      * <li> 4 Updates the deposit's balance with the newly calculated value. </li>
      *
      * @param deposits A list of {@link TimeDepositsDto} objects representing the time deposits to update.
      */
     public void updateBalance(List<TimeDepositsDto> deposits) {
+        final PlanEvaluatorIndex index = planEvaluatorIndex();
+        if (accrualProperties.getCalculationEngine() == CalculationEngine.COLUMNAR) {
+            updateBalanceColumnar(deposits, index);
+            return;
+        }
+        final boolean fixedPoint = accrualProperties.getCalculationEngine() == CalculationEngine.FIXED_POINT;
         for (TimeDepositsDto dto : deposits) {
-            PlanProperties.Plan plan = null;
-            for (PlanProperties.Plan p : planProperties.getPlans()) {
-                if (p.getPlanType().equalsIgnoreCase(dto.getPlanType())) {
-                    plan = p;
-                    break;
-                }
-            }
-
+            final PlanEvaluator plan = index.find(dto.getPlanType());
             if (plan == null) {
                 continue;
             }
 
-            int days = dto.getDays();
-            BigDecimal balance = dto.getBalance();
-            BigDecimal newBalance = calculateUpdatedBalance(days, plan, balance);
-            dto.setBalance(newBalance);
+            dto.setBalance(fixedPoint
+                    ? plan.updatedBalanceFixedPoint(dto.getDays(), dto.getBalance())
+                    : plan.updatedBalance(dto.getDays(), dto.getBalance()));
         }
     }
 
     /**
-     * Calculates the new balance of a time deposit based on the number of days,
-     * the plan's interest rate, and the current balance.
+     * Accrues one month of interest for a chunk held in columns, with the {@link InterestKernel} selected by
+     * {@code application.accrual.vector-kernel}. The balances as read are kept; the new ones are the accrued balances
+     * of the columns.
      *
-     * <p>The method performs the following steps:
-     * <li> 1. Initializes the interest to zero. </li>
-     * <li> 2. Checks if the number of days exceeds the interest-free period. </li>
-     * <li> 3. If the interest-free period is exceeded: </li>
-     *    - Verifies if the interest ends after a certain period. </li>
-     *    - If interest is applicable, calculates it using the formula: </li>
-     *      (balance * interestRate) / 12, rounded to 8 decimal places. </li>
-     * <li> 4. Adds the calculated interest to the current balance and rounds it to 2 decimal places. </li>
+     * @param columns The accounts, built with the current {@link #planEvaluatorIndex()}.
+     */
+    public void accrue(final TimeDepositColumns columns) {
+        interestKernel().accrue(columns);
+    }
+
+    /**
+     * Returns the kernel of the {@code COLUMNAR} engine, created on first use: the SIMD kernel when
+     * {@code application.accrual.vector-kernel} is set and {@code jdk.incubator.vector} is available, the scalar one
+     * otherwise.
+     *
+     * @return The {@link InterestKernel}.
+     */
+    public InterestKernel interestKernel() {
+        InterestKernel kernel = interestKernel;
+        if (kernel == null) {
+            kernel = InterestKernels.create(accrualProperties.isVectorKernel());
+            interestKernel = kernel;
+        }
+        return kernel;
+    }
+
+    /**
+     * Returns the compiled plan evaluators for the current plan configuration.
+     * <p>
+     * Plans are compiled once and recompiled only when the configured plan list is replaced, e.g. when the
+     * configuration properties are rebound, so the per-deposit loop never touches {@link PlanProperties}.
      * </p>
-     * @param days    The number of days the deposit has been held.
-     * @param plan    The {@link PlanProperties.Plan} object containing the plan's details.
-     * @param balance The current balance of the time deposit.
-     * @return The updated balance after applying the interest.
+     *
+     * @return The up-to-date {@link PlanEvaluatorIndex}.
      */
-    private static BigDecimal calculateUpdatedBalance(int days, PlanProperties.Plan plan, BigDecimal balance) {
-        BigDecimal interest = BigDecimal.ZERO;
+    public PlanEvaluatorIndex planEvaluatorIndex() {
+        final List<PlanProperties.Plan> plans = planProperties.getPlans();
+        PlanEvaluatorIndex index = planEvaluatorIndex;
+        if (!index.isCompiledFrom(plans)) {
+            index = PlanEvaluatorIndex.compile(plans);
+            planEvaluatorIndex = index;
+        }
+        return index;
+    }
 
-        // Check interest-free period
-        if (days > plan.getInterestFreeDays()) {
-            // Check if interest ends after a certain period
-            if (!plan.isInterestEnds() || (plan.getInterestEndsAfterDays() == null || days <= plan.getInterestEndsAfterDays())) {
-                interest = balance
-                        .multiply(plan.getInterestRate())
-                        .divide(BigDecimal.valueOf(12), 8, RoundingMode.HALF_UP)
-                        .setScale(2, RoundingMode.HALF_UP);
+    private void updateBalanceColumnar(final List<TimeDepositsDto> deposits, final PlanEvaluatorIndex index) {
+        final TimeDepositColumns columns = TimeDepositColumns.of(deposits, index);
+        accrue(columns);
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.planOrdinal(row) != TimeDepositColumns.UNKNOWN_PLAN) {
+                deposits.get(row).setBalance(columns.accruedBalance(row));
             }
         }
-
-        return balance.add(interest).setScale(2, RoundingMode.HALF_UP);
     }
 }
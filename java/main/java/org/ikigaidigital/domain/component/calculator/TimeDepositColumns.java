@@ -0,0 +1,306 @@
+package org.ikigaidigital.domain.component.calculator;
+
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar, primitive-array form of a chunk of time deposit accounts for the {@code COLUMNAR} calculation engine.
+ * <p>
+ * Each account is one position in an {@code int[]} of IDs, a {@code long[]} of balances in cents, an {@code int[]} of
+ * days and a {@code byte[]} of plan ordinals into the plans the columns were built with, about 25 bytes per account
+ * including the accrued balance, with no object per account. An {@link InterestKernel} reads the input columns and
+ * fills the accrued balances.
+ * </p>
+ * <p>
+ * Balances that cannot be held exactly in {@code long} cents (more than 2 decimal places or too large) are kept as
+ * {@link BigDecimal} in a sparse side array, allocated only when such a balance occurs; kernels accrue them with
+ * {@link PlanEvaluator#updatedBalance(int, BigDecimal)}, as they do for any balance whose interest would overflow.
+ * </p>
+ */
+public final class TimeDepositColumns {
+    /**
+     * Plan ordinal of an account whose plan type is not configured; its balance is never changed.
+     */
+    public static final byte UNKNOWN_PLAN = -1;
+
+    private static final int BALANCE_SCALE = 2;
+    private static final int MAX_PLANS = Byte.MAX_VALUE + 1;
+
+    private final PlanEvaluatorIndex planEvaluatorIndex;
+    private final PlanEvaluator[] plans;
+    private final Map<PlanEvaluator, Byte> planOrdinalsByEvaluator = new IdentityHashMap<>();
+    private int[] ids;
+    private long[] balanceCents;
+    private int[] days;
+    private byte[] planOrdinals;
+    private long[] accruedCents;
+    private BigDecimal[] wideBalances;
+    private BigDecimal[] accruedWideBalances;
+    private int wideCount;
+    private int size;
+
+    private TimeDepositColumns(final PlanEvaluatorIndex planEvaluatorIndex, final int capacity) {
+        final Collection<PlanEvaluator> evaluators = planEvaluatorIndex.evaluators();
+        if (evaluators.size() > MAX_PLANS) {
+            throw new IllegalArgumentException("At most " + MAX_PLANS + " plans fit in a byte plan ordinal, got " + evaluators.size());
+        }
+        this.planEvaluatorIndex = planEvaluatorIndex;
+        this.plans = evaluators.toArray(new PlanEvaluator[0]);
+        for (int ordinal = 0; ordinal < plans.length; ordinal++) {
+            planOrdinalsByEvaluator.put(plans[ordinal], (byte) ordinal);
+        }
+        final int initialCapacity = Math.max(capacity, 1);
+        this.ids = new int[initialCapacity];
+        this.balanceCents = new long[initialCapacity];
+        this.days = new int[initialCapacity];
+        this.planOrdinals = new byte[initialCapacity];
+        this.accruedCents = new long[initialCapacity];
+    }
+
+    /**
+     * Allocates empty columns for the given plans.
+     *
+     * @param planEvaluatorIndex The compiled plans; plan ordinals follow their configuration order.
+     * @param capacity           The expected number of accounts, e.g. the chunk size; the columns grow beyond it.
+     * @return The empty {@link TimeDepositColumns}.
+     * @throws IllegalArgumentException If more than 128 plans are configured.
+     */
+    public static TimeDepositColumns allocate(final PlanEvaluatorIndex planEvaluatorIndex, final int capacity) {
+        return new TimeDepositColumns(planEvaluatorIndex, capacity);
+    }
+
+    /**
+     * Copies a list of accounts into columns.
+     *
+     * @param timeDepositsDtoList The accounts.
+     * @param planEvaluatorIndex  The compiled plans.
+     * @return The columns, in list order.
+     */
+    public static TimeDepositColumns of(final List<TimeDepositsDto> timeDepositsDtoList, final PlanEvaluatorIndex planEvaluatorIndex) {
+        final TimeDepositColumns columns = new TimeDepositColumns(planEvaluatorIndex, timeDepositsDtoList.size());
+        for (TimeDepositsDto dto : timeDepositsDtoList) {
+            columns.add(dto.getId(), dto.getPlanType(), dto.getDays(), dto.getBalance());
+        }
+        return columns;
+    }
+
+    /**
+     * Appends an account. Its accrued balance starts out equal to its balance.
+     *
+     * @param id       The account ID.
+     * @param planType The plan type, resolved to a plan ordinal ignoring case.
+     * @param days     The number of days the deposit has been held.
+     * @param balance  The current balance.
+     */
+    public void add(final int id, final String planType, final int days, final BigDecimal balance) {
+        if (size == ids.length) {
+            grow();
+        }
+        final PlanEvaluator plan = planEvaluatorIndex.find(planType);
+        this.ids[size] = id;
+        this.days[size] = days;
+        this.planOrdinals[size] = plan != null ? planOrdinalsByEvaluator.get(plan) : UNKNOWN_PLAN;
+        final long cents = exactCents(balance);
+        if (cents != Long.MIN_VALUE) {
+            this.balanceCents[size] = cents;
+            this.accruedCents[size] = cents;
+        } else {
+            if (wideBalances == null) {
+                wideBalances = new BigDecimal[ids.length];
+                accruedWideBalances = new BigDecimal[ids.length];
+            }
+            wideBalances[size] = balance;
+            accruedWideBalances[size] = balance;
+            wideCount++;
+        }
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int id(final int row) {
+        return ids[row];
+    }
+
+    public int days(final int row) {
+        return days[row];
+    }
+
+    /**
+     * @param row The position of the account.
+     * @return The plan ordinal of the account, or {@link #UNKNOWN_PLAN}.
+     */
+    public byte planOrdinal(final int row) {
+        return planOrdinals[row];
+    }
+
+    /**
+     * @param ordinal A plan ordinal other than {@link #UNKNOWN_PLAN}.
+     * @return The compiled plan with that ordinal.
+     */
+    public PlanEvaluator plan(final int ordinal) {
+        return plans[ordinal];
+    }
+
+    public int planCount() {
+        return plans.length;
+    }
+
+    /**
+     * @param row The position of the account.
+     * @return The balance of the account as added.
+     */
+    public BigDecimal balance(final int row) {
+        return isWide(row) ? wideBalances[row] : BigDecimal.valueOf(balanceCents[row], BALANCE_SCALE);
+    }
+
+    /**
+     * @param row The position of the account.
+     * @return The balance of the account after the kernel ran, or as added if it has not run.
+     */
+    public BigDecimal accruedBalance(final int row) {
+        if (accruedWideBalances != null && accruedWideBalances[row] != null) {
+            return accruedWideBalances[row];
+        }
+        return BigDecimal.valueOf(accruedCents[row], BALANCE_SCALE);
+    }
+
+    /**
+     * @param row The position of the account.
+     * @return {@code true} if the accrued balance differs in value from the balance as added.
+     */
+    public boolean isChanged(final int row) {
+        if (accruedWideBalances != null && accruedWideBalances[row] != null) {
+            return accruedWideBalances[row].compareTo(balance(row)) != 0;
+        }
+        return accruedCents[row] != balanceCents[row];
+    }
+
+    /**
+     * @return The number of accounts whose accrued balance differs from their balance as added.
+     */
+    public int changedCount() {
+        int changed = 0;
+        for (int row = 0; row < size; row++) {
+            if (isChanged(row)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return The positions of the accounts whose accrued balance differs from their balance as added, ascending.
+     */
+    public int[] changedRows() {
+        final int[] changedRows = new int[changedCount()];
+        int next = 0;
+        for (int row = 0; row < size && next < changedRows.length; row++) {
+            if (isChanged(row)) {
+                changedRows[next++] = row;
+            }
+        }
+        return changedRows;
+    }
+
+    /**
+     * @param row The position of the account.
+     * @return {@code true} if the balance is held as a {@link BigDecimal} instead of {@code long} cents.
+     */
+    public boolean isWide(final int row) {
+        return wideBalances != null && wideBalances[row] != null;
+    }
+
+    boolean hasWideBalances() {
+        return wideCount > 0;
+    }
+
+    /**
+     * Records an accrued balance computed outside the {@code long}-cents arithmetic.
+     */
+    void setAccruedBalance(final int row, final BigDecimal accruedBalance) {
+        final long cents = isWide(row) ? Long.MIN_VALUE : exactCents(accruedBalance);
+        if (cents != Long.MIN_VALUE && accruedBalance.scale() == BALANCE_SCALE) {
+            accruedCents[row] = cents;
+            if (accruedWideBalances != null) {
+                accruedWideBalances[row] = null;
+            }
+            return;
+        }
+        if (accruedWideBalances == null) {
+            accruedWideBalances = new BigDecimal[ids.length];
+        }
+        accruedWideBalances[row] = accruedBalance;
+    }
+
+    /**
+     * Drops the accrued balances held as {@link BigDecimal} by a previous kernel run, so that a new run starts from
+     * the balances as added; the accrued cents are overwritten by the kernel itself.
+     */
+    void resetWideAccruedBalances() {
+        if (accruedWideBalances == null) {
+            return;
+        }
+        for (int row = 0; row < size; row++) {
+            accruedWideBalances[row] = isWide(row) ? wideBalances[row] : null;
+        }
+    }
+
+    PlanEvaluator[] plans() {
+        return plans;
+    }
+
+    int[] daysColumn() {
+        return days;
+    }
+
+    long[] balanceCentsColumn() {
+        return balanceCents;
+    }
+
+    byte[] planOrdinalsColumn() {
+        return planOrdinals;
+    }
+
+    long[] accruedCentsColumn() {
+        return accruedCents;
+    }
+
+    private void grow() {
+        final int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        balanceCents = Arrays.copyOf(balanceCents, capacity);
+        days = Arrays.copyOf(days, capacity);
+        planOrdinals = Arrays.copyOf(planOrdinals, capacity);
+        accruedCents = Arrays.copyOf(accruedCents, capacity);
+        if (wideBalances != null) {
+            wideBalances = Arrays.copyOf(wideBalances, capacity);
+        }
+        if (accruedWideBalances != null) {
+            accruedWideBalances = Arrays.copyOf(accruedWideBalances, capacity);
+        }
+    }
+
+    /**
+     * @return The balance in cents, or {@link Long#MIN_VALUE} if it has more than 2 decimal places or does not fit,
+     * so that the negated balance always fits as well.
+     */
+    private static long exactCents(final BigDecimal balance) {
+        if (balance.scale() > BALANCE_SCALE) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return balance.scaleByPowerOfTen(BALANCE_SCALE).longValueExact();
+        } catch (ArithmeticException overflow) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.ikigaidigital.domain.component.calculator;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * {@link InterestKernel} on the {@code jdk.incubator.vector} API, accruing as many accounts per step as the preferred
+ * {@code long} vector has lanes.
+ * <p>
+ * The constants of every plan (interest window and {@link FixedPointRate}) are laid out one plan per lane, and each
+ * step picks the constants of every account's plan with one shuffle by plan ordinal, so the whole step is a single
+ * pass whatever the plan mix. The two HALF_UP divisions of {@link FixedPointRate#monthlyInterestCents(long)} are done
+ * with a {@code double} quotient estimate corrected in {@code long} arithmetic, which is exact while the interest
+ * product stays below 2^52. Lanes outside that range, balances held as {@code BigDecimal}, the tail of the columns and
+ * configurations with as many plans as lanes are accrued by {@link ScalarInterestKernel}, so results are identical.
+ * </p>
+ * <p>
+ * The class needs {@code --add-modules jdk.incubator.vector} at runtime; use {@link InterestKernels#create(boolean)}
+ * to fall back to the scalar kernel without it. The conversions it relies on are only compiled to vector
+ * instructions from Java 21; on Java 17 the scalar kernel is faster.
+ * </p>
+ */
+public final class VectorInterestKernel implements InterestKernel {
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(Math.max(64, LONGS.vectorBitSize() / 2)));
+    private static final VectorSpecies<Byte> BYTES = VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(64, LONGS.vectorBitSize() / 8)));
+    private static final long EXACT_DOUBLE_LIMIT = 1L << 52;
+    private static final long EIGHT_DECIMAL_UNITS_PER_CENT = 1_000_000L;
+
+    /**
+     * @throws UnsupportedOperationException If the preferred {@code long} vector has fewer than two lanes.
+     */
+    public VectorInterestKernel() {
+        if (LONGS.length() < 2) {
+            throw new UnsupportedOperationException("No usable long vector species, the preferred one is " + LONGS);
+        }
+    }
+
+    @Override
+    public void accrue(final TimeDepositColumns columns) {
+        final PlanEvaluator[] plans = columns.plans();
+        final int lanes = LONGS.length();
+        final int size = columns.size();
+        // One lane per plan plus one for unknown plans
+        if (plans.length >= lanes) {
+            new ScalarInterestKernel().accrue(columns);
+            return;
+        }
+        columns.resetWideAccruedBalances();
+
+        final PlanLanes planLanes = new PlanLanes(plans, lanes);
+        final byte[] planOrdinals = columns.planOrdinalsColumn();
+        final int[] days = columns.daysColumn();
+        final long[] balanceCents = columns.balanceCentsColumn();
+        final long[] accruedCents = columns.accruedCentsColumn();
+        final LongVector eightDecimalUnitsPerCent = LongVector.broadcast(LONGS, EIGHT_DECIMAL_UNITS_PER_CENT);
+        // Days and plan ordinals may be loaded as wider vectors than the lanes used
+        final int upperBound = size - Math.max(INTS.length(), BYTES.length());
+
+        int row = 0;
+        for (; row <= upperBound; row += lanes) {
+            final LongVector balances = LongVector.fromArray(LONGS, balanceCents, row);
+            final LongVector heldDays = (LongVector) IntVector.fromArray(INTS, days, row).convertShape(VectorOperators.I2L, LONGS, 0);
+            final LongVector ordinals = (LongVector) ByteVector.fromArray(BYTES, planOrdinals, row).convertShape(VectorOperators.B2L, LONGS, 0);
+            final VectorShuffle<Long> plan = ordinals.blend(planLanes.unknownPlanLane, ordinals.compare(VectorOperators.LT, 0)).toShuffle();
+
+            final VectorMask<Long> accruing = heldDays.compare(VectorOperators.GT, planLanes.interestFreeDays.rearrange(plan))
+                    .and(heldDays.compare(VectorOperators.LE, planLanes.lastInterestDays.rearrange(plan)));
+            final LongVector maxExactCents = planLanes.maxExactCents.rearrange(plan);
+            final LongVector product = balances.mul(planLanes.multipliers.rearrange(plan));
+            final VectorMask<Long> exact = accruing
+                    .and(balances.compare(VectorOperators.LE, maxExactCents))
+                    .and(balances.neg().compare(VectorOperators.LE, maxExactCents))
+                    .and(product.abs().compare(VectorOperators.LT, EXACT_DOUBLE_LIMIT));
+            final LongVector interest = divideHalfUp(divideHalfUp(product, planLanes.divisors.rearrange(plan)), eightDecimalUnitsPerCent);
+            balances.blend(balances.add(interest), exact).intoArray(accruedCents, row);
+
+            final VectorMask<Long> scalarLanes = accruing.andNot(exact);
+            if (scalarLanes.anyTrue()) {
+                for (int lane = scalarLanes.firstTrue(); lane < lanes; lane++) {
+                    if (scalarLanes.laneIsSet(lane)) {
+                        ScalarInterestKernel.accrueRow(columns, row + lane);
+                    }
+                }
+            }
+        }
+        ScalarInterestKernel.accrueRows(columns, row, size);
+
+        if (columns.hasWideBalances()) {
+            for (int wideRow = 0; wideRow < row; wideRow++) {
+                if (columns.isWide(wideRow)) {
+                    ScalarInterestKernel.accrueRow(columns, wideRow);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + LONGS.length() + "x64";
+    }
+
+    /**
+     * Lane-wise {@link FixedPointRate#divideHalfUp(long, long)} for dividends below 2^52 in magnitude: the
+     * {@code double} quotient is off by at most one, which the remainder corrects.
+     */
+    private static LongVector divideHalfUp(final LongVector dividend, final LongVector divisor) {
+        final LongVector magnitude = dividend.abs();
+        final LongVector estimate = (LongVector) ((DoubleVector) magnitude.convert(VectorOperators.L2D, 0))
+                .div((DoubleVector) divisor.convert(VectorOperators.L2D, 0))
+                .convert(VectorOperators.D2L, 0);
+        final LongVector estimateRemainder = magnitude.sub(estimate.mul(divisor));
+        final VectorMask<Long> tooHigh = estimateRemainder.compare(VectorOperators.LT, 0);
+        final LongVector low = estimate.sub(1, tooHigh);
+        final LongVector lowRemainder = estimateRemainder.add(divisor, tooHigh);
+        final VectorMask<Long> tooLow = lowRemainder.compare(VectorOperators.GE, divisor);
+        final LongVector quotient = low.add(1, tooLow);
+        final LongVector remainder = lowRemainder.sub(divisor, tooLow);
+        final LongVector rounded = quotient.add(1, remainder.compare(VectorOperators.GE, divisor.sub(remainder)));
+        return rounded.lanewise(VectorOperators.NEG, dividend.compare(VectorOperators.LT, 0));
+    }
+
+    /**
+     * The constants of every plan, one plan per lane by ordinal. The last lane stands for unknown plans and never
+     * accrues; plans without a {@link FixedPointRate} accrue but are never exact, so they go to the scalar kernel.
+     */
+    private static final class PlanLanes {
+        private final int unknownPlanLane;
+        private final LongVector interestFreeDays;
+        private final LongVector lastInterestDays;
+        private final LongVector multipliers;
+        private final LongVector divisors;
+        private final LongVector maxExactCents;
+
+        private PlanLanes(final PlanEvaluator[] plans, final int lanes) {
+            final long[] interestFreeDays = new long[lanes];
+            final long[] lastInterestDays = new long[lanes];
+            final long[] multipliers = new long[lanes];
+            final long[] divisors = new long[lanes];
+            final long[] maxExactCents = new long[lanes];
+            Arrays.fill(interestFreeDays, Long.MAX_VALUE);
+            Arrays.fill(divisors, 1);
+            Arrays.fill(maxExactCents, -1);
+            for (int ordinal = 0; ordinal < plans.length; ordinal++) {
+                final PlanEvaluator plan = plans[ordinal];
+                interestFreeDays[ordinal] = plan.getInterestFreeDays();
+                lastInterestDays[ordinal] = plan.getLastInterestDay();
+                final FixedPointRate rate = plan.getFixedPointRate();
+                if (rate != null) {
+                    multipliers[ordinal] = rate.getMultiplier();
+                    divisors[ordinal] = rate.getDivisor();
+                    maxExactCents[ordinal] = rate.getMaxExactCents();
+                }
+            }
+            this.unknownPlanLane = lanes - 1;
+            this.interestFreeDays = LongVector.fromArray(LONGS, interestFreeDays, 0);
+            this.lastInterestDays = LongVector.fromArray(LONGS, lastInterestDays, 0);
+            this.multipliers = LongVector.fromArray(LONGS, multipliers, 0);
+            this.divisors = LongVector.fromArray(LONGS, divisors, 0);
+            this.maxExactCents = LongVector.fromArray(LONGS, maxExactCents, 0);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.ikigaidigital.domain.component.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.service.BulkImportService;
+import org.ikigaidigital.domain.utils.GeneralUtils;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports the files configured as {@code application.import.time-deposits-file} and
+ * {@code application.import.withdrawals-file} once the application has started, accounts first, e.g.
+ * {@code java -jar app.jar --application.import.time-deposits-file=deposits.csv}. Before that, restores any secondary
+ * index an import with {@code application.import.defer-indexes} left dropped when the process stopped.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkImportRunner implements ApplicationRunner {
+    private final BulkImportService bulkImportService;
+    private final ImportProperties importProperties;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        final String traceId = GeneralUtils.generateTraceId();
+        bulkImportService.restoreSecondaryIndexes(traceId);
+        if (importProperties.getTimeDepositsFile() != null) {
+            bulkImportService.importTimeDeposits(traceId, importProperties.getTimeDepositsFile());
+        }
+        if (importProperties.getWithdrawalsFile() != null) {
+            bulkImportService.importWithdrawals(traceId, importProperties.getWithdrawalsFile());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.ikigaidigital.domain.component.importer;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "application.import")
+public class ImportProperties {
+
+    /**
+     * Number of rows bound into one multi-row {@code INSERT ... VALUES (...), (...)} statement. Statements are sent
+     * in JDBC batches sized by the {@code application.batch-writer} settings.
+     */
+    @Min(1)
+    private int rowsPerStatement = 100;
+
+    /**
+     * Number of parsed rows buffered and inserted per transaction. Rows of earlier transactions stay committed if a
+     * later one fails.
+     */
+    @Min(1)
+    private int flushRows = 10000;
+
+    /**
+     * Drops the secondary indexes of the imported table before loading and recreates them afterwards, so that they
+     * are built once instead of maintained row by row. Off by default, as the indexes are dropped on the live table
+     * and queries run without them until the import ends; only for loading into a database that serves no other
+     * traffic. The indexes are recreated when the import fails as well, and on the next startup if it never ended.
+     */
+    private boolean deferIndexes = false;
+
+    /**
+     * Number of rejected records whose reason is logged individually; further rejections are only counted.
+     */
+    private int loggedRejections = 100;
+
+    /**
+     * CSV file of time deposit accounts ({@code id,plan_type,days,balance}) to import on startup, if set.
+     */
+    private Path timeDepositsFile;
+
+    /**
+     * CSV file of withdrawals ({@code id,time_deposit_id,amount,date}) to import on startup, if set; imported after
+     * the time deposit accounts.
+     */
+    private Path withdrawalsFile;
+}
@@ -0,0 +1,394 @@
+package org.ikigaidigital.domain.component.importer;
+
+import org.ikigaidigital.domain.exception.ImportRecordException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Reads a comma-separated file record by record through a memory-mapped window, parsing fields straight from the
+ * mapped bytes.
+ * <p>
+ * Numbers and dates are parsed into primitives without a {@code String} per field, and text fields such as the plan
+ * type are returned as one canonical {@code String} per distinct value. The file is mapped in windows of at most
+ * {@code windowSize} bytes, so files larger than 2 GB are read as well; a record that crosses the end of a window is
+ * read from a window mapped at its start. Lines end with {@code \n} or {@code \r\n}, blank lines are skipped, and a
+ * field may be surrounded by spaces or double quotes. Quoted fields containing commas are not supported, as none of
+ * the imported columns can hold one.
+ * </p>
+ * <p>
+ * Malformed fields and records longer than the window raise an {@link ImportRecordException} naming the line and
+ * field; the caller may skip to the next record with {@link #nextRecord()}.
+ * </p>
+ */
+public final class MappedCsvReader implements Closeable {
+    /**
+     * Default size of a mapped window; also the maximum length of a record.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+
+    private static final int MAX_CANONICAL_TOKENS = 64;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final String[] canonicalTokens = new String[MAX_CANONICAL_TOKENS];
+    private int canonicalTokenCount;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long nextLineStart;
+    private long lineNumber;
+    private int lineStart;
+    private int lineEnd;
+    private int position;
+    private int fieldNumber;
+    private int fieldStart;
+    private int fieldEnd;
+
+    private MappedCsvReader(final FileChannel channel, final int windowSize) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Opens a file for reading with the {@link #DEFAULT_WINDOW_SIZE}.
+     *
+     * @param path The file to read.
+     * @return The reader, positioned before the first record.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static MappedCsvReader open(final Path path) throws IOException {
+        return open(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens a file for reading.
+     *
+     * @param path       The file to read.
+     * @param windowSize The number of bytes mapped at a time, at least the length of the longest record.
+     * @return The reader, positioned before the first record.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static MappedCsvReader open(final Path path, final int windowSize) throws IOException {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("Window size must be at least 2 bytes, got " + windowSize);
+        }
+        return new MappedCsvReader(FileChannel.open(path, StandardOpenOption.READ), windowSize);
+    }
+
+    /**
+     * Moves to the next non-blank record.
+     *
+     * @return {@code false} at the end of the file.
+     * @throws IOException            If the file cannot be mapped.
+     * @throws ImportRecordException If a record is longer than the window size. The record is skipped, so the next
+     *                               call moves on to the record after it.
+     */
+    public boolean nextRecord() throws IOException {
+        while (nextLineStart < fileSize) {
+            final int start = mapFrom(nextLineStart);
+            int end = indexOfNewline(start);
+            if (end < 0) {
+                if (windowStart + window.limit() < fileSize) {
+                    if (start == 0) {
+                        lineNumber++;
+                        nextLineStart = afterNewline(windowStart + window.limit());
+                        throw new ImportRecordException("Line " + lineNumber + " is longer than " + windowSize + " bytes");
+                    }
+                    // The record crosses the end of the window; map the next window at its start
+                    remap(nextLineStart);
+                    continue;
+                }
+                end = window.limit();
+            }
+            lineNumber++;
+            nextLineStart = windowStart + end + 1;
+
+            int contentEnd = end;
+            if (contentEnd > start && window.get(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+            if (contentEnd == start) {
+                continue;
+            }
+            lineStart = start;
+            lineEnd = contentEnd;
+            position = start;
+            fieldNumber = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The 1-based line number of the current record.
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return {@code true} if the current record does not start with a number, i.e. is a header line.
+     */
+    public boolean isHeader() {
+        final byte first = window.get(lineStart);
+        return !isDigit(first) && first != '-' && first != '+' && first != '"' && first != ' ';
+    }
+
+    /**
+     * Parses the next field of the record as an {@code int}.
+     *
+     * @return The value of the field.
+     * @throws ImportRecordException If the field is missing, empty, not an integer or out of range.
+     */
+    public int intField() {
+        nextField();
+        int index = fieldStart;
+        final boolean negative = window.get(index) == '-';
+        if (negative || window.get(index) == '+') {
+            index++;
+        }
+        if (index == fieldEnd) {
+            throw fieldError("is not an integer");
+        }
+        long value = 0;
+        for (; index < fieldEnd; index++) {
+            final byte digit = window.get(index);
+            if (!isDigit(digit)) {
+                throw fieldError("is not an integer");
+            }
+            value = value * 10 + (digit - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw fieldError("is out of range");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw fieldError("is out of range");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses the next field of the record as a decimal number with at most {@code scale} decimal places.
+     *
+     * @param scale The number of decimal places of the result.
+     * @return The value of the field in units of {@code 10^-scale}, e.g. cents for a scale of 2.
+     * @throws ImportRecordException If the field is missing, empty, not a number, has more decimal places or does
+     *                               not fit in a {@code long}.
+     */
+    public long decimalField(final int scale) {
+        nextField();
+        int index = fieldStart;
+        final boolean negative = window.get(index) == '-';
+        if (negative || window.get(index) == '+') {
+            index++;
+        }
+        long value = 0;
+        int digits = 0;
+        int decimals = -1;
+        try {
+            for (; index < fieldEnd; index++) {
+                final byte current = window.get(index);
+                if (current == '.' && decimals < 0) {
+                    decimals = 0;
+                    continue;
+                }
+                if (!isDigit(current)) {
+                    throw fieldError("is not a number");
+                }
+                if (decimals >= 0 && ++decimals > scale) {
+                    throw fieldError("has more than " + scale + " decimal places");
+                }
+                value = Math.addExact(Math.multiplyExact(value, 10L), current - '0');
+                digits++;
+            }
+            if (digits == 0) {
+                throw fieldError("is not a number");
+            }
+            for (int padding = Math.max(decimals, 0); padding < scale; padding++) {
+                value = Math.multiplyExact(value, 10L);
+            }
+        } catch (ArithmeticException ex) {
+            throw fieldError("is out of range");
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses the next field of the record as an ISO date ({@code yyyy-MM-dd}).
+     *
+     * @return The date as a count of days since 1970-01-01, as {@link LocalDate#toEpochDay()}.
+     * @throws ImportRecordException If the field is missing or not a valid date.
+     */
+    public int dateField() {
+        nextField();
+        if (fieldEnd - fieldStart != 10 || window.get(fieldStart + 4) != '-' || window.get(fieldStart + 7) != '-') {
+            throw fieldError("is not a date in yyyy-MM-dd format");
+        }
+        final int year = digits(fieldStart, 4);
+        final int month = digits(fieldStart + 5, 2);
+        final int day = digits(fieldStart + 8, 2);
+        try {
+            return (int) LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException ex) {
+            throw fieldError("is not a valid date");
+        }
+    }
+
+    /**
+     * Reads the next field of the record as printable ASCII text. The same text is returned as the same
+     * {@code String} instance for the first 64 distinct values, so that low-cardinality columns such as the plan
+     * type allocate nothing per record.
+     *
+     * @param maxLength The maximum number of characters.
+     * @return The text of the field.
+     * @throws ImportRecordException If the field is missing, empty, longer than {@code maxLength} or not printable
+     *                               ASCII.
+     */
+    public String tokenField(final int maxLength) {
+        nextField();
+        final int length = fieldEnd - fieldStart;
+        if (length > maxLength) {
+            throw fieldError("is longer than " + maxLength + " characters");
+        }
+        for (int index = fieldStart; index < fieldEnd; index++) {
+            final byte current = window.get(index);
+            if (current < 0x20 || current > 0x7e) {
+                throw fieldError("is not printable ASCII");
+            }
+        }
+        for (int token = 0; token < canonicalTokenCount; token++) {
+            if (matches(canonicalTokens[token])) {
+                return canonicalTokens[token];
+            }
+        }
+        final byte[] bytes = new byte[length];
+        window.get(fieldStart, bytes);
+        final String text = new String(bytes, StandardCharsets.US_ASCII);
+        if (canonicalTokenCount < MAX_CANONICAL_TOKENS) {
+            canonicalTokens[canonicalTokenCount++] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Checks that the record has no fields left.
+     *
+     * @throws ImportRecordException If the record has more fields than were read.
+     */
+    public void endOfRecord() {
+        if (position <= lineEnd) {
+            throw new ImportRecordException("Line " + lineNumber + " has more than " + fieldNumber + " fields");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private int mapFrom(final long offset) throws IOException {
+        if (window == null || offset < windowStart || offset >= windowStart + window.limit()) {
+            remap(offset);
+        }
+        return (int) (offset - windowStart);
+    }
+
+    private void remap(final long offset) throws IOException {
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, fileSize - offset));
+        windowStart = offset;
+    }
+
+    private long afterNewline(final long from) throws IOException {
+        long offset = from;
+        while (offset < fileSize) {
+            final int end = indexOfNewline(mapFrom(offset));
+            if (end >= 0) {
+                return windowStart + end + 1;
+            }
+            offset = windowStart + window.limit();
+        }
+        return fileSize;
+    }
+
+    private int indexOfNewline(final int from) {
+        final int limit = window.limit();
+        for (int index = from; index < limit; index++) {
+            if (window.get(index) == '\n') {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void nextField() {
+        fieldNumber++;
+        if (position > lineEnd) {
+            throw new ImportRecordException("Line " + lineNumber + " has no field " + fieldNumber);
+        }
+        int end = position;
+        while (end < lineEnd && window.get(end) != ',') {
+            end++;
+        }
+        fieldStart = position;
+        fieldEnd = end;
+        position = end + 1;
+
+        while (fieldStart < fieldEnd && window.get(fieldStart) == ' ') {
+            fieldStart++;
+        }
+        while (fieldEnd > fieldStart && window.get(fieldEnd - 1) == ' ') {
+            fieldEnd--;
+        }
+        if (fieldEnd - fieldStart >= 2 && window.get(fieldStart) == '"' && window.get(fieldEnd - 1) == '"') {
+            fieldStart++;
+            fieldEnd--;
+        }
+        if (fieldStart == fieldEnd) {
+            throw fieldError("is empty");
+        }
+    }
+
+    private int digits(final int from, final int count) {
+        int value = 0;
+        for (int index = from; index < from + count; index++) {
+            final byte digit = window.get(index);
+            if (!isDigit(digit)) {
+                throw fieldError("is not a date in yyyy-MM-dd format");
+            }
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
+
+    private boolean matches(final String token) {
+        if (token.length() != fieldEnd - fieldStart) {
+            return false;
+        }
+        for (int index = 0; index < token.length(); index++) {
+            if (token.charAt(index) != window.get(fieldStart + index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ImportRecordException fieldError(final String reason) {
+        return new ImportRecordException("Line " + lineNumber + ", field " + fieldNumber + " " + reason);
+    }
+
+    private static boolean isDigit(final byte value) {
+        return value >= '0' && value <= '9';
+    }
+}
@@ -0,0 +1,92 @@
+package org.ikigaidigital.domain.component.importer;
+
+import java.math.BigDecimal;
+
+/**
+ * A reusable buffer of parsed {@code TIME_DEPOSITS} rows, held in primitive columns until they are inserted.
+ * Plan types reference the canonical strings of the {@link MappedCsvReader}, so a full buffer holds no object per row.
+ */
+public final class TimeDepositImportRows {
+    private static final int BALANCE_SCALE = 2;
+
+    private final int[] ids;
+    private final String[] planTypes;
+    private final int[] days;
+    private final long[] balanceCents;
+    private final long[] lineNumbers;
+    private int size;
+
+    /**
+     * @param capacity The number of rows the buffer holds before it has to be flushed.
+     */
+    public TimeDepositImportRows(final int capacity) {
+        this.ids = new int[capacity];
+        this.planTypes = new String[capacity];
+        this.days = new int[capacity];
+        this.balanceCents = new long[capacity];
+        this.lineNumbers = new long[capacity];
+    }
+
+    /**
+     * Appends a row.
+     *
+     * @param id           The account ID.
+     * @param planType     The plan type.
+     * @param days         The number of days the deposit has been held.
+     * @param balanceCents The balance in cents.
+     * @param lineNumber   The line of the import file the row was read from.
+     */
+    public void add(final int id, final String planType, final int days, final long balanceCents, final long lineNumber) {
+        this.ids[size] = id;
+        this.planTypes[size] = planType;
+        this.days[size] = days;
+        this.balanceCents[size] = balanceCents;
+        this.lineNumbers[size] = lineNumber;
+        size++;
+    }
+
+    public boolean isFull() {
+        return size == ids.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int id(final int row) {
+        return ids[row];
+    }
+
+    public String planType(final int row) {
+        return planTypes[row];
+    }
+
+    public int days(final int row) {
+        return days[row];
+    }
+
+    public BigDecimal balance(final int row) {
+        return BigDecimal.valueOf(balanceCents[row], BALANCE_SCALE);
+    }
+
+    /**
+     * @return The line of the import file the first row was read from, or zero if the buffer is empty.
+     */
+    public long firstLineNumber() {
+        return size > 0 ? lineNumbers[0] : 0;
+    }
+
+    /**
+     * @return The line of the import file the last row was read from, or zero if the buffer is empty.
+     */
+    public long lastLineNumber() {
+        return size > 0 ? lineNumbers[size - 1] : 0;
+    }
+
+    /**
+     * Empties the buffer for the next rows.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,92 @@
+package org.ikigaidigital.domain.component.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A reusable buffer of parsed {@code WITHDRAWALS} rows, held in primitive columns until they are inserted.
+ */
+public final class WithdrawalImportRows {
+    private static final int AMOUNT_SCALE = 2;
+
+    private final int[] ids;
+    private final int[] timeDepositIds;
+    private final long[] amountCents;
+    private final int[] epochDays;
+    private final long[] lineNumbers;
+    private int size;
+
+    /**
+     * @param capacity The number of rows the buffer holds before it has to be flushed.
+     */
+    public WithdrawalImportRows(final int capacity) {
+        this.ids = new int[capacity];
+        this.timeDepositIds = new int[capacity];
+        this.amountCents = new long[capacity];
+        this.epochDays = new int[capacity];
+        this.lineNumbers = new long[capacity];
+    }
+
+    /**
+     * Appends a row.
+     *
+     * @param id            The withdrawal ID.
+     * @param timeDepositId The ID of the account withdrawn from.
+     * @param amountCents   The amount in cents.
+     * @param epochDay      The date of the withdrawal, as {@link LocalDate#toEpochDay()}.
+     * @param lineNumber    The line of the import file the row was read from.
+     */
+    public void add(final int id, final int timeDepositId, final long amountCents, final int epochDay, final long lineNumber) {
+        this.ids[size] = id;
+        this.timeDepositIds[size] = timeDepositId;
+        this.amountCents[size] = amountCents;
+        this.epochDays[size] = epochDay;
+        this.lineNumbers[size] = lineNumber;
+        size++;
+    }
+
+    public boolean isFull() {
+        return size == ids.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int id(final int row) {
+        return ids[row];
+    }
+
+    public int timeDepositId(final int row) {
+        return timeDepositIds[row];
+    }
+
+    public BigDecimal amount(final int row) {
+        return BigDecimal.valueOf(amountCents[row], AMOUNT_SCALE);
+    }
+
+    public LocalDate date(final int row) {
+        return LocalDate.ofEpochDay(epochDays[row]);
+    }
+
+    /**
+     * @return The line of the import file the first row was read from, or zero if the buffer is empty.
+     */
+    public long firstLineNumber() {
+        return size > 0 ? lineNumbers[0] : 0;
+    }
+
+    /**
+     * @return The line of the import file the last row was read from, or zero if the buffer is empty.
+     */
+    public long lastLineNumber() {
+        return size > 0 ? lineNumbers[size - 1] : 0;
+    }
+
+    /**
+     * Empties the buffer for the next rows.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
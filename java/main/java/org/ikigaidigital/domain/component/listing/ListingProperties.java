@@ -0,0 +1,49 @@
+package org.ikigaidigital.domain.component.listing;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "application.listing")
+public class ListingProperties {
+
+    /**
+     * JDBC fetch size used when streaming the account listing from the database cursor.
+     */
+    @Min(1)
+    private int fetchSize = 1000;
+
+    /**
+     * Number of accounts returned per page when a paginated listing does not specify a limit.
+     */
+    @Min(1)
+    private int defaultPageSize = 100;
+
+    /**
+     * Upper bound on the page size; larger limits are capped to it.
+     */
+    @Min(1)
+    private int maxPageSize = 1000;
+
+    /**
+     * Maximum number of listing responses (the whole book and individual pages) kept in the read-through cache,
+     * evicted least-recently-used.
+     */
+    @Min(1)
+    private int cacheMaxEntries = 256;
+
+    /**
+     * How often the shared data version is read to notice writes made on other nodes; cached listings can be stale
+     * for at most this long after such a write. Zero reads it on every lookup.
+     */
+    private Duration versionPollInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,49 @@
+package org.ikigaidigital.domain.component.listing;
+
+import org.ikigaidigital.domain.constant.ErrorMessages;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for the paginated account listing.
+ * <p>
+ * The cursor wraps the ID of the last account on a page in a versioned, URL-safe token, so clients treat it as
+ * opaque and the encoding can change without breaking them. Because pages are keyed by ID rather than by offset,
+ * a cursor stays valid and stable while accounts are inserted or updated.
+ * </p>
+ */
+public final class PageCursor {
+    private static final String VERSION_PREFIX = "v1:";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private PageCursor() {
+    }
+
+    /**
+     * @param lastId The ID of the last account on the current page.
+     * @return The cursor from which the next page starts.
+     */
+    public static String encode(final long lastId) {
+        return ENCODER.encodeToString((VERSION_PREFIX + lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor A cursor previously returned by {@link #encode(long)}.
+     * @return The ID after which the next page starts.
+     * @throws TimeDepositException If the cursor is malformed.
+     */
+    public static long decode(final String cursor) {
+        try {
+            final String token = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII);
+            if (!token.startsWith(VERSION_PREFIX)) {
+                throw new TimeDepositException(ErrorMessages.INVALID_PAGE_CURSOR);
+            }
+            return Long.parseLong(token.substring(VERSION_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new TimeDepositException(ErrorMessages.INVALID_PAGE_CURSOR);
+        }
+    }
+}
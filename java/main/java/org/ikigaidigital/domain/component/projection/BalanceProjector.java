@@ -0,0 +1,66 @@
+package org.ikigaidigital.domain.component.projection;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.dto.TimeDepositProjectionDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Projects what every time deposit will be worth after a number of month-end accruals, without running the accruals.
+ * <p>
+ * Each account is projected in one call of {@link PlanEvaluator#projectedBalance(int, BigDecimal, int, int)}, which
+ * gives the same balance as {@link TimeDepositCalculator#updateBalance(List)} applied month after month with the days
+ * advanced by {@code application.projection.days-per-month}. Accounts are split into chunks of
+ * {@code application.projection.parallel-chunk-size} projected in parallel on the common fork-join pool.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceProjector {
+    private final TimeDepositCalculator timeDepositCalculator;
+    private final ProjectionProperties projectionProperties;
+
+    /**
+     * Projects the balance of each deposit after {@code months} month-end accruals. Deposits of an unknown plan keep
+     * their balance.
+     *
+     * @param deposits The deposits to project; they are not modified.
+     * @param months   The number of month-end accruals to project, at least 0.
+     * @return One projection per deposit, in the order of the deposits.
+     */
+    public List<TimeDepositProjectionDto> project(final List<TimeDepositsDto> deposits, final int months) {
+        if (months < 0) {
+            throw new IllegalArgumentException("Months must not be negative, got " + months);
+        }
+        final PlanEvaluatorIndex index = timeDepositCalculator.planEvaluatorIndex();
+        final int daysPerMonth = projectionProperties.getDaysPerMonth();
+        final int chunkSize = projectionProperties.getParallelChunkSize();
+        final TimeDepositProjectionDto[] projections = new TimeDepositProjectionDto[deposits.size()];
+        final int chunks = (deposits.size() + chunkSize - 1) / chunkSize;
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int to = Math.min(deposits.size(), (chunk + 1) * chunkSize);
+            for (int row = chunk * chunkSize; row < to; row++) {
+                projections[row] = project(index.find(deposits.get(row).getPlanType()), deposits.get(row), months, daysPerMonth);
+            }
+        });
+        return Arrays.asList(projections);
+    }
+
+    private static TimeDepositProjectionDto project(final PlanEvaluator plan, final TimeDepositsDto dto, final int months, final int daysPerMonth) {
+        if (plan == null) {
+            return new TimeDepositProjectionDto(dto.getId(), dto.getPlanType(), dto.getDays(), dto.getBalance(), dto.getBalance(), 0);
+        }
+        return new TimeDepositProjectionDto(dto.getId(), dto.getPlanType(), dto.getDays(), dto.getBalance(),
+                plan.projectedBalance(dto.getDays(), dto.getBalance(), months, daysPerMonth),
+                plan.interestMonths(dto.getDays(), months, daysPerMonth));
+    }
+}
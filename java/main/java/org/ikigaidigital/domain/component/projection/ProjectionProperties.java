@@ -0,0 +1,35 @@
+package org.ikigaidigital.domain.component.projection;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "application.projection")
+public class ProjectionProperties {
+
+    /**
+     * Days a deposit is held longer at each projected month-end accrual, which moves it out of its interest-free
+     * period and past its last interest day as the projection goes on.
+     */
+    @Min(0)
+    private int daysPerMonth = 30;
+
+    /**
+     * Largest number of months a projection may cover.
+     */
+    @Min(1)
+    private int maxMonths = 1200;
+
+    /**
+     * Number of accounts projected per parallel task.
+     */
+    @Min(1)
+    private int parallelChunkSize = 4096;
+}
@@ -0,0 +1,36 @@
+package org.ikigaidigital.domain.component.shadow;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "application.shadow-accrual")
+public class ShadowAccrualProperties {
+
+    /**
+     * Number of workers scanning the account snapshot, each over its own range of row groups.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of accounts with the largest interest change reported when a request does not ask for a number.
+     */
+    private int topMovers = 10;
+
+    /**
+     * Largest number of top movers a request may ask for.
+     */
+    private int maxTopMovers = 1000;
+
+    /**
+     * CSV file the diff of every account whose balance would change is streamed to; no diff is written if unset.
+     * The file is replaced atomically once the shadow accrual completes.
+     */
+    private Path diffFile;
+}
@@ -0,0 +1,361 @@
+package org.ikigaidigital.domain.component.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Scans an account snapshot file written by {@link AccountSnapshotWriter} row group by row group through memory
+ * mappings, without touching the database.
+ * <p>
+ * Each call to {@link #nextRowGroup()} maps the next row group only, so files of any size are scanned with bounded
+ * address space. A column of the current row group is decoded into a reused primitive array the first time it is
+ * asked for, so a scan pays, in time and memory, only for the columns it reads, e.g. a balance total per plan decodes
+ * the plan codes and balances and skips the rest:
+ * </p>
+ * <pre>
+ * while (reader.nextRowGroup()) {
+ *     final byte[] planCodes = reader.planCodeColumn();
+ *     final long[] balances = reader.balanceCentsColumn();
+ *     for (int row = 0; row &lt; reader.rows(); row++) {
+ *         totals[planCodes[row] &amp; 0xff] += balances[row];
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * The arrays returned are overwritten by the next row group and only their first {@link #rows()} entries are valid.
+ * A reader is not thread-safe; threads scanning one file in parallel each take a {@link #duplicate()} of one reader.
+ * </p>
+ */
+public final class AccountSnapshotReader implements Closeable {
+    private final Path path;
+    private final FileChannel channel;
+    private final Instant snapshotTime;
+    private final long rowCount;
+    private final long[] rowGroupOffsets;
+    private final long footerOffset;
+    private final String[] planTypes;
+    // Duplicates share the channel of the reader that opened the file and leave closing it to that reader
+    private final boolean ownsChannel;
+
+    private final int[] columnOffsets = new int[SnapshotFormat.COLUMNS];
+    private final int[] columnLengths = new int[SnapshotFormat.COLUMNS];
+    private final boolean[] decoded = new boolean[SnapshotFormat.COLUMNS];
+    private MappedByteBuffer rowGroup;
+    private int rowGroupIndex = -1;
+    private int rows;
+
+    private int[] ids = new int[0];
+    private byte[] planCodes = new byte[0];
+    private int[] days = new int[0];
+    private long[] balanceCents = new long[0];
+    private int[] withdrawalCounts = new int[0];
+    private long[] withdrawalTotalCents = new long[0];
+    private int[] lastWithdrawalEpochDays = new int[0];
+
+    private AccountSnapshotReader(final Path path, final FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.ownsChannel = true;
+        final long fileSize = channel.size();
+        if (fileSize < SnapshotFormat.MAGIC.length + SnapshotFormat.TRAILER_BYTES
+                || !hasMagic(channel.map(FileChannel.MapMode.READ_ONLY, 0, SnapshotFormat.MAGIC.length))) {
+            throw notASnapshot();
+        }
+        final ByteBuffer trailer = channel.map(FileChannel.MapMode.READ_ONLY, fileSize - SnapshotFormat.TRAILER_BYTES, SnapshotFormat.TRAILER_BYTES);
+        this.footerOffset = trailer.getLong();
+        if (!hasMagic(trailer) || footerOffset < SnapshotFormat.MAGIC.length || footerOffset > fileSize - SnapshotFormat.TRAILER_BYTES) {
+            throw notASnapshot();
+        }
+
+        final ByteBuffer footer = channel.map(FileChannel.MapMode.READ_ONLY, footerOffset, fileSize - SnapshotFormat.TRAILER_BYTES - footerOffset);
+        final int version = footer.getInt();
+        if (version != SnapshotFormat.VERSION) {
+            throw new IOException("Unsupported account snapshot version " + version + " in " + path);
+        }
+        this.snapshotTime = Instant.ofEpochMilli(footer.getLong());
+        this.rowCount = footer.getLong();
+        this.rowGroupOffsets = new long[footer.getInt()];
+        for (int group = 0; group < rowGroupOffsets.length; group++) {
+            rowGroupOffsets[group] = footer.getLong();
+        }
+        this.planTypes = new String[footer.getInt()];
+        for (int code = 0; code < planTypes.length; code++) {
+            final byte[] planType = new byte[footer.getShort()];
+            footer.get(planType);
+            planTypes[code] = new String(planType, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Opens a snapshot file and reads its footer.
+     *
+     * @param path The file to read.
+     * @return The reader, positioned before the first row group.
+     * @throws IOException If the file cannot be opened or is not a finished snapshot of a supported version.
+     */
+    public static AccountSnapshotReader open(final Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new AccountSnapshotReader(path, channel);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    private AccountSnapshotReader(final AccountSnapshotReader source) {
+        this.path = source.path;
+        this.channel = source.channel;
+        this.ownsChannel = false;
+        this.snapshotTime = source.snapshotTime;
+        this.rowCount = source.rowCount;
+        this.rowGroupOffsets = source.rowGroupOffsets;
+        this.footerOffset = source.footerOffset;
+        this.planTypes = source.planTypes;
+    }
+
+    /**
+     * Creates another reader of the file this reader opened, positioned before the first row group, for scanning a
+     * range of row groups on another thread. It shares the open file and its footer, so it reads the same snapshot
+     * with the same plan codes even if the file at the path is replaced meanwhile. Closing it leaves the file open;
+     * it must not be used after this reader is closed.
+     *
+     * @return The duplicate reader.
+     */
+    public AccountSnapshotReader duplicate() {
+        return new AccountSnapshotReader(this);
+    }
+
+    /**
+     * @return The point in time the accounts were read as of.
+     */
+    public Instant snapshotTime() {
+        return snapshotTime;
+    }
+
+    /**
+     * @return The number of accounts in the file.
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return The number of row groups in the file.
+     */
+    public int rowGroupCount() {
+        return rowGroupOffsets.length;
+    }
+
+    /**
+     * @return The plan type dictionary; a plan code is an index into it.
+     */
+    public List<String> planTypes() {
+        return List.of(planTypes);
+    }
+
+    /**
+     * @param planCode A plan code from {@link #planCodeColumn()}.
+     * @return The plan type it stands for.
+     */
+    public String planType(final byte planCode) {
+        return planTypes[planCode & 0xff];
+    }
+
+    /**
+     * Moves to the next row group, mapping it.
+     *
+     * @return {@code false} after the last row group.
+     * @throws IOException If the row group cannot be mapped.
+     */
+    public boolean nextRowGroup() throws IOException {
+        if (rowGroupIndex + 1 >= rowGroupOffsets.length) {
+            rowGroup = null;
+            rows = 0;
+            return false;
+        }
+        readRowGroup(rowGroupIndex + 1);
+        return true;
+    }
+
+    /**
+     * Moves to the given row group, mapping it, so that several readers of one file can each scan a range of row
+     * groups. {@link #nextRowGroup()} continues after it.
+     *
+     * @param index The row group, from 0 to {@link #rowGroupCount()} exclusive.
+     * @throws IOException If the row group cannot be mapped.
+     */
+    public void readRowGroup(final int index) throws IOException {
+        if (index < 0 || index >= rowGroupOffsets.length) {
+            throw new IndexOutOfBoundsException("Row group " + index + " of " + rowGroupOffsets.length);
+        }
+        rowGroupIndex = index;
+        final long start = rowGroupOffsets[rowGroupIndex];
+        final long end = rowGroupIndex + 1 < rowGroupOffsets.length ? rowGroupOffsets[rowGroupIndex + 1] : footerOffset;
+        rowGroup = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        rows = rowGroup.getInt();
+        for (int column = 0; column < SnapshotFormat.COLUMNS; column++) {
+            columnLengths[column] = rowGroup.getInt();
+            columnOffsets[column] = rowGroup.position();
+            rowGroup.position(columnOffsets[column] + columnLengths[column]);
+        }
+        Arrays.fill(decoded, false);
+    }
+
+    /**
+     * @return The number of accounts in the current row group.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * @return The account IDs of the current row group.
+     */
+    public int[] idColumn() {
+        if (decode(SnapshotFormat.ID_COLUMN)) {
+            ids = ids.length < rows ? new int[rows] : ids;
+            final ByteBuffer column = column(SnapshotFormat.ID_COLUMN);
+            long id = 0;
+            for (int row = 0; row < rows; row++) {
+                id += SnapshotFormat.unzigzag(SnapshotFormat.readVarLong(column));
+                ids[row] = (int) id;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * @return The plan codes of the current row group; see {@link #planType(byte)}.
+     */
+    public byte[] planCodeColumn() {
+        if (decode(SnapshotFormat.PLAN_CODE_COLUMN)) {
+            planCodes = planCodes.length < rows ? new byte[rows] : planCodes;
+            column(SnapshotFormat.PLAN_CODE_COLUMN).get(planCodes, 0, rows);
+        }
+        return planCodes;
+    }
+
+    /**
+     * @return The days held of the current row group.
+     */
+    public int[] daysColumn() {
+        if (decode(SnapshotFormat.DAYS_COLUMN)) {
+            days = decodeInts(SnapshotFormat.DAYS_COLUMN, days);
+        }
+        return days;
+    }
+
+    /**
+     * @return The balances in cents of the current row group.
+     */
+    public long[] balanceCentsColumn() {
+        if (decode(SnapshotFormat.BALANCE_CENTS_COLUMN)) {
+            balanceCents = decodeLongs(SnapshotFormat.BALANCE_CENTS_COLUMN, balanceCents);
+        }
+        return balanceCents;
+    }
+
+    /**
+     * @return The number of withdrawals per account of the current row group.
+     */
+    public int[] withdrawalCountColumn() {
+        if (decode(SnapshotFormat.WITHDRAWAL_COUNT_COLUMN)) {
+            withdrawalCounts = decodeInts(SnapshotFormat.WITHDRAWAL_COUNT_COLUMN, withdrawalCounts);
+        }
+        return withdrawalCounts;
+    }
+
+    /**
+     * @return The withdrawn amounts in cents per account of the current row group.
+     */
+    public long[] withdrawalTotalCentsColumn() {
+        if (decode(SnapshotFormat.WITHDRAWAL_TOTAL_CENTS_COLUMN)) {
+            withdrawalTotalCents = decodeLongs(SnapshotFormat.WITHDRAWAL_TOTAL_CENTS_COLUMN, withdrawalTotalCents);
+        }
+        return withdrawalTotalCents;
+    }
+
+    /**
+     * @return The date of the latest withdrawal per account of the current row group as
+     * {@link java.time.LocalDate#toEpochDay()}, 0 for accounts without withdrawals.
+     */
+    public int[] lastWithdrawalEpochDayColumn() {
+        if (decode(SnapshotFormat.LAST_WITHDRAWAL_EPOCH_DAY_COLUMN)) {
+            lastWithdrawalEpochDays = decodeInts(SnapshotFormat.LAST_WITHDRAWAL_EPOCH_DAY_COLUMN, lastWithdrawalEpochDays);
+        }
+        return lastWithdrawalEpochDays;
+    }
+
+    @Override
+    public void close() throws IOException {
+        rowGroup = null;
+        if (ownsChannel) {
+            channel.close();
+        }
+    }
+
+    /**
+     * @return {@code true} if the column of the current row group still has to be decoded, marking it decoded.
+     */
+    private boolean decode(final int column) {
+        if (rowGroup == null) {
+            throw new IllegalStateException("No current row group, call nextRowGroup() first");
+        }
+        if (decoded[column]) {
+            return false;
+        }
+        decoded[column] = true;
+        return true;
+    }
+
+    private ByteBuffer column(final int column) {
+        return rowGroup.slice(columnOffsets[column], columnLengths[column]);
+    }
+
+    /**
+     * @return {@code values}, or a larger array if it cannot hold the rows of the current row group.
+     */
+    private int[] decodeInts(final int column, final int[] values) {
+        final int[] decodedValues = values.length < rows ? new int[rows] : values;
+        final ByteBuffer buffer = column(column);
+        for (int row = 0; row < rows; row++) {
+            decodedValues[row] = (int) SnapshotFormat.unzigzag(SnapshotFormat.readVarLong(buffer));
+        }
+        return decodedValues;
+    }
+
+    /**
+     * @return {@code values}, or a larger array if it cannot hold the rows of the current row group.
+     */
+    private long[] decodeLongs(final int column, final long[] values) {
+        final long[] decodedValues = values.length < rows ? new long[rows] : values;
+        final ByteBuffer buffer = column(column);
+        for (int row = 0; row < rows; row++) {
+            decodedValues[row] = SnapshotFormat.unzigzag(SnapshotFormat.readVarLong(buffer));
+        }
+        return decodedValues;
+    }
+
+    private IOException notASnapshot() {
+        return new IOException("Not a finished account snapshot file: " + path);
+    }
+
+    private static boolean hasMagic(final ByteBuffer buffer) {
+        for (byte expected : SnapshotFormat.MAGIC) {
+            if (buffer.get() != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
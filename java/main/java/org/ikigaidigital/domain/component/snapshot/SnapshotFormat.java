@@ -0,0 +1,117 @@
+package org.ikigaidigital.domain.component.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Layout and encodings of an account snapshot file, shared by {@link AccountSnapshotWriter} and
+ * {@link AccountSnapshotReader}.
+ * <pre>
+ * file      := MAGIC rowGroup* footer footerOffset:long MAGIC
+ * rowGroup  := rows:int (length:int bytes){COLUMNS}
+ * footer    := version:int snapshotTime:long rows:long groups:int groupOffset:long{groups}
+ *              planTypes:int (length:short utf8){planTypes}
+ * </pre>
+ * Every column of a row group is length-prefixed, so a reader decodes only the columns it asks for. IDs are stored
+ * as the first ID and the deltas to the previous one, plan types as a one-byte code into the dictionary in the
+ * footer, and all other numbers as zigzag varints, money in cents. Fixed-width fields are big-endian.
+ */
+final class SnapshotFormat {
+    static final byte[] MAGIC = "XATDSNP1".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int TRAILER_BYTES = Long.BYTES + MAGIC.length;
+
+    static final int ID_COLUMN = 0;
+    static final int PLAN_CODE_COLUMN = 1;
+    static final int DAYS_COLUMN = 2;
+    static final int BALANCE_CENTS_COLUMN = 3;
+    static final int WITHDRAWAL_COUNT_COLUMN = 4;
+    static final int WITHDRAWAL_TOTAL_CENTS_COLUMN = 5;
+    static final int LAST_WITHDRAWAL_EPOCH_DAY_COLUMN = 6;
+    static final int COLUMNS = 7;
+
+    /**
+     * Distinct plan types a one-byte code can stand for.
+     */
+    static final int MAX_PLAN_TYPES = 256;
+
+    /**
+     * Upper bound on the rows of a row group. A row takes at most 46 bytes, so every row group stays well below the
+     * 2 GB a single mapping can cover.
+     */
+    static final int MAX_ROW_GROUP_SIZE = 1 << 24;
+
+    private SnapshotFormat() {
+    }
+
+    static long zigzag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint of at most 10 bytes.
+     *
+     * @throws IllegalStateException If the varint is longer than 10 bytes.
+     */
+    static long readVarLong(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte current = buffer.get();
+            value |= (long) (current & 0x7f) << shift;
+            if (current >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in snapshot file at position " + buffer.position());
+    }
+
+    /**
+     * A growable byte array one column of a row group is encoded into.
+     */
+    static final class ColumnBuffer {
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        void writeByte(final int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeVarLong(final long value) {
+            ensureCapacity(10);
+            long remaining = value;
+            while ((remaining & ~0x7fL) != 0) {
+                bytes[size++] = (byte) ((remaining & 0x7f) | 0x80);
+                remaining >>>= 7;
+            }
+            bytes[size++] = (byte) remaining;
+        }
+
+        void writeZigzag(final long value) {
+            writeVarLong(zigzag(value));
+        }
+
+        ByteBuffer asByteBuffer() {
+            return ByteBuffer.wrap(bytes, 0, size);
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        private void ensureCapacity(final int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.ikigaidigital.domain.component.snapshot;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "application.snapshot")
+public class SnapshotProperties {
+
+    /**
+     * Snapshot file the scheduled export writes; the export is skipped if unset. The file is replaced atomically, so
+     * readers see either the previous or the new snapshot.
+     */
+    private Path file;
+
+    /**
+     * Cron expression of the scheduled export, {@code -} to disable it.
+     */
+    private String cron = "-";
+
+    /**
+     * Number of rows the driver fetches per round trip from the export cursor.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Number of accounts per row group, the unit a reader maps and decodes at a time.
+     */
+    private int rowGroupSize = 65536;
+}
@@ -0,0 +1,9 @@
+package org.ikigaidigital.domain.constant;
+
+public enum AccrualJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
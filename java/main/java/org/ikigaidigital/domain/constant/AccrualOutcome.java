@@ -0,0 +1,17 @@
+package org.ikigaidigital.domain.constant;
+
+import lombok.Getter;
+
+@Getter
+public enum AccrualOutcome {
+    ACCRUED("accrued"),
+    INTEREST_FREE("interest_free"),
+    INTEREST_ENDED("interest_ended"),
+    UNKNOWN_PLAN("unknown_plan");
+
+    private final String tag;
+
+    AccrualOutcome(final String tag) {
+        this.tag = tag;
+    }
+}
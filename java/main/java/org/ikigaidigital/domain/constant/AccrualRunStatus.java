@@ -0,0 +1,8 @@
+package org.ikigaidigital.domain.constant;
+
+public enum AccrualRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,8 @@
+package org.ikigaidigital.domain.constant;
+
+public enum CalculationEngine {
+    BIG_DECIMAL,
+    FIXED_POINT,
+    COLUMNAR,
+    IN_DATABASE
+}
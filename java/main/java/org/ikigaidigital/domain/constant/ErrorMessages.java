@@ -5,6 +5,7 @@ import lombok.Getter;
 @Getter
 public enum ErrorMessages {
     TRACE_ID_NULL_OR_EMPTY("TraceId must not be null or empty"),
+    ACCRUAL_PERIOD_NULL("Accrual period must not be null"),
 
     TIME_DEPOSIT_ENTITY_NULL("Time Deposit entity is null"),
     TIME_DEPOSIT_PLAN_TYPE_NULL("Time Deposit entity planType is null"),
@@ -12,7 +13,30 @@ public enum ErrorMessages {
 
     ERROR_RETRIEVING_TIME_DEPOSIT_ACCOUNTS("Error retrieving time deposit accounts"),
     ERROR_COMPUTING_TIME_DEPOSIT_INTEREST("Error computing time deposit interest and or balances"),
-    ERROR_UPDATING_TIME_DEPOSIT_ACCOUNTS("Error updating time deposit accounts in repository");
+    ERROR_UPDATING_TIME_DEPOSIT_ACCOUNTS("Error updating time deposit accounts in repository"),
+    ERROR_RECORDING_ACCRUAL_RUN("Error recording the accrual run in the run ledger"),
+    CATCH_UP_PERIODS_EXCEEDED("More periods were missed than the accrual catch-up may apply in one run"),
+    ACCRUAL_CANCELLED("Accrual run was cancelled"),
+    ACCRUAL_PARTITION_LOST("Lease of the accrual run partition was taken over by another node"),
+    ACCRUAL_JOB_NOT_FOUND("Accrual job not found"),
+    ERROR_SUBMITTING_ACCRUAL_JOB("Error submitting the accrual job"),
+    CATCH_UP_ASYNC_NOT_SUPPORTED("catchUp=true cannot be combined with async=true"),
+
+    IMPORT_FILE_NULL("Import file must not be null"),
+    ERROR_READING_IMPORT_FILE("Error reading the import file"),
+    ERROR_WRITING_IMPORTED_ROWS("Error writing imported rows to the repository"),
+
+    SNAPSHOT_FILE_NULL("Snapshot file must not be null"),
+    ERROR_EXPORTING_ACCOUNT_SNAPSHOT("Error exporting the account snapshot"),
+    SHADOW_PLANS_EMPTY("Shadow accrual plans must not be empty"),
+    INVALID_TOP_MOVERS("Top movers must be between 0 and the configured maximum"),
+    ERROR_RUNNING_SHADOW_ACCRUAL("Error running the shadow accrual"),
+
+    INVALID_PAGE_CURSOR("Page cursor is invalid"),
+    INVALID_PAGE_LIMIT("Page limit must be greater than zero"),
+    INVALID_BALANCE_RANGE("minBalance must not be greater than maxBalance"),
+    STREAM_FILTERS_NOT_SUPPORTED("stream=true cannot be combined with pagination, filter or includeWithdrawals parameters"),
+    INVALID_PROJECTION_MONTHS("Projection months must be between 1 and the configured maximum");
 
     private final String message;
 
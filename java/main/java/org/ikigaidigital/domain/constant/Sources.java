@@ -3,6 +3,7 @@ package org.ikigaidigital.domain.constant;
 public enum Sources {
     SERVICE_LAYER("Service Layer"),
     CONTROLLER_LAYER("Controller Layer"),
+    REPOSITORY_LAYER("Repository Layer"),
     SCHEDULED_SERVICE_LAYER("Scheduled Services Layer");
 
     public final String source;
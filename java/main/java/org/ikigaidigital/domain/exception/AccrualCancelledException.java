@@ -0,0 +1,17 @@
+package org.ikigaidigital.domain.exception;
+
+import org.ikigaidigital.domain.constant.ErrorMessages;
+
+/**
+ * Exception thrown when a month-end accrual stops between two chunks because its cancellation was requested.
+ * Chunks committed before the cancellation stay committed and the run can be resumed.
+ */
+public class AccrualCancelledException extends TimeDepositException {
+
+    /**
+     * Constructs a new AccrualCancelledException with the cancellation message.
+     */
+    public AccrualCancelledException() {
+        super(ErrorMessages.ACCRUAL_CANCELLED);
+    }
+}
@@ -0,0 +1,17 @@
+package org.ikigaidigital.domain.exception;
+
+/**
+ * Exception thrown when a record of a bulk import file is malformed or violates a constraint of its table.
+ * The message names the line and field of the record; the record is rejected and the import goes on.
+ */
+public class ImportRecordException extends TimeDepositException {
+
+    /**
+     * Constructs a new ImportRecordException with the specified detail message.
+     *
+     * @param message the line, field and reason the record was rejected for
+     */
+    public ImportRecordException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package org.ikigaidigital.domain.exception;
+
+import org.ikigaidigital.domain.constant.ErrorMessages;
+
+/**
+ * Exception thrown when the checkpoint of an accrual partition cannot be advanced because its lease was taken over.
+ * The chunk rolls back and the node drops the partition to the new lease holder; the run itself goes on.
+ */
+public class PartitionLostException extends TimeDepositException {
+
+    /**
+     * Constructs a new PartitionLostException with the lost lease message.
+     */
+    public PartitionLostException() {
+        super(ErrorMessages.ACCRUAL_PARTITION_LOST);
+    }
+}
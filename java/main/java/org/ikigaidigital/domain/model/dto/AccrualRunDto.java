@@ -0,0 +1,26 @@
+package org.ikigaidigital.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * One month-end accrual run in the run ledger. A run applies the {@code periods} consecutive months ending at
+ * {@code period}, one unless it catches up missed months, and there is at most one run applying any month.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccrualRunDto {
+    private long id;
+    private YearMonth period;
+    private int periods;
+    private AccrualRunStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private long updatedCount;
+}
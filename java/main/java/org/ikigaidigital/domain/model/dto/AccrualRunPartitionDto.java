@@ -0,0 +1,40 @@
+package org.ikigaidigital.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.ikigaidigital.domain.component.accrual.AccrualPartition;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The checkpoint of one ID partition of an accrual run. Every account with an ID in
+ * {@code (afterId, lastCommittedId]} has been accrued and committed for the run's period.
+ * <p>
+ * A partition is accrued by the node holding its lease. The lease token grows with every claim and fences the
+ * checkpoint, so a node whose lease was taken over can no longer commit to the partition.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccrualRunPartitionDto {
+    private long runId;
+    private int partitionNo;
+    private long afterId;
+    private long upToId;
+    private long lastCommittedId;
+    private long updatedCount;
+    private AccrualRunStatus status;
+    private String leaseOwner;
+    private LocalDateTime leaseExpiresAt;
+    private long leaseToken;
+
+    /**
+     * @return The part of the partition that has not been committed yet.
+     */
+    public AccrualPartition remaining() {
+        return new AccrualPartition(lastCommittedId, upToId);
+    }
+}
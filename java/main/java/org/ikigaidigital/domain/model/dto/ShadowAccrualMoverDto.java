@@ -0,0 +1,23 @@
+package org.ikigaidigital.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One account whose balance after the next month-end accrual differs between the current and the shadow plans.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShadowAccrualMoverDto {
+    private int id;
+    private String planType;
+    private int days;
+    private BigDecimal balance;
+    private BigDecimal currentBalance;
+    private BigDecimal shadowBalance;
+    private BigDecimal interestDelta;
+}
@@ -0,0 +1,22 @@
+package org.ikigaidigital.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * The impact of the shadow plans on the accounts of one plan type at the next month-end accrual.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShadowAccrualPlanImpactDto {
+    private String planType;
+    private long accounts;
+    private long affectedAccounts;
+    private BigDecimal currentInterest;
+    private BigDecimal shadowInterest;
+    private BigDecimal interestDelta;
+}
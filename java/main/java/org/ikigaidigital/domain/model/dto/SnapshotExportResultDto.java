@@ -0,0 +1,22 @@
+package org.ikigaidigital.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * The outcome of exporting the account book to a snapshot file.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotExportResultDto {
+    private String file;
+    private Instant snapshotTime;
+    private long accounts;
+    private long bytes;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
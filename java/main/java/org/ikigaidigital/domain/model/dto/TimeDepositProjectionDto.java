@@ -0,0 +1,22 @@
+package org.ikigaidigital.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * The projected balance of one time deposit account after a number of month-end accruals.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeDepositProjectionDto {
+    private int id;
+    private String planType;
+    private int days;
+    private BigDecimal balance;
+    private BigDecimal projectedBalance;
+    private int interestMonths;
+}
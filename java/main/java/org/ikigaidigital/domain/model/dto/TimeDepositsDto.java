@@ -1,11 +1,13 @@
 package org.ikigaidigital.domain.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Data
 @EqualsAndHashCode
@@ -16,4 +18,10 @@ public class TimeDepositsDto {
     private String planType;
     private BigDecimal balance;
     private int days;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<WithdrawalsDto> withdrawals;
+
+    public TimeDepositsDto(final int id, final String planType, final BigDecimal balance, final int days) {
+        this(id, planType, balance, days, null);
+    }
 }
@@ -0,0 +1,29 @@
+package org.ikigaidigital.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+
+@Data
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class WithdrawalPeriodTotalDto {
+    private int timeDepositId;
+    private YearMonth period;
+    private BigDecimal total;
+    private long count;
+
+    /**
+     * Projection constructor used by the JPQL constructor expressions in
+     * {@link org.ikigaidigital.repository.withdrawal.WithdrawalsRepository}.
+     */
+    public WithdrawalPeriodTotalDto(final int timeDepositId, final int year, final int month, final BigDecimal total, final long count) {
+        this(timeDepositId, YearMonth.of(year, month), total.setScale(2, RoundingMode.HALF_UP), count);
+    }
+}
@@ -0,0 +1,30 @@
+package org.ikigaidigital.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+
+@Data
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class WithdrawalsDto {
+    private int id;
+    private int timeDepositId;
+    private BigDecimal amount;
+    private LocalDate date;
+
+    /**
+     * Projection constructor used by the JPQL constructor expressions in
+     * {@link org.ikigaidigital.repository.withdrawal.WithdrawalsRepository}.
+     */
+    public WithdrawalsDto(final int id, final int timeDepositId, final BigDecimal amount, final Date date) {
+        this(id, timeDepositId, amount.setScale(2, RoundingMode.HALF_UP), date.toLocalDate());
+    }
+}
@@ -2,6 +2,7 @@ package org.ikigaidigital.domain.model.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -25,7 +26,7 @@ public class Withdrawals {
     @Column(name = "ID", nullable = false, length = 36)
     private int id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "TIME_DEPOSIT_ID", nullable = false)
     private TimeDeposits timeDepositId;
 
@@ -0,0 +1,20 @@
+package org.ikigaidigital.domain.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+
+import java.util.List;
+
+/**
+ * An alternative set of plans to run a shadow month-end accrual with, in the shape of {@code application.plans}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShadowAccrualRequest {
+    private List<PlanProperties.Plan> plans;
+    private Integer topMovers;
+    private Boolean refreshSnapshot;
+}
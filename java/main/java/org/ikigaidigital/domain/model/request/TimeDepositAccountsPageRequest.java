@@ -0,0 +1,33 @@
+package org.ikigaidigital.domain.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeDepositAccountsPageRequest {
+    private Long afterId;
+    private String cursor;
+    private Integer limit;
+    private String planType;
+    private BigDecimal minBalance;
+    private BigDecimal maxBalance;
+    private boolean includeWithdrawals;
+
+    public TimeDepositAccountsPageRequest(final Long afterId, final String cursor, final Integer limit, final String planType,
+                                          final BigDecimal minBalance, final BigDecimal maxBalance) {
+        this(afterId, cursor, limit, planType, minBalance, maxBalance, false);
+    }
+
+    /**
+     * @return {@code true} if any pagination or filter parameter is set, i.e. the caller asked for a page rather
+     * than the whole book. {@code includeWithdrawals} alone does not ask for a page.
+     */
+    public boolean isPaginated() {
+        return afterId != null || cursor != null || limit != null || planType != null || minBalance != null || maxBalance != null;
+    }
+}
@@ -0,0 +1,33 @@
+package org.ikigaidigital.domain.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.ikigaidigital.domain.constant.AccrualJobStatus;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccrualJobResponse {
+    private String jobId;
+    private String period;
+    private AccrualJobStatus status;
+    private String stage;
+    private long rowsDone;
+    private long rowsWritten;
+    private long rowsSkipped;
+    private Long totalRows;
+    private double rowsPerSecond;
+    private Long etaSeconds;
+    private boolean cancelRequested;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,31 @@
+package org.ikigaidigital.domain.model.response;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.ikigaidigital.domain.model.dto.ShadowAccrualMoverDto;
+import org.ikigaidigital.domain.model.dto.ShadowAccrualPlanImpactDto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Setter
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+public class ShadowAccrualResponse {
+    private Instant snapshotTime;
+    private long snapshotAgeSeconds;
+    private long accounts;
+    private long affectedAccounts;
+    private BigDecimal currentInterest;
+    private BigDecimal shadowInterest;
+    private BigDecimal interestDelta;
+    private List<ShadowAccrualPlanImpactDto> plans = List.of();
+    private List<ShadowAccrualMoverDto> topMovers = List.of();
+    private String diffFile;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
@@ -1,5 +1,6 @@
 package org.ikigaidigital.domain.model.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,4 +16,6 @@ import java.util.List;
 public class TimeDepositAccountsResponse {
     private int count;
     private List<TimeDepositsDto> accounts = List.of();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
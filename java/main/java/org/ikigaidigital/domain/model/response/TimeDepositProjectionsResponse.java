@@ -0,0 +1,22 @@
+package org.ikigaidigital.domain.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.ikigaidigital.domain.model.dto.TimeDepositProjectionDto;
+
+import java.util.List;
+
+@Setter
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+public class TimeDepositProjectionsResponse {
+    private int months;
+    private int count;
+    private List<TimeDepositProjectionDto> projections = List.of();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
@@ -0,0 +1,12 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.model.response.AccrualJobResponse;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+public interface AccrualJobService {
+    AccrualJobResponse submitAccrualJob(final String traceId, final YearMonth period);
+    Optional<AccrualJobResponse> getAccrualJob(final String jobId);
+    Optional<AccrualJobResponse> cancelAccrualJob(final String jobId);
+}
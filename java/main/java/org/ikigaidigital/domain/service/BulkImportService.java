@@ -0,0 +1,11 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.model.dto.BulkImportResultDto;
+
+import java.nio.file.Path;
+
+public interface BulkImportService {
+    BulkImportResultDto importTimeDeposits(final String traceId, final Path file);
+    BulkImportResultDto importWithdrawals(final String traceId, final Path file);
+    void restoreSecondaryIndexes(final String traceId);
+}
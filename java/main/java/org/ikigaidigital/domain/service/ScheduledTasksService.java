@@ -1,6 +1,8 @@
 package org.ikigaidigital.domain.service;
 
 import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.snapshot.SnapshotProperties;
 import org.ikigaidigital.domain.constant.Sources;
 import org.ikigaidigital.domain.utils.GeneralUtils;
 import org.ikigaidigital.domain.utils.LoggerUtils;
@@ -11,6 +13,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ScheduledTasksService {
     private final TimeDepositService timeDepositService;
+    private final SnapshotExportService snapshotExportService;
+    private final SnapshotProperties snapshotProperties;
+    private final AccrualProperties accrualProperties;
     private final String traceId = GeneralUtils.generateTraceId();
 
     /**
@@ -20,12 +25,42 @@ public class ScheduledTasksService {
      * by the cron expression "0 0 0 L * ?". It performs the following steps:
      * <li> - Logs the start of the scheduled task with a trace ID. </li>
      * <li> - Delegates the update operation to the `timeDepositService` with the trace ID. </li>
+     * <p>
+     * The task fires on every node. The run ledger records one run per period, and every node claims shards of it
+     * by lease (see {@code application.accrual.shards}), so the nodes share the work without applying interest
+     * twice, and the shard of a node that dies is taken over once its lease expires.
+     * </p>
+     * <p>
+     * With {@code application.accrual.catch-up} set, every period missed since the last run in the ledger, e.g.
+     * during an outage, is applied together with the current one in a single run.
+     * </p>
      *
      * @Scheduled(cron = "0 0 0 L * ?") Indicates the cron schedule for the task.
      */
     @Scheduled(cron = "0 0 0 L * ?")
     public void updateAllTimeDepositAccounts() {
         LoggerUtils.logDebug(traceId, Sources.SCHEDULED_SERVICE_LAYER, "Scheduled task to update all time deposit accounts started.");
+        if (accrualProperties.isCatchUp()) {
+            timeDepositService.catchUpTimeDepositAccounts(traceId);
+            return;
+        }
         timeDepositService.updateAllTimeDepositAccounts(traceId);
     }
+
+    /**
+     * Scheduled task that exports the account snapshot for reporting.
+     * <p>
+     * This method runs on the cron expression {@code application.snapshot.cron}, disabled by default, and writes
+     * the snapshot to {@code application.snapshot.file}; it does nothing if no file is configured.
+     * </p>
+     */
+    @Scheduled(cron = "${application.snapshot.cron:-}")
+    public void exportAccountSnapshot() {
+        if (snapshotProperties.getFile() == null) {
+            LoggerUtils.logDebug(traceId, Sources.SCHEDULED_SERVICE_LAYER, "No snapshot file configured, skipping the account snapshot export.");
+            return;
+        }
+        LoggerUtils.logDebug(traceId, Sources.SCHEDULED_SERVICE_LAYER, "Scheduled task to export the account snapshot started.");
+        snapshotExportService.exportAccountSnapshot(traceId, snapshotProperties.getFile());
+    }
 }
@@ -0,0 +1,8 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.model.request.ShadowAccrualRequest;
+import org.ikigaidigital.domain.model.response.ShadowAccrualResponse;
+
+public interface ShadowAccrualService {
+    ShadowAccrualResponse runShadowAccrual(final String traceId, final ShadowAccrualRequest request);
+}
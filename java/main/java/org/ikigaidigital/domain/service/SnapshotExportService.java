@@ -0,0 +1,9 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.model.dto.SnapshotExportResultDto;
+
+import java.nio.file.Path;
+
+public interface SnapshotExportService {
+    SnapshotExportResultDto exportAccountSnapshot(final String traceId, final Path file);
+}
@@ -1,8 +1,27 @@
 package org.ikigaidigital.domain.service;
 
+import org.ikigaidigital.domain.component.accrual.AccrualProgress;
+import org.ikigaidigital.domain.component.cache.CacheStats;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.request.TimeDepositAccountsPageRequest;
 import org.ikigaidigital.domain.model.response.TimeDepositAccountsResponse;
+import org.ikigaidigital.domain.model.response.TimeDepositProjectionsResponse;
+
+import java.time.YearMonth;
+import java.util.function.Consumer;
 
 public interface TimeDepositService {
     void updateAllTimeDepositAccounts(final String traceId);
+    void updateAllTimeDepositAccounts(final String traceId, final YearMonth period);
+    void updateAllTimeDepositAccounts(final String traceId, final YearMonth period, final AccrualProgress progress);
+    void catchUpTimeDepositAccounts(final String traceId);
+    void catchUpTimeDepositAccounts(final String traceId, final YearMonth upTo);
+    long countAccountsToAccrue();
     TimeDepositAccountsResponse getAllTimeDepositAccounts(final String traceId);
+    TimeDepositAccountsResponse getAllTimeDepositAccounts(final String traceId, final boolean includeWithdrawals);
+    TimeDepositAccountsResponse getTimeDepositAccountsPage(final String traceId, final TimeDepositAccountsPageRequest pageRequest);
+    long streamAllTimeDepositAccounts(final String traceId, final Consumer<TimeDepositsDto> consumer);
+    CacheStats getListingCacheStats();
+    TimeDepositProjectionsResponse projectAllTimeDepositAccounts(final String traceId, final int months,
+                                                                 final TimeDepositAccountsPageRequest pageRequest);
 }
@@ -0,0 +1,222 @@
+package org.ikigaidigital.domain.service.impl;
+
+import org.ikigaidigital.domain.component.accrual.AccrualProgress;
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.constant.AccrualJobStatus;
+import org.ikigaidigital.domain.constant.ErrorMessages;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.exception.AccrualCancelledException;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.response.AccrualJobResponse;
+import org.ikigaidigital.domain.service.AccrualJobService;
+import org.ikigaidigital.domain.service.TimeDepositService;
+import org.ikigaidigital.domain.utils.GeneralUtils;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the month-end accrual in the background so that the HTTP request returns straight away with a job ID.
+ * <p>
+ * At most one accrual job is active at a time; submitting while one is queued or running returns that job. Jobs run
+ * on a virtual thread when {@code application.accrual.job-virtual-threads} is set and the runtime supports it, and
+ * on a single dedicated platform thread otherwise, so Tomcat request threads stay free for read traffic. Finished
+ * jobs are kept in memory for polling, up to {@code application.accrual.retained-jobs} of them.
+ * </p>
+ */
+@Service
+public class AccrualJobServiceImpl implements AccrualJobService, DisposableBean {
+    private final TimeDepositService timeDepositService;
+    private final AccrualProperties accrualProperties;
+    private final Executor executor;
+    private final Map<String, AccrualJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<AccrualJob> activeJob = new AtomicReference<>();
+
+    public AccrualJobServiceImpl(final TimeDepositService timeDepositService, final AccrualProperties accrualProperties) {
+        this.timeDepositService = timeDepositService;
+        this.accrualProperties = accrualProperties;
+        this.executor = createExecutor(accrualProperties.isJobVirtualThreads());
+    }
+
+    /**
+     * Queues an accrual of the given period, or returns the accrual job that is already queued or running.
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     * @param period  The month to accrue interest for.
+     * @return The progress of the submitted or already active job.
+     * @throws TimeDepositException If the job could not be handed to the executor.
+     */
+    @Override
+    public AccrualJobResponse submitAccrualJob(final String traceId, final YearMonth period) {
+        final AccrualJob job = new AccrualJob(GeneralUtils.generateTraceId(), traceId, period);
+        final AccrualJob active = activeJob.compareAndExchange(null, job);
+        if (active != null) {
+            LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Accrual job {} is already active.", active.jobId);
+            return active.toResponse();
+        }
+
+        jobs.put(job.jobId, job);
+        pruneFinishedJobs();
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            job.finish(AccrualJobStatus.FAILED, ex.getMessage());
+            activeJob.compareAndSet(job, null);
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error submitting accrual job: {}", ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_SUBMITTING_ACCRUAL_JOB);
+        }
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Submitted accrual job {} for {}.", job.jobId, period);
+        return job.toResponse();
+    }
+
+    @Override
+    public Optional<AccrualJobResponse> getAccrualJob(final String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(AccrualJob::toResponse);
+    }
+
+    /**
+     * Requests cancellation of a job. A queued job is cancelled before it starts; a running job stops before its
+     * next chunk, keeping the chunks it has committed so that a later run of the period resumes after them.
+     *
+     * @param jobId The job to cancel.
+     * @return The progress of the job, or empty if no such job is known.
+     */
+    @Override
+    public Optional<AccrualJobResponse> cancelAccrualJob(final String jobId) {
+        final AccrualJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        job.progress.requestCancel();
+        LoggerUtils.logInfo(job.traceId, Sources.SERVICE_LAYER, "Cancellation requested for accrual job {}.", jobId);
+        return Optional.of(job.toResponse());
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void run(final AccrualJob job) {
+        AccrualJobStatus finalStatus = AccrualJobStatus.CANCELLED;
+        String error = ErrorMessages.ACCRUAL_CANCELLED.getMessage();
+        try {
+            if (!job.progress.isCancelRequested()) {
+                job.begin();
+                job.progress.setTotalRows(timeDepositService.countAccountsToAccrue());
+                timeDepositService.updateAllTimeDepositAccounts(job.traceId, job.period, job.progress);
+                finalStatus = AccrualJobStatus.COMPLETED;
+                error = null;
+            }
+        } catch (AccrualCancelledException ex) {
+            error = ex.getMessage();
+        } catch (Exception ex) {
+            LoggerUtils.logError(job.traceId, Sources.SERVICE_LAYER, "Accrual job {} failed: {}, {}", job.jobId, ex.getClass().getSimpleName(), ex.getMessage());
+            finalStatus = AccrualJobStatus.FAILED;
+            error = ex.getMessage();
+        } finally {
+            // Released before the job reports itself finished, so a caller that saw it finish can submit a new one
+            activeJob.compareAndSet(job, null);
+            job.finish(finalStatus, error);
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        final int excess = jobs.size() - accrualProperties.getRetainedJobs();
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(AccrualJob::isFinished)
+                .sorted(Comparator.comparing(job -> job.submittedAt))
+                .limit(excess)
+                .forEach(job -> jobs.remove(job.jobId));
+    }
+
+    private static Executor createExecutor(final boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                return new VirtualThreadTaskExecutor("accrual-job-");
+            } catch (UnsupportedOperationException ex) {
+                LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "Virtual threads need Java 21, running accrual jobs on a platform thread: {}", ex.getMessage());
+            }
+        }
+        return Executors.newSingleThreadExecutor(new CustomizableThreadFactory("accrual-job-"));
+    }
+
+    /**
+     * Mutable state of one accrual job. The status fields are only written by the job's own thread, apart from the
+     * cancellation flag in its {@link AccrualProgress}.
+     */
+    private static final class AccrualJob {
+        private final String jobId;
+        private final String traceId;
+        private final YearMonth period;
+        private final AccrualProgress progress = new AccrualProgress();
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile AccrualJobStatus status = AccrualJobStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        private volatile double finalRowsPerSecond;
+
+        private AccrualJob(final String jobId, final String traceId, final YearMonth period) {
+            this.jobId = jobId;
+            this.traceId = traceId;
+            this.period = period;
+        }
+
+        private void begin() {
+            startedAt = LocalDateTime.now();
+            progress.start();
+            status = AccrualJobStatus.RUNNING;
+        }
+
+        private void finish(final AccrualJobStatus finalStatus, final String finalError) {
+            error = finalError;
+            finalRowsPerSecond = startedAt != null ? progress.getRowsPerSecond() : 0;
+            status = finalStatus;
+            finishedAt = LocalDateTime.now();
+        }
+
+        private boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        private AccrualJobResponse toResponse() {
+            final AccrualJobResponse response = new AccrualJobResponse();
+            response.setJobId(jobId);
+            response.setPeriod(period.toString());
+            response.setStatus(status);
+            response.setStage(status == AccrualJobStatus.RUNNING && progress.getStage() != null ? progress.getStage().getTag() : null);
+            response.setRowsDone(progress.getRowsDone());
+            response.setRowsWritten(progress.getRowsWritten());
+            response.setRowsSkipped(progress.getRowsSkipped());
+            response.setTotalRows(progress.getTotalRows() >= 0 ? progress.getTotalRows() : null);
+            response.setRowsPerSecond(isFinished() ? finalRowsPerSecond : startedAt != null ? progress.getRowsPerSecond() : 0);
+            response.setEtaSeconds(status == AccrualJobStatus.RUNNING && progress.getEtaSeconds() >= 0 ? progress.getEtaSeconds() : null);
+            response.setCancelRequested(progress.isCancelRequested());
+            response.setSubmittedAt(submittedAt);
+            response.setStartedAt(startedAt);
+            response.setFinishedAt(finishedAt);
+            response.setError(error);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package org.ikigaidigital.domain.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
+import org.ikigaidigital.domain.component.importer.ImportProperties;
+import org.ikigaidigital.domain.component.importer.MappedCsvReader;
+import org.ikigaidigital.domain.component.importer.TimeDepositImportRows;
+import org.ikigaidigital.domain.component.importer.WithdrawalImportRows;
+import org.ikigaidigital.domain.constant.ErrorMessages;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.exception.ImportRecordException;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.BulkImportResultDto;
+import org.ikigaidigital.domain.service.BulkImportService;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.ikigaidigital.repository.importer.BulkImportRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads time deposit accounts and withdrawals from CSV files into their tables.
+ * <p>
+ * Files are streamed through a {@link MappedCsvReader}, so memory stays flat whatever the file size. Every record is
+ * parsed into a primitive row buffer and validated against the constraints of its table; invalid records are rejected
+ * with their line number and the import goes on. Each full buffer of {@code application.import.flush-rows} rows is
+ * inserted in its own transaction with multi-row statements. The secondary indexes stay in place unless
+ * {@code application.import.defer-indexes} is set, which drops them for the load and builds them once at the end,
+ * also when the import fails, and on the next startup if the process stopped in between. Primary and foreign keys are
+ * left to the database: a duplicate ID or a withdrawal of an unknown account fails the buffer it is in, and the
+ * import stops with the buffers before it committed.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkImportServiceImpl implements BulkImportService {
+    private static final int MAX_PLAN_TYPE_LENGTH = 8;
+    private static final int CENTS_SCALE = 2;
+
+    private final BulkImportRepository bulkImportRepository;
+    private final ImportProperties importProperties;
+    private final TimeDepositsDataVersion timeDepositsDataVersion;
+
+    /**
+     * Imports time deposit accounts from a CSV file with the columns {@code id,plan_type,days,balance}; a header
+     * line is skipped.
+     * <p>
+     * A record is rejected if a field is missing or malformed, the plan type is longer than 8 characters, the days
+     * are negative, or the balance is negative or has more than 2 decimal places.
+     * </p>
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     *                Must not be null or empty.
+     * @param file    The CSV file to import. Must not be null.
+     * @return The rows read, imported and rejected, and the throughput of the import.
+     * @throws IllegalArgumentException If the provided traceId is null or empty, or the file is null.
+     * @throws TimeDepositException     If the file cannot be read or a buffer of rows cannot be inserted.
+     */
+    @Override
+    public BulkImportResultDto importTimeDeposits(final String traceId, final Path file) {
+        final TimeDepositImportRows rows = new TimeDepositImportRows(importProperties.getFlushRows());
+        return importFile(traceId, file, BulkImportRepository.TIME_DEPOSITS_TABLE, new ImportTarget() {
+            @Override
+            public void addRecord(final MappedCsvReader reader) {
+                final int id = reader.intField();
+                final String planType = reader.tokenField(MAX_PLAN_TYPE_LENGTH);
+                final int days = reader.intField();
+                final long balanceCents = reader.decimalField(CENTS_SCALE);
+                reader.endOfRecord();
+                if (days < 0) {
+                    throw new ImportRecordException("Line " + reader.lineNumber() + " has negative days");
+                }
+                if (balanceCents < 0) {
+                    throw new ImportRecordException("Line " + reader.lineNumber() + " has a negative balance");
+                }
+                rows.add(id, planType, days, balanceCents, reader.lineNumber());
+            }
+
+            @Override
+            public int size() {
+                return rows.size();
+            }
+
+            @Override
+            public boolean isFull() {
+                return rows.isFull();
+            }
+
+            @Override
+            public String lineRange() {
+                return rows.firstLineNumber() + "-" + rows.lastLineNumber();
+            }
+
+            @Override
+            public int flush() {
+                final int inserted = bulkImportRepository.insertTimeDeposits(rows, importProperties.getRowsPerStatement());
+                rows.clear();
+                return inserted;
+            }
+        });
+    }
+
+    /**
+     * Imports withdrawals from a CSV file with the columns {@code id,time_deposit_id,amount,date}, the date as
+     * {@code yyyy-MM-dd}; a header line is skipped. Import the accounts they belong to first.
+     * <p>
+     * A record is rejected if a field is missing or malformed, the date is invalid, or the amount is not positive or
+     * has more than 2 decimal places.
+     * </p>
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     *                Must not be null or empty.
+     * @param file    The CSV file to import. Must not be null.
+     * @return The rows read, imported and rejected, and the throughput of the import.
+     * @throws IllegalArgumentException If the provided traceId is null or empty, or the file is null.
+     * @throws TimeDepositException     If the file cannot be read or a buffer of rows cannot be inserted.
+     */
+    @Override
+    public BulkImportResultDto importWithdrawals(final String traceId, final Path file) {
+        final WithdrawalImportRows rows = new WithdrawalImportRows(importProperties.getFlushRows());
+        return importFile(traceId, file, BulkImportRepository.WITHDRAWALS_TABLE, new ImportTarget() {
+            @Override
+            public void addRecord(final MappedCsvReader reader) {
+                final int id = reader.intField();
+                final int timeDepositId = reader.intField();
+                final long amountCents = reader.decimalField(CENTS_SCALE);
+                final int epochDay = reader.dateField();
+                reader.endOfRecord();
+                if (amountCents <= 0) {
+                    throw new ImportRecordException("Line " + reader.lineNumber() + " has an amount that is not positive");
+                }
+                rows.add(id, timeDepositId, amountCents, epochDay, reader.lineNumber());
+            }
+
+            @Override
+            public int size() {
+                return rows.size();
+            }
+
+            @Override
+            public boolean isFull() {
+                return rows.isFull();
+            }
+
+            @Override
+            public String lineRange() {
+                return rows.firstLineNumber() + "-" + rows.lastLineNumber();
+            }
+
+            @Override
+            public int flush() {
+                final int inserted = bulkImportRepository.insertWithdrawals(rows, importProperties.getRowsPerStatement());
+                rows.clear();
+                return inserted;
+            }
+        });
+    }
+
+    private BulkImportResultDto importFile(final String traceId, final Path file, final String table, final ImportTarget target) {
+        if (traceId == null || traceId.isEmpty()) {
+            LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
+            throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
+        }
+        if (file == null) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Import file is null.");
+            throw new IllegalArgumentException(ErrorMessages.IMPORT_FILE_NULL.getMessage());
+        }
+
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Importing {} from {}.", table, file);
+        final long start = System.nanoTime();
+        long rowsAccepted = 0;
+        long rowsImported = 0;
+        long rowsRejected = 0;
+        try (MappedCsvReader reader = MappedCsvReader.open(file)) {
+            try {
+                if (importProperties.isDeferIndexes()) {
+                    bulkImportRepository.dropSecondaryIndexes(table);
+                }
+                boolean firstRecord = true;
+                while (true) {
+                    try {
+                        if (!reader.nextRecord()) {
+                            break;
+                        }
+                        if (firstRecord) {
+                            firstRecord = false;
+                            if (reader.isHeader()) {
+                                continue;
+                            }
+                        }
+                        target.addRecord(reader);
+                        rowsAccepted++;
+                    } catch (ImportRecordException ex) {
+                        if (rowsRejected++ < importProperties.getLoggedRejections()) {
+                            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Rejected {} record: {}", table, ex.getMessage());
+                        }
+                        continue;
+                    }
+                    if (target.isFull()) {
+                        rowsImported += flush(traceId, table, target);
+                    }
+                }
+                if (target.size() > 0) {
+                    rowsImported += flush(traceId, table, target);
+                }
+            } finally {
+                if (importProperties.isDeferIndexes()) {
+                    restoreSecondaryIndexes(traceId, table);
+                }
+                // Once per import and after its buffers committed, also when it stopped part-way
+                timeDepositsDataVersion.publish(traceId);
+            }
+        } catch (IOException ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error reading import file {}: {}", file, ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_READING_IMPORT_FILE);
+        }
+
+        final long elapsedNanos = System.nanoTime() - start;
+        final double rowsPerSecond = elapsedNanos > 0 ? rowsImported * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0;
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Imported {} of {} {} rows in {} ms ({} rows/sec), {} rejected.", rowsImported,
+                rowsAccepted + rowsRejected, table, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(rowsPerSecond), rowsRejected);
+        return new BulkImportResultDto(table, rowsAccepted + rowsRejected, rowsImported, rowsRejected,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
+    }
+
+    /**
+     * Creates the secondary indexes of both import tables that do not exist, e.g. because the process stopped during
+     * an import with {@code application.import.defer-indexes}. Called once on startup, before any import.
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     *                Must not be null or empty.
+     * @throws IllegalArgumentException If the provided traceId is null or empty.
+     */
+    @Override
+    public void restoreSecondaryIndexes(final String traceId) {
+        if (traceId == null || traceId.isEmpty()) {
+            LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
+            throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
+        }
+        restoreSecondaryIndexes(traceId, BulkImportRepository.TIME_DEPOSITS_TABLE);
+        restoreSecondaryIndexes(traceId, BulkImportRepository.WITHDRAWALS_TABLE);
+    }
+
+    private void restoreSecondaryIndexes(final String traceId, final String table) {
+        try {
+            bulkImportRepository.createSecondaryIndexes(table);
+        } catch (Exception ex) {
+            // Left to the next restore; queries still run, only without the index
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error restoring the secondary indexes of {}: {}, {}", table,
+                    ex.getClass().getSimpleName(), ex.getMessage());
+        }
+    }
+
+    private int flush(final String traceId, final String table, final ImportTarget target) {
+        try {
+            return target.flush();
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error inserting {} rows of lines {}: {}, {}", table, target.lineRange(),
+                    ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_WRITING_IMPORTED_ROWS);
+        }
+    }
+
+    /**
+     * Parses the records of one table into its row buffer and inserts the buffer.
+     */
+    private interface ImportTarget {
+        void addRecord(MappedCsvReader reader);
+
+        int size();
+
+        boolean isFull();
+
+        String lineRange();
+
+        int flush();
+    }
+}
@@ -0,0 +1,414 @@
+package org.ikigaidigital.domain.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.shadow.ShadowAccrualProperties;
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotReader;
+import org.ikigaidigital.domain.component.snapshot.SnapshotProperties;
+import org.ikigaidigital.domain.constant.ErrorMessages;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.ShadowAccrualMoverDto;
+import org.ikigaidigital.domain.model.dto.ShadowAccrualPlanImpactDto;
+import org.ikigaidigital.domain.model.request.ShadowAccrualRequest;
+import org.ikigaidigital.domain.model.response.ShadowAccrualResponse;
+import org.ikigaidigital.domain.service.ShadowAccrualService;
+import org.ikigaidigital.domain.service.SnapshotExportService;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the next month-end accrual under an alternative set of plans as a dry run, and reports how every account would
+ * come out compared with the configured plans.
+ * <p>
+ * The accrual reads the account snapshot file ({@code application.snapshot.file}) instead of the serving database, so
+ * it neither reads nor locks {@code TIME_DEPOSITS}, however large the book is. The row groups of the snapshot are
+ * split into contiguous ranges scanned in parallel by {@code application.shadow-accrual.parallelism} workers, each
+ * through its own {@link AccountSnapshotReader#duplicate() duplicate} of the reader that opened the snapshot, so all of
+ * them scan the file opened once, with its plan dictionary, even if a concurrent export replaces it. Every account is accrued in {@code long} cents under both plan sets,
+ * giving the same balances as the month-end accrual, and the workers aggregate the interest per plan type, keep their
+ * own top movers and stream the accounts whose balance would change to their own part of the diff file. The parts are
+ * temporary files unique to the run, created next to {@code application.shadow-accrual.diff-file}, so concurrent runs
+ * never share one; they are concatenated in row group order and moved over the diff file once complete.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ShadowAccrualServiceImpl implements ShadowAccrualService {
+    private static final String DIFF_HEADER = "id,plan_type,days,balance,current_balance,shadow_balance,interest_delta";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String DIFF_PART_SUFFIX = ".part";
+    private static final String FILE_NAME_SEPARATOR = ".";
+    private static final int BALANCE_SCALE = 2;
+    // Largest movers first, ties by ascending account ID
+    private static final Comparator<Mover> MOVER_ORDER = Comparator.comparingLong((Mover mover) -> Math.abs(mover.interestDeltaCents()))
+            .reversed()
+            .thenComparingInt(Mover::id);
+
+    private final TimeDepositCalculator timeDepositCalculator;
+    private final SnapshotExportService snapshotExportService;
+    private final SnapshotProperties snapshotProperties;
+    private final ShadowAccrualProperties shadowAccrualProperties;
+
+    /**
+     * Accrues every account of the snapshot under both the configured and the requested plans, without changing any
+     * account.
+     * <p>
+     * The accounts are exported to the configured snapshot file first, unless the request sets
+     * {@code refreshSnapshot} to {@code false} and the file exists, in which case it is used as is; without a
+     * configured snapshot file they are exported to a temporary file, deleted afterwards. The response states the
+     * time and age of the snapshot accrued. Accounts of a plan type that neither plan set knows keep their balance
+     * under both.
+     * </p>
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     *                Must not be null or empty.
+     * @param request The shadow plans, the number of top movers to report and whether to refresh the snapshot, by
+     *                default {@code true}.
+     * @return The interest under both plan sets in total and per plan type, the accounts that would change most, and
+     * the path of the diff file if one is configured.
+     * @throws IllegalArgumentException If the provided traceId is null or empty.
+     * @throws TimeDepositException     If the plans are empty, the number of top movers is out of range, or the
+     *                                  snapshot or diff file cannot be read or written.
+     */
+    @Override
+    public ShadowAccrualResponse runShadowAccrual(final String traceId, final ShadowAccrualRequest request) {
+        if (traceId == null || traceId.isEmpty()) {
+            LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
+            throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
+        }
+        if (request == null || request.getPlans() == null || request.getPlans().isEmpty()) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Shadow accrual plans are empty.");
+            throw new TimeDepositException(ErrorMessages.SHADOW_PLANS_EMPTY);
+        }
+        final int topMovers = request.getTopMovers() != null ? request.getTopMovers() : shadowAccrualProperties.getTopMovers();
+        if (topMovers < 0 || topMovers > shadowAccrualProperties.getMaxTopMovers()) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Invalid number of top movers: {}", topMovers);
+            throw new TimeDepositException(ErrorMessages.INVALID_TOP_MOVERS);
+        }
+
+        final long start = System.nanoTime();
+        final PlanEvaluatorIndex currentPlans = timeDepositCalculator.planEvaluatorIndex();
+        final PlanEvaluatorIndex shadowPlans = PlanEvaluatorIndex.compile(request.getPlans());
+        final Path configuredSnapshot = snapshotProperties.getFile();
+        final boolean temporarySnapshot = configuredSnapshot == null;
+        Path snapshot = configuredSnapshot;
+        try {
+            if (temporarySnapshot) {
+                snapshot = Files.createTempFile("shadow-accrual", ".snapshot");
+            }
+            final boolean refreshSnapshot = request.getRefreshSnapshot() == null || request.getRefreshSnapshot();
+            if (temporarySnapshot || refreshSnapshot || !Files.exists(snapshot)) {
+                snapshotExportService.exportAccountSnapshot(traceId, snapshot);
+            }
+            final ShadowAccrualResponse response = shadowAccrue(traceId, snapshot, currentPlans, shadowPlans, topMovers);
+
+            final long elapsedNanos = System.nanoTime() - start;
+            response.setSnapshotAgeSeconds(Math.max(0, Duration.between(response.getSnapshotTime(), Instant.now()).toSeconds()));
+            response.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            response.setRowsPerSecond(elapsedNanos > 0 ? response.getAccounts() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0);
+            LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Shadow accrued {} accounts in {} ms ({} rows/sec): {} affected, interest delta {}.",
+                    response.getAccounts(), response.getElapsedMillis(), Math.round(response.getRowsPerSecond()),
+                    response.getAffectedAccounts(), response.getInterestDelta());
+            return response;
+        } catch (IOException | UncheckedIOException ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error running the shadow accrual on {}: {}", snapshot, ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RUNNING_SHADOW_ACCRUAL);
+        } finally {
+            if (temporarySnapshot && snapshot != null) {
+                deleteQuietly(traceId, snapshot);
+            }
+        }
+    }
+
+    private ShadowAccrualResponse shadowAccrue(final String traceId, final Path snapshot, final PlanEvaluatorIndex currentPlans,
+                                               final PlanEvaluatorIndex shadowPlans, final int topMovers) throws IOException {
+        try (AccountSnapshotReader reader = AccountSnapshotReader.open(snapshot)) {
+            return shadowAccrue(traceId, snapshot, reader, currentPlans, shadowPlans, topMovers);
+        }
+    }
+
+    private ShadowAccrualResponse shadowAccrue(final String traceId, final Path snapshot, final AccountSnapshotReader reader,
+                                               final PlanEvaluatorIndex currentPlans, final PlanEvaluatorIndex shadowPlans,
+                                               final int topMovers) throws IOException {
+        final ShadowAccrualResponse response = new ShadowAccrualResponse();
+        response.setSnapshotTime(reader.snapshotTime());
+        final List<String> planTypes = reader.planTypes();
+        final int rowGroups = reader.rowGroupCount();
+        final PlanEvaluator[] currentEvaluators = new PlanEvaluator[planTypes.size()];
+        final PlanEvaluator[] shadowEvaluators = new PlanEvaluator[planTypes.size()];
+        for (int code = 0; code < planTypes.size(); code++) {
+            currentEvaluators[code] = currentPlans.find(planTypes.get(code));
+            shadowEvaluators[code] = shadowPlans.find(planTypes.get(code));
+        }
+
+        final Path diffFile = shadowAccrualProperties.getDiffFile();
+        final int workers = Math.max(1, Math.min(shadowAccrualProperties.getParallelism(), rowGroups));
+        final List<Path> diffParts = new ArrayList<>();
+        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Shadow accruing {} row groups of {} on {} workers.", rowGroups, snapshot, workers);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("shadow-accrual-"));
+        try {
+            if (diffFile != null) {
+                for (int worker = 0; worker < workers; worker++) {
+                    diffParts.add(createSiblingTempFile(diffFile, DIFF_PART_SUFFIX));
+                }
+            }
+            final List<Future<RangeResult>> futures = new ArrayList<>();
+            for (int worker = 0; worker < workers; worker++) {
+                final int fromGroup = (int) ((long) worker * rowGroups / workers);
+                final int toGroup = (int) ((long) (worker + 1) * rowGroups / workers);
+                final Path diffPart = diffFile != null ? diffParts.get(worker) : null;
+                final AccountSnapshotReader rangeReader = reader.duplicate();
+                futures.add(executor.submit(() -> scanRange(rangeReader, fromGroup, toGroup, currentEvaluators, shadowEvaluators, topMovers, diffPart)));
+            }
+
+            final RangeResult total = new RangeResult(planTypes.size(), topMovers);
+            for (Future<RangeResult> future : futures) {
+                total.merge(future.get());
+            }
+            if (diffFile != null) {
+                concatenate(diffParts, diffFile);
+                response.setDiffFile(diffFile.toString());
+            }
+            return summarize(response, planTypes, total);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (ex.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException;
+            }
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error shadow accruing the snapshot: {}, {}",
+                    ex.getCause().getClass().getSimpleName(), ex.getCause().getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RUNNING_SHADOW_ACCRUAL);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Interrupted while shadow accruing the snapshot.");
+            throw new TimeDepositException(ErrorMessages.ERROR_RUNNING_SHADOW_ACCRUAL);
+        } finally {
+            executor.shutdownNow();
+            for (Path diffPart : diffParts) {
+                deleteQuietly(traceId, diffPart);
+            }
+        }
+    }
+
+    /**
+     * Accrues the accounts of the row groups {@code [fromGroup, toGroup)} under both plan sets.
+     *
+     * @return The aggregates and top movers of the range.
+     */
+    private static RangeResult scanRange(final AccountSnapshotReader reader, final int fromGroup, final int toGroup, final PlanEvaluator[] currentEvaluators,
+                                         final PlanEvaluator[] shadowEvaluators, final int topMovers, final Path diffPart) throws IOException {
+        final RangeResult result = new RangeResult(currentEvaluators.length, topMovers);
+        try (Writer diff = diffPart != null ? Files.newBufferedWriter(diffPart, StandardCharsets.US_ASCII) : Writer.nullWriter()) {
+            for (int group = fromGroup; group < toGroup; group++) {
+                reader.readRowGroup(group);
+                final int[] ids = reader.idColumn();
+                final byte[] planCodes = reader.planCodeColumn();
+                final int[] days = reader.daysColumn();
+                final long[] balances = reader.balanceCentsColumn();
+                for (int row = 0; row < reader.rows(); row++) {
+                    final int code = planCodes[row] & 0xff;
+                    final long balance = balances[row];
+                    final long currentBalance = accrue(currentEvaluators[code], days[row], balance);
+                    final long shadowBalance = accrue(shadowEvaluators[code], days[row], balance);
+                    result.accounts[code]++;
+                    result.currentInterestCents[code] += currentBalance - balance;
+                    result.shadowInterestCents[code] += shadowBalance - balance;
+                    if (currentBalance != shadowBalance) {
+                        result.affectedAccounts[code]++;
+                        final Mover mover = new Mover(ids[row], code, days[row], balance, currentBalance, shadowBalance);
+                        result.offer(mover);
+                        if (diffPart != null) {
+                            writeDiffLine(diff, reader.planType(planCodes[row]), mover);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static long accrue(final PlanEvaluator plan, final int days, final long balanceCents) {
+        return plan != null ? plan.updatedBalanceCents(days, balanceCents) : balanceCents;
+    }
+
+    private static void writeDiffLine(final Writer diff, final String planType, final Mover mover) throws IOException {
+        diff.write(Integer.toString(mover.id()));
+        diff.write(',');
+        diff.write(planType);
+        diff.write(',');
+        diff.write(Integer.toString(mover.days()));
+        diff.write(',');
+        diff.write(toAmount(mover.balanceCents()).toPlainString());
+        diff.write(',');
+        diff.write(toAmount(mover.currentBalanceCents()).toPlainString());
+        diff.write(',');
+        diff.write(toAmount(mover.shadowBalanceCents()).toPlainString());
+        diff.write(',');
+        diff.write(toAmount(mover.interestDeltaCents()).toPlainString());
+        diff.write('\n');
+    }
+
+    private static ShadowAccrualResponse summarize(final ShadowAccrualResponse response, final List<String> planTypes, final RangeResult total) {
+        final List<ShadowAccrualPlanImpactDto> plans = new ArrayList<>();
+        long accounts = 0;
+        long affectedAccounts = 0;
+        long currentInterestCents = 0;
+        long shadowInterestCents = 0;
+        for (int code = 0; code < planTypes.size(); code++) {
+            accounts += total.accounts[code];
+            affectedAccounts += total.affectedAccounts[code];
+            currentInterestCents += total.currentInterestCents[code];
+            shadowInterestCents += total.shadowInterestCents[code];
+            plans.add(new ShadowAccrualPlanImpactDto(planTypes.get(code), total.accounts[code], total.affectedAccounts[code],
+                    toAmount(total.currentInterestCents[code]), toAmount(total.shadowInterestCents[code]),
+                    toAmount(total.shadowInterestCents[code] - total.currentInterestCents[code])));
+        }
+        response.setAccounts(accounts);
+        response.setAffectedAccounts(affectedAccounts);
+        response.setCurrentInterest(toAmount(currentInterestCents));
+        response.setShadowInterest(toAmount(shadowInterestCents));
+        response.setInterestDelta(toAmount(shadowInterestCents - currentInterestCents));
+        response.setPlans(plans);
+        response.setTopMovers(total.topMovers().stream()
+                .map(mover -> new ShadowAccrualMoverDto(mover.id(), planTypes.get(mover.planCode()), mover.days(),
+                        toAmount(mover.balanceCents()), toAmount(mover.currentBalanceCents()),
+                        toAmount(mover.shadowBalanceCents()), toAmount(mover.interestDeltaCents())))
+                .toList());
+        return response;
+    }
+
+    private static BigDecimal toAmount(final long cents) {
+        return BigDecimal.valueOf(cents, BALANCE_SCALE);
+    }
+
+    /**
+     * Writes the header and the diff parts, in order, to a temporary file next to the diff file and moves it over the
+     * diff file, so a reader never sees a partial diff.
+     */
+    private static void concatenate(final List<Path> diffParts, final Path diffFile) throws IOException {
+        final Path temporaryFile = createSiblingTempFile(diffFile, TEMPORARY_FILE_SUFFIX);
+        try {
+            try (OutputStream out = Files.newOutputStream(temporaryFile)) {
+                out.write((DIFF_HEADER + "\n").getBytes(StandardCharsets.US_ASCII));
+                for (Path diffPart : diffParts) {
+                    Files.copy(diffPart, out);
+                }
+            }
+            moveOver(temporaryFile, diffFile);
+        } catch (IOException ex) {
+            Files.deleteIfExists(temporaryFile);
+            throw ex;
+        }
+    }
+
+    /**
+     * Creates a file unique to the calling run in the directory of the target, so it can be moved over the target and
+     * never collides with the files of a concurrent run.
+     */
+    private static Path createSiblingTempFile(final Path target, final String suffix) throws IOException {
+        final Path absoluteTarget = target.toAbsolutePath();
+        return Files.createTempFile(absoluteTarget.getParent(), absoluteTarget.getFileName() + FILE_NAME_SEPARATOR, suffix);
+    }
+
+    private static void moveOver(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(final String traceId, final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error deleting the shadow accrual file {}: {}", file, ex.getMessage());
+        }
+    }
+
+    /**
+     * An account whose balance differs between the current and the shadow plans.
+     */
+    private record Mover(int id, int planCode, int days, long balanceCents, long currentBalanceCents, long shadowBalanceCents) {
+        long interestDeltaCents() {
+            return shadowBalanceCents - currentBalanceCents;
+        }
+    }
+
+    /**
+     * Per plan code aggregates and the top movers of a range of row groups, merged into one for the whole snapshot.
+     */
+    private static final class RangeResult {
+        private final long[] accounts;
+        private final long[] affectedAccounts;
+        private final long[] currentInterestCents;
+        private final long[] shadowInterestCents;
+        private final int topMoverLimit;
+        // Min-heap on the mover order, so the head is the smallest mover kept
+        private final PriorityQueue<Mover> topMovers;
+
+        private RangeResult(final int planCodes, final int topMoverLimit) {
+            this.accounts = new long[planCodes];
+            this.affectedAccounts = new long[planCodes];
+            this.currentInterestCents = new long[planCodes];
+            this.shadowInterestCents = new long[planCodes];
+            this.topMoverLimit = topMoverLimit;
+            this.topMovers = new PriorityQueue<>(MOVER_ORDER.reversed());
+        }
+
+        private void offer(final Mover mover) {
+            if (topMoverLimit == 0) {
+                return;
+            }
+            if (topMovers.size() < topMoverLimit) {
+                topMovers.add(mover);
+            } else if (MOVER_ORDER.compare(mover, topMovers.peek()) < 0) {
+                topMovers.poll();
+                topMovers.add(mover);
+            }
+        }
+
+        private void merge(final RangeResult other) {
+            for (int code = 0; code < accounts.length; code++) {
+                accounts[code] += other.accounts[code];
+                affectedAccounts[code] += other.affectedAccounts[code];
+                currentInterestCents[code] += other.currentInterestCents[code];
+                shadowInterestCents[code] += other.shadowInterestCents[code];
+            }
+            other.topMovers.forEach(this::offer);
+        }
+
+        private List<Mover> topMovers() {
+            return topMovers.stream().sorted(MOVER_ORDER).toList();
+        }
+    }
+}
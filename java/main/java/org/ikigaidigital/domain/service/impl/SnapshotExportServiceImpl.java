@@ -0,0 +1,126 @@
+package org.ikigaidigital.domain.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotReader;
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotWriter;
+import org.ikigaidigital.domain.component.snapshot.SnapshotProperties;
+import org.ikigaidigital.domain.constant.ErrorMessages;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.SnapshotExportResultDto;
+import org.ikigaidigital.domain.service.SnapshotExportService;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the account book to a compressed columnar snapshot file, so that reporting can scan it with an
+ * {@link AccountSnapshotReader} instead of listing the accounts from the serving database.
+ * <p>
+ * The accounts and their withdrawal aggregates are streamed from one database cursor into an
+ * {@link AccountSnapshotWriter}, so memory is bounded by one row group. The snapshot is written to a temporary file
+ * next to the target, unique to the export, and moved over the target once complete, so a reader never sees a partial
+ * snapshot and concurrent exports of the same file never write into each other's temporary file.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class SnapshotExportServiceImpl implements SnapshotExportService {
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String FILE_NAME_SEPARATOR = ".";
+
+    private final TimeDepositsRepository timeDepositsRepository;
+    private final SnapshotProperties snapshotProperties;
+
+    /**
+     * Writes a point-in-time snapshot of every time deposit account, with the count, total and latest date of its
+     * withdrawals, to a file, replacing the previous snapshot.
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     *                Must not be null or empty.
+     * @param file    The snapshot file. Must not be null.
+     * @return The accounts and bytes written and the throughput of the export.
+     * @throws IllegalArgumentException If the provided traceId is null or empty, or the file is null.
+     * @throws TimeDepositException     If the accounts cannot be read or the file cannot be written.
+     */
+    @Override
+    public SnapshotExportResultDto exportAccountSnapshot(final String traceId, final Path file) {
+        if (traceId == null || traceId.isEmpty()) {
+            LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
+            throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
+        }
+        if (file == null) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Snapshot file is null.");
+            throw new IllegalArgumentException(ErrorMessages.SNAPSHOT_FILE_NULL.getMessage());
+        }
+
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Exporting the account snapshot to {}.", file);
+        final long start = System.nanoTime();
+        final Instant snapshotTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Path temporaryFile = null;
+        final long accounts;
+        final long bytes;
+        try {
+            temporaryFile = createSiblingTempFile(file);
+            try (AccountSnapshotWriter writer = AccountSnapshotWriter.open(temporaryFile, snapshotTime, snapshotProperties.getRowGroupSize())) {
+                accounts = timeDepositsRepository.streamAccountSnapshot(snapshotProperties.getFetchSize(), writer);
+                bytes = writer.finish();
+            }
+            moveOver(temporaryFile, file);
+        } catch (IOException | UncheckedIOException ex) {
+            deleteQuietly(traceId, temporaryFile);
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error writing the account snapshot to {}: {}", file, ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_EXPORTING_ACCOUNT_SNAPSHOT);
+        } catch (Exception ex) {
+            deleteQuietly(traceId, temporaryFile);
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error reading the accounts for the snapshot: {}, {}",
+                    ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_EXPORTING_ACCOUNT_SNAPSHOT);
+        }
+
+        final long elapsedNanos = System.nanoTime() - start;
+        final double rowsPerSecond = elapsedNanos > 0 ? accounts * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0;
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Exported {} accounts as of {} to {} ({} bytes) in {} ms ({} rows/sec).",
+                accounts, snapshotTime, file, bytes, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(rowsPerSecond));
+        return new SnapshotExportResultDto(file.toString(), snapshotTime, accounts, bytes, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                rowsPerSecond);
+    }
+
+    /**
+     * Creates a file unique to the calling export in the directory of the target, so it can be moved over the target
+     * and never collides with the temporary file of a concurrent export.
+     */
+    private static Path createSiblingTempFile(final Path target) throws IOException {
+        final Path absoluteTarget = target.toAbsolutePath();
+        return Files.createTempFile(absoluteTarget.getParent(), absoluteTarget.getFileName() + FILE_NAME_SEPARATOR, TEMPORARY_FILE_SUFFIX);
+    }
+
+    private static void moveOver(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(final String traceId, final Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error deleting the partial snapshot {}: {}", file, ex.getMessage());
+        }
+    }
+}
@@ -1,89 +1,196 @@
 package org.ikigaidigital.domain.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.accrual.AccrualProgress;
+import org.ikigaidigital.domain.component.accrual.AccrualRunner;
+import org.ikigaidigital.domain.component.cache.CacheStats;
+import org.ikigaidigital.domain.component.cache.TimeDepositListingCache;
+import org.ikigaidigital.domain.component.listing.ListingProperties;
+import org.ikigaidigital.domain.component.listing.PageCursor;
+import org.ikigaidigital.domain.component.projection.BalanceProjector;
+import org.ikigaidigital.domain.component.projection.ProjectionProperties;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
 import org.ikigaidigital.domain.constant.ErrorMessages;
 import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.exception.AccrualCancelledException;
 import org.ikigaidigital.domain.exception.DataConversionException;
 import org.ikigaidigital.domain.exception.TimeDepositException;
 import org.ikigaidigital.domain.mapper.TimeDepositMapper;
+import org.ikigaidigital.domain.model.dto.TimeDepositProjectionDto;
 import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.dto.WithdrawalsDto;
 import org.ikigaidigital.domain.model.entity.TimeDeposits;
+import org.ikigaidigital.domain.model.request.TimeDepositAccountsPageRequest;
 import org.ikigaidigital.domain.model.response.TimeDepositAccountsResponse;
+import org.ikigaidigital.domain.model.response.TimeDepositProjectionsResponse;
 import org.ikigaidigital.domain.service.TimeDepositService;
+import org.ikigaidigital.domain.utils.IntObjectHashMap;
 import org.ikigaidigital.domain.utils.LoggerUtils;
 import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+import org.ikigaidigital.repository.withdrawal.WithdrawalsRepository;
 import org.springframework.stereotype.Service;
 
-import java.math.RoundingMode;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class TimeDepositServiceImpl implements TimeDepositService {
-    private final TimeDepositCalculator timeDepositCalculator;
+    private static final String ALL_ACCOUNTS_CACHE_KEY = "ALL";
+    private static final String ALL_ACCOUNTS_WITH_WITHDRAWALS_CACHE_KEY = "ALL_WITH_WITHDRAWALS";
+    private static final LoggerUtils.Sampler CONVERSION_LOG_SAMPLER = LoggerUtils.sampleEvery(1000);
+
+    private final AccrualRunner accrualRunner;
     private final TimeDepositsRepository timeDepositsRepository;
+    private final WithdrawalsRepository withdrawalsRepository;
     private final TimeDepositMapper timeDepositsMapper;
+    private final ListingProperties listingProperties;
+    private final TimeDepositListingCache timeDepositListingCache;
+    private final BalanceProjector balanceProjector;
+    private final ProjectionProperties projectionProperties;
+
+    /**
+     * Updates all time deposit accounts for the current month.
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     *                Must not be null or empty.
+     * @throws IllegalArgumentException If the provided traceId is null or empty.
+     * @see #updateAllTimeDepositAccounts(String, YearMonth)
+     */
+    @Override
+    public void updateAllTimeDepositAccounts(final String traceId) {
+        updateAllTimeDepositAccounts(traceId, YearMonth.now());
+    }
 
     /**
-     * Updates all time deposit accounts by recalculating their balances and saving the updates to the repository.
+     * Updates all time deposit accounts for the given period by recalculating their balances and saving the updates
+     * to the repository, at most once per period.
      * <p>
-     * This method performs the following steps:
-     * <li> 1. Validates the provided traceId to ensure it is not null or empty. </li>
+     * The run is recorded in the accrual run ledger. Accounts are streamed through the accrual in chunks of
+     * {@code application.accrual.chunk-size}, and every chunk commits on its own together with the checkpoint of its
+     * partition, so no transaction spans the whole run. The ID space is split into {@code application.accrual.shards}
+     * partitions, or {@code parallelism} if greater, which every node sharing the database leases and accrues, up to
+     * {@code parallelism} at a time. This method performs the following steps:
+     * <li> 1. Validates the provided traceId and period. </li>
      * <li> 2. Logs the start of the update process. </li>
-     * <li> 3. Retrieves all time deposit accounts as DTOs. </li>
-     * <li> 4. Updates the balances of the retrieved accounts using the TimeDepositCalculator. </li>
-     * <li> 5. Saves the updated accounts back to the repository in batch. </li>
-     * <li> 6. Logs the completion of the update process. </li>
+     * <li> 3. Starts a run for the period, or resumes the unfinished run of the period from its checkpoints. A run
+     * that has already completed is not repeated. </li>
+     * <li> 4. Claims the unfinished partitions no other node holds a lease on and accrues their remaining part, on the
+     * calling thread or on {@code parallelism} workers; then waits for the partitions leased by other nodes, taking
+     * over any whose lease expires. </li>
+     * <li> 5. Marks the run completed once all its partitions have, or failed or cancelled if a partition of this node
+     * stopped, and logs the completion of the update process. </li>
      * </p>
      *
      * @param traceId A unique identifier for tracing the request through the system.
      *                Must not be null or empty.
-     * @throws IllegalArgumentException If the provided traceId is null or empty.
+     * @param period  The month to accrue interest for. Must not be null.
+     * @throws IllegalArgumentException If the provided traceId is null or empty, or the period is null.
      */
     @Override
-    @Transactional
-    public void updateAllTimeDepositAccounts(final String traceId) {
+    public void updateAllTimeDepositAccounts(final String traceId, final YearMonth period) {
+        updateAllTimeDepositAccounts(traceId, period, new AccrualProgress());
+    }
+
+    /**
+     * Updates all time deposit accounts for the given period, reporting to the given progress tracker.
+     * <p>
+     * Every committed chunk is added to the tracker, and its cancellation flag is checked before each chunk. A
+     * cancelled run keeps its committed chunks, is recorded as {@link AccrualRunStatus#CANCELLED} and resumes from
+     * its checkpoints on the next call for the period.
+     * </p>
+     *
+     * @param traceId  A unique identifier for tracing the request through the system.
+     *                 Must not be null or empty.
+     * @param period   The month to accrue interest for. Must not be null.
+     * @param progress The tracker to report the stage and committed rows to.
+     * @throws IllegalArgumentException  If the provided traceId is null or empty, or the period is null.
+     * @throws AccrualCancelledException If cancellation was requested through the tracker.
+     * @see #updateAllTimeDepositAccounts(String, YearMonth)
+     */
+    @Override
+    public void updateAllTimeDepositAccounts(final String traceId, final YearMonth period, final AccrualProgress progress) {
         if (traceId == null || traceId.isEmpty()) {
             LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
             throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
         }
-
-        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Retrieve and update all time deposit accounts.");
-
-        final List<TimeDepositsDto> timeDepositsDtoList;
-        try {
-            LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Fetching all time deposit accounts.");
-            timeDepositsDtoList = retrieveTimeDepositAccounts(traceId);
-        } catch (Exception ex) {
-            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error retrieving time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
-            throw new TimeDepositException(ErrorMessages.ERROR_RETRIEVING_TIME_DEPOSIT_ACCOUNTS);
+        if (period == null) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Accrual period is null.");
+            throw new IllegalArgumentException(ErrorMessages.ACCRUAL_PERIOD_NULL.getMessage());
         }
 
-        if (!timeDepositsDtoList.isEmpty()) {
-            try {
-                timeDepositCalculator.updateBalance(timeDepositsDtoList);
-                LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Updating time deposit accounts in the repository.");
-            } catch (Exception ex) {
-                LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error updating time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
-                throw new TimeDepositException(ErrorMessages.ERROR_COMPUTING_TIME_DEPOSIT_INTEREST);
-            }
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Retrieve and update all time deposit accounts for {}.", period);
+        accrualRunner.accrue(traceId, period, progress);
+    }
 
-            try {
-            timeDepositsRepository.batchUpdateTimeDepositAccounts(timeDepositsDtoList);
-            LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "All time deposit accounts update completed.");
-            } catch (Exception ex) {
-                LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error saving updated time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
-                throw new TimeDepositException(ErrorMessages.ERROR_UPDATING_TIME_DEPOSIT_ACCOUNTS);
-            }
+    /**
+     * Catches up on every month-end accrual missed up to the current month.
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     *                Must not be null or empty.
+     * @throws IllegalArgumentException If the provided traceId is null or empty.
+     * @see #catchUpTimeDepositAccounts(String, YearMonth)
+     */
+    @Override
+    public void catchUpTimeDepositAccounts(final String traceId) {
+        catchUpTimeDepositAccounts(traceId, YearMonth.now());
+    }
 
-            return;
+    /**
+     * Applies every period missing from the accrual run ledger up to the given period, reading and writing each
+     * account once per contiguous gap instead of once per missed period.
+     * <p>
+     * Every period from the first one the ledger covers up to {@code upTo} is checked, so a month missed before a
+     * later run, e.g. an August outage followed by a normal September run, is still found. Each contiguous gap is
+     * applied by one run recorded for its last period with the number of periods it applies, so an accrual of any of
+     * those periods is not repeated, and it is sharded, leased, checkpointed and resumed like any other run. Each
+     * period a run applies sees the deposits held {@code application.accrual.catch-up-days-per-period} days longer than
+     * the one before, by default none as in the month-end run, and the days seen by its last period are written back
+     * with the balance. This method performs the following steps:
+     * <li> 1. Validates the provided traceId and period. </li>
+     * <li> 2. Finishes every run up to {@code upTo} that stopped before completing, as its committed chunks already
+     * applied its periods to part of the book. </li>
+     * <li> 3. Collects the periods up to {@code upTo} no run covers, failing if there are more than
+     * {@code application.accrual.catch-up-max-periods} over all gaps, and accrues each contiguous gap in one run. Without any run in
+     * the ledger, only {@code upTo} is accrued. </li>
+     * </p>
+     *
+     * @param traceId A unique identifier for tracing the request through the system.
+     *                Must not be null or empty.
+     * @param upTo    The last month to accrue interest for. Must not be null.
+     * @throws IllegalArgumentException If the provided traceId is null or empty, or the period is null.
+     * @throws TimeDepositException     If more periods were missed than may be caught up, or the accrual fails.
+     */
+    @Override
+    public void catchUpTimeDepositAccounts(final String traceId, final YearMonth upTo) {
+        if (traceId == null || traceId.isEmpty()) {
+            LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
+            throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
+        }
+        if (upTo == null) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Accrual period is null.");
+            throw new IllegalArgumentException(ErrorMessages.ACCRUAL_PERIOD_NULL.getMessage());
         }
 
-        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "No time deposit accounts found to update.");
+        accrualRunner.catchUp(traceId, upTo);
+    }
+
+    /**
+     * Counts the accounts a full accrual run reads, i.e. the accounts that can accrue interest when
+     * {@code application.accrual.eligibility-pushdown} is set with an in-application engine, and all accounts otherwise.
+     *
+     * @return The number of accounts an accrual run processes.
+     */
+    @Override
+    public long countAccountsToAccrue() {
+        return accrualRunner.countAccountsToAccrue();
     }
 
     /**
@@ -92,39 +199,307 @@ public class TimeDepositServiceImpl implements TimeDepositService {
      * This method performs the following steps:
      * <li> 1. Validates the provided traceId to ensure it is not null or empty.</li>
      * <li> 2. Logs the start of the retrieval process.</li>
-     * <li> 3. Fetches all time deposit accounts as DTOs.</li>
-     * <li> 4. Populates the response object with the retrieved accounts and their count.</li>
+     * <li> 3. Returns the cached response if the time deposit data has not changed since it was built.</li>
+     * <li> 4. Otherwise fetches all time deposit accounts as DTOs, once for all concurrent callers.</li>
+     * <li> 5. Populates the response object with the retrieved accounts and their count, and caches it.</li>
      * </p>
      *
      * @param traceId A unique identifier for tracing the request through the system.
      *                Must not be null or empty.
      * @return A {@link TimeDepositAccountsResponse} object containing the list of time deposit accounts
-     *         and the total count of accounts.
+     *         and the total count of accounts. The response may be shared with other callers and must not be modified.
      * @throws IllegalArgumentException If the provided traceId is null or empty.
      */
     @Override
     public TimeDepositAccountsResponse getAllTimeDepositAccounts(final String traceId) {
+        return getAllTimeDepositAccounts(traceId, false);
+    }
+
+    /**
+     * Retrieves all time deposit accounts, optionally with their withdrawals, and returns them in a response object.
+     * <p>
+     * Withdrawals are attached with one set-based query per {@code application.listing.max-page-size} accounts,
+     * see {@link #attachWithdrawals(String, List)}; otherwise this behaves as {@link #getAllTimeDepositAccounts(String)}.
+     * </p>
+     *
+     * @param traceId            A unique identifier for tracing the request through the system.
+     *                           Must not be null or empty.
+     * @param includeWithdrawals Whether to attach the withdrawals of each account.
+     * @return A {@link TimeDepositAccountsResponse} object containing the list of time deposit accounts
+     *         and the total count of accounts. The response may be shared with other callers and must not be modified.
+     * @throws IllegalArgumentException If the provided traceId is null or empty.
+     */
+    @Override
+    public TimeDepositAccountsResponse getAllTimeDepositAccounts(final String traceId, final boolean includeWithdrawals) {
         if (traceId == null || traceId.isEmpty()) {
             LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
             throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
         }
 
-        final TimeDepositAccountsResponse response = new TimeDepositAccountsResponse();
-
         LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Fetching all time deposit accounts.");
 
+        return timeDepositListingCache.get(includeWithdrawals ? ALL_ACCOUNTS_WITH_WITHDRAWALS_CACHE_KEY : ALL_ACCOUNTS_CACHE_KEY, () -> {
+            final TimeDepositAccountsResponse response = new TimeDepositAccountsResponse();
+            try {
+                final List<TimeDepositsDto> timeDepositsDtoList = retrieveTimeDepositAccounts(traceId);
+                if (includeWithdrawals) {
+                    attachWithdrawals(traceId, timeDepositsDtoList);
+                }
+                response.setAccounts(timeDepositsDtoList);
+                response.setCount(timeDepositsDtoList.size());
+            } catch (Exception ex) {
+                LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error retrieving time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+                throw new TimeDepositException(ErrorMessages.ERROR_RETRIEVING_TIME_DEPOSIT_ACCOUNTS);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Retrieves one page of time deposit accounts, optionally filtered by plan type and balance range.
+     * <p>
+     * Pages are keyset-paginated on the account ID and the filters are pushed down into the repository query, so
+     * the cost of a page depends on its size rather than on the size of the book. This method performs the
+     * following steps:
+     * <li> 1. Validates the provided traceId, limit, cursor and balance range.</li>
+     * <li> 2. Resolves the page start from the cursor, or from afterId when no cursor is given.</li>
+     * <li> 3. Returns the cached page if the time deposit data has not changed since it was built.</li>
+     * <li> 4. Otherwise fetches one account more than the limit to find out whether another page follows.</li>
+     * <li> 5. Populates the response with the page, its count and, if another page follows, the next cursor.</li>
+     * <li> 6. If requested, attaches the withdrawals of the page with a single query.</li>
+     * </p>
+     *
+     * @param traceId     A unique identifier for tracing the request through the system.
+     *                    Must not be null or empty.
+     * @param pageRequest The pagination and filter parameters; the limit defaults to
+     *                    {@code application.listing.default-page-size} and is capped to
+     *                    {@code application.listing.max-page-size}.
+     * @return A {@link TimeDepositAccountsResponse} with the accounts of the page, their count and the cursor of
+     *         the next page, which is {@code null} on the last page.
+     * @throws IllegalArgumentException If the provided traceId is null or empty.
+     * @throws TimeDepositException     If the limit, cursor or balance range is invalid, or the retrieval fails.
+     */
+    @Override
+    public TimeDepositAccountsResponse getTimeDepositAccountsPage(final String traceId, final TimeDepositAccountsPageRequest pageRequest) {
+        if (traceId == null || traceId.isEmpty()) {
+            LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
+            throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
+        }
+        if (pageRequest.getLimit() != null && pageRequest.getLimit() <= 0) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Invalid page limit {}.", pageRequest.getLimit());
+            throw new TimeDepositException(ErrorMessages.INVALID_PAGE_LIMIT);
+        }
+        if (pageRequest.getMinBalance() != null && pageRequest.getMaxBalance() != null
+                && pageRequest.getMinBalance().compareTo(pageRequest.getMaxBalance()) > 0) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Invalid balance range {} to {}.", pageRequest.getMinBalance(), pageRequest.getMaxBalance());
+            throw new TimeDepositException(ErrorMessages.INVALID_BALANCE_RANGE);
+        }
+
+        final long afterId = pageRequest.getCursor() != null
+                ? PageCursor.decode(pageRequest.getCursor())
+                : pageRequest.getAfterId() != null ? pageRequest.getAfterId() : Long.MIN_VALUE;
+        final int limit = Math.min(pageRequest.getLimit() != null ? pageRequest.getLimit() : listingProperties.getDefaultPageSize(),
+                listingProperties.getMaxPageSize());
+        final String planType = pageRequest.getPlanType() != null ? pageRequest.getPlanType().toLowerCase(Locale.ROOT) : null;
+
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Fetching a page of at most {} time deposit accounts after ID {}.", limit, afterId);
+
+        final List<Object> cacheKey = Arrays.asList(afterId, limit, planType,
+                pageRequest.getMinBalance() != null ? pageRequest.getMinBalance().stripTrailingZeros() : null,
+                pageRequest.getMaxBalance() != null ? pageRequest.getMaxBalance().stripTrailingZeros() : null,
+                pageRequest.isIncludeWithdrawals());
+        final TimeDepositAccountsResponse response = timeDepositListingCache.get(cacheKey, () -> {
+            final TimeDepositAccountsResponse page = retrieveTimeDepositAccountsPage(traceId, afterId, planType,
+                    pageRequest.getMinBalance(), pageRequest.getMaxBalance(), limit);
+            if (pageRequest.isIncludeWithdrawals()) {
+                attachWithdrawals(traceId, page.getAccounts());
+            }
+            return page;
+        });
+
+        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Successfully fetched a page of {} time deposit accounts.", response.getCount());
+        return response;
+    }
+
+    /**
+     * Streams all time deposit accounts to a consumer straight from the database cursor.
+     * <p>
+     * Unlike {@link #getAllTimeDepositAccounts(String)}, no list of accounts is built: each row is handed to the
+     * consumer as soon as it is fetched, {@code application.listing.fetch-size} rows per round trip, so memory stays
+     * bounded and the caller can start writing its response while the query is still running.
+     * This method performs the following steps:
+     * <li> 1. Validates the provided traceId to ensure it is not null or empty.</li>
+     * <li> 2. Logs the start of the streaming process.</li>
+     * <li> 3. Streams every time deposit account, ordered by ID, to the consumer.</li>
+     * <li> 4. Returns the number of accounts streamed.</li>
+     * </p>
+     *
+     * @param traceId  A unique identifier for tracing the request through the system.
+     *                 Must not be null or empty.
+     * @param consumer Receives each time deposit account as a {@link TimeDepositsDto}.
+     * @return The number of time deposit accounts streamed.
+     * @throws IllegalArgumentException If the provided traceId is null or empty.
+     * @throws UncheckedIOException     If the consumer fails to write an account, e.g. because the client went away.
+     */
+    @Override
+    public long streamAllTimeDepositAccounts(final String traceId, final Consumer<TimeDepositsDto> consumer) {
+        if (traceId == null || traceId.isEmpty()) {
+            LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
+            throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
+        }
+
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Streaming all time deposit accounts.");
+
         try {
-            final List<TimeDepositsDto> timeDepositsDtoList = retrieveTimeDepositAccounts(traceId);
-            response.setAccounts(timeDepositsDtoList);
-            response.setCount(timeDepositsDtoList.size());
+            final long streamedCount = timeDepositsRepository.streamAllTimeDeposits(listingProperties.getFetchSize(), consumer);
+            LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Successfully streamed {} time deposit accounts.", streamedCount);
+            return streamedCount;
+        } catch (UncheckedIOException ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error writing streamed time deposit accounts: {}", ex.getMessage());
+            throw ex;
         } catch (Exception ex) {
-            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error retrieving time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error streaming time deposit accounts: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
             throw new TimeDepositException(ErrorMessages.ERROR_RETRIEVING_TIME_DEPOSIT_ACCOUNTS);
         }
+    }
 
+    /**
+     * @return The hit, miss, load-time and eviction statistics of the account listing cache.
+     */
+    @Override
+    public CacheStats getListingCacheStats() {
+        return timeDepositListingCache.stats();
+    }
+
+    /**
+     * Projects the balance of a page of time deposit accounts after a number of month-end accruals, without changing
+     * any.
+     * <p>
+     * The book is projected one keyset page at a time, so memory is bounded by the page size rather than by the size
+     * of the book; callers follow {@code nextCursor} to project all of it. The page comes from the same cached listing
+     * as {@link #getTimeDepositAccountsPage(String, TimeDepositAccountsPageRequest)}, and each account is projected in
+     * one step by the {@link BalanceProjector}; the month-end accrual of month {@code k} sees each deposit held
+     * {@code (k - 1) * application.projection.days-per-month} days longer than now.
+     * This method performs the following steps:
+     * <li> 1. Validates the provided traceId and the number of months.</li>
+     * <li> 2. Fetches the page of accounts, or takes it from the listing cache.</li>
+     * <li> 3. Projects the balance of every account of the page and returns the projections with their count and the
+     *    cursor of the next page.</li>
+     * </p>
+     *
+     * @param traceId     A unique identifier for tracing the request through the system.
+     *                    Must not be null or empty.
+     * @param months      The number of month-end accruals to project, from 1 to
+     *                    {@code application.projection.max-months}.
+     * @param pageRequest The page start and limit; filters are not applied. The limit defaults to
+     *                    {@code application.listing.default-page-size} and is capped to
+     *                    {@code application.listing.max-page-size}.
+     * @return A {@link TimeDepositProjectionsResponse} with one projection per account of the page, ordered by ID, and
+     *         the cursor of the next page, which is {@code null} on the last page.
+     * @throws IllegalArgumentException If the provided traceId is null or empty.
+     * @throws TimeDepositException     If the number of months, limit or cursor is invalid, or the retrieval or projection
+     *                                  fails.
+     */
+    @Override
+    public TimeDepositProjectionsResponse projectAllTimeDepositAccounts(final String traceId, final int months,
+                                                                        final TimeDepositAccountsPageRequest pageRequest) {
+        if (traceId == null || traceId.isEmpty()) {
+            LoggerUtils.logError("N/A", Sources.SERVICE_LAYER, "TraceId is null or empty.");
+            throw new IllegalArgumentException(ErrorMessages.TRACE_ID_NULL_OR_EMPTY.getMessage());
+        }
+        if (months < 1 || months > projectionProperties.getMaxMonths()) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Invalid projection months {}.", months);
+            throw new TimeDepositException(ErrorMessages.INVALID_PROJECTION_MONTHS);
+        }
+
+        final TimeDepositAccountsResponse page = getTimeDepositAccountsPage(traceId,
+                new TimeDepositAccountsPageRequest(pageRequest.getAfterId(), pageRequest.getCursor(), pageRequest.getLimit(), null, null, null));
+        LoggerUtils.logInfo(traceId, Sources.SERVICE_LAYER, "Projecting {} time deposit accounts over {} months.", page.getCount(), months);
+        try {
+            final List<TimeDepositProjectionDto> projections = balanceProjector.project(page.getAccounts(), months);
+            final TimeDepositProjectionsResponse response = new TimeDepositProjectionsResponse();
+            response.setMonths(months);
+            response.setProjections(projections);
+            response.setCount(projections.size());
+            response.setNextCursor(page.getNextCursor());
+            return response;
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error projecting time deposit balances: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_COMPUTING_TIME_DEPOSIT_INTEREST);
+        }
+    }
+
+    /**
+     * Reads one page of time deposit accounts from the repository and builds its response.
+     *
+     * @param traceId    A unique identifier for tracing the request through the system.
+     * @param afterId    The exclusive lower bound of the page.
+     * @param planType   The lower-cased plan type to match against the generated {@code PLAN_TYPE_KEY} column, so that
+     *                   case is ignored, or {@code null} for any plan.
+     * @param minBalance The inclusive minimum balance, or {@code null}.
+     * @param maxBalance The inclusive maximum balance, or {@code null}.
+     * @param limit      The page size.
+     * @return The {@link TimeDepositAccountsResponse} of the page, with the next cursor if another page follows.
+     */
+    private TimeDepositAccountsResponse retrieveTimeDepositAccountsPage(final String traceId, final long afterId, final String planType,
+                                                                        final BigDecimal minBalance, final BigDecimal maxBalance, final int limit) {
+        final List<TimeDepositsDto> timeDepositsDtoList;
+        try {
+            timeDepositsDtoList = timeDepositsRepository.findTimeDepositsPage(afterId, planType, minBalance, maxBalance, limit + 1);
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error retrieving time deposit accounts page: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RETRIEVING_TIME_DEPOSIT_ACCOUNTS);
+        }
+
+        final TimeDepositAccountsResponse response = new TimeDepositAccountsResponse();
+        if (timeDepositsDtoList.size() > limit) {
+            final List<TimeDepositsDto> page = timeDepositsDtoList.subList(0, limit);
+            response.setAccounts(page);
+            response.setNextCursor(PageCursor.encode(page.get(limit - 1).getId()));
+        } else {
+            response.setAccounts(timeDepositsDtoList);
+        }
+        response.setCount(response.getAccounts().size());
         return response;
     }
 
+    /**
+     * Attaches the withdrawals of each account without an N+1 query pattern.
+     * <p>
+     * The accounts are processed in batches of {@code application.listing.max-page-size}. For each batch the
+     * withdrawals of all its accounts are loaded with one {@code IN} query that projects straight into
+     * {@link WithdrawalsDto}, so no entities are hydrated, and grouped by account ID in an {@link IntObjectHashMap}.
+     * A page therefore costs exactly one withdrawals query. Accounts without withdrawals get an empty list.
+     * </p>
+     *
+     * @param traceId             A unique identifier for tracing the request through the system.
+     * @param timeDepositsDtoList The accounts to attach withdrawals to.
+     */
+    private void attachWithdrawals(final String traceId, final List<TimeDepositsDto> timeDepositsDtoList) {
+        final int batchSize = listingProperties.getMaxPageSize();
+        try {
+            for (int from = 0; from < timeDepositsDtoList.size(); from += batchSize) {
+                final List<TimeDepositsDto> batch = timeDepositsDtoList.subList(from, Math.min(from + batchSize, timeDepositsDtoList.size()));
+                final List<Integer> timeDepositIds = new ArrayList<>(batch.size());
+                for (TimeDepositsDto timeDepositsDto : batch) {
+                    timeDepositIds.add(timeDepositsDto.getId());
+                }
+
+                final IntObjectHashMap<List<WithdrawalsDto>> withdrawalsByTimeDepositId = new IntObjectHashMap<>(batch.size());
+                for (WithdrawalsDto withdrawal : withdrawalsRepository.findWithdrawalsByTimeDepositIds(timeDepositIds)) {
+                    withdrawalsByTimeDepositId.computeIfAbsent(withdrawal.getTimeDepositId(), id -> new ArrayList<>()).add(withdrawal);
+                }
+                for (TimeDepositsDto timeDepositsDto : batch) {
+                    timeDepositsDto.setWithdrawals(withdrawalsByTimeDepositId.getOrDefault(timeDepositsDto.getId(), List.of()));
+                }
+            }
+            LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Attached withdrawals to {} time deposit accounts.", timeDepositsDtoList.size());
+        } catch (Exception ex) {
+            LoggerUtils.logError(traceId, Sources.SERVICE_LAYER, "Error retrieving withdrawals: {}, {}", ex.getClass().getSimpleName(), ex.getMessage());
+            throw new TimeDepositException(ErrorMessages.ERROR_RETRIEVING_TIME_DEPOSIT_ACCOUNTS);
+        }
+    }
+
     /**
      * Retrieves all time deposit accounts from the repository and converts them to DTOs.
      *
@@ -176,7 +551,7 @@ public class TimeDepositServiceImpl implements TimeDepositService {
         }
         // Validation passed, delegate to mapper
         TimeDepositsDto dto = timeDepositsMapper.toDto(timeDeposit);
-        LoggerUtils.logDebug(traceId, Sources.SERVICE_LAYER, "Time Deposit entity converted {}.", dto.toString());
+        LoggerUtils.logDebugSampled(CONVERSION_LOG_SAMPLER, traceId, Sources.SERVICE_LAYER, "Time Deposit entity converted {}.", dto);
         return dto;
     }
 }
@@ -0,0 +1,126 @@
+package org.ikigaidigital.domain.utils;
+
+import java.util.function.IntFunction;
+
+/**
+ * Minimal open-addressing hash map from {@code int} keys to objects.
+ * <p>
+ * Keys are stored unboxed in a flat array with linear probing, so grouping rows by an integer ID allocates no
+ * {@link Integer} keys and no per-entry nodes. Removal is not supported. Not thread-safe.
+ * </p>
+ *
+ * @param <V> The value type; values must not be {@code null}.
+ */
+public final class IntObjectHashMap<V> {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * @param expectedSize The number of keys expected, used to size the table so that it does not need to grow.
+     */
+    public IntObjectHashMap(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(2, (int) Math.ceil(Math.max(1, expectedSize) / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * @param key The key to look up.
+     * @return The value mapped to the key, or {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final int key) {
+        final int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param key          The key to look up.
+     * @param defaultValue The value to return if the key is absent.
+     * @return The value mapped to the key, or {@code defaultValue} if there is none.
+     */
+    public V getOrDefault(final int key, final V defaultValue) {
+        final V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Maps the key to the value, replacing any previous value.
+     *
+     * @param key   The key.
+     * @param value The value; must not be {@code null}.
+     */
+    public void put(final int key, final V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        final int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            resize();
+        }
+    }
+
+    /**
+     * Returns the value mapped to the key, creating and mapping it first if the key is absent.
+     *
+     * @param key             The key.
+     * @param mappingFunction Creates the value for an absent key; must not return {@code null}.
+     * @return The existing or newly created value.
+     */
+    public V computeIfAbsent(final int key, final IntFunction<V> mappingFunction) {
+        V value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * @return The number of keys in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new Object[oldValues.length << 1];
+        resizeThreshold = (int) (keys.length * LOAD_FACTOR);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                @SuppressWarnings("unchecked")
+                final V value = (V) oldValues[i];
+                put(oldKeys[i], value);
+            }
+        }
+    }
+
+    private static int mix(final int key) {
+        final int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -2,48 +2,227 @@ package org.ikigaidigital.domain.utils;
 
 import lombok.extern.slf4j.Slf4j;
 import org.ikigaidigital.domain.constant.Sources;
+import org.slf4j.MDC;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logging facade that tags every line with a trace ID and a {@link Sources} value.
+ * <p>
+ * The trace ID and source are put into the MDC under {@link #MDC_TRACE_ID} and {@link #MDC_SOURCE} for the duration
+ * of the call, and rendered by the {@code logging.pattern.correlation} pattern, instead of being concatenated into
+ * the message. Messages use SLF4J {@code {}} placeholders and are only formatted by the logging backend:
+ * <li> 1. The level is checked first, so a disabled level costs one check and no formatting or MDC work. </li>
+ * <li> 2. Arguments are passed through as objects, so their {@code toString} only runs if the line is written. </li>
+ * <li> 3. Per-row messages can be thinned with a {@link Sampler}. </li>
+ * </p>
+ */
 @Slf4j
 public final class LoggerUtils {
+    public static final String MDC_TRACE_ID = "traceId";
+    public static final String MDC_SOURCE = "source";
+
+    private static final String NO_TRACE_ID = "No trace ID";
+    private static final String NO_SOURCE = "No source";
+    private static final String NO_MESSAGE = "No message provided";
+    private static final String NULL_ARGUMENT = "NULL";
+
+    /**
+     * Logs an info message without arguments. Like {@code logDebug}, {@code logInfo} and {@code logError} have
+     * fixed-arity overloads for up to two arguments, so that the common call sites do not allocate a varargs array.
+     * A {@code null} argument is rendered as {@code NULL}, as it always has been.
+     */
+    public static void logInfo(final String traceId, final Sources source, final String message) {
+        info(traceId, source, (m, a1, a2) -> log.info(m), message, null, null);
+    }
+
+    public static void logInfo(final String traceId, final Sources source, final String message, final Object arg) {
+        info(traceId, source, (m, a1, a2) -> log.info(m, nullSafe(a1)), message, arg, null);
+    }
+
+    public static void logInfo(final String traceId, final Sources source, final String message, final Object arg1,
+                               final Object arg2) {
+        info(traceId, source, (m, a1, a2) -> log.info(m, nullSafe(a1), nullSafe(a2)), message, arg1, arg2);
+    }
+
     public static void logInfo(final String traceId, final Sources source, final String message, final Object... args) {
-        log.info(formatLogMessage(traceId, source, message, args));
+        info(traceId, source, (m, a1, a2) -> log.info(m, nullSafe((Object[]) a1)), message, args, null);
+    }
+
+    public static void logError(final String traceId, final Sources source, final String message) {
+        error(traceId, source, (m, a1, a2) -> log.error(m), message, null, null);
+    }
+
+    public static void logError(final String traceId, final Sources source, final String message, final Object arg) {
+        error(traceId, source, (m, a1, a2) -> log.error(m, nullSafe(a1)), message, arg, null);
+    }
+
+    public static void logError(final String traceId, final Sources source, final String message, final Object arg1,
+                                final Object arg2) {
+        error(traceId, source, (m, a1, a2) -> log.error(m, nullSafe(a1), nullSafe(a2)), message, arg1, arg2);
     }
 
     public static void logError(final String traceId, final Sources source, final String message, final Object... args) {
-        log.error(formatLogMessage(traceId, source, message, args));
+        error(traceId, source, (m, a1, a2) -> log.error(m, nullSafe((Object[]) a1)), message, args, null);
+    }
+
+    /**
+     * Logs a debug message without arguments. The fixed-arity overloads avoid allocating a varargs array at the
+     * call site, which matters for debug lines on hot paths.
+     */
+    public static void logDebug(final String traceId, final Sources source, final String message) {
+        debug(traceId, source, (m, a1, a2) -> log.debug(m), message, null, null);
+    }
+
+    public static void logDebug(final String traceId, final Sources source, final String message, final Object arg) {
+        debug(traceId, source, (m, a1, a2) -> log.debug(m, nullSafe(a1)), message, arg, null);
+    }
+
+    public static void logDebug(final String traceId, final Sources source, final String message, final Object arg1,
+                                final Object arg2) {
+        debug(traceId, source, (m, a1, a2) -> log.debug(m, nullSafe(a1), nullSafe(a2)), message, arg1, arg2);
     }
 
     public static void logDebug(final String traceId, final Sources source, final String message, final Object... args) {
-        log.debug(formatLogMessage(traceId, source, message, args));
-    }
-
-    private static String formatLogMessage(final String traceId, final Sources source, final String message, final Object... args) {
-        final StringBuilder logMessage = new StringBuilder();
-        String formattedMessage = message != null ? message : "No message provided";
-
-        if (args != null && args.length > 0 && message != null) {
-            int argIndex = 0;
-            StringBuilder sb = new StringBuilder();
-            int start = 0;
-            int idx;
-            while ((idx = message.indexOf("{}", start)) != -1) {
-                sb.append(message, start, idx);
-                if (argIndex < args.length) {
-                    sb.append(args[argIndex] != null ? args[argIndex].toString() : "NULL");
-                } else {
-                    sb.append("NULL");
+        debug(traceId, source, (m, a1, a2) -> log.debug(m, nullSafe((Object[]) a1)), message, args, null);
+    }
+
+    /**
+     * Logs a debug message only for the calls selected by the sampler, e.g. one row in a thousand. The level is
+     * checked before the sampler, so a disabled level does not advance the sampler's counter.
+     *
+     * @param sampler  The {@link Sampler} shared by the call site.
+     * @param traceId  The trace ID for the MDC.
+     * @param source   The {@link Sources} value for the MDC.
+     * @param message  The message with {@code {}} placeholders.
+     * @param arg      The placeholder argument, formatted only when the line is written.
+     */
+    public static void logDebugSampled(final Sampler sampler, final String traceId, final Sources source,
+                                       final String message, final Object arg) {
+        if (log.isDebugEnabled() && sampler.sample()) {
+            logDebug(traceId, source, message, arg);
+        }
+    }
+
+    /**
+     * Checks whether debug logging is enabled, for callers that need to compute an argument before logging it.
+     *
+     * @return {@code true} if debug lines are written.
+     */
+    public static boolean isDebugEnabled() {
+        return log.isDebugEnabled();
+    }
+
+    /**
+     * Creates a sampler that selects the first call and every {@code every}-th call after it.
+     *
+     * @param every The sampling interval; one or less selects every call.
+     * @return A new {@link Sampler}, to be kept in a field at the call site.
+     */
+    public static Sampler sampleEvery(final int every) {
+        return new Sampler(every);
+    }
+
+    private static void info(final String traceId, final Sources source, final LogCall call, final String message,
+                             final Object arg1, final Object arg2) {
+        if (log.isInfoEnabled()) {
+            write(traceId, source, call, message, arg1, arg2);
+        }
+    }
+
+    private static void error(final String traceId, final Sources source, final LogCall call, final String message,
+                              final Object arg1, final Object arg2) {
+        if (log.isErrorEnabled()) {
+            write(traceId, source, call, message, arg1, arg2);
+        }
+    }
+
+    private static void debug(final String traceId, final Sources source, final LogCall call, final String message,
+                              final Object arg1, final Object arg2) {
+        if (log.isDebugEnabled()) {
+            write(traceId, source, call, message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Runs the SLF4J call with the trace ID and source in the MDC, and puts back whatever the MDC held before.
+     */
+    private static void write(final String traceId, final Sources source, final LogCall call, final String message,
+                              final Object arg1, final Object arg2) {
+        final Object[] previous = putContext(traceId, source);
+        try {
+            call.log(message != null ? message : NO_MESSAGE, arg1, arg2);
+        } finally {
+            restoreContext(previous);
+        }
+    }
+
+    private static Object nullSafe(final Object arg) {
+        return arg != null ? arg : NULL_ARGUMENT;
+    }
+
+    private static Object[] nullSafe(final Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] safeArgs = args;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] == null) {
+                if (safeArgs == args) {
+                    safeArgs = args.clone();
                 }
-                argIndex++;
-                start = idx + 2;
+                safeArgs[i] = NULL_ARGUMENT;
             }
-            sb.append(message.substring(start));
-            formattedMessage = sb.toString();
         }
+        return safeArgs;
+    }
+
+    private static Object[] putContext(final String traceId, final Sources source) {
+        final Object[] previous = {MDC.get(MDC_TRACE_ID), MDC.get(MDC_SOURCE)};
+        MDC.put(MDC_TRACE_ID, traceId != null ? traceId : NO_TRACE_ID);
+        MDC.put(MDC_SOURCE, source != null ? source.source : NO_SOURCE);
+        return previous;
+    }
+
+    private static void restoreContext(final Object[] previous) {
+        restore(MDC_TRACE_ID, (String) previous[0]);
+        restore(MDC_SOURCE, (String) previous[1]);
+    }
+
+    private static void restore(final String key, final String value) {
+        if (value == null) {
+            MDC.remove(key);
+        } else {
+            MDC.put(key, value);
+        }
+    }
+
+    /**
+     * One SLF4J call of a given level and arity. The overloads pass non-capturing lambdas and hand the arguments
+     * through, so a call allocates nothing when its level is disabled; the varargs overloads pass their array as
+     * {@code arg1}.
+     */
+    @FunctionalInterface
+    private interface LogCall {
+        void log(String message, Object arg1, Object arg2);
+    }
 
-        logMessage.append(traceId != null ? traceId + " - " : "No trace ID - ")
-                .append(source != null ? source.source + " - " : "No source - ")
-                .append(formattedMessage);
+    /**
+     * Thread-safe one-in-N selector for per-row log lines.
+     */
+    public static final class Sampler {
+        private final int every;
+        private final AtomicLong calls = new AtomicLong();
 
-        return logMessage.toString();
+        private Sampler(final int every) {
+            this.every = Math.max(1, every);
+        }
+
+        /**
+         * @return {@code true} for the first call and every {@code every}-th call after it.
+         */
+        public boolean sample() {
+            return every == 1 || calls.getAndIncrement() % every == 0;
+        }
     }
 }
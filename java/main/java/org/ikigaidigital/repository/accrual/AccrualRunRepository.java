@@ -0,0 +1,36 @@
+package org.ikigaidigital.repository.accrual;
+
+import org.ikigaidigital.domain.component.accrual.AccrualPartition;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.model.dto.AccrualRunDto;
+import org.ikigaidigital.domain.model.dto.AccrualRunPartitionDto;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccrualRunRepository {
+    Optional<AccrualRunDto> findRunByPeriod(final YearMonth period);
+
+    List<AccrualRunDto> findAllRuns();
+
+    AccrualRunDto createRun(final YearMonth period, final int periods, final List<AccrualPartition> partitions);
+
+    List<AccrualRunPartitionDto> findPartitions(final long runId);
+
+    Optional<AccrualRunPartitionDto> claimPartition(final long runId, final String owner, final Duration leaseDuration);
+
+    boolean renewLease(final long runId, final int partitionNo, final long leaseToken, final Duration leaseDuration);
+
+    void releasePartition(final long runId, final int partitionNo, final long leaseToken);
+
+    boolean advanceCheckpoint(final long runId, final int partitionNo, final long leaseToken, final long expectedLastCommittedId,
+                              final long lastCommittedId, final int updatedRows);
+
+    boolean completePartition(final long runId, final int partitionNo, final long leaseToken);
+
+    void updateRunStatus(final long runId, final AccrualRunStatus status);
+
+    boolean completeRunIfPartitionsCompleted(final long runId);
+}
@@ -0,0 +1,279 @@
+package org.ikigaidigital.repository.accrual;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.accrual.AccrualPartition;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.model.dto.AccrualRunDto;
+import org.ikigaidigital.domain.model.dto.AccrualRunPartitionDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to the accrual run ledger: one {@code ACCRUAL_RUNS} row per run of one or more periods and one
+ * {@code ACCRUAL_RUN_PARTITIONS} row per ID partition, holding the last committed ID of that partition and the lease
+ * of the node accruing it.
+ * <p>
+ * Lease times are taken from the clock of the calling node, so the clocks of the nodes sharing the ledger are
+ * expected to agree to well within the lease duration.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccrualRunRepositoryImpl implements AccrualRunRepository {
+    private static final RowMapper<AccrualRunDto> ACCRUAL_RUN_DTO_ROW_MAPPER = (rs, rowNum) -> new AccrualRunDto(
+            rs.getLong("id"),
+            YearMonth.parse(rs.getString("period")),
+            rs.getInt("periods"),
+            AccrualRunStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("started_at").toLocalDateTime(),
+            rs.getTimestamp("completed_at") != null ? rs.getTimestamp("completed_at").toLocalDateTime() : null,
+            rs.getLong("updated_count"));
+
+    private static final RowMapper<AccrualRunPartitionDto> ACCRUAL_RUN_PARTITION_DTO_ROW_MAPPER = (rs, rowNum) -> new AccrualRunPartitionDto(
+            rs.getLong("run_id"),
+            rs.getInt("partition_no"),
+            rs.getLong("after_id"),
+            rs.getLong("up_to_id"),
+            rs.getLong("last_committed_id"),
+            rs.getLong("updated_count"),
+            AccrualRunStatus.valueOf(rs.getString("status")),
+            rs.getString("lease_owner"),
+            rs.getTimestamp("lease_expires_at") != null ? rs.getTimestamp("lease_expires_at").toLocalDateTime() : null,
+            rs.getLong("lease_token"));
+
+    private static final String PARTITION_COLUMNS =
+            "run_id, partition_no, after_id, up_to_id, last_committed_id, updated_count, status, lease_owner, lease_expires_at, lease_token";
+
+    private static final String RUN_COLUMNS = "id, period, periods, status, started_at, completed_at, updated_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds the run that applies the period, either as its last period or as one of the earlier periods a catch-up
+     * run applied with it. Periods are stored as {@code yyyy-MM}, so they compare in calendar order as text.
+     *
+     * @param period The month to find the run of.
+     * @return The run applying the period, or empty if none was started.
+     */
+    @Override
+    public Optional<AccrualRunDto> findRunByPeriod(final YearMonth period) {
+        final String sql = "SELECT " + RUN_COLUMNS + " FROM accrual_runs WHERE period >= ? ORDER BY period";
+        return jdbcTemplate.query(sql, ACCRUAL_RUN_DTO_ROW_MAPPER, period.toString()).stream()
+                .filter(run -> !run.getPeriod().minusMonths(run.getPeriods() - 1L).isAfter(period))
+                .findFirst();
+    }
+
+    /**
+     * Finds every run in the ledger, whatever its status, in period order. The ledger holds one row per run, i.e. about
+     * twelve a year, so it is read whole.
+     *
+     * @return The runs ordered by period, or an empty list if the ledger is empty.
+     */
+    @Override
+    public List<AccrualRunDto> findAllRuns() {
+        final String sql = "SELECT " + RUN_COLUMNS + " FROM accrual_runs ORDER BY period";
+        return jdbcTemplate.query(sql, ACCRUAL_RUN_DTO_ROW_MAPPER);
+    }
+
+    /**
+     * Records a new {@link AccrualRunStatus#RUNNING} run for the period together with its partitions, each with a
+     * checkpoint at the start of its range. The unique constraint on the period makes a concurrent second start
+     * fail with a {@link org.springframework.dao.DuplicateKeyException}.
+     *
+     * @param period     The month the run accrues interest for, the last of its periods.
+     * @param periods    The number of consecutive months the run applies, ending at {@code period}; at least 1.
+     * @param partitions The ID partitions of the run.
+     * @return The created run.
+     */
+    @Override
+    @Transactional
+    public AccrualRunDto createRun(final YearMonth period, final int periods, final List<AccrualPartition> partitions) {
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO accrual_runs (period, periods, status, started_at) VALUES (?, ?, ?, ?)", new String[]{"ID"});
+            ps.setString(1, period.toString());
+            ps.setInt(2, periods);
+            ps.setString(3, AccrualRunStatus.RUNNING.name());
+            ps.setTimestamp(4, Timestamp.valueOf(startedAt));
+            return ps;
+        }, keyHolder);
+        final long runId = keyHolder.getKey().longValue();
+
+        final String sql = """
+                INSERT INTO accrual_run_partitions (run_id, partition_no, after_id, up_to_id, last_committed_id, status)
+                VALUES (?, ?, ?, ?, ?, ?)""";
+        for (int partitionNo = 0; partitionNo < partitions.size(); partitionNo++) {
+            final AccrualPartition partition = partitions.get(partitionNo);
+            jdbcTemplate.update(sql, runId, partitionNo, partition.getAfterId(), partition.getUpToId(), partition.getAfterId(),
+                    AccrualRunStatus.RUNNING.name());
+        }
+        return new AccrualRunDto(runId, period, periods, AccrualRunStatus.RUNNING, startedAt, null, 0);
+    }
+
+    @Override
+    public List<AccrualRunPartitionDto> findPartitions(final long runId) {
+        final String sql = "SELECT " + PARTITION_COLUMNS + " FROM accrual_run_partitions WHERE run_id = ? ORDER BY partition_no";
+        return jdbcTemplate.query(sql, ACCRUAL_RUN_PARTITION_DTO_ROW_MAPPER, runId);
+    }
+
+    /**
+     * Leases the first unfinished partition of a run that no node holds, either because it was never claimed or
+     * released, or because the lease of its node expired.
+     * <p>
+     * Each candidate is claimed with a compare-and-set on its lease token, which the claim increments, so of several
+     * nodes claiming the same partition exactly one succeeds and the others move on to the next candidate. The
+     * compare-and-set also requires the lease to still be free or expired, so a lease renewed between the select and
+     * the claim is not taken over.
+     * </p>
+     *
+     * @param runId         The run to claim a partition of.
+     * @param owner         The ID of the claiming node.
+     * @param leaseDuration How long the lease lasts unless renewed.
+     * @return The claimed partition with its new lease, or empty if every unfinished partition is leased.
+     */
+    @Override
+    public Optional<AccrualRunPartitionDto> claimPartition(final long runId, final String owner, final Duration leaseDuration) {
+        final LocalDateTime now = LocalDateTime.now();
+        final String selectSql = """
+                SELECT %s FROM accrual_run_partitions
+                WHERE run_id = ? AND status <> ? AND (lease_expires_at IS NULL OR lease_expires_at <= ?)
+                ORDER BY partition_no""".formatted(PARTITION_COLUMNS);
+        final List<AccrualRunPartitionDto> candidates = jdbcTemplate.query(selectSql, ACCRUAL_RUN_PARTITION_DTO_ROW_MAPPER,
+                runId, AccrualRunStatus.COMPLETED.name(), Timestamp.valueOf(now));
+
+        final LocalDateTime leaseExpiresAt = now.plus(leaseDuration);
+        final String claimSql = """
+                UPDATE accrual_run_partitions SET lease_owner = ?, lease_expires_at = ?, lease_token = lease_token + 1
+                WHERE run_id = ? AND partition_no = ? AND lease_token = ? AND status <> ?
+                  AND (lease_expires_at IS NULL OR lease_expires_at <= ?)""";
+        for (AccrualRunPartitionDto candidate : candidates) {
+            if (jdbcTemplate.update(claimSql, owner, Timestamp.valueOf(leaseExpiresAt), runId, candidate.getPartitionNo(),
+                    candidate.getLeaseToken(), AccrualRunStatus.COMPLETED.name(), Timestamp.valueOf(now)) == 1) {
+                candidate.setLeaseOwner(owner);
+                candidate.setLeaseExpiresAt(leaseExpiresAt);
+                candidate.setLeaseToken(candidate.getLeaseToken() + 1);
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Extends the lease of a partition, provided it has not been claimed by another node since.
+     *
+     * @param runId         The run of the partition.
+     * @param partitionNo   The partition number within the run.
+     * @param leaseToken    The token the lease was claimed with.
+     * @param leaseDuration How long the lease lasts from now.
+     * @return {@code true} if the lease was extended, {@code false} if it has been taken over.
+     */
+    @Override
+    public boolean renewLease(final long runId, final int partitionNo, final long leaseToken, final Duration leaseDuration) {
+        final String sql = "UPDATE accrual_run_partitions SET lease_expires_at = ? WHERE run_id = ? AND partition_no = ? AND lease_token = ?";
+        return jdbcTemplate.update(sql, Timestamp.valueOf(LocalDateTime.now().plus(leaseDuration)), runId, partitionNo, leaseToken) == 1;
+    }
+
+    /**
+     * Gives up the lease of a partition, so that any node can claim it right away instead of after the lease expired.
+     * Does nothing if the lease has been taken over.
+     */
+    @Override
+    public void releasePartition(final long runId, final int partitionNo, final long leaseToken) {
+        final String sql = """
+                UPDATE accrual_run_partitions SET lease_owner = NULL, lease_expires_at = NULL
+                WHERE run_id = ? AND partition_no = ? AND lease_token = ?""";
+        jdbcTemplate.update(sql, runId, partitionNo, leaseToken);
+    }
+
+    /**
+     * Moves the checkpoint of a partition forward, provided it is still where the caller read it.
+     * <p>
+     * Must run in the same transaction as the balance updates of the chunk, so that the chunk and its checkpoint
+     * commit or roll back together. The compare-and-set on {@code last_committed_id} makes a second worker that
+     * accrued the same chunk lose the race instead of applying interest twice, and the lease token fences off a node
+     * whose lease was taken over.
+     * </p>
+     *
+     * @param runId                   The run of the partition.
+     * @param partitionNo             The partition number within the run.
+     * @param leaseToken              The token the partition was claimed with.
+     * @param expectedLastCommittedId The checkpoint the chunk was read after.
+     * @param lastCommittedId         The highest ID of the chunk.
+     * @param updatedRows             The number of accounts in the chunk.
+     * @return {@code true} if the checkpoint moved, {@code false} if it no longer matched the expected value or the
+     * lease has been taken over.
+     */
+    @Override
+    public boolean advanceCheckpoint(final long runId, final int partitionNo, final long leaseToken, final long expectedLastCommittedId,
+                                     final long lastCommittedId, final int updatedRows) {
+        final String sql = """
+                UPDATE accrual_run_partitions SET last_committed_id = ?, updated_count = updated_count + ?
+                WHERE run_id = ? AND partition_no = ? AND lease_token = ? AND last_committed_id = ?""";
+        return jdbcTemplate.update(sql, lastCommittedId, updatedRows, runId, partitionNo, leaseToken, expectedLastCommittedId) == 1;
+    }
+
+    /**
+     * Marks a partition completed and releases its lease, provided the lease has not been taken over.
+     *
+     * @return {@code true} if the partition was completed under this lease.
+     */
+    @Override
+    public boolean completePartition(final long runId, final int partitionNo, final long leaseToken) {
+        final String sql = """
+                UPDATE accrual_run_partitions SET status = ?, lease_owner = NULL, lease_expires_at = NULL
+                WHERE run_id = ? AND partition_no = ? AND lease_token = ?""";
+        return jdbcTemplate.update(sql, AccrualRunStatus.COMPLETED.name(), runId, partitionNo, leaseToken) == 1;
+    }
+
+    /**
+     * Sets the status of a run. Completing a run also stamps its completion time and totals the accounts updated
+     * by its partitions, including those committed before a restart.
+     *
+     * @param runId  The run to update.
+     * @param status The new status.
+     */
+    @Override
+    public void updateRunStatus(final long runId, final AccrualRunStatus status) {
+        if (status == AccrualRunStatus.COMPLETED) {
+            final String sql = """
+                    UPDATE accrual_runs SET status = ?, completed_at = ?,
+                        updated_count = (SELECT COALESCE(SUM(updated_count), 0) FROM accrual_run_partitions WHERE run_id = ?)
+                    WHERE id = ?""";
+            jdbcTemplate.update(sql, status.name(), Timestamp.valueOf(LocalDateTime.now()), runId, runId);
+            return;
+        }
+        jdbcTemplate.update("UPDATE accrual_runs SET status = ? WHERE id = ?", status.name(), runId);
+    }
+
+    /**
+     * Completes a run once all of its partitions have completed, whichever node accrued them. The first node to see
+     * the last partition completed stamps the run; later calls leave it unchanged.
+     *
+     * @param runId The run to complete.
+     * @return {@code true} if this call completed the run.
+     */
+    @Override
+    public boolean completeRunIfPartitionsCompleted(final long runId) {
+        final String sql = """
+                UPDATE accrual_runs SET status = ?, completed_at = ?,
+                    updated_count = (SELECT COALESCE(SUM(updated_count), 0) FROM accrual_run_partitions WHERE run_id = ?)
+                WHERE id = ? AND status <> ?
+                  AND NOT EXISTS (SELECT 1 FROM accrual_run_partitions WHERE run_id = ? AND status <> ?)""";
+        return jdbcTemplate.update(sql, AccrualRunStatus.COMPLETED.name(), Timestamp.valueOf(LocalDateTime.now()), runId, runId,
+                AccrualRunStatus.COMPLETED.name(), runId, AccrualRunStatus.COMPLETED.name()) == 1;
+    }
+}
@@ -0,0 +1,17 @@
+package org.ikigaidigital.repository.importer;
+
+import org.ikigaidigital.domain.component.importer.TimeDepositImportRows;
+import org.ikigaidigital.domain.component.importer.WithdrawalImportRows;
+
+public interface BulkImportRepository {
+    String TIME_DEPOSITS_TABLE = "TIME_DEPOSITS";
+    String WITHDRAWALS_TABLE = "WITHDRAWALS";
+
+    int insertTimeDeposits(final TimeDepositImportRows rows, final int rowsPerStatement);
+
+    int insertWithdrawals(final WithdrawalImportRows rows, final int rowsPerStatement);
+
+    void dropSecondaryIndexes(final String table);
+
+    void createSecondaryIndexes(final String table);
+}
@@ -0,0 +1,161 @@
+package org.ikigaidigital.repository.importer;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
+import org.ikigaidigital.domain.component.importer.TimeDepositImportRows;
+import org.ikigaidigital.domain.component.importer.WithdrawalImportRows;
+import org.ikigaidigital.repository.time.deposits.AdaptiveBatchWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC bulk inserts for the file import.
+ * <p>
+ * Rows are bound into multi-row {@code INSERT ... VALUES (...), (...)} statements of {@code rowsPerStatement} rows,
+ * which the {@link AdaptiveBatchWriter} sends in size-bounded JDBC batches, so a round trip carries thousands of rows.
+ * Unlike the {@code MERGE INTO} of the seed data, existing IDs are not overwritten: a duplicate fails the insert.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkImportRepositoryImpl implements BulkImportRepository {
+    // Must match the secondary indexes of schema.sql and schema-test.sql, so an import restores the indexes it dropped
+    private static final Map<String, List<String>> SECONDARY_INDEXES = Map.of(
+            TIME_DEPOSITS_TABLE, List.of(
+                    "IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_ID ON TIME_DEPOSITS (PLAN_TYPE_KEY, ID)",
+                    "IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_DAYS ON TIME_DEPOSITS (PLAN_TYPE_KEY, DAYS)"),
+            WITHDRAWALS_TABLE, List.of(
+                    "IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE ON WITHDRAWALS (TIME_DEPOSIT_ID, DATE)"));
+
+    private static final String IMPORT_TIME_DEPOSITS_STATEMENT = "time_deposits.import";
+    private static final String IMPORT_WITHDRAWALS_STATEMENT = "withdrawals.import";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeDepositsDataVersion timeDepositsDataVersion;
+    private final AdaptiveBatchWriter adaptiveBatchWriter;
+
+    /**
+     * Inserts a buffer of time deposit accounts in one transaction and bumps the {@link TimeDepositsDataVersion}.
+     *
+     * @param rows             The parsed accounts.
+     * @param rowsPerStatement The number of rows per {@code INSERT} statement.
+     * @return The number of rows inserted.
+     */
+    @Override
+    @Transactional
+    public int insertTimeDeposits(final TimeDepositImportRows rows, final int rowsPerStatement) {
+        final int inserted = insertInBlocks(IMPORT_TIME_DEPOSITS_STATEMENT, "INSERT INTO time_deposits (id, plan_type, days, balance) VALUES ",
+                "(?, ?, ?, ?)", rows.size(), rowsPerStatement, (ps, parameter, row) -> {
+                    ps.setInt(parameter, rows.id(row));
+                    ps.setString(parameter + 1, rows.planType(row));
+                    ps.setInt(parameter + 2, rows.days(row));
+                    ps.setBigDecimal(parameter + 3, rows.balance(row));
+                    return parameter + 4;
+                });
+        timeDepositsDataVersion.bump();
+        return inserted;
+    }
+
+    /**
+     * Inserts a buffer of withdrawals in one transaction and bumps the {@link TimeDepositsDataVersion}, as the
+     * listing with withdrawals is cached under it.
+     *
+     * @param rows             The parsed withdrawals.
+     * @param rowsPerStatement The number of rows per {@code INSERT} statement.
+     * @return The number of rows inserted.
+     */
+    @Override
+    @Transactional
+    public int insertWithdrawals(final WithdrawalImportRows rows, final int rowsPerStatement) {
+        final int inserted = insertInBlocks(IMPORT_WITHDRAWALS_STATEMENT, "INSERT INTO withdrawals (id, time_deposit_id, amount, date) VALUES ",
+                "(?, ?, ?, ?)", rows.size(), rowsPerStatement, (ps, parameter, row) -> {
+                    ps.setInt(parameter, rows.id(row));
+                    ps.setInt(parameter + 1, rows.timeDepositId(row));
+                    ps.setBigDecimal(parameter + 2, rows.amount(row));
+                    ps.setDate(parameter + 3, Date.valueOf(rows.date(row)));
+                    return parameter + 4;
+                });
+        timeDepositsDataVersion.bump();
+        return inserted;
+    }
+
+    /**
+     * Drops the secondary indexes of a table, leaving its primary key and foreign keys in place.
+     *
+     * @param table {@link #TIME_DEPOSITS_TABLE} or {@link #WITHDRAWALS_TABLE}.
+     */
+    @Override
+    public void dropSecondaryIndexes(final String table) {
+        for (String index : SECONDARY_INDEXES.getOrDefault(table, List.of())) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + index.substring(0, index.indexOf(' ')));
+        }
+    }
+
+    /**
+     * Creates the secondary indexes of a table that do not exist.
+     *
+     * @param table {@link #TIME_DEPOSITS_TABLE} or {@link #WITHDRAWALS_TABLE}.
+     */
+    @Override
+    public void createSecondaryIndexes(final String table) {
+        for (String index : SECONDARY_INDEXES.getOrDefault(table, List.of())) {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + index);
+        }
+    }
+
+    private int insertInBlocks(final String statement, final String insertPrefix, final String rowPlaceholders, final int size,
+                               final int rowsPerStatement, final RowBinder binder) {
+        final int blockSize = Math.max(1, Math.min(rowsPerStatement, size));
+        final int fullBlocks = size / blockSize;
+        int inserted = 0;
+        if (fullBlocks > 0) {
+            final List<Integer> blockStarts = new ArrayList<>(fullBlocks);
+            for (int block = 0; block < fullBlocks; block++) {
+                blockStarts.add(block * blockSize);
+            }
+            inserted += adaptiveBatchWriter.write(statement, insertSql(insertPrefix, rowPlaceholders, blockSize), blockStarts,
+                    (ps, start) -> bindRows(ps, binder, start, blockSize));
+        }
+        final int tailStart = fullBlocks * blockSize;
+        if (tailStart < size) {
+            inserted += jdbcTemplate.update(insertSql(insertPrefix, rowPlaceholders, size - tailStart),
+                    ps -> bindRows(ps, binder, tailStart, size - tailStart));
+        }
+        return inserted;
+    }
+
+    private static void bindRows(final PreparedStatement ps, final RowBinder binder, final int start, final int count) throws SQLException {
+        int parameter = 1;
+        for (int row = start; row < start + count; row++) {
+            parameter = binder.bind(ps, parameter, row);
+        }
+    }
+
+    private static String insertSql(final String insertPrefix, final String rowPlaceholders, final int rows) {
+        final StringBuilder sql = new StringBuilder(insertPrefix.length() + rows * (rowPlaceholders.length() + 2));
+        sql.append(insertPrefix);
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholders);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Binds one row to the parameters of a multi-row statement, starting at the given parameter index.
+     */
+    @FunctionalInterface
+    private interface RowBinder {
+        int bind(PreparedStatement ps, int parameter, int row) throws SQLException;
+    }
+}
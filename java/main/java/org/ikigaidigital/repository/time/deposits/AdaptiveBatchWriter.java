@@ -0,0 +1,144 @@
+package org.ikigaidigital.repository.time.deposits;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes lists of rows as size-bounded JDBC batches whose size tunes itself to the measured batch latency.
+ * <p>
+ * Each statement keeps its own batch size, starting at {@code application.batch-writer.max-batch-size}. After every
+ * batch the size is halved when the batch took longer than the target latency and grown by a quarter when it took
+ * less than half of it, always within the configured bounds, so the round trips stay short as the table grows
+ * instead of sending the whole list as one batch. Every batch is published through Micrometer, on meters registered
+ * once per statement on its first write:
+ * <li> {@code jdbc.batch.duration} - round-trip time per batch, tagged {@code statement}. </li>
+ * <li> {@code jdbc.batch.size} - rows per batch, tagged {@code statement}. </li>
+ * </p>
+ */
+@Component
+public class AdaptiveBatchWriter {
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchWriterProperties batchWriterProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, StatementBatches> statements = new ConcurrentHashMap<>();
+
+    public AdaptiveBatchWriter(final JdbcTemplate jdbcTemplate, final BatchWriterProperties batchWriterProperties,
+                               final MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchWriterProperties = batchWriterProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Executes the statement once per row, in consecutive batches of the statement's current batch size.
+     *
+     * @param statement A short name of the statement, used to tune and tag its batches separately.
+     * @param sql       The parameterized SQL to execute.
+     * @param rows      The rows to write, in order.
+     * @param setter    Binds one row to the statement's parameters.
+     * @param <T>       The row type.
+     * @return The total number of rows affected, as reported by the driver; statements reported as
+     * {@link java.sql.Statement#SUCCESS_NO_INFO} are counted as one.
+     */
+    public <T> int write(final String statement, final String sql, final List<T> rows,
+                         final ParameterizedPreparedStatementSetter<T> setter) {
+        final StatementBatches batches = statements.computeIfAbsent(statement, this::statementBatches);
+        final AtomicInteger batchSize = batches.batchSize;
+
+        int affected = 0;
+        int from = 0;
+        while (from < rows.size()) {
+            final int size = Math.min(batchSize.get(), rows.size() - from);
+            final List<T> batch = rows.subList(from, from + size);
+
+            final long start = System.nanoTime();
+            final int[][] counts = jdbcTemplate.batchUpdate(sql, batch, size, setter);
+            final long elapsed = System.nanoTime() - start;
+
+            batches.batchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            batches.batchRows.record(size);
+            batchSize.set(nextBatchSize(batchSize.get(), elapsed));
+            LoggerUtils.logDebug("N/A", Sources.REPOSITORY_LAYER, "Wrote {} batch of {} rows in {} µs.", statement, size,
+                    TimeUnit.NANOSECONDS.toMicros(elapsed));
+
+            affected += affectedRows(counts);
+            from += size;
+        }
+        return affected;
+    }
+
+    /**
+     * @param statement The name of the statement.
+     * @return The size the next batch of the statement will have.
+     */
+    public int currentBatchSize(final String statement) {
+        final StatementBatches batches = statements.get(statement);
+        return batches != null ? batches.batchSize.get() : maxBatchSize();
+    }
+
+    private StatementBatches statementBatches(final String statement) {
+        final Timer batchTimer = Timer.builder("jdbc.batch.duration")
+                .description("Round-trip time of one JDBC batch")
+                .tag("statement", statement)
+                .register(meterRegistry);
+        final DistributionSummary batchRows = DistributionSummary.builder("jdbc.batch.size")
+                .description("Rows per JDBC batch")
+                .tag("statement", statement)
+                .register(meterRegistry);
+        return new StatementBatches(new AtomicInteger(maxBatchSize()), batchTimer, batchRows);
+    }
+
+    private int nextBatchSize(final int current, final long elapsedNanos) {
+        final long targetNanos = batchWriterProperties.getTargetBatchLatency().toNanos();
+        final int next;
+        if (elapsedNanos > targetNanos) {
+            next = current / 2;
+        } else if (elapsedNanos < targetNanos / 2) {
+            next = current + Math.max(1, current / 4);
+        } else {
+            next = current;
+        }
+        return Math.max(batchWriterProperties.getMinBatchSize(), Math.min(maxBatchSize(), next));
+    }
+
+    private int maxBatchSize() {
+        return batchWriterProperties.getMaxBatchSize();
+    }
+
+    private static int affectedRows(final int[][] counts) {
+        int affected = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                affected += count >= 0 ? count : 1;
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Batch size and meters of one statement, created and registered on its first write only.
+     */
+    private static final class StatementBatches {
+        private final AtomicInteger batchSize;
+        private final Timer batchTimer;
+        private final DistributionSummary batchRows;
+
+        private StatementBatches(final AtomicInteger batchSize, final Timer batchTimer, final DistributionSummary batchRows) {
+            this.batchSize = batchSize;
+            this.batchTimer = batchTimer;
+            this.batchRows = batchRows;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.ikigaidigital.repository.time.deposits;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.ikigaidigital.domain.constant.Sources;
+import org.ikigaidigital.domain.utils.LoggerUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns on the JDBC driver's batch rewriting on the connection pool, so that the batches of the
+ * {@link AdaptiveBatchWriter} travel as few multi-row statements instead of one statement per row.
+ * <p>
+ * Applied before the pool opens its first connection, and only when
+ * {@code application.batch-writer.rewrite-batched-statements} is set and the driver supports it:
+ * <li> MySQL and MariaDB - {@code rewriteBatchedStatements=true}. </li>
+ * <li> PostgreSQL - {@code reWriteBatchedInserts=true}, which only rewrites inserts. </li>
+ * </p>
+ * Other drivers, such as H2, reject unknown connection properties and are left untouched.
+ */
+@Component
+public class BatchRewritingDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware {
+    private static final String REWRITE_PROPERTY = "application.batch-writer.rewrite-batched-statements";
+
+    private boolean rewriteBatchedStatements = true;
+
+    @Override
+    public void setEnvironment(final Environment environment) {
+        this.rewriteBatchedStatements = Binder.get(environment).bind(REWRITE_PROPERTY, Boolean.class).orElse(true);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+        if (rewriteBatchedStatements && bean instanceof HikariDataSource dataSource && dataSource.getJdbcUrl() != null) {
+            final String driverProperty = rewriteProperty(dataSource.getJdbcUrl());
+            if (driverProperty != null) {
+                dataSource.addDataSourceProperty(driverProperty, "true");
+                LoggerUtils.logInfo("N/A", Sources.REPOSITORY_LAYER, "Enabled JDBC batch rewriting ({}) on {}.", driverProperty, beanName);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * @param jdbcUrl The JDBC URL of the data source.
+     * @return The driver property that enables batch rewriting, or {@code null} if the driver has none.
+     */
+    private static String rewriteProperty(final String jdbcUrl) {
+        if (jdbcUrl.startsWith("jdbc:mysql:") || jdbcUrl.startsWith("jdbc:mariadb:")) {
+            return "rewriteBatchedStatements";
+        }
+        if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            return "reWriteBatchedInserts";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,48 @@
+package org.ikigaidigital.repository.time.deposits;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "application.batch-writer")
+public class BatchWriterProperties {
+
+    /**
+     * Upper bound on the number of statements sent to the database in one JDBC batch. It is also the starting size.
+     */
+    @Min(1)
+    private int maxBatchSize = 1000;
+
+    /**
+     * Lower bound the batch size never shrinks below, however slow the batches get. At most {@link #maxBatchSize}.
+     */
+    @Min(1)
+    private int minBatchSize = 50;
+
+    /**
+     * Round-trip time aimed at per batch. Slower batches halve the batch size; batches faster than half of it grow
+     * the batch size by a quarter, up to {@link #maxBatchSize}.
+     */
+    private Duration targetBatchLatency = Duration.ofMillis(100);
+
+    /**
+     * Enables the driver's own batch rewriting where it is supported: {@code rewriteBatchedStatements} for MySQL and
+     * {@code reWriteBatchedInserts} for PostgreSQL. Other drivers are left untouched.
+     */
+    private boolean rewriteBatchedStatements = true;
+
+    @AssertTrue(message = "min-batch-size must not exceed max-batch-size")
+    public boolean isMinBatchSizeWithinMax() {
+        return minBatchSize <= maxBatchSize;
+    }
+}
@@ -15,4 +15,10 @@ public interface TimeDepositsRepository extends JpaRepository<TimeDeposits, Inte
         FROM TIME_DEPOSITS td
         """, nativeQuery = true)
     Optional<List<TimeDeposits>> findAllTimeDeposits();
+
+    @Query(value = "SELECT MIN(td.ID) FROM TIME_DEPOSITS td", nativeQuery = true)
+    Optional<Integer> findMinTimeDepositId();
+
+    @Query(value = "SELECT MAX(td.ID) FROM TIME_DEPOSITS td", nativeQuery = true)
+    Optional<Integer> findMaxTimeDepositId();
 }
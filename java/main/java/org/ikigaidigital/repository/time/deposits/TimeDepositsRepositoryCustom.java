@@ -1,9 +1,46 @@
 package org.ikigaidigital.repository.time.deposits;
 
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.TimeDepositColumns;
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotWriter;
 import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TimeDepositsRepositoryCustom {
     void batchUpdateTimeDepositAccounts(final List<TimeDepositsDto> timeDepositsDtoList);
-}
\ No newline at end of file
+
+    void batchUpdateTimeDepositBalances(final List<TimeDepositsDto> timeDepositsDtoList);
+
+    void batchUpdateTimeDepositBalancesAndDays(final List<TimeDepositsDto> timeDepositsDtoList);
+
+    int batchUpdateAccruedBalances(final TimeDepositColumns columns);
+
+    List<TimeDepositsDto> findTimeDepositsInIdRange(final long afterId, final long upToId, final int limit);
+
+    List<TimeDepositsDto> findAccrualEligibleTimeDepositsInIdRange(final Collection<PlanEvaluator> plans, final long afterId,
+                                                                  final long upToId, final int limit);
+
+    TimeDepositColumns findTimeDepositColumnsInIdRange(final PlanEvaluatorIndex planEvaluatorIndex, final long afterId,
+                                                       final long upToId, final int limit);
+
+    TimeDepositColumns findAccrualEligibleTimeDepositColumnsInIdRange(final PlanEvaluatorIndex planEvaluatorIndex, final long afterId,
+                                                                    final long upToId, final int limit);
+
+    long countAccrualEligibleTimeDeposits(final Collection<PlanEvaluator> plans);
+
+    List<Long> findTimeDepositIdsInIdRange(final long afterId, final long upToId, final int limit);
+
+    int accrueInterestInIdRange(final Collection<PlanEvaluator> plans, final long afterId, final long upToId);
+
+    List<TimeDepositsDto> findTimeDepositsPage(final long afterId, final String planType, final BigDecimal minBalance,
+                                               final BigDecimal maxBalance, final int limit);
+
+    long streamAllTimeDeposits(final int fetchSize, final Consumer<TimeDepositsDto> consumer);
+
+    long streamAccountSnapshot(final int fetchSize, final AccountSnapshotWriter writer);
+}
@@ -2,31 +2,448 @@ package org.ikigaidigital.repository.time.deposits;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.TimeDepositColumns;
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotWriter;
 import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
 
 @Repository
 @RequiredArgsConstructor
 public class TimeDepositsRepositoryImpl implements TimeDepositsRepositoryCustom {
+    private static final RowMapper<TimeDepositsDto> TIME_DEPOSITS_DTO_ROW_MAPPER = (rs, rowNum) -> new TimeDepositsDto(
+            rs.getInt("id"),
+            rs.getString("plan_type"),
+            rs.getBigDecimal("balance").setScale(2, RoundingMode.HALF_UP),
+            rs.getInt("days"));
+
+    // Mirrors PlanEvaluator#updatedBalance: the balance is read at 2 decimals, the monthly interest is rounded to 8
+    // decimals and then to 2, and the new balance to 2, all HALF_UP in exact DECIMAL arithmetic
+    private static final String ACCRUE_INTEREST_SQL = """
+            UPDATE time_deposits
+            SET balance = ROUND(CAST(balance AS DECIMAL(38, 2))
+                    + ROUND(ROUND(CAST(balance AS DECIMAL(38, 2)) * CAST(? AS DECIMAL(38, 20)) / 12, 8), 2), 2)
+            WHERE id > ? AND id <= ? AND plan_type_key = ? AND days > ? AND days <= ?
+            """;
+
+    // One statement, so that accounts and withdrawal aggregates are read from the same point in time on databases
+    // with statement-level read consistency
+    private static final String ACCOUNT_SNAPSHOT_SQL = """
+            SELECT td.id, td.plan_type, td.days, td.balance,
+                   w.withdrawal_count, w.withdrawal_total, w.last_withdrawal_date
+            FROM time_deposits td
+            LEFT JOIN (SELECT time_deposit_id, COUNT(*) AS withdrawal_count,
+                              SUM(CAST(amount AS DECIMAL(38, 2))) AS withdrawal_total, MAX(date) AS last_withdrawal_date
+                       FROM withdrawals
+                       GROUP BY time_deposit_id) w ON w.time_deposit_id = td.id
+            ORDER BY td.id
+            """;
+
+    private static final String UPDATE_TIME_DEPOSITS_STATEMENT = "time_deposits.update";
+    private static final String UPDATE_TIME_DEPOSIT_BALANCES_STATEMENT = "time_deposits.update_balance";
+    private static final String UPDATE_TIME_DEPOSIT_BALANCES_AND_DAYS_STATEMENT = "time_deposits.update_balance_and_days";
 
     private final JdbcTemplate jdbcTemplate;
+    private final TimeDepositsDataVersion timeDepositsDataVersion;
+    private final AdaptiveBatchWriter adaptiveBatchWriter;
 
+    /**
+     * Writes the plan type, balance and days of each account back through the {@link AdaptiveBatchWriter}, in
+     * size-bounded JDBC batches, and bumps the {@link TimeDepositsDataVersion}, so cached listings built from the
+     * previous balances are dropped.
+     *
+     * @param timeDepositsDtoList The accounts to update.
+     */
     @Override
     @Modifying
     @Transactional
     public void batchUpdateTimeDepositAccounts(List<TimeDepositsDto> timeDepositsDtoList) {
         final String sql = "UPDATE time_deposits SET plan_type = ?, balance = ?, days = ? WHERE id = ?";
-        jdbcTemplate.batchUpdate(sql, timeDepositsDtoList, timeDepositsDtoList.size(),
+        adaptiveBatchWriter.write(UPDATE_TIME_DEPOSITS_STATEMENT, sql, timeDepositsDtoList,
                 (ps, dto) -> {
                     ps.setString(1, dto.getPlanType());
                     ps.setBigDecimal(2, dto.getBalance().setScale(2, RoundingMode.HALF_UP));
                     ps.setInt(3, dto.getDays());
                     ps.setLong(4, dto.getId());
                 });
+        timeDepositsDataVersion.bump();
+    }
+
+    /**
+     * Writes only the balance of each account back through the {@link AdaptiveBatchWriter} and bumps the
+     * {@link TimeDepositsDataVersion}. Used by the accrual, which never changes the plan type or days, so that the
+     * other columns and their indexes are not rewritten.
+     *
+     * @param timeDepositsDtoList The accounts whose balance changed.
+     */
+    @Override
+    @Modifying
+    @Transactional
+    public void batchUpdateTimeDepositBalances(final List<TimeDepositsDto> timeDepositsDtoList) {
+        final String sql = "UPDATE time_deposits SET balance = ? WHERE id = ?";
+        adaptiveBatchWriter.write(UPDATE_TIME_DEPOSIT_BALANCES_STATEMENT, sql, timeDepositsDtoList,
+                (ps, dto) -> {
+                    ps.setBigDecimal(1, dto.getBalance().setScale(2, RoundingMode.HALF_UP));
+                    ps.setLong(2, dto.getId());
+                });
+        timeDepositsDataVersion.bump();
+    }
+
+    /**
+     * Writes the balance and days of each account back through the {@link AdaptiveBatchWriter} and bumps the
+     * {@link TimeDepositsDataVersion}. Used by the accrual catch-up, which advances the days of the accounts with the
+     * periods it applies but never changes their plan type.
+     *
+     * @param timeDepositsDtoList The accounts whose balance or days changed.
+     */
+    @Override
+    @Modifying
+    @Transactional
+    public void batchUpdateTimeDepositBalancesAndDays(final List<TimeDepositsDto> timeDepositsDtoList) {
+        final String sql = "UPDATE time_deposits SET balance = ?, days = ? WHERE id = ?";
+        adaptiveBatchWriter.write(UPDATE_TIME_DEPOSIT_BALANCES_AND_DAYS_STATEMENT, sql, timeDepositsDtoList,
+                (ps, dto) -> {
+                    ps.setBigDecimal(1, dto.getBalance().setScale(2, RoundingMode.HALF_UP));
+                    ps.setInt(2, dto.getDays());
+                    ps.setLong(3, dto.getId());
+                });
+        timeDepositsDataVersion.bump();
+    }
+
+    /**
+     * Writes the accrued balance of every changed account of a columnar chunk back through the
+     * {@link AdaptiveBatchWriter}, like {@link #batchUpdateTimeDepositBalances(List)}, and bumps the
+     * {@link TimeDepositsDataVersion}.
+     *
+     * @param columns The chunk, after an {@code InterestKernel} accrued it.
+     * @return The number of accounts written.
+     */
+    @Override
+    @Modifying
+    @Transactional
+    public int batchUpdateAccruedBalances(final TimeDepositColumns columns) {
+        final List<Integer> changedRows = Arrays.stream(columns.changedRows()).boxed().toList();
+        if (changedRows.isEmpty()) {
+            return 0;
+        }
+        final String sql = "UPDATE time_deposits SET balance = ? WHERE id = ?";
+        adaptiveBatchWriter.write(UPDATE_TIME_DEPOSIT_BALANCES_STATEMENT, sql, changedRows,
+                (ps, row) -> {
+                    ps.setBigDecimal(1, columns.accruedBalance(row).setScale(2, RoundingMode.HALF_UP));
+                    ps.setLong(2, columns.id(row));
+                });
+        timeDepositsDataVersion.bump();
+        return changedRows.size();
+    }
+
+    /**
+     * Reads the next chunk of time deposit accounts using keyset pagination on the primary key.
+     * <p>
+     * Rows are mapped straight to {@link TimeDepositsDto} objects so that no entities are attached to the
+     * persistence context, keeping memory flat regardless of how many chunks are read in one transaction.
+     * </p>
+     *
+     * @param afterId The exclusive lower bound of the ID range; pass {@link Long#MIN_VALUE} for the first chunk.
+     * @param upToId  The inclusive upper bound of the ID range; pass {@link Long#MAX_VALUE} for no upper bound.
+     * @param limit   The maximum number of accounts to return.
+     * @return The accounts with an ID in {@code (afterId, upToId]}, ordered by ID, at most {@code limit} of them.
+     */
+    @Override
+    public List<TimeDepositsDto> findTimeDepositsInIdRange(final long afterId, final long upToId, final int limit) {
+        final String sql = "SELECT id, plan_type, days, balance FROM time_deposits WHERE id > ? AND id <= ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, TIME_DEPOSITS_DTO_ROW_MAPPER, afterId, upToId, limit);
+    }
+
+    /**
+     * Reads the next chunk of time deposit accounts that can accrue interest, using keyset pagination on the primary
+     * key with the eligibility of every plan pushed down into the query.
+     * <p>
+     * Each plan becomes one predicate, {@code plan_type_key = ? AND days > interestFreeDays AND days <= lastInterestDay},
+     * and the predicates are OR-ed, so accounts in their interest-free period, past the end of their interest or of an
+     * unknown plan are never read. The plan type is matched on the generated lower-case {@code plan_type_key}, so it
+     * ignores case like the plan lookup whatever the stored spelling, and the predicates stay sargable on
+     * {@code IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_DAYS}.
+     * </p>
+     *
+     * @param plans   The compiled plans to accrue, with distinct plan types.
+     * @param afterId The exclusive lower bound of the ID range.
+     * @param upToId  The inclusive upper bound of the ID range.
+     * @param limit   The maximum number of accounts to return.
+     * @return The eligible accounts with an ID in {@code (afterId, upToId]}, ordered by ID, at most {@code limit} of
+     * them; empty when no plan is configured.
+     */
+    @Override
+    public List<TimeDepositsDto> findAccrualEligibleTimeDepositsInIdRange(final Collection<PlanEvaluator> plans, final long afterId,
+                                                                         final long upToId, final int limit) {
+        final StringBuilder sql = new StringBuilder("SELECT id, plan_type, days, balance FROM time_deposits WHERE id > ? AND id <= ?");
+        final List<Object> args = new ArrayList<>(List.of(afterId, upToId));
+        if (!appendEligibility(sql, args, plans)) {
+            return List.of();
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), TIME_DEPOSITS_DTO_ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * Reads the next chunk of time deposit accounts straight into {@link TimeDepositColumns}, with the same keyset
+     * pagination as {@link #findTimeDepositsInIdRange(long, long, int)} but no object per account.
+     *
+     * @param planEvaluatorIndex The compiled plans the plan types are resolved against.
+     * @param afterId            The exclusive lower bound of the ID range.
+     * @param upToId             The inclusive upper bound of the ID range.
+     * @param limit              The maximum number of accounts to return.
+     * @return The accounts with an ID in {@code (afterId, upToId]}, ordered by ID, at most {@code limit} of them.
+     */
+    @Override
+    public TimeDepositColumns findTimeDepositColumnsInIdRange(final PlanEvaluatorIndex planEvaluatorIndex, final long afterId,
+                                                              final long upToId, final int limit) {
+        final String sql = "SELECT id, plan_type, days, balance FROM time_deposits WHERE id > ? AND id <= ? ORDER BY id LIMIT ?";
+        final TimeDepositColumns columns = TimeDepositColumns.allocate(planEvaluatorIndex, limit);
+        jdbcTemplate.query(sql, columnsAppender(columns), afterId, upToId, limit);
+        return columns;
+    }
+
+    /**
+     * Reads the next chunk of time deposit accounts that can accrue interest straight into {@link TimeDepositColumns},
+     * with the predicates of {@link #findAccrualEligibleTimeDepositsInIdRange(Collection, long, long, int)}.
+     *
+     * @param planEvaluatorIndex The compiled plans to accrue.
+     * @param afterId            The exclusive lower bound of the ID range.
+     * @param upToId             The inclusive upper bound of the ID range.
+     * @param limit              The maximum number of accounts to return.
+     * @return The eligible accounts with an ID in {@code (afterId, upToId]}, ordered by ID, at most {@code limit} of
+     * them; empty when no plan is configured.
+     */
+    @Override
+    public TimeDepositColumns findAccrualEligibleTimeDepositColumnsInIdRange(final PlanEvaluatorIndex planEvaluatorIndex, final long afterId,
+                                                                           final long upToId, final int limit) {
+        final TimeDepositColumns columns = TimeDepositColumns.allocate(planEvaluatorIndex, limit);
+        final StringBuilder sql = new StringBuilder("SELECT id, plan_type, days, balance FROM time_deposits WHERE id > ? AND id <= ?");
+        final List<Object> args = new ArrayList<>(List.of(afterId, upToId));
+        if (!appendEligibility(sql, args, planEvaluatorIndex.evaluators())) {
+            return columns;
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        jdbcTemplate.query(sql.toString(), columnsAppender(columns), args.toArray());
+        return columns;
+    }
+
+    /**
+     * Counts the time deposit accounts that can accrue interest under the given plans, with the same predicates as
+     * {@link #findAccrualEligibleTimeDepositsInIdRange(Collection, long, long, int)}.
+     *
+     * @param plans The compiled plans to accrue, with distinct plan types.
+     * @return The number of eligible accounts; zero when no plan is configured.
+     */
+    @Override
+    public long countAccrualEligibleTimeDeposits(final Collection<PlanEvaluator> plans) {
+        final StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM time_deposits WHERE 1 = 1");
+        final List<Object> args = new ArrayList<>();
+        if (!appendEligibility(sql, args, plans)) {
+            return 0;
+        }
+        final Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Reads the IDs of the next chunk of time deposit accounts using keyset pagination on the primary key.
+     * <p>
+     * Only the primary key index is visited, so the in-database accrual can bound its chunks without reading any
+     * balances into the application.
+     * </p>
+     *
+     * @param afterId The exclusive lower bound of the ID range.
+     * @param upToId  The inclusive upper bound of the ID range.
+     * @param limit   The maximum number of IDs to return.
+     * @return The IDs in {@code (afterId, upToId]}, in ascending order, at most {@code limit} of them.
+     */
+    @Override
+    public List<Long> findTimeDepositIdsInIdRange(final long afterId, final long upToId, final int limit) {
+        final String sql = "SELECT id FROM time_deposits WHERE id > ? AND id <= ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class, afterId, upToId, limit);
+    }
+
+    /**
+     * Accrues one month of interest on the accounts in an ID range with set-based updates run inside the database.
+     * <p>
+     * Each plan becomes one parameterized {@code UPDATE} over its accruing accounts, i.e. those whose plan type
+     * matches ignoring case and whose days lie within the plan's interest window, with the same rounding as
+     * {@link PlanEvaluator#updatedBalance(int, java.math.BigDecimal)}. Accounts that do not accrue interest, including
+     * those of unknown plans, are not written. The {@link TimeDepositsDataVersion} is bumped afterwards.
+     * </p>
+     *
+     * @param plans   The compiled plans to accrue, with distinct plan types.
+     * @param afterId The exclusive lower bound of the ID range.
+     * @param upToId  The inclusive upper bound of the ID range.
+     * @return The number of accounts whose balance was updated.
+     */
+    @Override
+    @Modifying
+    @Transactional
+    public int accrueInterestInIdRange(final Collection<PlanEvaluator> plans, final long afterId, final long upToId) {
+        int updatedCount = 0;
+        for (PlanEvaluator plan : plans) {
+            if (plan.getInterestRate() == null) {
+                continue;
+            }
+            updatedCount += jdbcTemplate.update(ACCRUE_INTEREST_SQL, plan.getInterestRate(), afterId, upToId,
+                    plan.getPlanType().toLowerCase(Locale.ROOT), plan.getInterestFreeDays(), plan.getLastInterestDay());
+        }
+        timeDepositsDataVersion.bump();
+        return updatedCount;
+    }
+
+    /**
+     * Reads one page of the account listing using keyset pagination, with the filters pushed down into the query.
+     * <p>
+     * The page is a seek on the primary key ({@code id > afterId ORDER BY id LIMIT n}), so its cost depends on the
+     * page size rather than on the table size. A plan type filter matches the generated lower-case
+     * {@code plan_type_key} column and seeks on {@code IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_ID}, so plan types are matched
+     * ignoring case, like the plan lookup; the balance range is applied to the rows visited by that seek.
+     * </p>
+     *
+     * @param afterId    The exclusive lower bound of the page; pass {@link Long#MIN_VALUE} for the first page.
+     * @param planType   The plan type to match in any case, or {@code null} for any plan.
+     * @param minBalance The inclusive minimum balance, or {@code null} for no minimum.
+     * @param maxBalance The inclusive maximum balance, or {@code null} for no maximum.
+     * @param limit      The maximum number of accounts to return.
+     * @return The matching accounts with an ID greater than {@code afterId}, ordered by ID, at most {@code limit}.
+     */
+    @Override
+    public List<TimeDepositsDto> findTimeDepositsPage(final long afterId, final String planType, final BigDecimal minBalance,
+                                                      final BigDecimal maxBalance, final int limit) {
+        final StringBuilder sql = new StringBuilder("SELECT id, plan_type, days, balance FROM time_deposits WHERE id > ?");
+        final List<Object> args = new ArrayList<>();
+        args.add(afterId);
+        if (planType != null) {
+            sql.append(" AND plan_type_key = ?");
+            args.add(planType.toLowerCase(Locale.ROOT));
+        }
+        if (minBalance != null) {
+            sql.append(" AND balance >= ?");
+            args.add(minBalance);
+        }
+        if (maxBalance != null) {
+            sql.append(" AND balance <= ?");
+            args.add(maxBalance);
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), TIME_DEPOSITS_DTO_ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * Streams every time deposit account, ordered by ID, from a forward-only database cursor.
+     * <p>
+     * Rows are handed to the consumer as they are fetched, {@code fetchSize} at a time, so memory stays bounded and
+     * the consumer sees the first rows while the query is still running. The method runs in a transaction because
+     * some drivers (e.g. PostgreSQL) only honour the fetch size with auto-commit disabled.
+     * </p>
+     *
+     * @param fetchSize The number of rows the driver fetches per round trip.
+     * @param consumer  Receives each account as a {@link TimeDepositsDto}.
+     * @return The number of accounts streamed.
+     */
+    @Override
+    @Transactional
+    public long streamAllTimeDeposits(final int fetchSize, final Consumer<TimeDepositsDto> consumer) {
+        final String sql = "SELECT id, plan_type, days, balance FROM time_deposits ORDER BY id";
+        final long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(TIME_DEPOSITS_DTO_ROW_MAPPER.mapRow(rs, (int) count[0]++)));
+        return count[0];
+    }
+
+    /**
+     * Streams every time deposit account, ordered by ID, with the count, total and latest date of its withdrawals into
+     * a snapshot file, from a forward-only database cursor.
+     * <p>
+     * Accounts and withdrawal aggregates are read by a single statement, so the snapshot is consistent on databases
+     * with statement-level read consistency (e.g. PostgreSQL, MySQL InnoDB, H2). Balances and amounts are written in
+     * cents, rounded HALF_UP like the listing.
+     * </p>
+     *
+     * @param fetchSize The number of rows the driver fetches per round trip.
+     * @param writer    Receives each account; row groups are written out as they fill.
+     * @return The number of accounts streamed.
+     * @throws UncheckedIOException If the writer fails to write a row group.
+     */
+    @Override
+    @Transactional
+    public long streamAccountSnapshot(final int fetchSize, final AccountSnapshotWriter writer) {
+        final long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(ACCOUNT_SNAPSHOT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            final BigDecimal withdrawalTotal = rs.getBigDecimal("withdrawal_total");
+            final LocalDate lastWithdrawalDate = rs.getObject("last_withdrawal_date", LocalDate.class);
+            try {
+                writer.add(rs.getInt("id"), rs.getString("plan_type"), rs.getInt("days"), toCents(rs.getBigDecimal("balance")),
+                        rs.getInt("withdrawal_count"), withdrawalTotal == null ? 0 : toCents(withdrawalTotal),
+                        lastWithdrawalDate == null ? 0 : (int) lastWithdrawalDate.toEpochDay());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private static long toCents(final BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static RowCallbackHandler columnsAppender(final TimeDepositColumns columns) {
+        return rs -> columns.add(rs.getInt("id"), rs.getString("plan_type"), rs.getInt("days"),
+                rs.getBigDecimal("balance").setScale(2, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Appends {@code AND (<plan predicate> OR ...)} with one predicate per plan and adds its arguments.
+     *
+     * @return {@code false} if there is no plan, in which case nothing is eligible and nothing was appended.
+     */
+    private static boolean appendEligibility(final StringBuilder sql, final List<Object> args, final Collection<PlanEvaluator> plans) {
+        if (plans.isEmpty()) {
+            return false;
+        }
+        String separator = " AND (";
+        for (PlanEvaluator plan : plans) {
+            sql.append(separator).append("(plan_type_key = ? AND days > ? AND days <= ?)");
+            args.add(plan.getPlanType().toLowerCase(Locale.ROOT));
+            args.add(plan.getInterestFreeDays());
+            args.add(plan.getLastInterestDay());
+            separator = " OR ";
+        }
+        sql.append(')');
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,97 @@
 package org.ikigaidigital.repository.withdrawal;
 
+import org.ikigaidigital.domain.model.dto.WithdrawalPeriodTotalDto;
+import org.ikigaidigital.domain.model.dto.WithdrawalsDto;
 import org.ikigaidigital.domain.model.entity.Withdrawals;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface WithdrawalsRepository extends JpaRepository<Withdrawals, Integer> {
-    // Custom query methods can be defined here if needed
+    /**
+     * Reads all withdrawals of a page of deposits in one query, as one range scan per deposit on
+     * {@code IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE}, e.g. to attach them to a listing page.
+     *
+     * @param timeDepositIds The deposits of the page.
+     * @return The withdrawals as projections, ordered by deposit, date and ID; deposits without withdrawals are
+     * absent.
+     */
+    @Query("""
+        SELECT new org.ikigaidigital.domain.model.dto.WithdrawalsDto(w.id, w.timeDepositId.id, w.amount, w.date)
+        FROM Withdrawals w
+        WHERE w.timeDepositId.id IN :timeDepositIds
+        ORDER BY w.timeDepositId.id, w.date, w.id
+        """)
+    List<WithdrawalsDto> findWithdrawalsByTimeDepositIds(@Param("timeDepositIds") final Collection<Integer> timeDepositIds);
+
+    /**
+     * Reads the withdrawals of one deposit within a date range, as a range scan on
+     * {@code IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE}.
+     *
+     * @param timeDepositId The deposit.
+     * @param from          The first date of the range, inclusive.
+     * @param to            The last date of the range, inclusive.
+     * @return The withdrawals as projections, ordered by date.
+     */
+    @Query("""
+        SELECT new org.ikigaidigital.domain.model.dto.WithdrawalsDto(w.id, w.timeDepositId.id, w.amount, w.date)
+        FROM Withdrawals w
+        WHERE w.timeDepositId.id = :timeDepositId AND w.date >= :from AND w.date <= :to
+        ORDER BY w.date, w.id
+        """)
+    List<WithdrawalsDto> findWithdrawalsByTimeDepositIdAndDateBetween(@Param("timeDepositId") final int timeDepositId,
+                                                                      @Param("from") final LocalDate from,
+                                                                      @Param("to") final LocalDate to);
+
+    /**
+     * Sums the withdrawals of each deposit per calendar month within a date range, e.g. for statements. Each deposit
+     * is a range scan on {@code IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE}; deposits or months without withdrawals are
+     * absent.
+     *
+     * @param timeDepositIds The deposits.
+     * @param from           The first date of the range, inclusive.
+     * @param to             The last date of the range, inclusive.
+     * @return The total and number of withdrawals per deposit and month, ordered by deposit and month.
+     */
+    @Query("""
+        SELECT new org.ikigaidigital.domain.model.dto.WithdrawalPeriodTotalDto(
+            w.timeDepositId.id, EXTRACT(YEAR FROM w.date), EXTRACT(MONTH FROM w.date), SUM(w.amount), COUNT(w))
+        FROM Withdrawals w
+        WHERE w.timeDepositId.id IN :timeDepositIds AND w.date >= :from AND w.date <= :to
+        GROUP BY w.timeDepositId.id, EXTRACT(YEAR FROM w.date), EXTRACT(MONTH FROM w.date)
+        ORDER BY w.timeDepositId.id, EXTRACT(YEAR FROM w.date), EXTRACT(MONTH FROM w.date)
+        """)
+    List<WithdrawalPeriodTotalDto> findMonthlyWithdrawalTotals(@Param("timeDepositIds") final Collection<Integer> timeDepositIds,
+                                                               @Param("from") final LocalDate from,
+                                                               @Param("to") final LocalDate to);
+
+    /**
+     * Reads the most recent withdrawals of each of several deposits in one query. A {@code ROW_NUMBER()} window
+     * partitioned by deposit numbers each deposit's withdrawals newest first on
+     * {@code IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE}, and only the first {@code limit} of each are kept.
+     *
+     * @param timeDepositIds The deposits.
+     * @param limit          The maximum number of withdrawals to return per deposit.
+     * @return The withdrawals as projections, ordered by deposit and newest first within a deposit; deposits without
+     * withdrawals are absent.
+     */
+    @Query("""
+        SELECT new org.ikigaidigital.domain.model.dto.WithdrawalsDto(l.id, l.timeDepositId, l.amount, l.date)
+        FROM (
+            SELECT w.id AS id, w.timeDepositId.id AS timeDepositId, w.amount AS amount, w.date AS date,
+                ROW_NUMBER() OVER (PARTITION BY w.timeDepositId.id ORDER BY w.date DESC, w.id DESC) AS position
+            FROM Withdrawals w
+            WHERE w.timeDepositId.id IN :timeDepositIds
+        ) l
+        WHERE l.position <= :limit
+        ORDER BY l.timeDepositId, l.date DESC, l.id DESC
+        """)
+    List<WithdrawalsDto> findLatestWithdrawals(@Param("timeDepositIds") final Collection<Integer> timeDepositIds,
+                                               @Param("limit") final int limit);
 }
@@ -1,4 +1,4 @@
-CREATE TABLE TIME_DEPOSITS
+CREATE TABLE IF NOT EXISTS TIME_DEPOSITS
 (
     ID        INT PRIMARY KEY,
     PLAN_TYPE VARCHAR(8)       NOT NULL,
@@ -6,7 +6,7 @@ CREATE TABLE TIME_DEPOSITS
     BALANCE   DOUBLE PRECISION NOT NULL
 );
 
-CREATE TABLE WITHDRAWALS
+CREATE TABLE IF NOT EXISTS WITHDRAWALS
 (
     ID              INT PRIMARY KEY,
     AMOUNT          DOUBLE PRECISION NOT NULL,
@@ -15,4 +15,54 @@ CREATE TABLE WITHDRAWALS
     CONSTRAINT FK_TIME_DEPOSIT
         FOREIGN KEY (TIME_DEPOSIT_ID)
             REFERENCES TIME_DEPOSITS (ID)
+);
+
+-- Plan types are matched case-insensitively; the lower-case key is a generated column so that it can be indexed
+ALTER TABLE TIME_DEPOSITS ADD COLUMN IF NOT EXISTS PLAN_TYPE_KEY VARCHAR(8) GENERATED ALWAYS AS (LOWER(PLAN_TYPE));
+
+CREATE INDEX IF NOT EXISTS IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_ID ON TIME_DEPOSITS (PLAN_TYPE_KEY, ID);
+
+CREATE INDEX IF NOT EXISTS IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_DAYS ON TIME_DEPOSITS (PLAN_TYPE_KEY, DAYS);
+
+CREATE INDEX IF NOT EXISTS IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE ON WITHDRAWALS (TIME_DEPOSIT_ID, DATE);
+
+CREATE TABLE IF NOT EXISTS DATA_VERSIONS
+(
+    NAME    VARCHAR(32) PRIMARY KEY,
+    VERSION BIGINT      NOT NULL
+);
+
+INSERT INTO DATA_VERSIONS (NAME, VERSION)
+SELECT 'TIME_DEPOSITS', 0
+WHERE NOT EXISTS (SELECT 1 FROM DATA_VERSIONS WHERE NAME = 'TIME_DEPOSITS');
+
+CREATE TABLE IF NOT EXISTS ACCRUAL_RUNS
+(
+    ID            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    PERIOD        VARCHAR(7)  NOT NULL,
+    PERIODS       INT         NOT NULL DEFAULT 1,
+    STATUS        VARCHAR(16) NOT NULL,
+    STARTED_AT    TIMESTAMP   NOT NULL,
+    COMPLETED_AT  TIMESTAMP,
+    UPDATED_COUNT BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT UK_ACCRUAL_RUNS_PERIOD
+        UNIQUE (PERIOD)
+);
+
+CREATE TABLE IF NOT EXISTS ACCRUAL_RUN_PARTITIONS
+(
+    RUN_ID            BIGINT      NOT NULL,
+    PARTITION_NO      INT         NOT NULL,
+    AFTER_ID          BIGINT      NOT NULL,
+    UP_TO_ID          BIGINT      NOT NULL,
+    LAST_COMMITTED_ID BIGINT      NOT NULL,
+    UPDATED_COUNT     BIGINT      NOT NULL DEFAULT 0,
+    STATUS            VARCHAR(16) NOT NULL,
+    LEASE_OWNER       VARCHAR(255),
+    LEASE_EXPIRES_AT  TIMESTAMP,
+    LEASE_TOKEN       BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (RUN_ID, PARTITION_NO),
+    CONSTRAINT FK_ACCRUAL_RUN
+        FOREIGN KEY (RUN_ID)
+            REFERENCES ACCRUAL_RUNS (ID)
 );
\ No newline at end of file
@@ -1,23 +1,57 @@
 package org.ikigaidigital.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.ikigaidigital.api.controller.TimeDepositController;
 import org.ikigaidigital.api.controller.impl.TimeDepositControllerImpl;
+import org.ikigaidigital.domain.component.cache.CacheStats;
+import org.ikigaidigital.domain.constant.AccrualJobStatus;
+import org.ikigaidigital.domain.constant.ErrorMessages;
 import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.ShadowAccrualMoverDto;
+import org.ikigaidigital.domain.model.dto.ShadowAccrualPlanImpactDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositProjectionDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.dto.WithdrawalsDto;
+import org.ikigaidigital.domain.model.request.ShadowAccrualRequest;
+import org.ikigaidigital.domain.model.request.TimeDepositAccountsPageRequest;
+import org.ikigaidigital.domain.model.response.AccrualJobResponse;
+import org.ikigaidigital.domain.model.response.ShadowAccrualResponse;
 import org.ikigaidigital.domain.model.response.TimeDepositAccountsResponse;
+import org.ikigaidigital.domain.model.response.TimeDepositProjectionsResponse;
+import org.ikigaidigital.domain.service.AccrualJobService;
+import org.ikigaidigital.domain.service.ShadowAccrualService;
 import org.ikigaidigital.domain.service.TimeDepositService;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest({TimeDepositControllerImpl.class, TimeDepositController.class})
@@ -29,6 +63,10 @@ public class TimeDepositControllerTests {
 
     @MockBean
     private TimeDepositService timeDepositService;
+    @MockBean
+    private AccrualJobService accrualJobService;
+    @MockBean
+    private ShadowAccrualService shadowAccrualService;
 
     @Test
     @DisplayName("""
@@ -86,7 +124,7 @@ public class TimeDepositControllerTests {
             """)
     public void testGetAllTimeDepositAccounts_givenSuccessfulRetrieval_shouldReturnOkResponse() throws Exception {
         // Setup expectations
-        Mockito.when(timeDepositService.getAllTimeDepositAccounts(anyString()))
+        Mockito.when(timeDepositService.getAllTimeDepositAccounts(anyString(), anyBoolean()))
                 .thenReturn(new TimeDepositAccountsResponse());
 
         // Perform SUT and verify results
@@ -103,7 +141,7 @@ public class TimeDepositControllerTests {
             """)
     public void testGetAllTimeDepositAccounts_givenErrorDuringRetrieval_shouldReturnBadRequestResponse() throws Exception {
         // Setup expectations
-        Mockito.when(timeDepositService.getAllTimeDepositAccounts(anyString()))
+        Mockito.when(timeDepositService.getAllTimeDepositAccounts(anyString(), anyBoolean()))
                 .thenThrow(new TimeDepositException("Retrieval failed"));
 
         // Perform SUT and verify results
@@ -120,7 +158,7 @@ public class TimeDepositControllerTests {
             """)
     public void testGetAllTimeDepositAccounts_givenUnexpectedError_shouldReturnInternalServerErrorResponse() throws Exception {
         // Setup expectations
-        Mockito.when(timeDepositService.getAllTimeDepositAccounts(anyString()))
+        Mockito.when(timeDepositService.getAllTimeDepositAccounts(anyString(), anyBoolean()))
                 .thenThrow(new RuntimeException("Unexpected error"));
 
         // Perform SUT and verify results
@@ -128,4 +166,387 @@ public class TimeDepositControllerTests {
                 .andExpect(status().isInternalServerError())
                 .andExpect(content().string("Unexpected error"));
     }
+
+    @Test
+    @DisplayName("""
+            test 'GET /get-all-accounts?stream=true' given time deposit accounts are streamed by the service
+            when the 'getAllTimeDepositAccounts' method is called in streaming mode
+            should write the accounts followed by their count as a single JSON document
+            """)
+    @SuppressWarnings("unchecked")
+    public void testGetAllTimeDepositAccounts_givenStreamingMode_shouldStreamAccountsAndCount() throws Exception {
+        // Setup expectations
+        Mockito.when(timeDepositService.streamAllTimeDepositAccounts(anyString(), any(Consumer.class))).thenAnswer(invocation -> {
+            final Consumer<TimeDepositsDto> consumer = invocation.getArgument(1);
+            consumer.accept(new TimeDepositsDto(1, "BASIC", new BigDecimal("1000.00"), 10));
+            consumer.accept(new TimeDepositsDto(2, "STUDENT", new BigDecimal("2000.00"), 40));
+            return 2L;
+        });
+
+        // Perform SUT
+        final MvcResult mvcResult = mockMvc.perform(get("/get-all-accounts").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Verify results
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(content().json("""
+                        {
+                            "accounts": [
+                                {"id": 1, "planType": "BASIC", "balance": 1000.00, "days": 10},
+                                {"id": 2, "planType": "STUDENT", "balance": 2000.00, "days": 40}
+                            ],
+                            "count": 2
+                        }
+                        """, true));
+        Mockito.verify(timeDepositService, Mockito.never()).getAllTimeDepositAccounts(anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /get-all-accounts?stream=true' given the configured async request timeout
+            when the 'getAllTimeDepositAccounts' method is called in streaming mode
+            should start the stream without a container async timeout
+            """)
+    @SuppressWarnings("unchecked")
+    public void testGetAllTimeDepositAccounts_givenStreamingMode_shouldStartWithoutAsyncTimeout() throws Exception {
+        // Setup expectations
+        Mockito.when(timeDepositService.streamAllTimeDepositAccounts(anyString(), any(Consumer.class))).thenReturn(0L);
+
+        // Perform SUT
+        final MvcResult mvcResult = mockMvc.perform(get("/get-all-accounts").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Verify results
+        Assertions.assertEquals(-1L, mvcResult.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /get-all-accounts?stream=true' given the account read fails after the first account
+            when the 'getAllTimeDepositAccounts' method is called in streaming mode
+            should leave a truncated document without the count
+            """)
+    @SuppressWarnings("unchecked")
+    public void testGetAllTimeDepositAccounts_givenStreamFailsMidway_shouldLeaveTruncatedDocument() throws Exception {
+        // Setup expectations
+        Mockito.when(timeDepositService.streamAllTimeDepositAccounts(anyString(), any(Consumer.class))).thenAnswer(invocation -> {
+            final Consumer<TimeDepositsDto> consumer = invocation.getArgument(1);
+            consumer.accept(new TimeDepositsDto(1, "BASIC", new BigDecimal("1000.00"), 10));
+            throw new TimeDepositException(ErrorMessages.ERROR_RETRIEVING_TIME_DEPOSIT_ACCOUNTS);
+        });
+
+        // Perform SUT
+        final MvcResult mvcResult = mockMvc.perform(get("/get-all-accounts").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+
+        // Verify results
+        final String body = mvcResult.getResponse().getContentAsString();
+        Assertions.assertTrue(body.startsWith("{\"accounts\":[{\"id\":1"), body);
+        Assertions.assertFalse(body.contains("\"count\""), body);
+        Assertions.assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(body));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /get-all-accounts?stream=true' given a filter parameter
+            when the 'getAllTimeDepositAccounts' method is called in streaming mode
+            should return a 400 Bad Request response instead of streaming the unfiltered book
+            """)
+    @SuppressWarnings("unchecked")
+    public void testGetAllTimeDepositAccounts_givenStreamingModeWithFilter_shouldReturnBadRequestResponse() throws Exception {
+        // Perform SUT
+        final MvcResult mvcResult = mockMvc.perform(get("/get-all-accounts").param("stream", "true").param("planType", "BASIC"))
+                .andReturn();
+
+        // Verify results
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(ErrorMessages.STREAM_FILTERS_NOT_SUPPORTED.getMessage()));
+        Mockito.verify(timeDepositService, Mockito.never()).streamAllTimeDepositAccounts(anyString(), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /get-all-accounts' given pagination and filter parameters
+            when the 'getAllTimeDepositAccounts' method is called
+            should return a single page with the next cursor instead of the whole book
+            """)
+    public void testGetAllTimeDepositAccounts_givenPageParameters_shouldReturnPageWithNextCursor() throws Exception {
+        // Setup expectations
+        final TimeDepositAccountsResponse page = new TimeDepositAccountsResponse();
+        page.setAccounts(List.of(new TimeDepositsDto(3, "PREMIUM", new BigDecimal("5000.00"), 50)));
+        page.setCount(1);
+        page.setNextCursor("djE6Mw");
+        final TimeDepositAccountsPageRequest expectedPageRequest =
+                new TimeDepositAccountsPageRequest(null, null, 1, "PREMIUM", new BigDecimal("1000"), null);
+
+        Mockito.when(timeDepositService.getTimeDepositAccountsPage(anyString(), Mockito.eq(expectedPageRequest))).thenReturn(page);
+
+        // Perform SUT and verify results
+        mockMvc.perform(get("/get-all-accounts").param("limit", "1").param("planType", "PREMIUM").param("minBalance", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.accounts[0].id").value(3))
+                .andExpect(jsonPath("$.nextCursor").value("djE6Mw"));
+        Mockito.verify(timeDepositService, Mockito.never()).getAllTimeDepositAccounts(anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /get-all-accounts' given no pagination parameters
+            when the 'getAllTimeDepositAccounts' method is called
+            should return the whole book without a next cursor
+            """)
+    public void testGetAllTimeDepositAccounts_givenNoPageParameters_shouldReturnAllAccountsWithoutCursor() throws Exception {
+        // Setup expectations
+        Mockito.when(timeDepositService.getAllTimeDepositAccounts(anyString(), anyBoolean())).thenReturn(new TimeDepositAccountsResponse());
+
+        // Perform SUT and verify results
+        mockMvc.perform(get("/get-all-accounts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        Mockito.verify(timeDepositService, Mockito.never()).getTimeDepositAccountsPage(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'PATCH /update-all-accounts?catchUp=true' given more missed periods than may be caught up
+            when the 'catchUpTimeDepositAccounts' method is called
+            should return a 400 Bad Request response without running a single-period update
+            """)
+    public void testCatchUpTimeDepositAccounts_givenTooManyMissedPeriods_shouldReturnBadRequestResponse() throws Exception {
+        // Setup expectations
+        Mockito.doThrow(new TimeDepositException(ErrorMessages.CATCH_UP_PERIODS_EXCEEDED)).when(timeDepositService).catchUpTimeDepositAccounts(anyString());
+
+        // Perform SUT and verify results
+        mockMvc.perform(patch("/update-all-accounts").param("catchUp", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(ErrorMessages.CATCH_UP_PERIODS_EXCEEDED.getMessage()));
+        Mockito.verify(timeDepositService, Mockito.never()).updateAllTimeDepositAccounts(anyString());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'PATCH /update-all-accounts?catchUp=true&async=true' given both update modes
+            when the 'rejectAsyncCatchUp' method is called
+            should return a 400 Bad Request response without running or submitting any update
+            """)
+    public void testRejectAsyncCatchUp_givenCatchUpAndAsync_shouldReturnBadRequestResponse() throws Exception {
+        // Perform SUT and verify results
+        mockMvc.perform(patch("/update-all-accounts").param("catchUp", "true").param("async", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(ErrorMessages.CATCH_UP_ASYNC_NOT_SUPPORTED.getMessage()));
+        Mockito.verify(timeDepositService, Mockito.never()).catchUpTimeDepositAccounts(anyString());
+        Mockito.verify(timeDepositService, Mockito.never()).updateAllTimeDepositAccounts(anyString());
+        Mockito.verify(accrualJobService, Mockito.never()).submitAccrualJob(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /projected-balances?months=12&limit=1&cursor=c' given a successful projection
+            when the 'projectAllTimeDepositAccounts' method is called
+            should forward the page request and return a 200 OK response with the projected balances and the next cursor
+            """)
+    public void testProjectAllTimeDepositAccounts_givenSuccessfulProjection_shouldReturnOkResponse() throws Exception {
+        // Setup expectations
+        final TimeDepositProjectionsResponse response = new TimeDepositProjectionsResponse();
+        response.setMonths(12);
+        response.setCount(1);
+        response.setProjections(List.of(new TimeDepositProjectionDto(3, "PREMIUM", 50, new BigDecimal("5000.00"), new BigDecimal("5255.81"), 12)));
+        response.setNextCursor("next");
+        final TimeDepositAccountsPageRequest expectedPageRequest = new TimeDepositAccountsPageRequest(null, "c", 1, null, null, null);
+        Mockito.when(timeDepositService.projectAllTimeDepositAccounts(anyString(), Mockito.eq(12), Mockito.eq(expectedPageRequest)))
+                .thenReturn(response);
+
+        // Perform SUT and verify results
+        mockMvc.perform(get("/projected-balances").param("months", "12").param("limit", "1").param("cursor", "c"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.months").value(12))
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.projections[0].projectedBalance").value(5255.81))
+                .andExpect(jsonPath("$.projections[0].interestMonths").value(12));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /projected-balances?months=0' given months out of range
+            when the 'projectAllTimeDepositAccounts' method is called
+            should return a 400 Bad Request response with the error message
+            """)
+    public void testProjectAllTimeDepositAccounts_givenMonthsOutOfRange_shouldReturnBadRequestResponse() throws Exception {
+        // Setup expectations
+        Mockito.when(timeDepositService.projectAllTimeDepositAccounts(anyString(), anyInt(), any(TimeDepositAccountsPageRequest.class)))
+                .thenThrow(new TimeDepositException(ErrorMessages.INVALID_PROJECTION_MONTHS));
+
+        // Perform SUT and verify results
+        mockMvc.perform(get("/projected-balances").param("months", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(ErrorMessages.INVALID_PROJECTION_MONTHS.getMessage()));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'POST /shadow-accrual' given a successful shadow accrual
+            when the 'runShadowAccrual' method is called
+            should return a 200 OK response with the per-plan impact and the top movers
+            """)
+    public void testRunShadowAccrual_givenSuccessfulShadowAccrual_shouldReturnOkResponse() throws Exception {
+        // Setup expectations
+        final ShadowAccrualResponse response = new ShadowAccrualResponse();
+        response.setAccounts(10);
+        response.setAffectedAccounts(3);
+        response.setInterestDelta(new BigDecimal("20.84"));
+        response.setPlans(List.of(new ShadowAccrualPlanImpactDto("PREMIUM", 3, 3, new BigDecimal("104.16"), new BigDecimal("125.00"), new BigDecimal("20.84"))));
+        response.setTopMovers(List.of(new ShadowAccrualMoverDto(9, "PREMIUM", 365, new BigDecimal("12000.00"), new BigDecimal("12050.00"),
+                new BigDecimal("12060.00"), new BigDecimal("10.00"))));
+        Mockito.when(shadowAccrualService.runShadowAccrual(anyString(), any(ShadowAccrualRequest.class))).thenReturn(response);
+
+        // Perform SUT and verify results
+        mockMvc.perform(post("/shadow-accrual")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"plans": [{"planType": "premium", "interestRate": 0.06, "interestFreeDays": 45}], "topMovers": 1}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedAccounts").value(3))
+                .andExpect(jsonPath("$.plans[0].interestDelta").value(20.84))
+                .andExpect(jsonPath("$.topMovers[0].id").value(9));
+        Mockito.verify(shadowAccrualService).runShadowAccrual(anyString(), Mockito.argThat(request ->
+                request.getTopMovers() == 1 && request.getPlans().get(0).getInterestRate().compareTo(new BigDecimal("0.06")) == 0));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'POST /shadow-accrual' given empty plans
+            when the 'runShadowAccrual' method is called
+            should return a 400 Bad Request response with the error message
+            """)
+    public void testRunShadowAccrual_givenEmptyPlans_shouldReturnBadRequestResponse() throws Exception {
+        // Setup expectations
+        Mockito.when(shadowAccrualService.runShadowAccrual(anyString(), any(ShadowAccrualRequest.class)))
+                .thenThrow(new TimeDepositException(ErrorMessages.SHADOW_PLANS_EMPTY));
+
+        // Perform SUT and verify results
+        mockMvc.perform(post("/shadow-accrual").contentType(MediaType.APPLICATION_JSON).content("{\"plans\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(ErrorMessages.SHADOW_PLANS_EMPTY.getMessage()));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /listing-cache-stats' given the listing cache has served requests
+            when the 'getListingCacheStats' method is called
+            should return a 200 OK response with the cache statistics
+            """)
+    public void testGetListingCacheStats_givenCacheStats_shouldReturnOkResponse() throws Exception {
+        // Setup expectations
+        Mockito.when(timeDepositService.getListingCacheStats()).thenReturn(new CacheStats(3, 1, 1, 0, 0, 2_000_000, 1, 7));
+
+        // Perform SUT and verify results
+        mockMvc.perform(get("/listing-cache-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitCount").value(3))
+                .andExpect(jsonPath("$.missCount").value(1))
+                .andExpect(jsonPath("$.hitRate").value(0.75))
+                .andExpect(jsonPath("$.averageLoadTimeNanos").value(2_000_000))
+                .andExpect(jsonPath("$.dataVersion").value(7));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /get-all-accounts?includeWithdrawals=true' given no pagination parameters
+            when the 'getAllTimeDepositAccounts' method is called
+            should return the whole book with the withdrawals of each account
+            """)
+    public void testGetAllTimeDepositAccounts_givenIncludeWithdrawals_shouldReturnAccountsWithWithdrawals() throws Exception {
+        // Setup expectations
+        final TimeDepositsDto account = new TimeDepositsDto(1, "BASIC", new BigDecimal("1000.00"), 10);
+        account.setWithdrawals(List.of(new WithdrawalsDto(1, 1, new BigDecimal("100.00"), LocalDate.of(2024, 5, 1))));
+        final TimeDepositAccountsResponse response = new TimeDepositAccountsResponse();
+        response.setAccounts(List.of(account));
+        response.setCount(1);
+
+        Mockito.when(timeDepositService.getAllTimeDepositAccounts(anyString(), Mockito.eq(true))).thenReturn(response);
+
+        // Perform SUT and verify results
+        mockMvc.perform(get("/get-all-accounts").param("includeWithdrawals", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts[0].withdrawals[0].amount").value(100.00))
+                .andExpect(jsonPath("$.accounts[0].withdrawals[0].date").value("2024-05-01"));
+        Mockito.verify(timeDepositService, Mockito.never()).getTimeDepositAccountsPage(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'PATCH /update-all-accounts?async=true' given the job is accepted
+            when the 'submitAccrualJob' method is called
+            should return 202 Accepted with the job and its polling URL, without running the update on the request thread
+            """)
+    public void testSubmitAccrualJob_givenAcceptedJob_shouldReturnAccepted() throws Exception {
+        // Setup expectations
+        final AccrualJobResponse job = new AccrualJobResponse();
+        job.setJobId("job-1");
+        job.setPeriod("2026-10");
+        job.setStatus(AccrualJobStatus.QUEUED);
+
+        Mockito.when(accrualJobService.submitAccrualJob(anyString(), any())).thenReturn(job);
+
+        // Perform SUT and verify results
+        mockMvc.perform(patch("/update-all-accounts").param("async", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/accrual-jobs/job-1"))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.etaSeconds").doesNotExist());
+        Mockito.verify(timeDepositService, Mockito.never()).updateAllTimeDepositAccounts(anyString());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET /accrual-jobs/{jobId}' given a running job
+            when the 'getAccrualJob' method is called
+            should return 200 OK with its progress
+            """)
+    public void testGetAccrualJob_givenRunningJob_shouldReturnProgress() throws Exception {
+        // Setup expectations
+        final AccrualJobResponse job = new AccrualJobResponse();
+        job.setJobId("job-1");
+        job.setStatus(AccrualJobStatus.RUNNING);
+        job.setStage("compute");
+        job.setRowsDone(2_000);
+        job.setTotalRows(10_000L);
+        job.setEtaSeconds(8L);
+
+        Mockito.when(accrualJobService.getAccrualJob("job-1")).thenReturn(Optional.of(job));
+
+        // Perform SUT and verify results
+        mockMvc.perform(get("/accrual-jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stage").value("compute"))
+                .andExpect(jsonPath("$.rowsDone").value(2_000))
+                .andExpect(jsonPath("$.etaSeconds").value(8));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'DELETE /accrual-jobs/{jobId}' given an unknown job
+            when the 'cancelAccrualJob' method is called
+            should return 404 Not Found
+            """)
+    public void testCancelAccrualJob_givenUnknownJob_shouldReturnNotFound() throws Exception {
+        // Setup expectations
+        Mockito.when(accrualJobService.cancelAccrualJob("unknown")).thenReturn(Optional.empty());
+
+        // Perform SUT and verify results
+        mockMvc.perform(delete("/accrual-jobs/unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("Accrual job not found"));
+    }
 }
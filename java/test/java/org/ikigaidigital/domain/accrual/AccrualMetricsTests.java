@@ -0,0 +1,88 @@
+package org.ikigaidigital.domain.accrual;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ikigaidigital.domain.component.accrual.AccrualMetrics;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class AccrualMetricsTests {
+    @Test
+    @DisplayName("""
+            test 'RECORD OUTCOMES' given a chunk mixing every accrual outcome
+            when the 'recordOutcomes' method is called
+            should count the accounts per plan and outcome, and in total
+            """)
+    public void testRecordOutcomes_givenMixedChunk_shouldCountPerPlanAndOutcome() {
+        // Setup expectations
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final AccrualMetrics accrualMetrics = new AccrualMetrics(meterRegistry);
+        final PlanEvaluatorIndex planEvaluatorIndex = PlanEvaluatorIndex.compile(List.of(
+                plan("student", 30, true, 365),
+                plan("basic", 30, false, null)));
+        final List<TimeDepositsDto> chunk = List.of(
+                new TimeDepositsDto(1, "STUDENT", BigDecimal.TEN, 10),
+                new TimeDepositsDto(2, "STUDENT", BigDecimal.TEN, 40),
+                new TimeDepositsDto(3, "student", BigDecimal.TEN, 366),
+                new TimeDepositsDto(4, "BASIC", BigDecimal.TEN, 400),
+                new TimeDepositsDto(5, "BASIC", BigDecimal.TEN, 90),
+                new TimeDepositsDto(6, "GOLD", BigDecimal.TEN, 90));
+
+        // Perform SUT
+        accrualMetrics.recordOutcomes(chunk, planEvaluatorIndex);
+
+        // Verify results
+        Assertions.assertEquals(1, count(meterRegistry, "student", "interest_free"));
+        Assertions.assertEquals(1, count(meterRegistry, "student", "accrued"));
+        Assertions.assertEquals(1, count(meterRegistry, "student", "interest_ended"));
+        Assertions.assertEquals(2, count(meterRegistry, "basic", "accrued"));
+        Assertions.assertEquals(1, count(meterRegistry, "unknown", "unknown_plan"));
+        Assertions.assertEquals(6, meterRegistry.get("accrual.rows").counter().count());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'RECORD STAGE AND RUN' given timed stages and a completed run
+            when the 'recordStage' and 'recordRun' methods are called
+            should publish the stage timers and the throughput of the run
+            """)
+    public void testRecordStageAndRun_givenTimings_shouldPublishTimersAndThroughput() {
+        // Setup expectations
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final AccrualMetrics accrualMetrics = new AccrualMetrics(meterRegistry);
+
+        // Perform SUT
+        accrualMetrics.recordStage(AccrualMetrics.Stage.FETCH, TimeUnit.MILLISECONDS.toNanos(4));
+        accrualMetrics.recordStage(AccrualMetrics.Stage.PERSIST, TimeUnit.MILLISECONDS.toNanos(6));
+        accrualMetrics.recordRun(5_000, TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Verify results
+        Assertions.assertEquals(4, meterRegistry.get("accrual.stage.duration").tag("stage", "fetch").timer().totalTime(TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(0, meterRegistry.get("accrual.stage.duration").tag("stage", "compute").timer().count());
+        Assertions.assertEquals(1, meterRegistry.get("accrual.stage.duration").tag("stage", "persist").timer().count());
+        Assertions.assertEquals(1, meterRegistry.get("accrual.run.duration").timer().count());
+        Assertions.assertEquals(10_000, meterRegistry.get("accrual.run.rows.per.second").gauge().value());
+    }
+
+    private static double count(final SimpleMeterRegistry meterRegistry, final String plan, final String outcome) {
+        return meterRegistry.get("accrual.accounts").tag("plan", plan).tag("outcome", outcome).counter().count();
+    }
+
+    private static PlanProperties.Plan plan(final String planType, final int interestFreeDays, final boolean interestEnds,
+                                            final Integer interestEndsAfterDays) {
+        final PlanProperties.Plan plan = new PlanProperties.Plan();
+        plan.setPlanType(planType);
+        plan.setInterestRate(new BigDecimal("0.03"));
+        plan.setInterestFreeDays(interestFreeDays);
+        plan.setInterestEnds(interestEnds);
+        plan.setInterestEndsAfterDays(interestEndsAfterDays);
+        return plan;
+    }
+}
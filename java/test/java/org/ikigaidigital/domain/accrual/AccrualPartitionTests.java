@@ -0,0 +1,52 @@
+package org.ikigaidigital.domain.accrual;
+
+import org.ikigaidigital.domain.component.accrual.AccrualPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class AccrualPartitionTests {
+    @Test
+    @DisplayName("""
+            test 'SPLIT' given an ID range that does not divide evenly
+            when the 'split' method is called
+            should return contiguous, non-overlapping partitions covering the whole range
+            """)
+    public void testSplit_givenUnevenRange_shouldCoverWholeRange() {
+        // Perform SUT
+        final List<AccrualPartition> partitions = AccrualPartition.split(1, 10, 3);
+
+        // Verify results
+        Assertions.assertEquals(List.of(
+                new AccrualPartition(0, 4),
+                new AccrualPartition(4, 8),
+                new AccrualPartition(8, 10)), partitions);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'SPLIT' given more partitions than IDs in the range
+            when the 'split' method is called
+            should return one partition per ID
+            """)
+    public void testSplit_givenMorePartitionsThanIds_shouldReturnOnePartitionPerId() {
+        // Perform SUT
+        final List<AccrualPartition> partitions = AccrualPartition.split(5, 6, 8);
+
+        // Verify results
+        Assertions.assertEquals(List.of(new AccrualPartition(4, 5), new AccrualPartition(5, 6)), partitions);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'SPLIT' given an empty ID range
+            when the 'split' method is called
+            should return no partitions
+            """)
+    public void testSplit_givenEmptyRange_shouldReturnNoPartitions() {
+        // Perform SUT and verify results
+        Assertions.assertTrue(AccrualPartition.split(10, 1, 4).isEmpty());
+    }
+}
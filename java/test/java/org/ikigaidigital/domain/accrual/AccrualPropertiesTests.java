@@ -0,0 +1,70 @@
+package org.ikigaidigital.domain.accrual;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class AccrualPropertiesTests {
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    public static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    public static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("""
+            test 'VALIDATE' given the default accrual properties
+            when the properties are validated
+            should report no violation
+            """)
+    public void testValidate_givenDefaults_shouldReportNoViolation() {
+        // Perform SUT and verify results
+        Assertions.assertTrue(validator.validate(new AccrualProperties()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'VALIDATE' given a zero chunk size, parallelism, shard count, job retention, catch-up limit and lease durations and negative catch-up days
+            when the properties are validated
+            should report a violation for each of them
+            """)
+    public void testValidate_givenZeroSizesAndDurations_shouldReportEveryViolation() {
+        // Setup expectations
+        final AccrualProperties accrualProperties = new AccrualProperties();
+        accrualProperties.setChunkSize(0);
+        accrualProperties.setParallelism(0);
+        accrualProperties.setShards(0);
+        accrualProperties.setRetainedJobs(0);
+        accrualProperties.setCatchUpMaxPeriods(0);
+        accrualProperties.setCatchUpDaysPerPeriod(-1);
+        accrualProperties.setLeaseDuration(Duration.ZERO);
+        accrualProperties.setLeasePollInterval(Duration.ZERO);
+
+        // Perform SUT
+        final Set<ConstraintViolation<AccrualProperties>> violations = validator.validate(accrualProperties);
+
+        // Verify results
+        Assertions.assertEquals(Set.of("chunkSize", "parallelism", "shards", "retainedJobs", "catchUpMaxPeriods", "catchUpDaysPerPeriod", "leaseDuration",
+                        "leasePollInterval"),
+                violations.stream().map(violation -> violation.getPropertyPath().toString()).collect(Collectors.toSet()));
+    }
+}
@@ -0,0 +1,144 @@
+package org.ikigaidigital.domain.cache;
+
+import org.ikigaidigital.domain.component.cache.CacheStats;
+import org.ikigaidigital.domain.component.cache.VersionedCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class VersionedCacheTests {
+    @Test
+    @DisplayName("""
+            test 'GET' given a value was loaded at the current data version
+            when the 'get' method is called again before and after the version is bumped
+            should serve the cached value until the bump and reload it afterwards
+            """)
+    public void testGet_givenVersionBump_shouldDropStaleEntries() {
+        // Setup expectations
+        final AtomicLong version = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final VersionedCache<String, Integer> cache = new VersionedCache<>(10, version::get);
+
+        // Perform SUT
+        final int first = cache.get("ALL", loads::incrementAndGet);
+        final int second = cache.get("ALL", loads::incrementAndGet);
+        version.incrementAndGet();
+        final int third = cache.get("ALL", loads::incrementAndGet);
+
+        // Verify results
+        Assertions.assertEquals(1, first);
+        Assertions.assertEquals(1, second);
+        Assertions.assertEquals(2, third);
+        final CacheStats stats = cache.stats();
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(2, stats.getMissCount());
+        Assertions.assertEquals(2, stats.getLoadCount());
+        Assertions.assertEquals(1, stats.getSize());
+        Assertions.assertEquals(1, stats.getDataVersion());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET' given more keys than the maximum number of entries
+            when the 'get' method is called
+            should evict the least recently used entry
+            """)
+    public void testGet_givenMoreKeysThanMaxEntries_shouldEvictLeastRecentlyUsed() {
+        // Setup expectations
+        final AtomicInteger loads = new AtomicInteger();
+        final VersionedCache<String, Integer> cache = new VersionedCache<>(2, () -> 0);
+
+        // Perform SUT
+        cache.get("a", loads::incrementAndGet);
+        cache.get("b", loads::incrementAndGet);
+        cache.get("a", loads::incrementAndGet);
+        cache.get("c", loads::incrementAndGet);
+        final int a = cache.get("a", loads::incrementAndGet);
+        final int b = cache.get("b", loads::incrementAndGet);
+
+        // Verify results
+        Assertions.assertEquals(1, a);
+        Assertions.assertEquals(4, b);
+        Assertions.assertEquals(2, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET' given many concurrent misses for the same key
+            when the 'get' method is called from several threads at once
+            should run the loader once and hand its result to every caller
+            """)
+    public void testGet_givenConcurrentMisses_shouldLoadOnce() throws Exception {
+        // Setup expectations
+        final int callers = 8;
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loaderStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoader = new CountDownLatch(1);
+        final VersionedCache<String, Integer> cache = new VersionedCache<>(10, () -> 0);
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // Perform SUT
+        final List<Future<Integer>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> cache.get("ALL", () -> {
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return loads.incrementAndGet();
+            })));
+            Assertions.assertTrue(loaderStarted.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("ALL", loads::incrementAndGet)));
+            }
+            while (cache.stats().getMissCount() < callers) {
+                Thread.onSpinWait();
+            }
+            releaseLoader.countDown();
+
+            // Verify results
+            for (Future<Integer> result : results) {
+                Assertions.assertEquals(1, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, cache.stats().getLoadCount());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET' given the loader throws
+            when the 'get' method is called
+            should propagate the exception, cache nothing and load again on the next call
+            """)
+    public void testGet_givenLoaderFails_shouldNotCacheFailure() {
+        // Setup expectations
+        final VersionedCache<String, Integer> cache = new VersionedCache<>(10, () -> 0);
+
+        // Perform SUT and verify results
+        Assertions.assertThrows(IllegalStateException.class, () -> cache.get("ALL", () -> {
+            throw new IllegalStateException("Database down");
+        }));
+        Assertions.assertEquals(7, cache.get("ALL", () -> 7));
+        Assertions.assertEquals(1, cache.stats().getLoadFailureCount());
+        Assertions.assertEquals(1, cache.stats().getLoadCount());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
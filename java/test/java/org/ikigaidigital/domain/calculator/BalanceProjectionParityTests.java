@@ -0,0 +1,109 @@
+package org.ikigaidigital.domain.calculator;
+
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.component.projection.BalanceProjector;
+import org.ikigaidigital.domain.component.projection.ProjectionProperties;
+import org.ikigaidigital.domain.model.dto.TimeDepositProjectionDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Property-based parity checks between the closed-form balance projection and month-by-month accrual.
+ * Every repetition draws its own seeded sample, so a failure can be replayed from the repetition number.
+ */
+public class BalanceProjectionParityTests {
+    private static final int SAMPLES_PER_REPETITION = 500;
+    private static final List<BigDecimal> RATES = List.of(new BigDecimal("0.01"), new BigDecimal("0.03"), new BigDecimal("0.05"),
+            new BigDecimal("-0.02"), new BigDecimal("0.0712345678912"), new BigDecimal("1.5"));
+
+    @RepeatedTest(10)
+    @DisplayName("""
+            test 'PROJECTED BALANCE' given random plans, balances, days and months,
+            when the balance is projected,
+            then it should equal the balance accrued month by month and count the months that earned interest.
+            """)
+    void projectedBalance_givenRandomInputs_shouldMatchMonthByMonthAccrual(final RepetitionInfo repetitionInfo) {
+        // Setup expectations
+        final Random random = new Random(17L * repetitionInfo.getCurrentRepetition());
+
+        for (int i = 0; i < SAMPLES_PER_REPETITION; i++) {
+            final boolean interestEnds = random.nextBoolean();
+            final PlanEvaluator plan = PlanEvaluator.compile(PlanEvaluatorTests.plan("basic", RATES.get(random.nextInt(RATES.size())),
+                    random.nextInt(60), interestEnds, interestEnds ? random.nextInt(1000) : null));
+            final BigDecimal balance = RandomTimeDeposits.balance(random);
+            final int days = random.nextInt(500);
+            final int months = random.nextInt(151);
+            final int daysPerMonth = random.nextInt(32);
+
+            BigDecimal expected = balance;
+            int expectedInterestMonths = 0;
+            for (int month = 1; month <= months; month++) {
+                final int heldDays = days + (month - 1) * daysPerMonth;
+                expected = plan.updatedBalance(heldDays, expected);
+                expectedInterestMonths += plan.accruesInterest(heldDays) ? 1 : 0;
+            }
+            expected = expected.setScale(2, RoundingMode.HALF_UP);
+
+            // Perform SUT and verify results
+            assertThat(plan.projectedBalance(days, balance, months, daysPerMonth))
+                    .as("rate %s, balance %s, days %d, months %d, days per month %d", plan.getInterestRate(), balance, days, months, daysPerMonth)
+                    .isEqualTo(expected);
+            assertThat(plan.interestMonths(days, months, daysPerMonth)).isEqualTo(expectedInterestMonths);
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'PROJECT' given deposits of every plan and of an unknown plan,
+            when the book is projected over 24 months,
+            then each projection should equal 24 month-end accruals with the days advanced by a month each time.
+            """)
+    void project_givenDepositsOfEveryPlan_shouldMatchRepeatedUpdateBalance() {
+        // Setup expectations
+        final PlanProperties planProperties = new PlanProperties();
+        planProperties.setPlans(List.of(
+                PlanEvaluatorTests.plan("student", new BigDecimal("0.03"), 30, true, 365),
+                PlanEvaluatorTests.plan("premium", new BigDecimal("0.05"), 45, false, null),
+                PlanEvaluatorTests.plan("basic", new BigDecimal("0.01"), 30, false, null)));
+        final TimeDepositCalculator calculator = new TimeDepositCalculator(planProperties, new AccrualProperties());
+        final ProjectionProperties projectionProperties = new ProjectionProperties();
+        projectionProperties.setParallelChunkSize(64);
+
+        final String[] planTypes = {"STUDENT", "PREMIUM", "BASIC", "unknown"};
+        final List<TimeDepositsDto> deposits = RandomTimeDeposits.deposits(new Random(11L), 1_000, planTypes, RandomTimeDeposits::balance);
+        final List<TimeDepositsDto> accrued = RandomTimeDeposits.deposits(new Random(11L), 1_000, planTypes, RandomTimeDeposits::balance);
+        for (int month = 1; month <= 24; month++) {
+            calculator.updateBalance(accrued);
+            accrued.forEach(deposit -> deposit.setDays(deposit.getDays() + projectionProperties.getDaysPerMonth()));
+        }
+
+        // Perform SUT
+        final List<TimeDepositProjectionDto> projections = new BalanceProjector(calculator, projectionProperties).project(deposits, 24);
+
+        // Verify results
+        assertThat(projections).hasSameSizeAs(deposits);
+        for (int row = 0; row < deposits.size(); row++) {
+            assertThat(projections.get(row).getId()).isEqualTo(deposits.get(row).getId());
+            assertThat(projections.get(row).getBalance()).isEqualTo(deposits.get(row).getBalance());
+            if ("unknown".equals(deposits.get(row).getPlanType())) {
+                assertThat(projections.get(row).getProjectedBalance()).isEqualTo(deposits.get(row).getBalance());
+                assertThat(projections.get(row).getInterestMonths()).isZero();
+            } else {
+                assertThat(projections.get(row).getProjectedBalance()).isEqualTo(accrued.get(row).getBalance());
+            }
+        }
+    }
+}
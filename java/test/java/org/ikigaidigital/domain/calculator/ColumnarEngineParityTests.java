@@ -0,0 +1,150 @@
+package org.ikigaidigital.domain.calculator;
+
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.calculator.InterestKernel;
+import org.ikigaidigital.domain.component.calculator.InterestKernels;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.ScalarInterestKernel;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.calculator.TimeDepositColumns;
+import org.ikigaidigital.domain.component.calculator.VectorInterestKernel;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.constant.CalculationEngine;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Property-based parity checks between the kernels of the {@code COLUMNAR} engine and
+ * {@link PlanEvaluator#updatedBalance(int, BigDecimal)}. Every repetition draws its own seeded sample, so a failure can
+ * be replayed from the repetition number. The surefire configuration adds {@code jdk.incubator.vector}, so the vector
+ * kernel runs here.
+ */
+public class ColumnarEngineParityTests {
+    private static final int SAMPLES_PER_REPETITION = 5_003;
+    private static final String[] PLAN_TYPES = {"STUDENT", "PREMIUM", "BASIC", "Basic", "premium", "GOLD", "ODD"};
+    private static final String[] RATES = {"0.01", "0.03", "0.05", "0.125", "0.0333", "-0.02", "0.0000000000000000000000001"};
+
+    @RepeatedTest(20)
+    @DisplayName("""
+            test 'ACCRUE' given random plans, balances and days,
+            when the scalar and vector kernels accrue the same columns,
+            then every accrued balance should equal the BigDecimal result in value and scale.
+            """)
+    void accrue_givenRandomColumns_shouldMatchBigDecimal(final RepetitionInfo repetitionInfo) {
+        // Setup expectations
+        final Random random = new Random(43L * repetitionInfo.getCurrentRepetition());
+        final PlanEvaluatorIndex index = PlanEvaluatorIndex.compile(List.of(
+                PlanEvaluatorTests.plan("student", randomRate(random), random.nextInt(60), true, 365),
+                PlanEvaluatorTests.plan("premium", randomRate(random), random.nextInt(60), random.nextBoolean(), 400),
+                PlanEvaluatorTests.plan("odd", randomRate(random), random.nextInt(60), false, null),
+                PlanEvaluatorTests.plan("basic", randomRate(random), random.nextInt(60), false, null)));
+        final List<TimeDepositsDto> deposits = RandomTimeDeposits.deposits(random, SAMPLES_PER_REPETITION, PLAN_TYPES, RandomTimeDeposits::wideBalance);
+
+        for (InterestKernel kernel : List.of(new ScalarInterestKernel(), new VectorInterestKernel())) {
+            final TimeDepositColumns columns = TimeDepositColumns.of(deposits, index);
+
+            // Perform SUT
+            kernel.accrue(columns);
+
+            // Verify results
+            int changed = 0;
+            for (int row = 0; row < deposits.size(); row++) {
+                final TimeDepositsDto deposit = deposits.get(row);
+                final PlanEvaluator plan = index.find(deposit.getPlanType());
+                final BigDecimal expected = plan != null ? plan.updatedBalance(deposit.getDays(), deposit.getBalance()) : deposit.getBalance();
+                assertThat(columns.accruedBalance(row))
+                        .as("%s kernel, plan %s, balance %s, days %d", kernel.name(), deposit.getPlanType(), deposit.getBalance(), deposit.getDays())
+                        .isEqualTo(plan != null ? expected : columns.balance(row));
+                changed += expected.compareTo(deposit.getBalance()) != 0 ? 1 : 0;
+            }
+            Assertions.assertEquals(changed, columns.changedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'ACCRUE' given columns the kernel has already accrued,
+            when the kernel accrues them again,
+            then it should start over from the balances as added.
+            """)
+    void accrue_givenAccruedColumns_shouldStartFromBalancesAsAdded() {
+        // Setup expectations
+        final PlanEvaluatorIndex index = PlanEvaluatorIndex.compile(List.of(
+                PlanEvaluatorTests.plan("premium", new BigDecimal("0.05"), 45, false, null)));
+        final TimeDepositColumns columns = TimeDepositColumns.allocate(index, 1);
+        columns.add(1, "PREMIUM", 60, new BigDecimal("1200.00"));
+        columns.add(2, "PREMIUM", 60, BigDecimal.valueOf(Long.MAX_VALUE, 2));
+        columns.add(3, "PREMIUM", 60, new BigDecimal("1200.005"));
+        columns.add(4, "GOLD", 60, new BigDecimal("1200.00"));
+
+        for (InterestKernel kernel : List.of(new ScalarInterestKernel(), new VectorInterestKernel())) {
+            // Perform SUT
+            kernel.accrue(columns);
+            kernel.accrue(columns);
+
+            // Verify results
+            Assertions.assertEquals(new BigDecimal("1205.00"), columns.accruedBalance(0));
+            Assertions.assertEquals(index.find("premium").updatedBalance(60, BigDecimal.valueOf(Long.MAX_VALUE, 2)), columns.accruedBalance(1));
+            Assertions.assertEquals(new BigDecimal("1205.01"), columns.accruedBalance(2));
+            Assertions.assertEquals(new BigDecimal("1200.00"), columns.accruedBalance(3));
+            Assertions.assertArrayEquals(new int[]{0, 1, 2}, columns.changedRows());
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE BALANCE' given the COLUMNAR engine with the vector kernel is selected,
+            when updateBalance method is called,
+            then it should update the deposits exactly as the BIG_DECIMAL engine does.
+            """)
+    void updateBalance_givenColumnarEngine_shouldMatchBigDecimalEngine() {
+        // Setup expectations
+        final PlanProperties planProperties = new PlanProperties();
+        planProperties.setPlans(List.of(
+                PlanEvaluatorTests.plan("student", new BigDecimal("0.03"), 30, true, 365),
+                PlanEvaluatorTests.plan("premium", new BigDecimal("0.05"), 45, false, null),
+                PlanEvaluatorTests.plan("basic", new BigDecimal("0.01"), 30, false, null)));
+        final AccrualProperties columnarProperties = new AccrualProperties();
+        columnarProperties.setCalculationEngine(CalculationEngine.COLUMNAR);
+        columnarProperties.setVectorKernel(true);
+        final TimeDepositCalculator columnarCalculator = new TimeDepositCalculator(planProperties, columnarProperties);
+
+        final List<TimeDepositsDto> columnarDeposits = RandomTimeDeposits.deposits(new Random(11L), 10_000, PLAN_TYPES, RandomTimeDeposits::wideBalance);
+        final List<TimeDepositsDto> bigDecimalDeposits = RandomTimeDeposits.deposits(new Random(11L), 10_000, PLAN_TYPES, RandomTimeDeposits::wideBalance);
+
+        // Perform SUT
+        columnarCalculator.updateBalance(columnarDeposits);
+        new TimeDepositCalculator(planProperties, new AccrualProperties()).updateBalance(bigDecimalDeposits);
+
+        // Verify results
+        assertThat(columnarCalculator.interestKernel()).isInstanceOf(VectorInterestKernel.class);
+        assertThat(columnarDeposits).isEqualTo(bigDecimalDeposits);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CREATE' given the vector kernel is not requested,
+            when the kernel is created,
+            then it should be the scalar kernel.
+            """)
+    void create_givenVectorKernelNotRequested_shouldReturnScalarKernel() {
+        // Perform SUT and verify results
+        assertThat(InterestKernels.create(false)).isInstanceOf(ScalarInterestKernel.class);
+        assertThat(InterestKernels.create(true)).isInstanceOf(VectorInterestKernel.class);
+    }
+
+    private static BigDecimal randomRate(final Random random) {
+        return new BigDecimal(RATES[random.nextInt(RATES.length)]);
+    }
+}
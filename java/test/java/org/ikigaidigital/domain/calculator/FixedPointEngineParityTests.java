@@ -0,0 +1,127 @@
+package org.ikigaidigital.domain.calculator;
+
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.calculator.FixedPointRate;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.constant.CalculationEngine;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Property-based parity checks between the {@code FIXED_POINT} and {@code BIG_DECIMAL} calculation engines.
+ * Every repetition draws its own seeded sample, so a failure can be replayed from the repetition number.
+ */
+public class FixedPointEngineParityTests {
+    private static final int SAMPLES_PER_REPETITION = 5_000;
+
+    @RepeatedTest(20)
+    @DisplayName("""
+            test 'UPDATED BALANCE FIXED POINT' given random rates, balances and days,
+            when both engines calculate the new balance,
+            then the fixed-point result should equal the BigDecimal result in value and scale.
+            """)
+    void updatedBalanceFixedPoint_givenRandomInputs_shouldMatchBigDecimal(final RepetitionInfo repetitionInfo) {
+        // Setup expectations
+        final Random random = new Random(31L * repetitionInfo.getCurrentRepetition());
+
+        for (int i = 0; i < SAMPLES_PER_REPETITION; i++) {
+            final PlanEvaluator plan = PlanEvaluator.compile(PlanEvaluatorTests.plan("basic", randomRate(random),
+                    random.nextInt(60), random.nextBoolean(), 365));
+            final BigDecimal balance = RandomTimeDeposits.balance(random);
+            final int days = random.nextInt(500);
+
+            // Perform SUT and verify results
+            assertThat(plan.updatedBalanceFixedPoint(days, balance))
+                    .as("rate %s, balance %s, days %d", plan.getInterestRate(), balance, days)
+                    .isEqualTo(plan.updatedBalance(days, balance));
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATED BALANCE FIXED POINT' given balances that land exactly on HALF_UP rounding ties,
+            when both engines calculate the new balance,
+            then ties should round away from zero in both engines.
+            """)
+    void updatedBalanceFixedPoint_givenRoundingTies_shouldMatchBigDecimal() {
+        // Setup expectations
+        final PlanEvaluator student = PlanEvaluator.compile(PlanEvaluatorTests.plan("student", new BigDecimal("0.03"), 30, true, 365));
+        final PlanEvaluator basic = PlanEvaluator.compile(PlanEvaluatorTests.plan("basic", new BigDecimal("0.01"), 30, false, null));
+
+        for (String value : List.of("2.00", "-2.00", "6.00", "0.20", "600.00", "1.50", "-1.50", "0.06", "0.18")) {
+            final BigDecimal balance = new BigDecimal(value);
+
+            // Perform SUT and verify results
+            assertThat(student.updatedBalanceFixedPoint(100, balance)).isEqualTo(student.updatedBalance(100, balance));
+            assertThat(basic.updatedBalanceFixedPoint(100, balance)).isEqualTo(basic.updatedBalance(100, balance));
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATED BALANCE FIXED POINT' given balances that could overflow a long,
+            when the fixed-point engine calculates the new balance,
+            then it should fall back to BigDecimal and still match it.
+            """)
+    void updatedBalanceFixedPoint_givenOverflowingBalances_shouldFallBackToBigDecimal() {
+        // Setup expectations
+        final PlanEvaluator premium = PlanEvaluator.compile(PlanEvaluatorTests.plan("premium", new BigDecimal("0.05"), 45, false, null));
+        final FixedPointRate rate = premium.getFixedPointRate();
+
+        for (BigDecimal balance : List.of(
+                BigDecimal.valueOf(rate.getMaxExactCents(), 2),
+                BigDecimal.valueOf(rate.getMaxExactCents() + 1, 2),
+                BigDecimal.valueOf(Long.MAX_VALUE, 2),
+                new BigDecimal("123456789012345678901234567890.12"),
+                new BigDecimal("1000.005"))) {
+            // Perform SUT and verify results
+            assertThat(premium.updatedBalanceFixedPoint(60, balance)).isEqualTo(premium.updatedBalance(60, balance));
+        }
+        assertThat(FixedPointRate.of(new BigDecimal("0.0000000000000000000000001"))).isNull();
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE BALANCE' given the FIXED_POINT engine is selected,
+            when updateBalance method is called,
+            then it should update the deposits exactly as the BIG_DECIMAL engine does.
+            """)
+    void updateBalance_givenFixedPointEngine_shouldMatchBigDecimalEngine() {
+        // Setup expectations
+        final PlanProperties planProperties = new PlanProperties();
+        planProperties.setPlans(List.of(
+                PlanEvaluatorTests.plan("student", new BigDecimal("0.03"), 30, true, 365),
+                PlanEvaluatorTests.plan("premium", new BigDecimal("0.05"), 45, false, null),
+                PlanEvaluatorTests.plan("basic", new BigDecimal("0.01"), 30, false, null)));
+        final AccrualProperties fixedPointProperties = new AccrualProperties();
+        fixedPointProperties.setCalculationEngine(CalculationEngine.FIXED_POINT);
+
+        final String[] planTypes = {"STUDENT", "PREMIUM", "BASIC", "unknown"};
+        final List<TimeDepositsDto> fixedPointDeposits = RandomTimeDeposits.deposits(new Random(7L), 10_000, planTypes, RandomTimeDeposits::balance);
+        final List<TimeDepositsDto> bigDecimalDeposits = RandomTimeDeposits.deposits(new Random(7L), 10_000, planTypes, RandomTimeDeposits::balance);
+
+        // Perform SUT
+        new TimeDepositCalculator(planProperties, fixedPointProperties).updateBalance(fixedPointDeposits);
+        new TimeDepositCalculator(planProperties, new AccrualProperties()).updateBalance(bigDecimalDeposits);
+
+        // Verify results
+        assertThat(fixedPointDeposits).isEqualTo(bigDecimalDeposits);
+    }
+
+    private static BigDecimal randomRate(final Random random) {
+        final int scale = random.nextInt(13);
+        final long unscaled = (random.nextInt(10) == 0 ? -1 : 1) * (long) random.nextInt((int) Math.min(Integer.MAX_VALUE, Math.pow(10, Math.min(scale, 9))) + 1);
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+}
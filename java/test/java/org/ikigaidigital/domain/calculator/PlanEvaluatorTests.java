@@ -0,0 +1,117 @@
+package org.ikigaidigital.domain.calculator;
+
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PlanEvaluatorTests {
+    private static final String[] RATES = {"0.01", "0.03", "0.05", "0.07", "0.125", "0.0333", "0.6"};
+
+    @Test
+    @DisplayName("""
+            test 'UPDATED BALANCE' given randomized plans, balances and days,
+            when updatedBalance is called on the compiled plan,
+            then it should return exactly the same value and scale as the original per-row calculation.
+            """)
+    void updatedBalance_givenRandomInputs_shouldBeBitIdenticalToOriginalCalculation() {
+        // Setup expectations
+        final Random random = new Random(20240531L);
+
+        for (int i = 0; i < 20_000; i++) {
+            final PlanProperties.Plan plan = plan("basic", new BigDecimal(RATES[random.nextInt(RATES.length)]),
+                    random.nextInt(60), random.nextBoolean(), random.nextBoolean() ? 100 + random.nextInt(400) : null);
+            final BigDecimal balance = BigDecimal.valueOf(random.nextLong() % 10_000_000_000L, random.nextInt(4));
+            final int days = random.nextInt(800);
+
+            // Perform SUT
+            final BigDecimal actual = PlanEvaluator.compile(plan).updatedBalance(days, balance);
+
+            // Verify results
+            assertThat(actual).isEqualTo(originalCalculateUpdatedBalance(days, plan, balance));
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND' given plans configured in lower case,
+            when find is called with any casing of the plan type,
+            then it should return the compiled plan, and null for unknown or null plan types.
+            """)
+    void find_givenAnyCasing_shouldResolvePlan() {
+        // Setup expectations
+        final PlanEvaluatorIndex index = PlanEvaluatorIndex.compile(List.of(
+                plan("basic", new BigDecimal("0.01"), 30, false, null),
+                plan("premium", new BigDecimal("0.05"), 45, false, null),
+                plan("BASIC", new BigDecimal("0.99"), 0, false, null)));
+
+        // Perform SUT and verify results
+        assertThat(index.find("basic").getInterestRate()).isEqualByComparingTo("0.01");
+        assertThat(index.find("BASIC").getInterestRate()).isEqualByComparingTo("0.01");
+        assertThat(index.find("Basic").getInterestRate()).isEqualByComparingTo("0.01");
+        assertThat(index.find("PREMIUM").getPlanType()).isEqualTo("premium");
+        assertThat(index.find("unknown")).isNull();
+        assertThat(index.find(null)).isNull();
+        assertThat(index.evaluators()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'PLAN EVALUATOR INDEX' given the configured plan list is replaced,
+            when the calculator updates balances,
+            then it should recompile the plans and use the new configuration.
+            """)
+    void planEvaluatorIndex_givenPlansReplaced_shouldRecompile() {
+        // Setup expectations
+        final PlanProperties planProperties = new PlanProperties();
+        planProperties.setPlans(List.of(plan("basic", new BigDecimal("0.01"), 30, false, null)));
+        final TimeDepositCalculator calculator = new TimeDepositCalculator(planProperties, new AccrualProperties());
+        final PlanEvaluatorIndex first = calculator.planEvaluatorIndex();
+
+        // Perform SUT
+        planProperties.setPlans(new ArrayList<>(List.of(plan("basic", new BigDecimal("0.12"), 30, false, null))));
+        final TimeDepositsDto deposit = new TimeDepositsDto(1, "BASIC", new BigDecimal("1000.00"), 60);
+        calculator.updateBalance(List.of(deposit));
+
+        // Verify results
+        assertThat(calculator.planEvaluatorIndex()).isNotSameAs(first);
+        assertThat(calculator.planEvaluatorIndex()).isSameAs(calculator.planEvaluatorIndex());
+        assertThat(deposit.getBalance()).isEqualTo(new BigDecimal("1010.00"));
+    }
+
+    static PlanProperties.Plan plan(final String planType, final BigDecimal interestRate, final int interestFreeDays,
+                                    final boolean interestEnds, final Integer interestEndsAfterDays) {
+        final PlanProperties.Plan plan = new PlanProperties.Plan();
+        plan.setPlanType(planType);
+        plan.setInterestRate(interestRate);
+        plan.setInterestFreeDays(interestFreeDays);
+        plan.setInterestEnds(interestEnds);
+        plan.setInterestEndsAfterDays(interestEndsAfterDays);
+        return plan;
+    }
+
+    static BigDecimal originalCalculateUpdatedBalance(final int days, final PlanProperties.Plan plan, final BigDecimal balance) {
+        BigDecimal interest = BigDecimal.ZERO;
+        if (days > plan.getInterestFreeDays()) {
+            if (!plan.isInterestEnds() || (plan.getInterestEndsAfterDays() == null || days <= plan.getInterestEndsAfterDays())) {
+                interest = balance
+                        .multiply(plan.getInterestRate())
+                        .divide(BigDecimal.valueOf(12), 8, RoundingMode.HALF_UP)
+                        .setScale(2, RoundingMode.HALF_UP);
+            }
+        }
+        return balance.add(interest).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,49 @@
+package org.ikigaidigital.domain.calculator;
+
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Seeded random balances and deposits shared by the parity tests, so the same seed always draws the same sample.
+ */
+final class RandomTimeDeposits {
+    /**
+     * Draws a balance of up to 17 digits and up to two decimal places, negative one time in twenty.
+     */
+    static BigDecimal balance(final Random random) {
+        final int magnitude = 1 + random.nextInt(17);
+        final long unscaled = (long) (random.nextDouble() * Math.pow(10, magnitude));
+        return BigDecimal.valueOf(random.nextInt(20) == 0 ? -unscaled : unscaled, random.nextInt(3));
+    }
+
+    /**
+     * Draws a balance of up to three decimal places that may lie past the cents a {@code long} holds, negative one
+     * time in twenty.
+     */
+    static BigDecimal wideBalance(final Random random) {
+        final int magnitude = 1 + random.nextInt(19);
+        final long unscaled = (long) (random.nextDouble() * Math.pow(10, Math.min(magnitude, 18)));
+        final BigDecimal balance = BigDecimal.valueOf(random.nextInt(20) == 0 ? -unscaled : unscaled, random.nextInt(4));
+        return magnitude > 18 ? balance.multiply(BigDecimal.TEN.pow(4)) : balance;
+    }
+
+    /**
+     * Draws {@code count} deposits with IDs from zero, each of one of the plan types, a balance and up to 499 days.
+     */
+    static List<TimeDepositsDto> deposits(final Random random, final int count, final String[] planTypes,
+                                          final Function<Random, BigDecimal> balances) {
+        final List<TimeDepositsDto> deposits = new ArrayList<>();
+        for (int id = 0; id < count; id++) {
+            deposits.add(new TimeDepositsDto(id, planTypes[random.nextInt(planTypes.length)], balances.apply(random), random.nextInt(500)));
+        }
+        return deposits;
+    }
+
+    private RandomTimeDeposits() {
+    }
+}
@@ -0,0 +1,177 @@
+package org.ikigaidigital.domain.importer;
+
+import org.ikigaidigital.domain.component.importer.MappedCsvReader;
+import org.ikigaidigital.domain.exception.ImportRecordException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+class MappedCsvReaderTests {
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("""
+            test 'MAPPED CSV READER' given a file with a header, CRLF endings, blank lines, spaces and quotes,
+            when every record is read,
+            should parse each field and skip the blank lines
+            """)
+    void testNextRecord_givenMixedFormatting_shouldParseEveryField() throws IOException {
+        // Setup expectations
+        final Path file = write("id,plan_type,days,balance\r\n1,basic,10,1000\r\n\r\n 2 ,\"student\",40,-2000.5\n3,basic,0,0.07");
+
+        // Perform SUT
+        final List<String> records = new ArrayList<>();
+        final List<String> planTypes = new ArrayList<>();
+        try (MappedCsvReader reader = MappedCsvReader.open(file)) {
+            Assertions.assertTrue(reader.nextRecord());
+            Assertions.assertTrue(reader.isHeader());
+            while (reader.nextRecord()) {
+                Assertions.assertFalse(reader.isHeader());
+                final int id = reader.intField();
+                final String planType = reader.tokenField(8);
+                final int days = reader.intField();
+                final long cents = reader.decimalField(2);
+                reader.endOfRecord();
+                records.add(reader.lineNumber() + ":" + id + ":" + planType + ":" + days + ":" + cents);
+                planTypes.add(planType);
+            }
+        }
+
+        // Verify results
+        Assertions.assertEquals(List.of("2:1:basic:10:100000", "4:2:student:40:-200050", "5:3:basic:0:7"), records);
+        Assertions.assertSame(planTypes.get(0), planTypes.get(2));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'MAPPED CSV READER' given a window much smaller than the file,
+            when every record is read,
+            should read the records that cross a window boundary whole
+            """)
+    void testNextRecord_givenSmallWindow_shouldReadRecordsAcrossWindows() throws IOException {
+        // Setup expectations
+        final StringBuilder content = new StringBuilder();
+        for (int id = 1; id <= 500; id++) {
+            content.append(id).append(',').append(id * 3).append(',').append(id).append(".25,2024-02-29\n");
+        }
+        final Path file = write(content.toString());
+
+        // Perform SUT
+        long idTotal = 0;
+        long centsTotal = 0;
+        int records = 0;
+        try (MappedCsvReader reader = MappedCsvReader.open(file, 37)) {
+            while (reader.nextRecord()) {
+                idTotal += reader.intField();
+                Assertions.assertEquals(3 * (records + 1), reader.intField());
+                centsTotal += reader.decimalField(2);
+                Assertions.assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), reader.dateField());
+                reader.endOfRecord();
+                records++;
+            }
+        }
+
+        // Verify results
+        Assertions.assertEquals(500, records);
+        Assertions.assertEquals(125250, idTotal);
+        Assertions.assertEquals(12525000 + 500 * 25, centsTotal);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'MAPPED CSV READER' given a record longer than the window,
+            when every record is read,
+            should reject the long record with its line number and go on with the record after it
+            """)
+    void testNextRecord_givenRecordLongerThanWindow_shouldSkipIt() throws IOException {
+        // Setup expectations
+        final Path file = write("1,10\n2," + "9".repeat(100) + "\n3,30\n");
+
+        // Perform SUT and verify exception
+        final List<String> records = new ArrayList<>();
+        try (MappedCsvReader reader = MappedCsvReader.open(file, 16)) {
+            Assertions.assertTrue(reader.nextRecord());
+            records.add(reader.lineNumber() + ":" + reader.intField() + ":" + reader.intField());
+            Assertions.assertEquals("Line 2 is longer than 16 bytes",
+                    Assertions.assertThrows(ImportRecordException.class, reader::nextRecord).getMessage());
+            Assertions.assertTrue(reader.nextRecord());
+            records.add(reader.lineNumber() + ":" + reader.intField() + ":" + reader.intField());
+            Assertions.assertFalse(reader.nextRecord());
+        }
+
+        // Verify results
+        Assertions.assertEquals(List.of("1:1:10", "3:3:30"), records);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'MAPPED CSV READER' given malformed fields,
+            when the fields are parsed,
+            should reject each with its line and field and go on with the next record
+            """)
+    void testFields_givenMalformedValues_shouldThrowImportRecordException() throws IOException {
+        // Setup expectations
+        final Path file = write("""
+                1,12.345
+                2,2024-02-30
+                3,premiumplus
+                4,2147483648
+                5,1,extra
+                6
+                7,ok
+                """);
+
+        // Perform SUT and verify exceptions
+        try (MappedCsvReader reader = MappedCsvReader.open(file)) {
+            Assertions.assertTrue(reader.nextRecord());
+            reader.intField();
+            Assertions.assertEquals("Line 1, field 2 has more than 2 decimal places",
+                    Assertions.assertThrows(ImportRecordException.class, () -> reader.decimalField(2)).getMessage());
+
+            Assertions.assertTrue(reader.nextRecord());
+            reader.intField();
+            Assertions.assertEquals("Line 2, field 2 is not a valid date",
+                    Assertions.assertThrows(ImportRecordException.class, reader::dateField).getMessage());
+
+            Assertions.assertTrue(reader.nextRecord());
+            reader.intField();
+            Assertions.assertEquals("Line 3, field 2 is longer than 8 characters",
+                    Assertions.assertThrows(ImportRecordException.class, () -> reader.tokenField(8)).getMessage());
+
+            Assertions.assertTrue(reader.nextRecord());
+            reader.intField();
+            Assertions.assertEquals("Line 4, field 2 is out of range",
+                    Assertions.assertThrows(ImportRecordException.class, reader::intField).getMessage());
+
+            Assertions.assertTrue(reader.nextRecord());
+            reader.intField();
+            reader.intField();
+            Assertions.assertEquals("Line 5 has more than 2 fields",
+                    Assertions.assertThrows(ImportRecordException.class, reader::endOfRecord).getMessage());
+
+            Assertions.assertTrue(reader.nextRecord());
+            reader.intField();
+            Assertions.assertEquals("Line 6 has no field 2",
+                    Assertions.assertThrows(ImportRecordException.class, reader::intField).getMessage());
+
+            Assertions.assertTrue(reader.nextRecord());
+            Assertions.assertEquals(7, reader.intField());
+            Assertions.assertEquals("ok", reader.tokenField(8));
+            Assertions.assertFalse(reader.nextRecord());
+        }
+    }
+
+    private Path write(final String content) throws IOException {
+        return Files.writeString(directory.resolve("import.csv"), content, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,64 @@
+package org.ikigaidigital.domain.listing;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.ikigaidigital.domain.component.listing.ListingProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ListingPropertiesTests {
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    public static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    public static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("""
+            test 'VALIDATE' given the default listing properties
+            when the properties are validated
+            should report no violation
+            """)
+    public void testValidate_givenDefaults_shouldReportNoViolation() {
+        // Perform SUT and verify results
+        Assertions.assertTrue(validator.validate(new ListingProperties()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'VALIDATE' given a zero fetch size, default page size, maximum page size and cache size
+            when the properties are validated
+            should report a violation for each of them
+            """)
+    public void testValidate_givenZeroSizes_shouldReportEveryViolation() {
+        // Setup expectations
+        final ListingProperties listingProperties = new ListingProperties();
+        listingProperties.setFetchSize(0);
+        listingProperties.setDefaultPageSize(0);
+        listingProperties.setMaxPageSize(0);
+        listingProperties.setCacheMaxEntries(0);
+
+        // Perform SUT
+        final Set<ConstraintViolation<ListingProperties>> violations = validator.validate(listingProperties);
+
+        // Verify results
+        Assertions.assertEquals(Set.of("fetchSize", "defaultPageSize", "maxPageSize", "cacheMaxEntries"),
+                violations.stream().map(violation -> violation.getPropertyPath().toString()).collect(Collectors.toSet()));
+    }
+}
@@ -0,0 +1,38 @@
+package org.ikigaidigital.domain.listing;
+
+import org.ikigaidigital.domain.component.listing.PageCursor;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PageCursorTests {
+    @Test
+    @DisplayName("""
+            test 'ENCODE AND DECODE' given the ID of the last account on a page
+            when the cursor is encoded and decoded again
+            should return the same ID from a URL-safe token
+            """)
+    public void testEncodeAndDecode_givenLastId_shouldRoundTrip() {
+        // Perform SUT
+        final String cursor = PageCursor.encode(3);
+
+        // Verify results
+        Assertions.assertEquals("djE6Mw", cursor);
+        Assertions.assertEquals(3, PageCursor.decode(cursor));
+        Assertions.assertEquals(Long.MAX_VALUE, PageCursor.decode(PageCursor.encode(Long.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'DECODE' given a malformed cursor
+            when the 'decode' method is called
+            should throw a TimeDepositException
+            """)
+    public void testDecode_givenMalformedCursor_shouldThrowTimeDepositException() {
+        // Perform SUT and verify exception
+        Assertions.assertThrows(TimeDepositException.class, () -> PageCursor.decode("not a cursor!"));
+        Assertions.assertThrows(TimeDepositException.class, () -> PageCursor.decode("MTIz"));
+        Assertions.assertThrows(TimeDepositException.class, () -> PageCursor.decode("djE6YWJj"));
+    }
+}
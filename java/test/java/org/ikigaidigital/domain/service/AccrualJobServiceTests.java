@@ -0,0 +1,131 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.constant.AccrualJobStatus;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.model.response.AccrualJobResponse;
+import org.ikigaidigital.repository.accrual.AccrualRunRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.YearMonth;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyList;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:xatimedepositaccrualjobdb",
+        "application.accrual.chunk-size=2",
+        "application.accrual.job-virtual-threads=true"
+})
+public class AccrualJobServiceTests {
+    private static final String TRACE_ID = "test-trace-id";
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private AccrualJobService accrualJobService;
+    @Autowired
+    private AccrualRunRepository accrualRunRepository;
+
+    @SpyBean
+    private TimeDepositCalculator timeDepositCalculator;
+
+    @Test
+    @DisplayName("""
+            test 'SUBMIT ACCRUAL JOB' given no job is active
+            when the 'submitAccrualJob' method is called
+            should return the job straight away and complete it in the background with its progress
+            """)
+    public void testSubmitAccrualJob_givenNoActiveJob_shouldCompleteInBackground() throws Exception {
+        // Perform SUT
+        final AccrualJobResponse submitted = accrualJobService.submitAccrualJob(TRACE_ID, YearMonth.of(2025, 1));
+
+        // Verify results
+        Assertions.assertNotNull(submitted.getJobId());
+        Assertions.assertEquals("2025-01", submitted.getPeriod());
+        final AccrualJobResponse finished = awaitFinished(submitted.getJobId());
+        Assertions.assertEquals(AccrualJobStatus.COMPLETED, finished.getStatus());
+        // Account 1 is in its interest-free period and is not read by the accrual
+        Assertions.assertEquals(9, finished.getRowsDone());
+        Assertions.assertEquals(9, finished.getTotalRows());
+        Assertions.assertEquals(9, finished.getRowsWritten());
+        Assertions.assertNull(finished.getStage());
+        Assertions.assertNotNull(finished.getFinishedAt());
+        Assertions.assertNull(finished.getError());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CANCEL ACCRUAL JOB' given a job that is computing its first chunk
+            when the 'cancelAccrualJob' method is called
+            should stop the job after that chunk, and a new job for the period should resume after it
+            """)
+    public void testCancelAccrualJob_givenRunningJob_shouldStopAfterCurrentChunk() throws Exception {
+        // Setup expectations
+        final YearMonth period = YearMonth.of(2025, 2);
+        final CountDownLatch computing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            computing.countDown();
+            Assertions.assertTrue(release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(timeDepositCalculator).updateBalance(anyList());
+
+        final AccrualJobResponse submitted = accrualJobService.submitAccrualJob(TRACE_ID, period);
+        Assertions.assertTrue(computing.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(submitted.getJobId(), accrualJobService.submitAccrualJob(TRACE_ID, period).getJobId());
+
+        // Perform SUT
+        final AccrualJobResponse cancelling = accrualJobService.cancelAccrualJob(submitted.getJobId()).orElseThrow();
+        release.countDown();
+
+        // Verify results
+        Assertions.assertTrue(cancelling.isCancelRequested());
+        final AccrualJobResponse cancelled = awaitFinished(submitted.getJobId());
+        Assertions.assertEquals(AccrualJobStatus.CANCELLED, cancelled.getStatus());
+        Assertions.assertEquals(2, cancelled.getRowsDone());
+        Assertions.assertEquals(AccrualRunStatus.CANCELLED, accrualRunRepository.findRunByPeriod(period).orElseThrow().getStatus());
+
+        // Perform SUT
+        final AccrualJobResponse resumed = awaitFinished(accrualJobService.submitAccrualJob(TRACE_ID, period).getJobId());
+
+        // Verify results
+        Assertions.assertEquals(AccrualJobStatus.COMPLETED, resumed.getStatus());
+        Assertions.assertEquals(7, resumed.getRowsDone());
+        Assertions.assertEquals(9, accrualRunRepository.findRunByPeriod(period).orElseThrow().getUpdatedCount());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET ACCRUAL JOB' given an unknown job ID
+            when the 'getAccrualJob' and 'cancelAccrualJob' methods are called
+            should return empty
+            """)
+    public void testGetAccrualJob_givenUnknownJob_shouldReturnEmpty() {
+        // Perform SUT and verify results
+        Assertions.assertTrue(accrualJobService.getAccrualJob("unknown").isEmpty());
+        Assertions.assertTrue(accrualJobService.cancelAccrualJob("unknown").isEmpty());
+    }
+
+    private AccrualJobResponse awaitFinished(final String jobId) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            final AccrualJobResponse job = accrualJobService.getAccrualJob(jobId).orElseThrow();
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        return Assertions.fail("Accrual job " + jobId + " did not finish in time");
+    }
+}
@@ -0,0 +1,75 @@
+package org.ikigaidigital.domain.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.repository.accrual.AccrualRunRepository;
+import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared setup of the accrual service tests. They all run in the one {@code test} profile context, so every test
+ * starts from the test accounts and an empty run ledger, and the accrual properties a test class sets in its own
+ * {@code @BeforeEach} are restored after each test.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:data-test.sql", statements = {"DELETE FROM ACCRUAL_RUN_PARTITIONS", "DELETE FROM ACCRUAL_RUNS"})
+public abstract class AccrualTestSupport {
+    protected static final String TRACE_ID = "test-trace-id";
+
+    @Autowired
+    protected TimeDepositService timeDepositService;
+    @Autowired
+    protected TimeDepositsRepository timeDepositsRepository;
+    @Autowired
+    protected AccrualRunRepository accrualRunRepository;
+    @Autowired
+    protected AccrualProperties accrualProperties;
+    @Autowired
+    protected MeterRegistry meterRegistry;
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    protected TimeDepositCalculator timeDepositCalculator;
+
+    private final AccrualProperties savedAccrualProperties = new AccrualProperties();
+
+    @BeforeEach
+    public void saveAccrualProperties() {
+        BeanUtils.copyProperties(accrualProperties, savedAccrualProperties);
+    }
+
+    @AfterEach
+    public void restoreAccrualProperties() {
+        BeanUtils.copyProperties(savedAccrualProperties, accrualProperties);
+    }
+
+    /**
+     * Reads every account, ordered by ID, into new DTOs the test may change.
+     */
+    protected List<TimeDepositsDto> readAllTimeDeposits() {
+        return timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    protected static List<TimeDepositsDto> copyOf(final List<TimeDepositsDto> timeDepositsDtoList) {
+        final List<TimeDepositsDto> copy = new ArrayList<>();
+        for (TimeDepositsDto dto : timeDepositsDtoList) {
+            copy.add(new TimeDepositsDto(dto.getId(), dto.getPlanType(), dto.getBalance(), dto.getDays()));
+        }
+        return copy;
+    }
+}
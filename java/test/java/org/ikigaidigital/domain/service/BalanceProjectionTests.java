@@ -0,0 +1,111 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.TimeDepositProjectionDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.request.TimeDepositAccountsPageRequest;
+import org.ikigaidigital.domain.model.response.TimeDepositProjectionsResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:xatimedepositbalanceprojectiondb",
+        "application.projection.max-months=120"
+})
+public class BalanceProjectionTests {
+    private static final String TRACE_ID = "test-trace-id";
+    private static final TimeDepositAccountsPageRequest FIRST_PAGE = new TimeDepositAccountsPageRequest(null, null, null, null, null, null);
+
+    @Autowired
+    private TimeDepositService timeDepositService;
+
+    @Test
+    @DisplayName("""
+            test 'PROJECT ALL TIME DEPOSIT ACCOUNTS' given the test accounts,
+            when projectAllTimeDepositAccounts is called for 12 months,
+            then it should project every account without changing any balance.
+            """)
+    public void testProjectAllTimeDepositAccounts_givenTwelveMonths_thenShouldProjectEveryAccount() {
+        // Setup expectations
+        final List<TimeDepositsDto> before = timeDepositService.getAllTimeDepositAccounts(TRACE_ID).getAccounts();
+
+        // Perform SUT
+        final TimeDepositProjectionsResponse response = timeDepositService.projectAllTimeDepositAccounts(TRACE_ID, 12, FIRST_PAGE);
+
+        // Verify results
+        Assertions.assertEquals(12, response.getMonths());
+        Assertions.assertEquals(before.size(), response.getCount());
+        Assertions.assertNull(response.getNextCursor());
+        final Map<Integer, TimeDepositProjectionDto> projections = response.getProjections().stream()
+                .collect(Collectors.toMap(TimeDepositProjectionDto::getId, Function.identity()));
+        Assertions.assertEquals(new BigDecimal("1009.21"), projections.get(1).getProjectedBalance());
+        Assertions.assertEquals(11, projections.get(1).getInterestMonths());
+        Assertions.assertEquals(new BigDecimal("2055.70"), projections.get(2).getProjectedBalance());
+        Assertions.assertEquals(11, projections.get(2).getInterestMonths());
+        Assertions.assertEquals(new BigDecimal("5255.81"), projections.get(3).getProjectedBalance());
+        Assertions.assertEquals(12, projections.get(3).getInterestMonths());
+        Assertions.assertEquals(before, timeDepositService.getAllTimeDepositAccounts(TRACE_ID).getAccounts());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'PROJECT ALL TIME DEPOSIT ACCOUNTS' given a limit of one account,
+            when projectAllTimeDepositAccounts is called following nextCursor,
+            then it should project one account per page and every account exactly once.
+            """)
+    public void testProjectAllTimeDepositAccounts_givenLimitOfOne_thenShouldProjectEveryAccountAcrossPages() {
+        // Setup expectations
+        final List<TimeDepositsDto> accounts = timeDepositService.getAllTimeDepositAccounts(TRACE_ID).getAccounts();
+        final List<Integer> projectedIds = new ArrayList<>();
+        String cursor = null;
+
+        // Perform SUT
+        do {
+            final TimeDepositProjectionsResponse page = timeDepositService.projectAllTimeDepositAccounts(TRACE_ID, 12,
+                    new TimeDepositAccountsPageRequest(null, cursor, 1, null, null, null));
+            Assertions.assertEquals(1, page.getCount());
+            page.getProjections().forEach(projection -> projectedIds.add(projection.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Verify results
+        Assertions.assertEquals(accounts.stream().map(TimeDepositsDto::getId).toList(), projectedIds);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'PROJECT ALL TIME DEPOSIT ACCOUNTS' given months outside 1 and the configured maximum,
+            when projectAllTimeDepositAccounts is called,
+            then it should throw a TimeDepositException.
+            """)
+    public void testProjectAllTimeDepositAccounts_givenMonthsOutOfRange_thenShouldThrowTimeDepositException() {
+        // Perform SUT and verify exception
+        Assertions.assertThrows(TimeDepositException.class, () -> timeDepositService.projectAllTimeDepositAccounts(TRACE_ID, 0, FIRST_PAGE));
+        Assertions.assertThrows(TimeDepositException.class, () -> timeDepositService.projectAllTimeDepositAccounts(TRACE_ID, 121, FIRST_PAGE));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'PROJECT ALL TIME DEPOSIT ACCOUNTS' given a null traceId,
+            when projectAllTimeDepositAccounts is called,
+            then it should throw an IllegalArgumentException.
+            """)
+    public void testProjectAllTimeDepositAccounts_givenNullTraceId_thenShouldThrowIllegalArgumentException() {
+        // Perform SUT and verify exception
+        Assertions.assertThrows(IllegalArgumentException.class, () -> timeDepositService.projectAllTimeDepositAccounts(null, 12, FIRST_PAGE));
+    }
+}
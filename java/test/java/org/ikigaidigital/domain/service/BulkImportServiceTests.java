@@ -0,0 +1,166 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.BulkImportResultDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:xatimedepositbulkimportdb",
+        "application.import.rows-per-statement=3",
+        "application.import.flush-rows=5",
+        "application.import.defer-indexes=true"
+})
+public class BulkImportServiceTests {
+    private static final String TRACE_ID = "test-trace-id";
+
+    @Autowired
+    private BulkImportService bulkImportService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("""
+            test 'IMPORT TIME DEPOSITS' given a CSV file with a header, valid and invalid records,
+            when importTimeDeposits is called,
+            then the valid records should be inserted, the invalid ones rejected and the indexes rebuilt.
+            """)
+    public void testImportTimeDeposits_givenValidAndInvalidRecords_thenShouldInsertValidOnes() throws IOException {
+        // Setup expectations
+        final StringBuilder content = new StringBuilder("id,plan_type,days,balance\n");
+        for (int id = 1001; id <= 1012; id++) {
+            content.append(id).append(",premium,").append(id - 1000).append(',').append(id).append(".50\n");
+        }
+        content.append("1013,basic,-1,100.00\n")
+                .append("1014,basic,10,-100.00\n")
+                .append("1015,basic,10,100.001\n")
+                .append("1016,platinum9,10,100.00\n")
+                .append("1017,basic,10\n");
+        final Path file = Files.writeString(directory.resolve("deposits.csv"), content, StandardCharsets.US_ASCII);
+
+        // Perform SUT
+        final BulkImportResultDto result = bulkImportService.importTimeDeposits(TRACE_ID, file);
+
+        // Verify results
+        Assertions.assertEquals(17, result.getRowsRead());
+        Assertions.assertEquals(12, result.getRowsImported());
+        Assertions.assertEquals(5, result.getRowsRejected());
+        Assertions.assertTrue(result.getRowsPerSecond() > 0);
+        Assertions.assertEquals(12, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM time_deposits WHERE id > 1000", Integer.class));
+        final Map<String, Object> row = jdbcTemplate.queryForMap("SELECT plan_type, days, balance FROM time_deposits WHERE id = 1007");
+        Assertions.assertEquals("premium", row.get("PLAN_TYPE"));
+        Assertions.assertEquals(7, row.get("DAYS"));
+        Assertions.assertEquals(0, new BigDecimal("1007.50").compareTo(new BigDecimal(row.get("BALANCE").toString())));
+        Assertions.assertEquals(2, countIndexes("IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_ID", "IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_DAYS"));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'IMPORT WITHDRAWALS' given a CSV file of withdrawals of existing accounts,
+            when importWithdrawals is called,
+            then every withdrawal should be inserted with its amount and date.
+            """)
+    public void testImportWithdrawals_givenExistingAccounts_thenShouldInsertEveryWithdrawal() throws IOException {
+        // Setup expectations
+        final StringBuilder content = new StringBuilder();
+        for (int id = 2001; id <= 2007; id++) {
+            content.append(id).append(',').append(id - 2000).append(",12.5,2025-03-").append(String.format("%02d", id - 2000)).append('\n');
+        }
+        content.append("2008,1,0,2025-03-08\n");
+        final Path file = Files.writeString(directory.resolve("withdrawals.csv"), content, StandardCharsets.US_ASCII);
+
+        // Perform SUT
+        final BulkImportResultDto result = bulkImportService.importWithdrawals(TRACE_ID, file);
+
+        // Verify results
+        Assertions.assertEquals(7, result.getRowsImported());
+        Assertions.assertEquals(1, result.getRowsRejected());
+        final Map<String, Object> row = jdbcTemplate.queryForMap("SELECT time_deposit_id, amount, date FROM withdrawals WHERE id = 2004");
+        Assertions.assertEquals(4, row.get("TIME_DEPOSIT_ID"));
+        Assertions.assertEquals(0, new BigDecimal("12.50").compareTo(new BigDecimal(row.get("AMOUNT").toString())));
+        Assertions.assertEquals(Date.valueOf(LocalDate.of(2025, 3, 4)), row.get("DATE"));
+        Assertions.assertEquals(1, countIndexes("IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE"));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'IMPORT WITHDRAWALS' given a withdrawal of an account that does not exist,
+            when importWithdrawals is called,
+            then the import should stop with the buffers before it committed and the indexes rebuilt.
+            """)
+    public void testImportWithdrawals_givenUnknownAccount_thenShouldStopAtItsBuffer() throws IOException {
+        // Setup expectations
+        final StringBuilder content = new StringBuilder();
+        for (int id = 3001; id <= 3005; id++) {
+            content.append(id).append(",1,1.00,2025-04-01\n");
+        }
+        content.append("3006,999999,1.00,2025-04-01\n");
+        final Path file = Files.writeString(directory.resolve("withdrawals.csv"), content, StandardCharsets.US_ASCII);
+
+        // Perform SUT and verify exception
+        Assertions.assertThrows(TimeDepositException.class, () -> bulkImportService.importWithdrawals(TRACE_ID, file));
+
+        // Verify results
+        Assertions.assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM withdrawals WHERE id > 3000", Integer.class));
+        Assertions.assertEquals(1, countIndexes("IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE"));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'IMPORT TIME DEPOSITS' given a null file,
+            when importTimeDeposits is called,
+            then it should throw an IllegalArgumentException.
+            """)
+    public void testImportTimeDeposits_givenNullFile_thenShouldThrowIllegalArgumentException() {
+        // Perform SUT and verify exception
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bulkImportService.importTimeDeposits(TRACE_ID, null));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'RESTORE SECONDARY INDEXES' given an import that stopped with its indexes dropped,
+            when restoreSecondaryIndexes is called, as on startup,
+            then every secondary index of both tables should exist again.
+            """)
+    public void testRestoreSecondaryIndexes_givenDroppedIndexes_thenShouldRecreateThem() {
+        // Setup expectations
+        jdbcTemplate.execute("DROP INDEX IF EXISTS IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_DAYS");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE");
+
+        // Perform SUT
+        bulkImportService.restoreSecondaryIndexes(TRACE_ID);
+
+        // Verify results
+        Assertions.assertEquals(3, countIndexes("IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_ID", "IDX_TIME_DEPOSITS_PLAN_TYPE_KEY_DAYS",
+                "IDX_WITHDRAWALS_TIME_DEPOSIT_ID_DATE"));
+    }
+
+    private int countIndexes(final String... indexNames) {
+        int count = 0;
+        for (String indexName : indexNames) {
+            count += jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.indexes WHERE index_name = ?", Integer.class, indexName);
+        }
+        return count;
+    }
+}
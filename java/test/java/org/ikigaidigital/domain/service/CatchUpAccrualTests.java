@@ -0,0 +1,187 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.component.accrual.AccrualPartition;
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.AccrualRunDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CatchUpAccrualTests extends AccrualTestSupport {
+    private static final int DAYS_PER_PERIOD = 30;
+
+    @BeforeEach
+    public void setUp() {
+        accrualProperties.setChunkSize(3);
+        accrualProperties.setShards(2);
+        accrualProperties.setCatchUpMaxPeriods(6);
+        accrualProperties.setCatchUpDaysPerPeriod(DAYS_PER_PERIOD);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CATCH UP TIME DEPOSIT ACCOUNTS' given the last run applied January and three month-ends were missed,
+            when catchUpTimeDepositAccounts is called for April,
+            then it should apply February to April in one run, as three accruals with the days advancing each month.
+            """)
+    public void testCatchUpTimeDepositAccounts_givenMissedPeriods_thenShouldApplyThemInOneRun() {
+        // Setup expectations
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 1));
+        final List<TimeDepositsDto> expected = accrued(readAllTimeDeposits(), 3);
+
+        // Perform SUT
+        timeDepositService.catchUpTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 4));
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        final AccrualRunDto run = accrualRunRepository.findRunByPeriod(YearMonth.of(2026, 4)).orElseThrow();
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, run.getStatus());
+        Assertions.assertEquals(3, run.getPeriods());
+        Assertions.assertEquals(run.getId(), accrualRunRepository.findRunByPeriod(YearMonth.of(2026, 2)).orElseThrow().getId());
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 3));
+        timeDepositService.catchUpTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 4));
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CATCH UP TIME DEPOSIT ACCOUNTS' given the default catch-up days per period and three missed month-ends,
+            when catchUpTimeDepositAccounts is called,
+            then it should leave the book as three month-end runs would.
+            """)
+    public void testCatchUpTimeDepositAccounts_givenDefaultDaysPerPeriod_thenShouldMatchMonthEndRuns() {
+        // Setup expectations
+        accrualProperties.setCatchUpDaysPerPeriod(new AccrualProperties().getCatchUpDaysPerPeriod());
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 1));
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        for (int period = 0; period < 3; period++) {
+            timeDepositCalculator.updateBalance(expected);
+        }
+
+        // Perform SUT
+        timeDepositService.catchUpTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 4));
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        Assertions.assertEquals(3, accrualRunRepository.findRunByPeriod(YearMonth.of(2026, 4)).orElseThrow().getPeriods());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CATCH UP TIME DEPOSIT ACCOUNTS' given July completed, August missed and September run normally,
+            when catchUpTimeDepositAccounts is called for September,
+            then it should apply August once, in a run of its own, and leave the other periods alone.
+            """)
+    public void testCatchUpTimeDepositAccounts_givenPeriodMissedBeforeLatestRun_thenShouldApplyIt() {
+        // Setup expectations
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 7));
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 9));
+        final List<TimeDepositsDto> expected = accrued(readAllTimeDeposits(), 1);
+
+        // Perform SUT
+        timeDepositService.catchUpTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 9));
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        final AccrualRunDto run = accrualRunRepository.findRunByPeriod(YearMonth.of(2026, 8)).orElseThrow();
+        Assertions.assertEquals(YearMonth.of(2026, 8), run.getPeriod());
+        Assertions.assertEquals(1, run.getPeriods());
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, run.getStatus());
+
+        // Perform SUT
+        timeDepositService.catchUpTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 9));
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CATCH UP TIME DEPOSIT ACCOUNTS' given the run of the last period stopped before completing,
+            when catchUpTimeDepositAccounts is called for a later period,
+            then it should finish that run first and then apply the periods after it.
+            """)
+    public void testCatchUpTimeDepositAccounts_givenUnfinishedLastRun_thenShouldFinishItFirst() {
+        // Setup expectations
+        final AccrualRunDto unfinished = accrualRunRepository.createRun(YearMonth.of(2026, 6), 1,
+                List.of(new AccrualPartition(Long.MIN_VALUE, Long.MAX_VALUE)));
+        accrualRunRepository.updateRunStatus(unfinished.getId(), AccrualRunStatus.FAILED);
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        timeDepositCalculator.updateBalance(expected);
+        final List<TimeDepositsDto> caughtUp = accrued(expected, 2);
+
+        // Perform SUT
+        timeDepositService.catchUpTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 8));
+
+        // Verify results
+        Assertions.assertEquals(caughtUp, readAllTimeDeposits());
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, accrualRunRepository.findRunByPeriod(YearMonth.of(2026, 6)).orElseThrow().getStatus());
+        Assertions.assertEquals(2, accrualRunRepository.findRunByPeriod(YearMonth.of(2026, 8)).orElseThrow().getPeriods());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CATCH UP TIME DEPOSIT ACCOUNTS' given no run in the ledger,
+            when catchUpTimeDepositAccounts is called,
+            then it should accrue the given period only, like updateAllTimeDepositAccounts.
+            """)
+    public void testCatchUpTimeDepositAccounts_givenEmptyLedger_thenShouldAccrueOnePeriod() {
+        // Setup expectations
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        timeDepositCalculator.updateBalance(expected);
+
+        // Perform SUT
+        timeDepositService.catchUpTimeDepositAccounts(TRACE_ID, YearMonth.of(2027, 1));
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        Assertions.assertEquals(1, accrualRunRepository.findRunByPeriod(YearMonth.of(2027, 1)).orElseThrow().getPeriods());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CATCH UP TIME DEPOSIT ACCOUNTS' given more missed periods than catch-up-max-periods,
+            when catchUpTimeDepositAccounts is called,
+            then it should throw a TimeDepositException without changing any account.
+            """)
+    public void testCatchUpTimeDepositAccounts_givenTooManyMissedPeriods_thenShouldThrowTimeDepositException() {
+        // Setup expectations
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.of(2028, 1));
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+
+        // Perform SUT and verify exception
+        Assertions.assertThrows(TimeDepositException.class, () -> timeDepositService.catchUpTimeDepositAccounts(TRACE_ID, YearMonth.of(2028, 8)));
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        Assertions.assertTrue(accrualRunRepository.findRunByPeriod(YearMonth.of(2028, 8)).isEmpty());
+    }
+
+    /**
+     * Applies the given number of accruals one month apart, as separate runs would, to copies of the accounts.
+     */
+    private List<TimeDepositsDto> accrued(final List<TimeDepositsDto> timeDepositsDtoList, final int periods) {
+        final List<TimeDepositsDto> accrued = new ArrayList<>();
+        for (TimeDepositsDto dto : timeDepositsDtoList) {
+            final PlanEvaluator plan = timeDepositCalculator.planEvaluatorIndex().find(dto.getPlanType());
+            BigDecimal balance = dto.getBalance();
+            for (int period = 0; period < periods; period++) {
+                balance = plan.updatedBalance(dto.getDays() + period * DAYS_PER_PERIOD, balance);
+            }
+            accrued.add(new TimeDepositsDto(dto.getId(), dto.getPlanType(), balance, dto.getDays() + (periods - 1) * DAYS_PER_PERIOD));
+        }
+        return accrued;
+    }
+}
@@ -0,0 +1,54 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.component.calculator.VectorInterestKernel;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.constant.CalculationEngine;
+import org.ikigaidigital.domain.model.dto.AccrualRunDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public class ColumnarAccrualTests extends AccrualTestSupport {
+    @BeforeEach
+    public void setUp() {
+        accrualProperties.setCalculationEngine(CalculationEngine.COLUMNAR);
+        accrualProperties.setVectorKernel(true);
+        accrualProperties.setParallelism(2);
+        accrualProperties.setChunkSize(2);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' with the COLUMNAR engine and the vector kernel,
+            when updateAllTimeDepositAccounts is called twice for the same period,
+            then every eligible account should be accrued once with the balance the BigDecimal engine computes.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenColumnarEngine_thenShouldMatchBigDecimalOncePerPeriod() {
+        // Setup expectations
+        final YearMonth period = YearMonth.of(2025, 4);
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        expected.forEach(dto -> {
+            final var plan = timeDepositCalculator.planEvaluatorIndex().find(dto.getPlanType());
+            dto.setBalance(plan.updatedBalance(dto.getDays(), dto.getBalance()));
+        });
+        final double writtenBefore = meterRegistry.get("accrual.writes").tag("result", "written").counter().count();
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, period);
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, period);
+
+        // Verify results
+        Assertions.assertInstanceOf(VectorInterestKernel.class, timeDepositCalculator.interestKernel());
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        final AccrualRunDto run = accrualRunRepository.findRunByPeriod(period).orElseThrow();
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, run.getStatus());
+        // Account 1 is in its interest-free period and is not read by the accrual
+        Assertions.assertEquals(9, run.getUpdatedCount());
+        Assertions.assertEquals(9, meterRegistry.get("accrual.writes").tag("result", "written").counter().count() - writtenBefore);
+    }
+}
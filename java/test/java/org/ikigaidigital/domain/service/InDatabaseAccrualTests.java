@@ -0,0 +1,47 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.constant.CalculationEngine;
+import org.ikigaidigital.domain.model.dto.AccrualRunDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public class InDatabaseAccrualTests extends AccrualTestSupport {
+    @BeforeEach
+    public void setUp() {
+        accrualProperties.setCalculationEngine(CalculationEngine.IN_DATABASE);
+        accrualProperties.setParallelism(2);
+        accrualProperties.setChunkSize(2);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' with the IN_DATABASE engine,
+            when updateAllTimeDepositAccounts is called twice for the same period,
+            then every account should be accrued once with the balance the TimeDepositCalculator computes.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenInDatabaseEngine_thenShouldMatchCalculatorOncePerPeriod() {
+        // Setup expectations
+        final YearMonth period = YearMonth.of(2025, 3);
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        timeDepositCalculator.updateBalance(expected);
+        final double rowsBefore = meterRegistry.get("accrual.rows").counter().count();
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, period);
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, period);
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        final AccrualRunDto run = accrualRunRepository.findRunByPeriod(period).orElseThrow();
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, run.getStatus());
+        Assertions.assertEquals(10, run.getUpdatedCount());
+        Assertions.assertEquals(10, meterRegistry.get("accrual.rows").counter().count() - rowsBefore);
+    }
+}
@@ -0,0 +1,110 @@
+package org.ikigaidigital.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import org.ikigaidigital.domain.component.accrual.AccrualProgress;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public class ParallelAccrualTests extends AccrualTestSupport {
+    @BeforeEach
+    public void setUp() {
+        accrualProperties.setParallelism(3);
+        accrualProperties.setChunkSize(2);
+        accrualProperties.setEligibilityPushdown(false);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' in parallel mode,
+            when updateAllTimeDepositAccounts is called,
+            then every account should end up with the same balance as the single-threaded calculation.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenParallelMode_thenShouldMatchSingleThreadedResults() {
+        // Setup expectations
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        timeDepositCalculator.updateBalance(expected);
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID);
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' in parallel mode,
+            when updateAllTimeDepositAccounts is called,
+            then every chunk should be timed per stage and every account counted per plan and outcome.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenParallelMode_thenShouldPublishAccrualMetrics() {
+        // Setup expectations
+        final double rowsBefore = meterRegistry.get("accrual.rows").counter().count();
+        final double accruedBasicBefore = accountCount("basic", "accrued");
+        final double interestFreeBasicBefore = accountCount("basic", "interest_free");
+        final long persistedChunksBefore = meterRegistry.get("accrual.stage.duration").tag("stage", "persist").timer().count();
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID);
+
+        // Verify results
+        Assertions.assertEquals(10, meterRegistry.get("accrual.rows").counter().count() - rowsBefore);
+        Assertions.assertEquals(3, accountCount("basic", "accrued") - accruedBasicBefore);
+        Assertions.assertEquals(1, accountCount("basic", "interest_free") - interestFreeBasicBefore);
+        Assertions.assertTrue(meterRegistry.get("accrual.stage.duration").tag("stage", "persist").timer().count() - persistedChunksBefore >= 5);
+        Assertions.assertTrue(meterRegistry.get("accrual.run.duration").timer().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' in parallel mode with an account in its interest-free period,
+            when updateAllTimeDepositAccounts is called,
+            then only the changed balances should be written and the unchanged account counted as skipped.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenInterestFreeAccount_thenShouldSkipItsWrite() {
+        // Setup expectations
+        final AccrualProgress progress = new AccrualProgress();
+        final double writtenBefore = meterRegistry.get("accrual.writes").tag("result", "written").counter().count();
+        final double skippedBefore = meterRegistry.get("accrual.writes").tag("result", "skipped").counter().count();
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.now(), progress);
+
+        // Verify results
+        Assertions.assertEquals(10, progress.getRowsDone());
+        Assertions.assertEquals(9, progress.getRowsWritten());
+        Assertions.assertEquals(1, progress.getRowsSkipped());
+        Assertions.assertEquals(9, meterRegistry.get("accrual.writes").tag("result", "written").counter().count() - writtenBefore);
+        Assertions.assertEquals(1, meterRegistry.get("accrual.writes").tag("result", "skipped").counter().count() - skippedBefore);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' in parallel mode,
+            when updateAllTimeDepositAccounts is called,
+            then the shared data version should be incremented once for the run, not once per chunk.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenParallelMode_thenShouldPublishSharedVersionOnce() {
+        // Setup expectations
+        final String sql = "SELECT version FROM data_versions WHERE name = 'TIME_DEPOSITS'";
+        final long sharedVersionBefore = jdbcTemplate.queryForObject(sql, Long.class);
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID);
+
+        // Verify results
+        Assertions.assertEquals(sharedVersionBefore + 1, jdbcTemplate.queryForObject(sql, Long.class));
+    }
+
+    private double accountCount(final String plan, final String outcome) {
+        return meterRegistry.find("accrual.accounts").tag("plan", plan).tag("outcome", outcome).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,93 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.AccrualRunDto;
+import org.ikigaidigital.domain.model.dto.AccrualRunPartitionDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+
+public class ResumableAccrualTests extends AccrualTestSupport {
+    @BeforeEach
+    public void setUp() {
+        accrualProperties.setChunkSize(2);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' given a run that failed on its third chunk,
+            when updateAllTimeDepositAccounts is called again for the same period,
+            then it should resume after the last committed chunk and accrue every account exactly once.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenRunFailedMidway_thenShouldResumeFromCheckpoint() {
+        // Setup expectations
+        final YearMonth period = YearMonth.of(2026, 1);
+        final List<TimeDepositsDto> original = readAllTimeDeposits();
+        final List<TimeDepositsDto> expected = copyOf(original);
+        timeDepositCalculator.updateBalance(expected);
+
+        Mockito.doCallRealMethod().doCallRealMethod().doThrow(new RuntimeException("Worker crashed"))
+                .when(timeDepositCalculator).updateBalance(anyList());
+
+        // Perform SUT
+        Assertions.assertThrows(TimeDepositException.class, () -> timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, period));
+
+        // Verify results
+        final AccrualRunDto failedRun = accrualRunRepository.findRunByPeriod(period).orElseThrow();
+        final AccrualRunPartitionDto checkpoint = accrualRunRepository.findPartitions(failedRun.getId()).get(0);
+        Assertions.assertEquals(AccrualRunStatus.FAILED, failedRun.getStatus());
+        // Account 1 is in its interest-free period and never read, so the first two chunks are accounts 2 to 5
+        Assertions.assertEquals(5, checkpoint.getLastCommittedId());
+        Assertions.assertEquals(4, checkpoint.getUpdatedCount());
+        final List<TimeDepositsDto> afterFailure = readAllTimeDeposits();
+        Assertions.assertEquals(expected.subList(0, 5), afterFailure.subList(0, 5));
+        Assertions.assertEquals(original.subList(5, 10), afterFailure.subList(5, 10));
+
+        // Perform SUT
+        Mockito.doCallRealMethod().when(timeDepositCalculator).updateBalance(anyList());
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, period);
+
+        // Verify results
+        final AccrualRunDto completedRun = accrualRunRepository.findRunByPeriod(period).orElseThrow();
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, completedRun.getStatus());
+        Assertions.assertEquals(failedRun.getId(), completedRun.getId());
+        Assertions.assertEquals(9, completedRun.getUpdatedCount());
+        Assertions.assertNotNull(completedRun.getCompletedAt());
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' given the run of the period has completed,
+            when updateAllTimeDepositAccounts is called again for the same period,
+            then it should not apply interest a second time, while a new period accrues again.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenCompletedPeriod_thenShouldNotAccrueTwice() {
+        // Setup expectations
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        timeDepositCalculator.updateBalance(expected);
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 2));
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 2));
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+
+        // Perform SUT
+        timeDepositCalculator.updateBalance(expected);
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.of(2026, 3));
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+    }
+}
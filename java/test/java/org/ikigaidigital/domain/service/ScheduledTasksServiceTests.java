@@ -1,6 +1,7 @@
 package org.ikigaidigital.domain.service;
 
-
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.snapshot.SnapshotProperties;
 import org.ikigaidigital.domain.utils.LoggerUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,9 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 
 @ExtendWith(MockitoExtension.class)
@@ -17,6 +21,15 @@ class ScheduledTasksServiceTests {
     @Mock
     private TimeDepositService timeDepositService;
 
+    @Mock
+    private SnapshotExportService snapshotExportService;
+
+    @Mock
+    private SnapshotProperties snapshotProperties;
+
+    @Mock
+    private AccrualProperties accrualProperties;
+
     @Mock
     private LoggerUtils loggerUtils;
 
@@ -36,4 +49,54 @@ class ScheduledTasksServiceTests {
         // Verify htat the schedule task was executed
         Mockito.verify(timeDepositService).updateAllTimeDepositAccounts(anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' scheduled task given catch-up is enabled,
+            when executed,
+            then it should catch up on the missed periods instead of accruing the current one only.
+            """)
+    void testUpdateAllTimeDepositAccounts_givenCatchUp_thenShouldCatchUp() {
+        // Setup expectations
+        Mockito.when(accrualProperties.isCatchUp()).thenReturn(true);
+
+        // Perform schedule SUT
+        scheduledTasksService.updateAllTimeDepositAccounts();
+
+        // Verify results
+        Mockito.verify(timeDepositService).catchUpTimeDepositAccounts(anyString());
+        Mockito.verify(timeDepositService, Mockito.never()).updateAllTimeDepositAccounts(anyString());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'EXPORT ACCOUNT SNAPSHOT' scheduled task given a configured snapshot file,
+            when executed,
+            then it should export the account snapshot to that file.
+            """)
+    void testExportAccountSnapshot_givenFile_thenShouldExportToIt() {
+        // Setup expectations
+        final Path file = Path.of("accounts.snapshot");
+        Mockito.when(snapshotProperties.getFile()).thenReturn(file);
+
+        // Perform schedule SUT
+        scheduledTasksService.exportAccountSnapshot();
+
+        // Verify results
+        Mockito.verify(snapshotExportService).exportAccountSnapshot(anyString(), Mockito.eq(file));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'EXPORT ACCOUNT SNAPSHOT' scheduled task given no snapshot file,
+            when executed,
+            then it should not export anything.
+            """)
+    void testExportAccountSnapshot_givenNoFile_thenShouldSkipExport() {
+        // Perform schedule SUT
+        scheduledTasksService.exportAccountSnapshot();
+
+        // Verify results
+        Mockito.verify(snapshotExportService, Mockito.never()).exportAccountSnapshot(anyString(), any());
+    }
+}
@@ -0,0 +1,222 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.component.shadow.ShadowAccrualProperties;
+import org.ikigaidigital.domain.component.snapshot.SnapshotProperties;
+import org.ikigaidigital.domain.constant.ErrorMessages;
+import org.ikigaidigital.domain.exception.TimeDepositException;
+import org.ikigaidigital.domain.model.dto.ShadowAccrualMoverDto;
+import org.ikigaidigital.domain.model.dto.ShadowAccrualPlanImpactDto;
+import org.ikigaidigital.domain.model.request.ShadowAccrualRequest;
+import org.ikigaidigital.domain.model.response.ShadowAccrualResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:xatimedepositshadowaccrualdb",
+        "application.snapshot.row-group-size=2",
+        "application.shadow-accrual.parallelism=3",
+        "application.shadow-accrual.top-movers=3",
+        "application.shadow-accrual.max-top-movers=5"
+})
+public class ShadowAccrualServiceTests {
+    private static final String TRACE_ID = "test-trace-id";
+    private static final String BALANCES_QUERY = "SELECT id || ':' || days || ':' || balance FROM time_deposits ORDER BY id";
+
+    @Autowired
+    private ShadowAccrualService shadowAccrualService;
+    @Autowired
+    private SnapshotProperties snapshotProperties;
+    @Autowired
+    private ShadowAccrualProperties shadowAccrualProperties;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() {
+        shadowAccrualProperties.setDiffFile(directory.resolve("shadow-accrual.csv"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        snapshotProperties.setFile(null);
+        shadowAccrualProperties.setDiffFile(null);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'RUN SHADOW ACCRUAL' given the configured plans with a higher premium rate,
+            when runShadowAccrual is called,
+            then it should report the premium interest delta and movers without changing any account.
+            """)
+    public void testRunShadowAccrual_givenHigherPremiumRate_thenShouldReportPremiumDelta() throws IOException {
+        // Setup expectations
+        final List<String> balancesBefore = jdbcTemplate.queryForList(BALANCES_QUERY, String.class);
+        final ShadowAccrualRequest request = new ShadowAccrualRequest(List.of(
+                plan("student", "0.03", 30, 365), plan("premium", "0.06", 45, null), plan("basic", "0.01", 30, null)), 2, false);
+
+        // Perform SUT
+        final ShadowAccrualResponse response = shadowAccrualService.runShadowAccrual(TRACE_ID, request);
+
+        // Verify results
+        Assertions.assertEquals(balancesBefore, jdbcTemplate.queryForList(BALANCES_QUERY, String.class));
+        Assertions.assertEquals(10, response.getAccounts());
+        Assertions.assertEquals(3, response.getAffectedAccounts());
+        Assertions.assertEquals(new BigDecimal("125.83"), response.getCurrentInterest());
+        Assertions.assertEquals(new BigDecimal("146.67"), response.getShadowInterest());
+        Assertions.assertEquals(new BigDecimal("20.84"), response.getInterestDelta());
+        Assertions.assertEquals(List.of(
+                new ShadowAccrualPlanImpactDto("BASIC", 4, 0, new BigDecimal("2.92"), new BigDecimal("2.92"), new BigDecimal("0.00")),
+                new ShadowAccrualPlanImpactDto("STUDENT", 3, 0, new BigDecimal("18.75"), new BigDecimal("18.75"), new BigDecimal("0.00")),
+                new ShadowAccrualPlanImpactDto("PREMIUM", 3, 3, new BigDecimal("104.16"), new BigDecimal("125.00"), new BigDecimal("20.84"))),
+                response.getPlans());
+        Assertions.assertEquals(List.of(
+                new ShadowAccrualMoverDto(9, "PREMIUM", 365, new BigDecimal("12000.00"), new BigDecimal("12050.00"), new BigDecimal("12060.00"), new BigDecimal("10.00")),
+                new ShadowAccrualMoverDto(6, "PREMIUM", 120, new BigDecimal("8000.00"), new BigDecimal("8033.33"), new BigDecimal("8040.00"), new BigDecimal("6.67"))),
+                response.getTopMovers());
+        Assertions.assertEquals(List.of(
+                "id,plan_type,days,balance,current_balance,shadow_balance,interest_delta",
+                "3,PREMIUM,50,5000.00,5020.83,5025.00,4.17",
+                "6,PREMIUM,120,8000.00,8033.33,8040.00,6.67",
+                "9,PREMIUM,365,12000.00,12050.00,12060.00,10.00"), Files.readAllLines(Path.of(response.getDiffFile())));
+        Assertions.assertEquals(List.of("shadow-accrual.csv"), listFileNames());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'RUN SHADOW ACCRUAL' given a configured snapshot file and shadow plans that drop the basic plan,
+            when runShadowAccrual is called,
+            then it should accrue the snapshot and keep the balance of the basic accounts.
+            """)
+    public void testRunShadowAccrual_givenSnapshotFileAndDroppedPlan_thenShouldKeepBalancesOfUnknownPlan() throws IOException {
+        // Setup expectations
+        final Path snapshot = directory.resolve("accounts.snapshot");
+        snapshotProperties.setFile(snapshot);
+        final ShadowAccrualRequest request = new ShadowAccrualRequest(List.of(
+                plan("student", "0.03", 30, 365), plan("premium", "0.05", 45, null)), null, false);
+
+        // Perform SUT
+        final ShadowAccrualResponse response = shadowAccrualService.runShadowAccrual(TRACE_ID, request);
+
+        // Verify results
+        Assertions.assertTrue(Files.exists(snapshot));
+        Assertions.assertEquals(3, response.getAffectedAccounts());
+        Assertions.assertEquals(new BigDecimal("-2.92"), response.getInterestDelta());
+        Assertions.assertEquals(List.of(4, 7, 10), response.getTopMovers().stream().map(ShadowAccrualMoverDto::getId).toList());
+        Assertions.assertEquals(new BigDecimal("-1.25"), response.getTopMovers().get(0).getInterestDelta());
+        Assertions.assertEquals(response.getTopMovers().get(0).getBalance(), response.getTopMovers().get(0).getShadowBalance());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'RUN SHADOW ACCRUAL' given a configured snapshot file exported before a balance changed,
+            when runShadowAccrual is called without refreshSnapshot,
+            then it should export a fresh snapshot first and report its age.
+            """)
+    public void testRunShadowAccrual_givenStaleSnapshotFile_thenShouldRefreshItByDefault() {
+        // Setup expectations
+        final Path snapshot = directory.resolve("accounts.snapshot");
+        snapshotProperties.setFile(snapshot);
+        final ShadowAccrualRequest request = new ShadowAccrualRequest(List.of(plan("premium", "0.06", 45, null)), 1, null);
+        shadowAccrualService.runShadowAccrual(TRACE_ID, request);
+        jdbcTemplate.update("UPDATE time_deposits SET balance = 24000.00 WHERE id = 9");
+
+        try {
+            // Perform SUT
+            final ShadowAccrualResponse response = shadowAccrualService.runShadowAccrual(TRACE_ID, request);
+
+            // Verify results
+            Assertions.assertEquals(new BigDecimal("24000.00"), response.getTopMovers().get(0).getBalance());
+            Assertions.assertTrue(response.getSnapshotAgeSeconds() >= 0 && response.getSnapshotAgeSeconds() < 60);
+        } finally {
+            jdbcTemplate.update("UPDATE time_deposits SET balance = 12000.00 WHERE id = 9");
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'RUN SHADOW ACCRUAL' given a part file of the diff file left by another run,
+            when runShadowAccrual is called,
+            then it should write its parts to files of its own and leave the other run's part alone.
+            """)
+    public void testRunShadowAccrual_givenPartFileOfOtherRun_thenShouldNotTouchIt() throws IOException {
+        // Setup expectations
+        final Path otherRunPart = Files.writeString(directory.resolve("shadow-accrual.csv.part0"), "other run");
+        final ShadowAccrualRequest request = new ShadowAccrualRequest(List.of(
+                plan("student", "0.03", 30, 365), plan("premium", "0.06", 45, null), plan("basic", "0.01", 30, null)), 0, false);
+
+        // Perform SUT
+        final ShadowAccrualResponse response = shadowAccrualService.runShadowAccrual(TRACE_ID, request);
+
+        // Verify results
+        Assertions.assertEquals(4, Files.readAllLines(Path.of(response.getDiffFile())).size());
+        Assertions.assertEquals("other run", Files.readString(otherRunPart));
+        Assertions.assertEquals(List.of("shadow-accrual.csv", "shadow-accrual.csv.part0"), listFileNames());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'RUN SHADOW ACCRUAL' given empty plans,
+            when runShadowAccrual is called,
+            then it should throw a TimeDepositException.
+            """)
+    public void testRunShadowAccrual_givenEmptyPlans_thenShouldThrowTimeDepositException() {
+        // Perform SUT and verify exception
+        final TimeDepositException exception = Assertions.assertThrows(TimeDepositException.class,
+                () -> shadowAccrualService.runShadowAccrual(TRACE_ID, new ShadowAccrualRequest(List.of(), null, false)));
+        Assertions.assertEquals(ErrorMessages.SHADOW_PLANS_EMPTY.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'RUN SHADOW ACCRUAL' given more top movers than the configured maximum,
+            when runShadowAccrual is called,
+            then it should throw a TimeDepositException.
+            """)
+    public void testRunShadowAccrual_givenTooManyTopMovers_thenShouldThrowTimeDepositException() {
+        // Setup expectations
+        final ShadowAccrualRequest request = new ShadowAccrualRequest(List.of(plan("basic", "0.02", 30, null)), 6, false);
+
+        // Perform SUT and verify exception
+        final TimeDepositException exception = Assertions.assertThrows(TimeDepositException.class,
+                () -> shadowAccrualService.runShadowAccrual(TRACE_ID, request));
+        Assertions.assertEquals(ErrorMessages.INVALID_TOP_MOVERS.getMessage(), exception.getMessage());
+    }
+
+    private List<String> listFileNames() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static PlanProperties.Plan plan(final String planType, final String interestRate, final int interestFreeDays,
+                                            final Integer interestEndsAfterDays) {
+        final PlanProperties.Plan plan = new PlanProperties.Plan();
+        plan.setPlanType(planType);
+        plan.setInterestRate(new BigDecimal(interestRate));
+        plan.setInterestFreeDays(interestFreeDays);
+        plan.setInterestEnds(interestEndsAfterDays != null);
+        plan.setInterestEndsAfterDays(interestEndsAfterDays);
+        return plan;
+    }
+}
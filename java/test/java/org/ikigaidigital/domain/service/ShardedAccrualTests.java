@@ -0,0 +1,161 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.component.accrual.AccrualMetrics;
+import org.ikigaidigital.domain.component.accrual.AccrualPartition;
+import org.ikigaidigital.domain.component.accrual.AccrualProgress;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.model.dto.AccrualRunDto;
+import org.ikigaidigital.domain.model.dto.AccrualRunPartitionDto;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ShardedAccrualTests extends AccrualTestSupport {
+    private static final YearMonth PERIOD = YearMonth.of(2026, 5);
+
+    @BeforeEach
+    public void setUp() {
+        accrualProperties.setShards(3);
+        accrualProperties.setChunkSize(2);
+        accrualProperties.setNodeId("node-a");
+        accrualProperties.setLeasePollInterval(Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' with three shards on a single node,
+            when updateAllTimeDepositAccounts is called,
+            then the node should claim every shard, accrue every account once and complete the run.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenThreeShards_thenShouldClaimAndCompleteEveryShard() {
+        // Setup expectations
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        timeDepositCalculator.updateBalance(expected);
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, PERIOD);
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        final AccrualRunDto run = accrualRunRepository.findRunByPeriod(PERIOD).orElseThrow();
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, run.getStatus());
+        final List<AccrualRunPartitionDto> partitions = accrualRunRepository.findPartitions(run.getId());
+        Assertions.assertEquals(3, partitions.size());
+        for (AccrualRunPartitionDto partition : partitions) {
+            Assertions.assertEquals(AccrualRunStatus.COMPLETED, partition.getStatus());
+            Assertions.assertEquals(1, partition.getLeaseToken());
+            Assertions.assertNull(partition.getLeaseOwner());
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' given a shard another node has already completed,
+            when updateAllTimeDepositAccounts is called,
+            then only the accounts of the other shards should be accrued.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenShardCompletedByOtherNode_thenShouldNotAccrueItAgain() {
+        // Setup expectations
+        final List<TimeDepositsDto> original = readAllTimeDeposits();
+        final List<TimeDepositsDto> expected = copyOf(original);
+        timeDepositCalculator.updateBalance(expected);
+        final AccrualRunDto run = accrualRunRepository.createRun(PERIOD, 1, AccrualPartition.split(1, 10, 3));
+        final AccrualRunPartitionDto otherNodeShard = accrualRunRepository.claimPartition(run.getId(), "node-b", Duration.ofMinutes(5)).orElseThrow();
+        accrualRunRepository.completePartition(run.getId(), otherNodeShard.getPartitionNo(), otherNodeShard.getLeaseToken());
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, PERIOD);
+
+        // Verify results
+        final List<TimeDepositsDto> accrued = readAllTimeDeposits();
+        Assertions.assertEquals(original.subList(0, 4), accrued.subList(0, 4));
+        Assertions.assertEquals(expected.subList(4, 10), accrued.subList(4, 10));
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, accrualRunRepository.findRunByPeriod(PERIOD).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' given a shard leased by a node that has died,
+            when updateAllTimeDepositAccounts is called,
+            then the node should wait for the lease to expire, take the shard over and complete the run.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenShardOfDeadNode_thenShouldTakeItOverAfterLeaseExpiry() {
+        // Setup expectations
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        timeDepositCalculator.updateBalance(expected);
+        final AccrualRunDto run = accrualRunRepository.createRun(PERIOD, 1, AccrualPartition.split(1, 10, 3));
+        final AccrualRunPartitionDto deadNodeShard = accrualRunRepository.claimPartition(run.getId(), "node-b", Duration.ofMillis(300)).orElseThrow();
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, PERIOD);
+
+        // Verify results
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, accrualRunRepository.findRunByPeriod(PERIOD).orElseThrow().getStatus());
+        final AccrualRunPartitionDto takenOver = accrualRunRepository.findPartitions(run.getId()).get(deadNodeShard.getPartitionNo());
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, takenOver.getStatus());
+        Assertions.assertEquals(deadNodeShard.getLeaseToken() + 1, takenOver.getLeaseToken());
+        Assertions.assertFalse(accrualRunRepository.advanceCheckpoint(run.getId(), deadNodeShard.getPartitionNo(), deadNodeShard.getLeaseToken(),
+                takenOver.getLastCommittedId(), takenOver.getUpToId(), 1));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' given another node takes a shard over while a chunk of it is accrued,
+            when updateAllTimeDepositAccounts is called,
+            then the chunk should roll back, the node should go on with the run and every account should be accrued once.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenShardLostDuringChunk_thenShouldDropItAndCompleteTheRun() {
+        // Setup expectations
+        final List<TimeDepositsDto> expected = readAllTimeDeposits();
+        timeDepositCalculator.updateBalance(expected);
+        final AtomicBoolean stolen = new AtomicBoolean();
+        final AccrualProgress progress = new AccrualProgress() {
+            @Override
+            public void stage(final AccrualMetrics.Stage stage) {
+                super.stage(stage);
+                if (stage == AccrualMetrics.Stage.PERSIST && stolen.compareAndSet(false, true)) {
+                    stealFirstShardWithExpiredLease();
+                }
+            }
+        };
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, PERIOD, progress);
+
+        // Verify results
+        Assertions.assertTrue(stolen.get());
+        Assertions.assertEquals(expected, readAllTimeDeposits());
+        final AccrualRunDto run = accrualRunRepository.findRunByPeriod(PERIOD).orElseThrow();
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, run.getStatus());
+        final AccrualRunPartitionDto lost = accrualRunRepository.findPartitions(run.getId()).get(0);
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, lost.getStatus());
+        Assertions.assertEquals(3, lost.getLeaseToken());
+    }
+
+    private void stealFirstShardWithExpiredLease() {
+        // The chunk transaction is bound to this thread, so the other node's claim has to commit on another one
+        final ExecutorService otherNode = Executors.newSingleThreadExecutor();
+        try {
+            otherNode.submit(() -> jdbcTemplate.update("""
+                    UPDATE accrual_run_partitions SET lease_owner = 'node-b', lease_expires_at = ?, lease_token = lease_token + 1
+                    WHERE partition_no = 0""", Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)))).get();
+        } catch (InterruptedException | ExecutionException ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            otherNode.shutdownNow();
+        }
+    }
+}
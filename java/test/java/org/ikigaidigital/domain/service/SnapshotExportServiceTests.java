@@ -0,0 +1,117 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotReader;
+import org.ikigaidigital.domain.model.dto.SnapshotExportResultDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:xatimedepositsnapshotexportdb",
+        "application.snapshot.fetch-size=4",
+        "application.snapshot.row-group-size=3"
+})
+public class SnapshotExportServiceTests {
+    private static final String TRACE_ID = "test-trace-id";
+
+    @Autowired
+    private SnapshotExportService snapshotExportService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("""
+            test 'EXPORT ACCOUNT SNAPSHOT' given the test accounts and withdrawals,
+            when exportAccountSnapshot is called,
+            then the snapshot should hold every account with its balance and withdrawal aggregates as in the database.
+            """)
+    public void testExportAccountSnapshot_givenAccountsAndWithdrawals_thenShouldMatchTheDatabase() throws IOException {
+        // Setup expectations
+        final List<String> expected = jdbcTemplate.query("""
+                SELECT td.id, td.plan_type, td.days, CAST(td.balance AS DECIMAL(38, 2)) AS balance, COUNT(w.id) AS withdrawal_count,
+                       COALESCE(SUM(CAST(w.amount AS DECIMAL(38, 2))), 0) AS withdrawal_total, MAX(w.date) AS last_withdrawal_date
+                FROM time_deposits td LEFT JOIN withdrawals w ON w.time_deposit_id = td.id
+                GROUP BY td.id, td.plan_type, td.days, td.balance
+                ORDER BY td.id
+                """, (rs, rowNum) -> rs.getInt("id") + ":" + rs.getString("plan_type") + ":" + rs.getInt("days") + ":"
+                + rs.getBigDecimal("balance").movePointRight(2).longValueExact() + ":" + rs.getInt("withdrawal_count") + ":"
+                + rs.getBigDecimal("withdrawal_total").setScale(2).movePointRight(2).longValueExact() + ":"
+                + (rs.getDate("last_withdrawal_date") == null ? 0 : rs.getDate("last_withdrawal_date").toLocalDate().toEpochDay()));
+        final Path file = directory.resolve("accounts.snapshot");
+
+        // Perform SUT
+        final SnapshotExportResultDto result = snapshotExportService.exportAccountSnapshot(TRACE_ID, file);
+
+        // Verify results
+        Assertions.assertEquals(expected.size(), result.getAccounts());
+        Assertions.assertEquals(Files.size(file), result.getBytes());
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(List.of(file), files.toList());
+        }
+        final List<String> actual = new ArrayList<>();
+        try (AccountSnapshotReader reader = AccountSnapshotReader.open(file)) {
+            Assertions.assertEquals(result.getSnapshotTime(), reader.snapshotTime());
+            Assertions.assertEquals(expected.size(), reader.rowCount());
+            Assertions.assertEquals((expected.size() + 2) / 3, reader.rowGroupCount());
+            while (reader.nextRowGroup()) {
+                for (int row = 0; row < reader.rows(); row++) {
+                    actual.add(reader.idColumn()[row] + ":" + reader.planType(reader.planCodeColumn()[row]) + ":" + reader.daysColumn()[row] + ":"
+                            + reader.balanceCentsColumn()[row] + ":" + reader.withdrawalCountColumn()[row] + ":"
+                            + reader.withdrawalTotalCentsColumn()[row] + ":" + reader.lastWithdrawalEpochDayColumn()[row]);
+                }
+            }
+        }
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertTrue(actual.contains("1:BASIC:10:100000:2:15000:" + LocalDate.of(2024, 5, 10).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'EXPORT ACCOUNT SNAPSHOT' given an existing file at the target,
+            when exportAccountSnapshot is called,
+            then the file should be replaced by the new snapshot.
+            """)
+    public void testExportAccountSnapshot_givenExistingFile_thenShouldReplaceIt() throws IOException {
+        // Setup expectations
+        final Path file = Files.writeString(directory.resolve("accounts.snapshot"), "stale", StandardCharsets.US_ASCII);
+
+        // Perform SUT
+        final SnapshotExportResultDto result = snapshotExportService.exportAccountSnapshot(TRACE_ID, file);
+
+        // Verify results
+        try (AccountSnapshotReader reader = AccountSnapshotReader.open(file)) {
+            Assertions.assertEquals(result.getAccounts(), reader.rowCount());
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'EXPORT ACCOUNT SNAPSHOT' given a null file,
+            when exportAccountSnapshot is called,
+            then it should throw an IllegalArgumentException.
+            """)
+    public void testExportAccountSnapshot_givenNullFile_thenShouldThrowIllegalArgumentException() {
+        // Perform SUT and verify exception
+        Assertions.assertThrows(IllegalArgumentException.class, () -> snapshotExportService.exportAccountSnapshot(TRACE_ID, null));
+    }
+}
@@ -1,33 +1,57 @@
 package org.ikigaidigital.domain.service;
 
 import org.assertj.core.api.Assertions;
+import org.ikigaidigital.domain.component.accrual.AccrualProgress;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
 import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
 import org.ikigaidigital.domain.exception.TimeDepositException;
 import org.ikigaidigital.domain.mapper.TimeDepositMapper;
 import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.dto.WithdrawalsDto;
 import org.ikigaidigital.domain.model.entity.TimeDeposits;
+import org.ikigaidigital.domain.model.request.TimeDepositAccountsPageRequest;
 import org.ikigaidigital.domain.model.response.TimeDepositAccountsResponse;
 import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+import org.ikigaidigital.repository.withdrawal.WithdrawalsRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:xatimedepositservicedb",
+        "application.accrual.eligibility-pushdown=false"
+})
 public class TimeDepositServiceTests {
     private static final String TRACE_ID = "test-trace-id";
+    private static final int CHUNK_SIZE = 1000;
+    private static final Answer<Void> ADD_ONE_TO_EACH_BALANCE = invocation -> {
+        invocation.<List<TimeDepositsDto>>getArgument(0).forEach(dto -> dto.setBalance(dto.getBalance().add(BigDecimal.ONE)));
+        return null;
+    };
 
     @Autowired
     private TimeDepositService timeDepositService;
@@ -36,8 +60,23 @@ public class TimeDepositServiceTests {
 
     @MockBean
     private TimeDepositCalculator timeDepositCalculator;
+    @Autowired
+    private TimeDepositsDataVersion timeDepositsDataVersion;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @MockBean
     private TimeDepositsRepository timeDepositsRepository;
+    @MockBean
+    private WithdrawalsRepository withdrawalsRepository;
+
+    @BeforeEach
+    public void setUp() {
+        // The repository is mocked, so nothing bumps the data version between tests
+        timeDepositsDataVersion.bump();
+        // Every test accrues the current month, which the run ledger would otherwise only allow once
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "ACCRUAL_RUN_PARTITIONS", "ACCRUAL_RUNS");
+    }
 
     @Test
     @DisplayName("""
@@ -61,21 +100,78 @@ public class TimeDepositServiceTests {
 
         final List<TimeDepositsDto> timeDepositsDtoList = List.of(timeDepositsDto);
 
-        final List<TimeDeposits> timeDepositsList = List.of(timeDeposits);
+        Mockito.when(timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, CHUNK_SIZE)).thenReturn(timeDepositsDtoList);
+        Mockito.doAnswer(ADD_ONE_TO_EACH_BALANCE).when(timeDepositCalculator).updateBalance(timeDepositsDtoList);
+        Mockito.doNothing().when(timeDepositsRepository).batchUpdateTimeDepositBalances(timeDepositsDtoList);
 
-        final Optional<List<TimeDeposits>> optionalTimeDeposits = Optional.of(timeDepositsList);
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID);
 
-        Mockito.when(timeDepositsRepository.findAllTimeDeposits()).thenReturn(optionalTimeDeposits);
-        Mockito.doNothing().when(timeDepositCalculator).updateBalance(timeDepositsDtoList);
-        Mockito.doNothing().when(timeDepositsRepository).batchUpdateTimeDepositAccounts(timeDepositsDtoList);
+        // Verify results
+        Mockito.verify(timeDepositsRepository, times(1)).findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, CHUNK_SIZE);
+        Mockito.verify(timeDepositCalculator, times(1)).updateBalance(timeDepositsDtoList);
+        Mockito.verify(timeDepositsRepository, times(1)).batchUpdateTimeDepositBalances(timeDepositsDtoList);
+        Mockito.verify(timeDepositsRepository, times(0)).batchUpdateTimeDepositAccounts(any());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' given a chunk where only some balances change,
+            when updateAllTimeDepositAccounts is called,
+            then it should write back the balances of the changed accounts only and count the others as skipped.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenSomeBalancesUnchanged_thenShouldWriteChangedBalancesOnly() {
+        // Setup expectations
+        final TimeDepositsDto accruing = new TimeDepositsDto(1, "basic", new BigDecimal("150.00"), 45);
+        final TimeDepositsDto interestFree = new TimeDepositsDto(2, "basic", new BigDecimal("250.00"), 15);
+        final List<TimeDepositsDto> chunk = List.of(accruing, interestFree);
+        final AccrualProgress progress = new AccrualProgress();
+
+        Mockito.when(timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, CHUNK_SIZE)).thenReturn(chunk);
+        Mockito.doAnswer(invocation -> {
+            accruing.setBalance(new BigDecimal("150.13"));
+            interestFree.setBalance(new BigDecimal("250.0"));
+            return null;
+        }).when(timeDepositCalculator).updateBalance(chunk);
+
+        // Perform SUT
+        timeDepositService.updateAllTimeDepositAccounts(TRACE_ID, YearMonth.now(), progress);
+
+        // Verify results
+        Mockito.verify(timeDepositsRepository, times(1)).batchUpdateTimeDepositBalances(List.of(accruing));
+        Assertions.assertThat(progress.getRowsDone()).isEqualTo(2);
+        Assertions.assertThat(progress.getRowsWritten()).isEqualTo(1);
+        Assertions.assertThat(progress.getRowsSkipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE ALL TIME DEPOSIT ACCOUNTS' given more deposit accounts than the chunk size,
+            when updateAllTimeDepositAccounts is called,
+            then it should compute and save each chunk and resume reading after the last ID of the previous chunk.
+            """)
+    public void testUpdateAllTimeDepositAccounts_givenMoreAccountsThanChunkSize_thenShouldProcessEachChunk() {
+        // Setup expectations
+        final List<TimeDepositsDto> firstChunk = new ArrayList<>();
+        for (int id = 1; id <= CHUNK_SIZE; id++) {
+            firstChunk.add(new TimeDepositsDto(id, "basic", BigDecimal.valueOf(150.00).setScale(2, RoundingMode.HALF_UP), 45));
+        }
+        final List<TimeDepositsDto> secondChunk = List.of(
+                new TimeDepositsDto(CHUNK_SIZE + 1, "premium", BigDecimal.valueOf(300.00).setScale(2, RoundingMode.HALF_UP), 60));
+
+        Mockito.when(timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, CHUNK_SIZE)).thenReturn(firstChunk);
+        Mockito.when(timeDepositsRepository.findTimeDepositsInIdRange(CHUNK_SIZE, Long.MAX_VALUE, CHUNK_SIZE)).thenReturn(secondChunk);
+        Mockito.doAnswer(ADD_ONE_TO_EACH_BALANCE).when(timeDepositCalculator).updateBalance(any());
 
         // Perform SUT
         timeDepositService.updateAllTimeDepositAccounts(TRACE_ID);
 
         // Verify results
-        Mockito.verify(timeDepositsRepository, times(1)).findAllTimeDeposits();
-        Mockito.verify(timeDepositCalculator, times(1)).updateBalance(timeDepositsDtoList);
-        Mockito.verify(timeDepositsRepository, times(1)).batchUpdateTimeDepositAccounts(timeDepositsDtoList);
+        Mockito.verify(timeDepositCalculator, times(1)).updateBalance(firstChunk);
+        Mockito.verify(timeDepositCalculator, times(1)).updateBalance(secondChunk);
+        Mockito.verify(timeDepositsRepository, times(1)).batchUpdateTimeDepositBalances(firstChunk);
+        Mockito.verify(timeDepositsRepository, times(1)).batchUpdateTimeDepositBalances(secondChunk);
+        Mockito.verify(timeDepositsRepository, times(0)).findTimeDepositsInIdRange(CHUNK_SIZE + 1, Long.MAX_VALUE, CHUNK_SIZE);
     }
 
     @Test
@@ -86,17 +182,15 @@ public class TimeDepositServiceTests {
             """)
     public void testUpdateAllTimeDepositAccounts_givenNoDepositAccountsExists_thenShouldUpdateAllAccountsBalances() {
         // Setup expectations
-        final Optional<List<TimeDeposits>> optionalTimeDeposits = Optional.of(List.of());
-
-        Mockito.when(timeDepositsRepository.findAllTimeDeposits()).thenReturn(optionalTimeDeposits);
+        Mockito.when(timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, CHUNK_SIZE)).thenReturn(List.of());
 
         // Perform SUT
         timeDepositService.updateAllTimeDepositAccounts(TRACE_ID);
 
         // Verify results
-        Mockito.verify(timeDepositsRepository, times(1)).findAllTimeDeposits();
+        Mockito.verify(timeDepositsRepository, times(1)).findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, CHUNK_SIZE);
         Mockito.verify(timeDepositCalculator, times(0)).updateBalance(any());
-        Mockito.verify(timeDepositsRepository, times(0)).batchUpdateTimeDepositAccounts(any());
+        Mockito.verify(timeDepositsRepository, times(0)).batchUpdateTimeDepositBalances(any());
     }
 
     @Test
@@ -109,7 +203,7 @@ public class TimeDepositServiceTests {
         // Setup expectations
         final String expectedErrorMessage = "Error retrieving time deposit accounts";
 
-        Mockito.when(timeDepositsRepository.findAllTimeDeposits()).thenThrow(new RuntimeException("Database error"));
+        Mockito.when(timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, CHUNK_SIZE)).thenThrow(new RuntimeException("Database error"));
 
         // Perform SUT and verify exception
         Assertions.assertThatThrownBy(() -> timeDepositService.updateAllTimeDepositAccounts(TRACE_ID))
@@ -141,7 +235,7 @@ public class TimeDepositServiceTests {
 
         final List<TimeDepositsDto> timeDepositsDtoList = List.of(timeDepositsDto);
 
-        Mockito.when(timeDepositsRepository.findAllTimeDeposits()).thenReturn(Optional.of(List.of(timeDeposits)));
+        Mockito.when(timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, CHUNK_SIZE)).thenReturn(timeDepositsDtoList);
         Mockito.doThrow(new RuntimeException("Interest calculation error")).when(timeDepositCalculator).updateBalance(timeDepositsDtoList);
 
         // Perform SUT and verify exception
@@ -174,9 +268,9 @@ public class TimeDepositServiceTests {
 
         final List<TimeDepositsDto> timeDepositsDtoList = List.of(timeDepositsDto);
 
-        Mockito.when(timeDepositsRepository.findAllTimeDeposits()).thenReturn(Optional.of(List.of(timeDeposits)));
-        Mockito.doNothing().when(timeDepositCalculator).updateBalance(timeDepositsDtoList);
-        Mockito.doThrow(new RuntimeException("Database update error")).when(timeDepositsRepository).batchUpdateTimeDepositAccounts(timeDepositsDtoList);
+        Mockito.when(timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, CHUNK_SIZE)).thenReturn(timeDepositsDtoList);
+        Mockito.doAnswer(ADD_ONE_TO_EACH_BALANCE).when(timeDepositCalculator).updateBalance(timeDepositsDtoList);
+        Mockito.doThrow(new RuntimeException("Database update error")).when(timeDepositsRepository).batchUpdateTimeDepositBalances(timeDepositsDtoList);
 
         // Perform SUT and verify exception
         Assertions.assertThatThrownBy(() -> timeDepositService.updateAllTimeDepositAccounts(TRACE_ID))
@@ -325,4 +419,188 @@ public class TimeDepositServiceTests {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage(expectedErrorMessage);
     }
+
+    @Test
+    @DisplayName("""
+            test 'STREAM ALL TIME DEPOSIT ACCOUNTS' given time deposit accounts exist,
+            when streamAllTimeDepositAccounts is called,
+            then it should pass every account to the consumer and return the count.
+            """)
+    @SuppressWarnings("unchecked")
+    public void testStreamAllTimeDepositAccounts_givenTimeDepositAccountsExist_thenShouldStreamAllAccounts() {
+        // Setup expectations
+        final List<TimeDepositsDto> expectedTimeDepositList = List.of(
+                new TimeDepositsDto(1, "basic", new BigDecimal("150.00"), 15),
+                new TimeDepositsDto(2, "premium", new BigDecimal("2500.00"), 60));
+        final List<TimeDepositsDto> streamedTimeDepositList = new ArrayList<>();
+
+        Mockito.when(timeDepositsRepository.streamAllTimeDeposits(anyInt(), any(Consumer.class))).thenAnswer(invocation -> {
+            final Consumer<TimeDepositsDto> consumer = invocation.getArgument(1);
+            expectedTimeDepositList.forEach(consumer);
+            return (long) expectedTimeDepositList.size();
+        });
+
+        // Perform SUT
+        final long streamedCount = timeDepositService.streamAllTimeDepositAccounts(TRACE_ID, streamedTimeDepositList::add);
+
+        // Verify results
+        Assertions.assertThat(streamedCount).isEqualTo(2);
+        Assertions.assertThat(streamedTimeDepositList).isEqualTo(expectedTimeDepositList);
+        Mockito.verify(timeDepositsRepository, times(1)).streamAllTimeDeposits(Mockito.eq(1000), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'STREAM ALL TIME DEPOSIT ACCOUNTS' given an exception occurs while reading the cursor,
+            when streamAllTimeDepositAccounts is called,
+            then it should throw a TimeDepositException.
+            """)
+    @SuppressWarnings("unchecked")
+    public void testStreamAllTimeDepositAccounts_givenExceptionOccursWhileRetrievingAccounts_thenShouldThrowTimeDepositException() {
+        // Setup expectations
+        final String expectedErrorMessage = "Error retrieving time deposit accounts";
+
+        Mockito.when(timeDepositsRepository.streamAllTimeDeposits(anyInt(), any(Consumer.class))).thenThrow(new RuntimeException("Database error"));
+
+        // Perform SUT and verify exception
+        Assertions.assertThatThrownBy(() -> timeDepositService.streamAllTimeDepositAccounts(TRACE_ID, timeDepositsDto -> { }))
+                .isInstanceOf(TimeDepositException.class)
+                .hasMessage(expectedErrorMessage);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET TIME DEPOSIT ACCOUNTS PAGE' given more matching accounts than the limit,
+            when getTimeDepositAccountsPage is called,
+            then it should return the first page, push the filters down and return a cursor for the next page.
+            """)
+    public void testGetTimeDepositAccountsPage_givenMoreAccountsThanLimit_thenShouldReturnPageWithNextCursor() {
+        // Setup expectations
+        final TimeDepositsDto first = new TimeDepositsDto(3, "PREMIUM", new BigDecimal("5000.00"), 50);
+        final TimeDepositsDto second = new TimeDepositsDto(6, "PREMIUM", new BigDecimal("8000.00"), 120);
+        final TimeDepositsDto third = new TimeDepositsDto(9, "PREMIUM", new BigDecimal("12000.00"), 365);
+        final TimeDepositAccountsPageRequest pageRequest =
+                new TimeDepositAccountsPageRequest(null, null, 2, "premium", new BigDecimal("1000"), null);
+
+        Mockito.when(timeDepositsRepository.findTimeDepositsPage(Long.MIN_VALUE, "premium", new BigDecimal("1000"), null, 3))
+                .thenReturn(List.of(first, second, third));
+        Mockito.when(timeDepositsRepository.findTimeDepositsPage(6, "premium", new BigDecimal("1000"), null, 3))
+                .thenReturn(List.of(third));
+
+        // Perform SUT
+        final TimeDepositAccountsResponse firstPage = timeDepositService.getTimeDepositAccountsPage(TRACE_ID, pageRequest);
+        pageRequest.setCursor(firstPage.getNextCursor());
+        final TimeDepositAccountsResponse lastPage = timeDepositService.getTimeDepositAccountsPage(TRACE_ID, pageRequest);
+
+        // Verify results
+        Assertions.assertThat(firstPage.getAccounts()).containsExactly(first, second);
+        Assertions.assertThat(firstPage.getCount()).isEqualTo(2);
+        Assertions.assertThat(firstPage.getNextCursor()).isNotNull();
+        Assertions.assertThat(lastPage.getAccounts()).containsExactly(third);
+        Assertions.assertThat(lastPage.getCount()).isEqualTo(1);
+        Assertions.assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET TIME DEPOSIT ACCOUNTS PAGE' given no limit or a limit above the maximum,
+            when getTimeDepositAccountsPage is called,
+            then it should use the default page size or cap the limit to the maximum page size.
+            """)
+    public void testGetTimeDepositAccountsPage_givenMissingOrExcessiveLimit_thenShouldUseDefaultOrMaximumPageSize() {
+        // Setup expectations
+        Mockito.when(timeDepositsRepository.findTimeDepositsPage(Mockito.anyLong(), Mockito.any(), Mockito.any(), Mockito.any(), anyInt()))
+                .thenReturn(List.of());
+
+        // Perform SUT
+        timeDepositService.getTimeDepositAccountsPage(TRACE_ID, new TimeDepositAccountsPageRequest(5L, null, null, null, null, null));
+        timeDepositService.getTimeDepositAccountsPage(TRACE_ID, new TimeDepositAccountsPageRequest(5L, null, 1_000_000, null, null, null));
+
+        // Verify results
+        Mockito.verify(timeDepositsRepository, times(1)).findTimeDepositsPage(5, null, null, null, 101);
+        Mockito.verify(timeDepositsRepository, times(1)).findTimeDepositsPage(5, null, null, null, 1001);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET TIME DEPOSIT ACCOUNTS PAGE' given an invalid limit, cursor or balance range,
+            when getTimeDepositAccountsPage is called,
+            then it should throw a TimeDepositException without querying the repository.
+            """)
+    public void testGetTimeDepositAccountsPage_givenInvalidPageRequest_thenShouldThrowTimeDepositException() {
+        // Perform SUT and verify exception
+        Assertions.assertThatThrownBy(() -> timeDepositService.getTimeDepositAccountsPage(TRACE_ID,
+                        new TimeDepositAccountsPageRequest(null, null, 0, null, null, null)))
+                .isInstanceOf(TimeDepositException.class)
+                .hasMessage("Page limit must be greater than zero");
+        Assertions.assertThatThrownBy(() -> timeDepositService.getTimeDepositAccountsPage(TRACE_ID,
+                        new TimeDepositAccountsPageRequest(null, "garbage", null, null, null, null)))
+                .isInstanceOf(TimeDepositException.class)
+                .hasMessage("Page cursor is invalid");
+        Assertions.assertThatThrownBy(() -> timeDepositService.getTimeDepositAccountsPage(TRACE_ID,
+                        new TimeDepositAccountsPageRequest(null, null, null, null, new BigDecimal("10"), new BigDecimal("5"))))
+                .isInstanceOf(TimeDepositException.class)
+                .hasMessage("minBalance must not be greater than maxBalance");
+        Mockito.verify(timeDepositsRepository, Mockito.never())
+                .findTimeDepositsPage(Mockito.anyLong(), Mockito.any(), Mockito.any(), Mockito.any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET ALL TIME DEPOSIT ACCOUNTS' given the listing was already loaded,
+            when getAllTimeDepositAccounts is called again before and after the data version changes,
+            then it should serve the cached response until the data changes and reload it afterwards.
+            """)
+    public void testGetAllTimeDepositAccounts_givenCachedListing_thenShouldReloadOnlyAfterDataVersionChanges() {
+        // Setup expectations
+        final TimeDeposits timeDeposits = new TimeDeposits();
+        timeDeposits.setId(1);
+        timeDeposits.setPlanType("basic");
+        timeDeposits.setBalance(new BigDecimal("150.00"));
+        timeDeposits.setDays(15);
+
+        Mockito.when(timeDepositsRepository.findAllTimeDeposits()).thenReturn(Optional.of(List.of(timeDeposits)));
+
+        // Perform SUT
+        final TimeDepositAccountsResponse firstResponse = timeDepositService.getAllTimeDepositAccounts(TRACE_ID);
+        final TimeDepositAccountsResponse cachedResponse = timeDepositService.getAllTimeDepositAccounts(TRACE_ID);
+        timeDepositsDataVersion.bump();
+        final TimeDepositAccountsResponse reloadedResponse = timeDepositService.getAllTimeDepositAccounts(TRACE_ID);
+
+        // Verify results
+        Assertions.assertThat(cachedResponse).isSameAs(firstResponse);
+        Assertions.assertThat(reloadedResponse).isNotSameAs(firstResponse).isEqualTo(firstResponse);
+        Mockito.verify(timeDepositsRepository, times(2)).findAllTimeDeposits();
+        Assertions.assertThat(timeDepositService.getListingCacheStats().getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("""
+            test 'GET TIME DEPOSIT ACCOUNTS PAGE' given withdrawals are requested for a page,
+            when getTimeDepositAccountsPage is called,
+            then it should load the withdrawals of the whole page with a single query and group them by account.
+            """)
+    public void testGetTimeDepositAccountsPage_givenIncludeWithdrawals_thenShouldLoadWithdrawalsWithOneQuery() {
+        // Setup expectations
+        final TimeDepositAccountsPageRequest pageRequest = new TimeDepositAccountsPageRequest(null, null, 3, null, null, null, true);
+        final WithdrawalsDto firstWithdrawal = new WithdrawalsDto(1, 1, new BigDecimal("100.00"), LocalDate.of(2024, 5, 1));
+        final WithdrawalsDto secondWithdrawal = new WithdrawalsDto(2, 1, new BigDecimal("50.00"), LocalDate.of(2024, 5, 10));
+        final WithdrawalsDto thirdWithdrawal = new WithdrawalsDto(5, 3, new BigDecimal("500.00"), LocalDate.of(2024, 6, 1));
+
+        Mockito.when(timeDepositsRepository.findTimeDepositsPage(Long.MIN_VALUE, null, null, null, 4)).thenReturn(List.of(
+                new TimeDepositsDto(1, "BASIC", new BigDecimal("1000.00"), 10),
+                new TimeDepositsDto(2, "STUDENT", new BigDecimal("2000.00"), 40),
+                new TimeDepositsDto(3, "PREMIUM", new BigDecimal("5000.00"), 50)));
+        Mockito.when(withdrawalsRepository.findWithdrawalsByTimeDepositIds(List.of(1, 2, 3)))
+                .thenReturn(List.of(firstWithdrawal, secondWithdrawal, thirdWithdrawal));
+
+        // Perform SUT
+        final TimeDepositAccountsResponse response = timeDepositService.getTimeDepositAccountsPage(TRACE_ID, pageRequest);
+
+        // Verify results
+        Assertions.assertThat(response.getAccounts().get(0).getWithdrawals()).containsExactly(firstWithdrawal, secondWithdrawal);
+        Assertions.assertThat(response.getAccounts().get(1).getWithdrawals()).isEmpty();
+        Assertions.assertThat(response.getAccounts().get(2).getWithdrawals()).containsExactly(thirdWithdrawal);
+        Mockito.verify(withdrawalsRepository, times(1)).findWithdrawalsByTimeDepositIds(any());
+    }
 }
@@ -0,0 +1,187 @@
+package org.ikigaidigital.domain.snapshot;
+
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotReader;
+import org.ikigaidigital.domain.component.snapshot.AccountSnapshotWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class AccountSnapshotFileTests {
+    private static final Instant SNAPSHOT_TIME = Instant.parse("2026-05-31T23:00:00Z");
+    private static final List<String> PLAN_TYPES = List.of("basic", "student", "premium");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("""
+            test 'ACCOUNT SNAPSHOT' given accounts with extreme values and unordered IDs written in small row groups,
+            when the file is scanned,
+            should read back every column of every account exactly
+            """)
+    void testScan_givenAccountsAcrossRowGroups_shouldReadBackEveryColumn() throws IOException {
+        // Setup expectations
+        final Random random = new Random(42);
+        final int accounts = 1000;
+        final int[] ids = new int[accounts];
+        final int[] planCodes = new int[accounts];
+        final int[] days = new int[accounts];
+        final long[] balanceCents = new long[accounts];
+        final int[] withdrawalCounts = new int[accounts];
+        final long[] withdrawalTotalCents = new long[accounts];
+        final int[] lastWithdrawalEpochDays = new int[accounts];
+        for (int row = 0; row < accounts; row++) {
+            ids[row] = row == 0 ? Integer.MAX_VALUE : row == 1 ? Integer.MIN_VALUE : row * 7 + random.nextInt(5);
+            planCodes[row] = random.nextInt(PLAN_TYPES.size());
+            days[row] = random.nextInt(1000);
+            balanceCents[row] = row == 2 ? Long.MAX_VALUE : row == 3 ? Long.MIN_VALUE : random.nextLong() % 10_000_000_00L;
+            withdrawalCounts[row] = random.nextInt(3);
+            withdrawalTotalCents[row] = withdrawalCounts[row] == 0 ? 0 : random.nextInt(1_000_000);
+            lastWithdrawalEpochDays[row] = withdrawalCounts[row] == 0 ? 0 : (int) LocalDate.of(2024, 1, 1).toEpochDay() + random.nextInt(800);
+        }
+        final Path file = directory.resolve("accounts.snapshot");
+
+        // Perform SUT
+        final long bytes;
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.open(file, SNAPSHOT_TIME, 64)) {
+            for (int row = 0; row < accounts; row++) {
+                writer.add(ids[row], PLAN_TYPES.get(planCodes[row]), days[row], balanceCents[row], withdrawalCounts[row],
+                        withdrawalTotalCents[row], lastWithdrawalEpochDays[row]);
+            }
+            bytes = writer.finish();
+        }
+
+        // Verify results
+        Assertions.assertEquals(Files.size(file), bytes);
+        try (AccountSnapshotReader reader = AccountSnapshotReader.open(file)) {
+            Assertions.assertEquals(SNAPSHOT_TIME, reader.snapshotTime());
+            Assertions.assertEquals(accounts, reader.rowCount());
+            Assertions.assertEquals(16, reader.rowGroupCount());
+            int row = 0;
+            while (reader.nextRowGroup()) {
+                for (int groupRow = 0; groupRow < reader.rows(); groupRow++, row++) {
+                    Assertions.assertEquals(ids[row], reader.idColumn()[groupRow]);
+                    Assertions.assertEquals(PLAN_TYPES.get(planCodes[row]), reader.planType(reader.planCodeColumn()[groupRow]));
+                    Assertions.assertEquals(days[row], reader.daysColumn()[groupRow]);
+                    Assertions.assertEquals(balanceCents[row], reader.balanceCentsColumn()[groupRow]);
+                    Assertions.assertEquals(withdrawalCounts[row], reader.withdrawalCountColumn()[groupRow]);
+                    Assertions.assertEquals(withdrawalTotalCents[row], reader.withdrawalTotalCentsColumn()[groupRow]);
+                    Assertions.assertEquals(lastWithdrawalEpochDays[row], reader.lastWithdrawalEpochDayColumn()[groupRow]);
+                }
+            }
+            Assertions.assertEquals(accounts, row);
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'ACCOUNT SNAPSHOT' given ascending IDs and a few plan types,
+            when the snapshot is written,
+            should encode each account in far fewer bytes than its fixed-width columns
+            """)
+    void testFinish_givenAscendingIds_shouldCompressTheColumns() throws IOException {
+        // Setup expectations
+        final int accounts = 10000;
+        final Path file = directory.resolve("accounts.snapshot");
+
+        // Perform SUT
+        final long bytes;
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.open(file, SNAPSHOT_TIME, 4096)) {
+            for (int id = 1; id <= accounts; id++) {
+                writer.add(id, PLAN_TYPES.get(id % 3), id % 400, 100_000L + id, id % 4, id % 4 * 5_000L,
+                        id % 4 == 0 ? 0 : 19_800 + id % 300);
+            }
+            bytes = writer.finish();
+        }
+
+        // Verify results: fixed-width int, byte, int, long, int, long and int columns take 33 bytes per account
+        Assertions.assertTrue(bytes < accounts * 33L / 2, "Expected under half of 33 bytes per account, got " + bytes / (double) accounts);
+        try (AccountSnapshotReader reader = AccountSnapshotReader.open(file)) {
+            Assertions.assertEquals(List.of("student", "premium", "basic"), reader.planTypes());
+            long balanceTotal = 0;
+            while (reader.nextRowGroup()) {
+                final long[] balances = reader.balanceCentsColumn();
+                for (int row = 0; row < reader.rows(); row++) {
+                    balanceTotal += balances[row];
+                }
+            }
+            Assertions.assertEquals(accounts * 100_000L + accounts * (accounts + 1L) / 2, balanceTotal);
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'ACCOUNT SNAPSHOT' given a snapshot that was never finished,
+            when it is opened,
+            should be rejected
+            """)
+    void testOpen_givenUnfinishedSnapshot_shouldThrowIOException() throws IOException {
+        // Setup expectations
+        final Path file = directory.resolve("accounts.snapshot");
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.open(file, SNAPSHOT_TIME, 2)) {
+            for (int id = 1; id <= 5; id++) {
+                writer.add(id, "basic", 10, 1000, 0, 0, 0);
+            }
+        }
+
+        // Perform SUT and verify exception
+        final IOException exception = Assertions.assertThrows(IOException.class, () -> AccountSnapshotReader.open(file));
+        Assertions.assertTrue(exception.getMessage().startsWith("Not a finished account snapshot file"));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'ACCOUNT SNAPSHOT' given a duplicate of an open reader and the file replaced by another snapshot,
+            when the duplicate scans the file and is closed,
+            should read the snapshot first opened and leave the original reader open
+            """)
+    void testDuplicate_givenFileReplaced_shouldReadTheSnapshotFirstOpened() throws IOException {
+        // Setup expectations
+        final Path file = directory.resolve("accounts.snapshot");
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.open(file, SNAPSHOT_TIME, 2)) {
+            for (int id = 1; id <= 5; id++) {
+                writer.add(id, "basic", 10, 1000, 0, 0, 0);
+            }
+            writer.finish();
+        }
+
+        try (AccountSnapshotReader reader = AccountSnapshotReader.open(file)) {
+            final Path replacement = directory.resolve("replacement.snapshot");
+            try (AccountSnapshotWriter writer = AccountSnapshotWriter.open(replacement, SNAPSHOT_TIME.plusSeconds(60), 2)) {
+                writer.add(9, "premium", 40, 2000, 0, 0, 0);
+                writer.finish();
+            }
+            Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+
+            // Perform SUT
+            final List<String> planTypes = new ArrayList<>();
+            final List<Integer> ids = new ArrayList<>();
+            try (AccountSnapshotReader duplicate = reader.duplicate()) {
+                for (int group = 1; group < duplicate.rowGroupCount(); group++) {
+                    duplicate.readRowGroup(group);
+                    for (int row = 0; row < duplicate.rows(); row++) {
+                        ids.add(duplicate.idColumn()[row]);
+                        planTypes.add(duplicate.planType(duplicate.planCodeColumn()[row]));
+                    }
+                }
+            }
+
+            // Verify results
+            Assertions.assertEquals(List.of(3, 4, 5), ids);
+            Assertions.assertEquals(List.of("basic", "basic", "basic"), planTypes);
+            Assertions.assertTrue(reader.nextRowGroup());
+            Assertions.assertEquals(1, reader.idColumn()[0]);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.ikigaidigital.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class IntObjectHashMapTests {
+    @Test
+    @DisplayName("""
+            test 'PUT AND GET' given more keys than the expected size, including negative and colliding keys
+            when values are put, replaced and grouped
+            should behave like a HashMap keyed by Integer
+            """)
+    public void testPutAndGet_givenManyKeys_shouldMatchHashMap() {
+        // Setup expectations
+        final Random random = new Random(42);
+        final IntObjectHashMap<List<Integer>> map = new IntObjectHashMap<>(4);
+        final Map<Integer, List<Integer>> expected = new HashMap<>();
+
+        // Perform SUT
+        for (int i = 0; i < 10_000; i++) {
+            final int key = random.nextInt(2_000) - 1_000;
+            map.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            expected.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+        map.put(0, List.of(-1));
+        expected.put(0, List.of(-1));
+
+        // Verify results
+        Assertions.assertEquals(expected.size(), map.size());
+        for (int key = -1_000; key < 1_000; key++) {
+            Assertions.assertEquals(expected.get(key), map.get(key));
+        }
+        Assertions.assertNull(map.get(5_000));
+        Assertions.assertEquals(List.of(), map.getOrDefault(5_000, List.of()));
+    }
+}
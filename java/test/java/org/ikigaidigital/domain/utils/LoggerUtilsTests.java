@@ -0,0 +1,156 @@
+package org.ikigaidigital.domain.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.ikigaidigital.domain.constant.Sources;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoggerUtilsTests {
+    private static final String TRACE_ID = "trace-1";
+
+    private Logger logger;
+    private Level originalLevel;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    public void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(LoggerUtils.class);
+        originalLevel = logger.getLevel();
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(originalLevel);
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("""
+            test 'LOG DEBUG' given DEBUG is enabled
+            when the 'logDebug' method is called
+            should write the formatted message with the trace ID and source in the MDC, and restore the MDC afterwards
+            """)
+    public void testLogDebug_givenDebugEnabled_shouldLogWithMdcContext() {
+        // Setup expectations
+        logger.setLevel(Level.DEBUG);
+        MDC.put(LoggerUtils.MDC_TRACE_ID, "outer-trace");
+
+        // Perform SUT
+        LoggerUtils.logDebug(TRACE_ID, Sources.SERVICE_LAYER, "Updated {} of {} accounts.", 3, 10);
+
+        // Verify results
+        Assertions.assertEquals(1, appender.list.size());
+        final ILoggingEvent event = appender.list.get(0);
+        Assertions.assertEquals("Updated 3 of 10 accounts.", event.getFormattedMessage());
+        Assertions.assertEquals(TRACE_ID, event.getMDCPropertyMap().get(LoggerUtils.MDC_TRACE_ID));
+        Assertions.assertEquals(Sources.SERVICE_LAYER.source, event.getMDCPropertyMap().get(LoggerUtils.MDC_SOURCE));
+        Assertions.assertEquals("outer-trace", MDC.get(LoggerUtils.MDC_TRACE_ID));
+        Assertions.assertNull(MDC.get(LoggerUtils.MDC_SOURCE));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'LOG DEBUG' given DEBUG is disabled
+            when the 'logDebug' method is called
+            should neither write the line nor format its arguments
+            """)
+    public void testLogDebug_givenDebugDisabled_shouldNotFormatArguments() {
+        // Setup expectations
+        logger.setLevel(Level.INFO);
+        final AtomicInteger toStringCalls = new AtomicInteger();
+        final Object argument = new Object() {
+            @Override
+            public String toString() {
+                toStringCalls.incrementAndGet();
+                return "argument";
+            }
+        };
+
+        // Perform SUT
+        LoggerUtils.logDebug(TRACE_ID, Sources.SERVICE_LAYER, "Converted {}.", argument);
+
+        // Verify results
+        Assertions.assertTrue(appender.list.isEmpty());
+        Assertions.assertEquals(0, toStringCalls.get());
+        Assertions.assertNull(MDC.get(LoggerUtils.MDC_TRACE_ID));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'LOG DEBUG SAMPLED' given a sampler of one in three
+            when the 'logDebugSampled' method is called seven times
+            should write the first, fourth and seventh lines only
+            """)
+    public void testLogDebugSampled_givenOneInThree_shouldWriteEveryThirdLine() {
+        // Setup expectations
+        logger.setLevel(Level.DEBUG);
+        final LoggerUtils.Sampler sampler = LoggerUtils.sampleEvery(3);
+
+        // Perform SUT
+        for (int row = 1; row <= 7; row++) {
+            LoggerUtils.logDebugSampled(sampler, TRACE_ID, Sources.SERVICE_LAYER, "Row {}.", row);
+        }
+
+        // Verify results
+        Assertions.assertEquals(3, appender.list.size());
+        Assertions.assertEquals("Row 1.", appender.list.get(0).getFormattedMessage());
+        Assertions.assertEquals("Row 4.", appender.list.get(1).getFormattedMessage());
+        Assertions.assertEquals("Row 7.", appender.list.get(2).getFormattedMessage());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'LOG ERROR' given no trace ID, source or message
+            when the 'logError' method is called
+            should write the placeholder message with the placeholder MDC values
+            """)
+    public void testLogError_givenMissingContext_shouldUsePlaceholders() {
+        // Perform SUT
+        LoggerUtils.logError(null, null, null);
+
+        // Verify results
+        Assertions.assertEquals(1, appender.list.size());
+        final ILoggingEvent event = appender.list.get(0);
+        Assertions.assertEquals("No message provided", event.getFormattedMessage());
+        Assertions.assertEquals("No trace ID", event.getMDCPropertyMap().get(LoggerUtils.MDC_TRACE_ID));
+        Assertions.assertEquals("No source", event.getMDCPropertyMap().get(LoggerUtils.MDC_SOURCE));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'LOG INFO' given null arguments
+            when the fixed-arity and varargs 'logInfo' methods are called
+            should render each null argument as NULL and leave the caller's array untouched
+            """)
+    public void testLogInfo_givenNullArguments_shouldRenderNull() {
+        // Setup expectations
+        logger.setLevel(Level.INFO);
+        final Object[] args = {1, null, 3};
+
+        // Perform SUT
+        LoggerUtils.logInfo(TRACE_ID, Sources.SERVICE_LAYER, "Plan {}.", (Object) null);
+        LoggerUtils.logInfo(TRACE_ID, Sources.SERVICE_LAYER, "Plan {} of {}.", "PREMIUM", null);
+        LoggerUtils.logInfo(TRACE_ID, Sources.SERVICE_LAYER, "Rows {}, {} and {}.", args);
+
+        // Verify results
+        Assertions.assertEquals(3, appender.list.size());
+        Assertions.assertEquals("Plan NULL.", appender.list.get(0).getFormattedMessage());
+        Assertions.assertEquals("Plan PREMIUM of NULL.", appender.list.get(1).getFormattedMessage());
+        Assertions.assertEquals("Rows 1, NULL and 3.", appender.list.get(2).getFormattedMessage());
+        Assertions.assertNull(args[1]);
+    }
+}
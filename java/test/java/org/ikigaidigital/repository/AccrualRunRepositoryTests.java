@@ -0,0 +1,219 @@
+package org.ikigaidigital.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ikigaidigital.domain.component.accrual.AccrualPartition;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
+import org.ikigaidigital.domain.component.listing.ListingProperties;
+import org.ikigaidigital.domain.constant.AccrualRunStatus;
+import org.ikigaidigital.domain.model.dto.AccrualRunDto;
+import org.ikigaidigital.domain.model.dto.AccrualRunPartitionDto;
+import org.ikigaidigital.repository.accrual.AccrualRunRepository;
+import org.ikigaidigital.repository.accrual.AccrualRunRepositoryImpl;
+import org.ikigaidigital.repository.time.deposits.AdaptiveBatchWriter;
+import org.ikigaidigital.repository.time.deposits.BatchWriterProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AccrualRunRepositoryImpl.class, TimeDepositsDataVersion.class, ListingProperties.class, AdaptiveBatchWriter.class, BatchWriterProperties.class,
+        SimpleMeterRegistry.class})
+public class AccrualRunRepositoryTests {
+    private static final YearMonth PERIOD = YearMonth.of(2026, 4);
+
+    @Autowired
+    private AccrualRunRepository accrualRunRepository;
+
+    @Test
+    @DisplayName("""
+            test 'CREATE RUN' given a period without a run
+            when the 'createRun' method is called
+            should record a running run with one checkpoint per partition at the start of its range
+            """)
+    public void testCreateRun_givenNewPeriod_shouldRecordRunAndPartitions() {
+        // Perform SUT
+        final AccrualRunDto run = accrualRunRepository.createRun(PERIOD, 1, AccrualPartition.split(1, 10, 2));
+
+        // Verify results
+        final AccrualRunDto stored = accrualRunRepository.findRunByPeriod(PERIOD).orElseThrow();
+        Assertions.assertEquals(run.getId(), stored.getId());
+        Assertions.assertEquals(AccrualRunStatus.RUNNING, stored.getStatus());
+        Assertions.assertNull(stored.getCompletedAt());
+
+        final List<AccrualRunPartitionDto> partitions = accrualRunRepository.findPartitions(run.getId());
+        Assertions.assertEquals(2, partitions.size());
+        Assertions.assertEquals(new AccrualPartition(0, 5), partitions.get(0).remaining());
+        Assertions.assertEquals(new AccrualPartition(5, 10), partitions.get(1).remaining());
+        Assertions.assertEquals(AccrualRunStatus.RUNNING, partitions.get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CREATE RUN' given the period already has a run
+            when the 'createRun' method is called
+            should fail with a DuplicateKeyException
+            """)
+    public void testCreateRun_givenExistingPeriod_shouldThrowDuplicateKeyException() {
+        // Setup expectations
+        accrualRunRepository.createRun(PERIOD, 1, List.of(new AccrualPartition(Long.MIN_VALUE, Long.MAX_VALUE)));
+
+        // Perform SUT and verify exception
+        Assertions.assertThrows(DuplicateKeyException.class,
+                () -> accrualRunRepository.createRun(PERIOD, 1, List.of(new AccrualPartition(Long.MIN_VALUE, Long.MAX_VALUE))));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'ADVANCE CHECKPOINT' given a checkpoint that has already moved
+            when the 'advanceCheckpoint' method is called with the stale value
+            should leave the checkpoint unchanged and return false
+            """)
+    public void testAdvanceCheckpoint_givenStaleCheckpoint_shouldNotMove() {
+        // Setup expectations
+        final AccrualRunDto run = accrualRunRepository.createRun(PERIOD, 1, List.of(new AccrualPartition(0, 10)));
+        Assertions.assertTrue(accrualRunRepository.advanceCheckpoint(run.getId(), 0, 0, 0, 4, 4));
+
+        // Perform SUT
+        final boolean advanced = accrualRunRepository.advanceCheckpoint(run.getId(), 0, 0, 0, 4, 4);
+
+        // Verify results
+        Assertions.assertFalse(advanced);
+        final AccrualRunPartitionDto partition = accrualRunRepository.findPartitions(run.getId()).get(0);
+        Assertions.assertEquals(4, partition.getLastCommittedId());
+        Assertions.assertEquals(4, partition.getUpdatedCount());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'UPDATE RUN STATUS' given partitions with committed accounts
+            when the run is marked COMPLETED
+            should stamp the completion time and total the accounts of its partitions
+            """)
+    public void testUpdateRunStatus_givenCompleted_shouldTotalPartitions() {
+        // Setup expectations
+        final AccrualRunDto run = accrualRunRepository.createRun(PERIOD, 1, AccrualPartition.split(1, 10, 2));
+        accrualRunRepository.advanceCheckpoint(run.getId(), 0, 0, 0, 5, 5);
+        accrualRunRepository.advanceCheckpoint(run.getId(), 1, 0, 5, 10, 5);
+
+        // Perform SUT
+        accrualRunRepository.updateRunStatus(run.getId(), AccrualRunStatus.COMPLETED);
+
+        // Verify results
+        final AccrualRunDto stored = accrualRunRepository.findRunByPeriod(PERIOD).orElseThrow();
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, stored.getStatus());
+        Assertions.assertEquals(10, stored.getUpdatedCount());
+        Assertions.assertNotNull(stored.getCompletedAt());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CLAIM PARTITION' given two nodes claiming partitions of the same run
+            when the 'claimPartition' method is called until nothing is left
+            should lease every partition to exactly one node
+            """)
+    public void testClaimPartition_givenTwoNodes_shouldLeaseEachPartitionOnce() {
+        // Setup expectations
+        final AccrualRunDto run = accrualRunRepository.createRun(PERIOD, 1, AccrualPartition.split(1, 10, 3));
+
+        // Perform SUT
+        final AccrualRunPartitionDto first = accrualRunRepository.claimPartition(run.getId(), "node-a", Duration.ofMinutes(5)).orElseThrow();
+        final AccrualRunPartitionDto second = accrualRunRepository.claimPartition(run.getId(), "node-b", Duration.ofMinutes(5)).orElseThrow();
+        final AccrualRunPartitionDto third = accrualRunRepository.claimPartition(run.getId(), "node-a", Duration.ofMinutes(5)).orElseThrow();
+        final Optional<AccrualRunPartitionDto> none = accrualRunRepository.claimPartition(run.getId(), "node-b", Duration.ofMinutes(5));
+
+        // Verify results
+        Assertions.assertEquals(List.of(0, 1, 2), List.of(first.getPartitionNo(), second.getPartitionNo(), third.getPartitionNo()));
+        Assertions.assertTrue(none.isEmpty());
+        final List<AccrualRunPartitionDto> partitions = accrualRunRepository.findPartitions(run.getId());
+        Assertions.assertEquals(List.of("node-a", "node-b", "node-a"), partitions.stream().map(AccrualRunPartitionDto::getLeaseOwner).toList());
+        Assertions.assertEquals(1, partitions.get(1).getLeaseToken());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'CLAIM PARTITION' given a partition whose lease has expired
+            when another node claims it and the previous owner tries to commit
+            should hand the partition over and fence off the previous owner
+            """)
+    public void testClaimPartition_givenExpiredLease_shouldTakeOverAndFenceOffPreviousOwner() {
+        // Setup expectations
+        final AccrualRunDto run = accrualRunRepository.createRun(PERIOD, 1, List.of(new AccrualPartition(0, 10)));
+        final AccrualRunPartitionDto stale = accrualRunRepository.claimPartition(run.getId(), "node-a", Duration.ZERO).orElseThrow();
+
+        // Perform SUT
+        final AccrualRunPartitionDto takenOver = accrualRunRepository.claimPartition(run.getId(), "node-b", Duration.ofMinutes(5)).orElseThrow();
+
+        // Verify results
+        Assertions.assertEquals(stale.getLeaseToken() + 1, takenOver.getLeaseToken());
+        Assertions.assertFalse(accrualRunRepository.renewLease(run.getId(), 0, stale.getLeaseToken(), Duration.ofMinutes(5)));
+        Assertions.assertFalse(accrualRunRepository.advanceCheckpoint(run.getId(), 0, stale.getLeaseToken(), 0, 4, 4));
+        Assertions.assertFalse(accrualRunRepository.completePartition(run.getId(), 0, stale.getLeaseToken()));
+        Assertions.assertTrue(accrualRunRepository.advanceCheckpoint(run.getId(), 0, takenOver.getLeaseToken(), 0, 4, 4));
+
+        final AccrualRunPartitionDto partition = accrualRunRepository.findPartitions(run.getId()).get(0);
+        Assertions.assertEquals("node-b", partition.getLeaseOwner());
+        Assertions.assertEquals(4, partition.getLastCommittedId());
+        Assertions.assertEquals(AccrualRunStatus.RUNNING, partition.getStatus());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'RELEASE PARTITION' given a partition leased by a node
+            when the node releases it
+            should let another node claim it before the lease would have expired
+            """)
+    public void testReleasePartition_givenLeasedPartition_shouldBeClaimableAgain() {
+        // Setup expectations
+        final AccrualRunDto run = accrualRunRepository.createRun(PERIOD, 1, List.of(new AccrualPartition(0, 10)));
+        final AccrualRunPartitionDto leased = accrualRunRepository.claimPartition(run.getId(), "node-a", Duration.ofMinutes(5)).orElseThrow();
+        Assertions.assertTrue(accrualRunRepository.claimPartition(run.getId(), "node-b", Duration.ofMinutes(5)).isEmpty());
+
+        // Perform SUT
+        accrualRunRepository.releasePartition(run.getId(), 0, leased.getLeaseToken());
+
+        // Verify results
+        final AccrualRunPartitionDto claimed = accrualRunRepository.claimPartition(run.getId(), "node-b", Duration.ofMinutes(5)).orElseThrow();
+        Assertions.assertEquals("node-b", claimed.getLeaseOwner());
+        Assertions.assertEquals(leased.getLeaseToken() + 1, claimed.getLeaseToken());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'COMPLETE RUN IF PARTITIONS COMPLETED' given partitions completed by different nodes
+            when the 'completeRunIfPartitionsCompleted' method is called after each
+            should complete the run only once its last partition has completed
+            """)
+    public void testCompleteRunIfPartitionsCompleted_givenPartitionsOfTwoNodes_shouldCompleteAfterLast() {
+        // Setup expectations
+        final AccrualRunDto run = accrualRunRepository.createRun(PERIOD, 1, AccrualPartition.split(1, 10, 2));
+        final AccrualRunPartitionDto first = accrualRunRepository.claimPartition(run.getId(), "node-a", Duration.ofMinutes(5)).orElseThrow();
+        final AccrualRunPartitionDto second = accrualRunRepository.claimPartition(run.getId(), "node-b", Duration.ofMinutes(5)).orElseThrow();
+        accrualRunRepository.advanceCheckpoint(run.getId(), 0, first.getLeaseToken(), 0, 5, 5);
+        accrualRunRepository.advanceCheckpoint(run.getId(), 1, second.getLeaseToken(), 5, 10, 5);
+        Assertions.assertTrue(accrualRunRepository.completePartition(run.getId(), 0, first.getLeaseToken()));
+
+        // Perform SUT and verify results
+        Assertions.assertFalse(accrualRunRepository.completeRunIfPartitionsCompleted(run.getId()));
+        Assertions.assertEquals(AccrualRunStatus.RUNNING, accrualRunRepository.findRunByPeriod(PERIOD).orElseThrow().getStatus());
+
+        Assertions.assertTrue(accrualRunRepository.completePartition(run.getId(), 1, second.getLeaseToken()));
+        Assertions.assertTrue(accrualRunRepository.completeRunIfPartitionsCompleted(run.getId()));
+        Assertions.assertFalse(accrualRunRepository.completeRunIfPartitionsCompleted(run.getId()));
+
+        final AccrualRunDto stored = accrualRunRepository.findRunByPeriod(PERIOD).orElseThrow();
+        Assertions.assertEquals(AccrualRunStatus.COMPLETED, stored.getStatus());
+        Assertions.assertEquals(10, stored.getUpdatedCount());
+        Assertions.assertNull(accrualRunRepository.findPartitions(run.getId()).get(1).getLeaseOwner());
+    }
+}
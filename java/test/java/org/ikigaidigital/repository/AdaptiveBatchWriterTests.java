@@ -0,0 +1,136 @@
+package org.ikigaidigital.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.ikigaidigital.repository.time.deposits.AdaptiveBatchWriter;
+import org.ikigaidigital.repository.time.deposits.BatchWriterProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class AdaptiveBatchWriterTests {
+    private static final String STATEMENT = "test.update";
+    private static final String SQL = "UPDATE test SET value = ? WHERE id = ?";
+    private static final ParameterizedPreparedStatementSetter<Integer> SETTER = (ps, row) -> ps.setInt(1, row);
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private BatchWriterProperties batchWriterProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveBatchWriter adaptiveBatchWriter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    final int size = invocation.<List<?>>getArgument(1).size();
+                    batchSizes.add(size);
+                    final int[] counts = new int[size];
+                    Arrays.fill(counts, 1);
+                    return new int[][]{counts};
+                });
+
+        batchWriterProperties = new BatchWriterProperties();
+        batchWriterProperties.setMaxBatchSize(400);
+        batchWriterProperties.setMinBatchSize(100);
+        meterRegistry = new SimpleMeterRegistry();
+        adaptiveBatchWriter = new AdaptiveBatchWriter(jdbcTemplate, batchWriterProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'WRITE' given fast batches and more rows than the maximum batch size
+            when the 'write' method is called
+            should split the rows into batches of at most the maximum size and time each of them
+            """)
+    public void testWrite_givenFastBatches_shouldStayWithinMaxBatchSize() {
+        // Setup expectations
+        batchWriterProperties.setTargetBatchLatency(Duration.ofHours(1));
+
+        // Perform SUT
+        final int affected = adaptiveBatchWriter.write(STATEMENT, SQL, rows(1000), SETTER);
+
+        // Verify results
+        Assertions.assertEquals(1000, affected);
+        Assertions.assertEquals(List.of(400, 400, 200), batchSizes);
+        Assertions.assertEquals(400, adaptiveBatchWriter.currentBatchSize(STATEMENT));
+        Assertions.assertEquals(3, meterRegistry.get("jdbc.batch.duration").tag("statement", STATEMENT).timer().count());
+        Assertions.assertEquals(1000, meterRegistry.get("jdbc.batch.size").tag("statement", STATEMENT).summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'WRITE' given batches slower than the target latency
+            when the 'write' method is called, and again once the batches are fast
+            should halve the batch size down to the minimum, and then grow it back by a quarter per batch
+            """)
+    public void testWrite_givenSlowThenFastBatches_shouldShrinkThenGrowBatchSize() {
+        // Setup expectations
+        batchWriterProperties.setTargetBatchLatency(Duration.ofNanos(1));
+
+        // Perform SUT
+        adaptiveBatchWriter.write(STATEMENT, SQL, rows(1000), SETTER);
+
+        // Verify results
+        Assertions.assertEquals(List.of(400, 200, 100, 100, 100, 100), batchSizes);
+        Assertions.assertEquals(100, adaptiveBatchWriter.currentBatchSize(STATEMENT));
+
+        // Setup expectations
+        batchSizes.clear();
+        batchWriterProperties.setTargetBatchLatency(Duration.ofHours(1));
+
+        // Perform SUT
+        adaptiveBatchWriter.write(STATEMENT, SQL, rows(300), SETTER);
+
+        // Verify results
+        Assertions.assertEquals(List.of(100, 125, 75), batchSizes);
+        Assertions.assertEquals(195, adaptiveBatchWriter.currentBatchSize(STATEMENT));
+        Assertions.assertEquals(400, adaptiveBatchWriter.currentBatchSize("other.statement"));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'VALIDATE' given a zero maximum batch size and a minimum batch size above it
+            when the batch writer properties are validated
+            should report both instead of clamping them
+            """)
+    public void testValidate_givenInvalidBatchSizes_shouldReportViolations() {
+        // Setup expectations
+        batchWriterProperties.setMaxBatchSize(0);
+        batchWriterProperties.setMinBatchSize(100);
+
+        // Perform SUT
+        final Set<ConstraintViolation<BatchWriterProperties>> violations;
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            violations = validatorFactory.getValidator().validate(batchWriterProperties);
+        }
+
+        // Verify results
+        Assertions.assertEquals(Set.of("maxBatchSize", "minBatchSizeWithinMax"),
+                violations.stream().map(violation -> violation.getPropertyPath().toString()).collect(Collectors.toSet()));
+    }
+
+    private static List<Integer> rows(final int count) {
+        return IntStream.range(0, count).boxed().toList();
+    }
+}
@@ -0,0 +1,143 @@
+package org.ikigaidigital.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ikigaidigital.domain.component.accrual.AccrualProperties;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
+import org.ikigaidigital.domain.component.calculator.TimeDepositCalculator;
+import org.ikigaidigital.domain.component.listing.ListingProperties;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
+import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.repository.time.deposits.AdaptiveBatchWriter;
+import org.ikigaidigital.repository.time.deposits.BatchWriterProperties;
+import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parity checks between the set-based, in-database accrual and the {@link TimeDepositCalculator} on H2.
+ * Every repetition draws its own seeded plans and accounts, so a failure can be replayed from the repetition number.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TimeDepositsDataVersion.class, ListingProperties.class, AdaptiveBatchWriter.class, BatchWriterProperties.class, SimpleMeterRegistry.class})
+public class InDatabaseAccrualParityTests {
+    private static final int ACCOUNTS_PER_REPETITION = 2_000;
+    private static final String[] PLAN_TYPES = {"STUDENT", "PREMIUM", "BASIC", "Basic", "premium", "GOLD"};
+
+    @Autowired
+    private TimeDepositsRepository timeDepositsRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @RepeatedTest(10)
+    @DisplayName("""
+            test 'ACCRUE INTEREST IN ID RANGE' given random plans and accounts
+            when the 'accrueInterestInIdRange' method is called
+            should leave every account with the balance the TimeDepositCalculator computes
+            """)
+    public void testAccrueInterestInIdRange_givenRandomDataset_shouldMatchCalculator(final RepetitionInfo repetitionInfo) {
+        // Setup expectations
+        final Random random = new Random(17L * repetitionInfo.getCurrentRepetition());
+        final PlanProperties planProperties = new PlanProperties();
+        planProperties.setPlans(List.of(
+                plan("student", randomRate(random), random.nextInt(60), true, 365),
+                plan("premium", randomRate(random), random.nextInt(60), random.nextBoolean(), 400),
+                plan("basic", randomRate(random), random.nextInt(60), false, null)));
+        final TimeDepositCalculator timeDepositCalculator = new TimeDepositCalculator(planProperties, new AccrualProperties());
+
+        replaceAccounts(random);
+        final List<TimeDepositsDto> expected = timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+        timeDepositCalculator.updateBalance(expected);
+
+        // Perform SUT
+        final int updatedCount = timeDepositsRepository.accrueInterestInIdRange(
+                timeDepositCalculator.planEvaluatorIndex().evaluators(), Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // Verify results
+        final List<TimeDepositsDto> actual = timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+        assertThat(actual).isEqualTo(expected);
+        Assertions.assertEquals(expected.stream().filter(dto -> accrues(timeDepositCalculator, dto)).count(), updatedCount);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'ACCRUE INTEREST IN ID RANGE' given an ID range inside the table
+            when the 'accrueInterestInIdRange' method is called
+            should only update the accruing accounts within that range
+            """)
+    public void testAccrueInterestInIdRange_givenIdRange_shouldOnlyUpdateThatRange() {
+        // Setup expectations
+        final PlanProperties planProperties = new PlanProperties();
+        planProperties.setPlans(List.of(plan("basic", new BigDecimal("0.12"), 0, false, null)));
+        final TimeDepositCalculator timeDepositCalculator = new TimeDepositCalculator(planProperties, new AccrualProperties());
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "WITHDRAWALS", "TIME_DEPOSITS");
+        for (int id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO TIME_DEPOSITS (ID, PLAN_TYPE, DAYS, BALANCE) VALUES (?, 'BASIC', 10, 100.00)", id);
+        }
+
+        // Perform SUT
+        final int updatedCount = timeDepositsRepository.accrueInterestInIdRange(
+                timeDepositCalculator.planEvaluatorIndex().evaluators(), 1, 3);
+
+        // Verify results
+        Assertions.assertEquals(2, updatedCount);
+        Assertions.assertEquals(List.of(2L, 3L), timeDepositsRepository.findTimeDepositIdsInIdRange(1, 3, 10));
+        final List<BigDecimal> balances = timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, 10).stream()
+                .map(TimeDepositsDto::getBalance)
+                .toList();
+        assertThat(balances).containsExactly(new BigDecimal("100.00"), new BigDecimal("101.00"), new BigDecimal("101.00"),
+                new BigDecimal("100.00"), new BigDecimal("100.00"));
+    }
+
+    private void replaceAccounts(final Random random) {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "WITHDRAWALS", "TIME_DEPOSITS");
+        final List<Object[]> rows = new ArrayList<>();
+        for (int id = 1; id <= ACCOUNTS_PER_REPETITION; id++) {
+            rows.add(new Object[]{id, PLAN_TYPES[random.nextInt(PLAN_TYPES.length)], random.nextInt(500), randomBalance(random)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO TIME_DEPOSITS (ID, PLAN_TYPE, DAYS, BALANCE) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private static boolean accrues(final TimeDepositCalculator timeDepositCalculator, final TimeDepositsDto dto) {
+        final var evaluator = timeDepositCalculator.planEvaluatorIndex().find(dto.getPlanType());
+        return evaluator != null && evaluator.accruesInterest(dto.getDays());
+    }
+
+    private static PlanProperties.Plan plan(final String planType, final BigDecimal interestRate, final int interestFreeDays,
+                                            final boolean interestEnds, final Integer interestEndsAfterDays) {
+        final PlanProperties.Plan plan = new PlanProperties.Plan();
+        plan.setPlanType(planType);
+        plan.setInterestRate(interestRate);
+        plan.setInterestFreeDays(interestFreeDays);
+        plan.setInterestEnds(interestEnds);
+        plan.setInterestEndsAfterDays(interestEndsAfterDays);
+        return plan;
+    }
+
+    private static BigDecimal randomRate(final Random random) {
+        final int scale = 1 + random.nextInt(6);
+        return BigDecimal.valueOf(random.nextInt((int) Math.pow(10, scale)) + 1, scale);
+    }
+
+    private static BigDecimal randomBalance(final Random random) {
+        final int magnitude = 1 + random.nextInt(12);
+        final long unscaled = (long) (random.nextDouble() * Math.pow(10, magnitude));
+        return BigDecimal.valueOf(random.nextInt(20) == 0 ? -unscaled : unscaled, 2);
+    }
+}
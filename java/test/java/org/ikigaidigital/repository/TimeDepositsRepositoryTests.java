@@ -1,7 +1,16 @@
 package org.ikigaidigital.repository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluator;
+import org.ikigaidigital.domain.component.calculator.PlanEvaluatorIndex;
+import org.ikigaidigital.domain.component.listing.ListingProperties;
+import org.ikigaidigital.domain.component.plan.PlanProperties;
 import org.ikigaidigital.domain.model.dto.TimeDepositsDto;
+import org.ikigaidigital.domain.model.dto.WithdrawalsDto;
 import org.ikigaidigital.domain.model.entity.TimeDeposits;
+import org.ikigaidigital.repository.time.deposits.AdaptiveBatchWriter;
+import org.ikigaidigital.repository.time.deposits.BatchWriterProperties;
 import org.ikigaidigital.repository.time.deposits.TimeDepositsRepository;
 import org.ikigaidigital.repository.withdrawal.WithdrawalsRepository;
 import org.junit.jupiter.api.Assertions;
@@ -10,22 +19,36 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import({TimeDepositsDataVersion.class, ListingProperties.class, AdaptiveBatchWriter.class, BatchWriterProperties.class, SimpleMeterRegistry.class})
 @TestInstance(TestInstance.Lifecycle.PER_METHOD)
 public class TimeDepositsRepositoryTests {
     @Autowired
     private TimeDepositsRepository timeDepositsRepository;
     @Autowired
     private WithdrawalsRepository withdrawalsRepository;
+    @Autowired
+    private TimeDepositsDataVersion timeDepositsDataVersion;
+    @Autowired
+    private ListingProperties listingProperties;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     @Test
     @DisplayName("""
@@ -73,6 +96,9 @@ public class TimeDepositsRepositoryTests {
         // Setup expectations
         withdrawalsRepository.deleteAll();
         timeDepositsRepository.deleteAll();
+        // Detach the lazy deposit proxies left behind by the deleted withdrawals before re-inserting ID 1
+        testEntityManager.flush();
+        testEntityManager.clear();
 
         final TimeDeposits timeDeposit = new TimeDeposits();
         timeDeposit.setId(1);
@@ -91,6 +117,7 @@ public class TimeDepositsRepositoryTests {
         final List<TimeDepositsDto> timeDepositsDtoList = List.of(timeDepositsDto);
 
         timeDepositsRepository.save(timeDeposit);
+        final long dataVersionBeforeUpdate = timeDepositsDataVersion.current();
 
         // Perform SUT
         timeDepositsRepository.batchUpdateTimeDepositAccounts(timeDepositsDtoList);
@@ -99,6 +126,7 @@ public class TimeDepositsRepositoryTests {
         final Optional<TimeDeposits> updatedTimeDeposit = timeDepositsRepository.findById(timeDeposit.getId());
         Assertions.assertTrue(updatedTimeDeposit.isPresent());
         Assertions.assertEquals(BigDecimal.valueOf(1200.00).setScale(2, RoundingMode.HALF_UP), updatedTimeDeposit.get().getBalance());
+        Assertions.assertTrue(timeDepositsDataVersion.current() > dataVersionBeforeUpdate);
     }
 
     @Test
@@ -127,4 +155,261 @@ public class TimeDepositsRepositoryTests {
         Assertions.assertTrue(timeDepositsList.isPresent());
         Assertions.assertTrue(timeDepositsList.get().isEmpty());
     }
+
+    @Test
+    @DisplayName("""
+            test 'BATCH UPDATE TIME DEPOSIT BALANCES' given time deposit accounts exist
+            when the 'batchUpdateTimeDepositBalances' method is called with changed plan types and balances
+            should update the balances only
+            """)
+    public void testBatchUpdateTimeDepositBalances_givenTimeDepositsExist_shouldUpdateBalancesOnly() {
+        // Setup expectations
+        final TimeDepositsDto timeDepositsDto = new TimeDepositsDto(2, "PREMIUM", new BigDecimal("2005.00"), 999);
+        final long dataVersionBeforeUpdate = timeDepositsDataVersion.current();
+
+        // Perform SUT
+        timeDepositsRepository.batchUpdateTimeDepositBalances(List.of(timeDepositsDto));
+
+        // Verify results
+        final TimeDepositsDto updated = timeDepositsRepository.findTimeDepositsInIdRange(1, 2, 1).get(0);
+        Assertions.assertEquals(new TimeDepositsDto(2, "STUDENT", new BigDecimal("2005.00"), 40), updated);
+        Assertions.assertTrue(timeDepositsDataVersion.current() > dataVersionBeforeUpdate);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'DATA VERSION' given another node bumps the shared data version
+            when the 'current' method is called after the poll interval
+            should move the local data version on
+            """)
+    public void testDataVersion_givenSharedVersionBumpedElsewhere_shouldMoveLocalVersionOn() {
+        // Setup expectations
+        final Duration versionPollInterval = listingProperties.getVersionPollInterval();
+        listingProperties.setVersionPollInterval(Duration.ZERO);
+        try {
+            final long dataVersionBeforeBump = timeDepositsDataVersion.current();
+            Assertions.assertEquals(dataVersionBeforeBump, timeDepositsDataVersion.current());
+
+            // Perform SUT
+            jdbcTemplate.update("UPDATE data_versions SET version = version + 1 WHERE name = 'TIME_DEPOSITS'");
+
+            // Verify results
+            Assertions.assertTrue(timeDepositsDataVersion.current() > dataVersionBeforeBump);
+        } finally {
+            listingProperties.setVersionPollInterval(versionPollInterval);
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'DATA VERSION' given a write on this node
+            when the 'bump' and then the 'publish' methods are called
+            should only increment the shared data version read by other nodes on publish
+            """)
+    public void testDataVersion_givenLocalBumpThenPublish_shouldIncrementSharedVersionOnPublishOnly() {
+        // Setup expectations
+        final String sql = "SELECT version FROM data_versions WHERE name = 'TIME_DEPOSITS'";
+        final long sharedVersionBeforeBump = jdbcTemplate.queryForObject(sql, Long.class);
+        final long dataVersionBeforeBump = timeDepositsDataVersion.current();
+
+        // Perform SUT
+        timeDepositsDataVersion.bump();
+
+        // Verify results
+        Assertions.assertTrue(timeDepositsDataVersion.current() > dataVersionBeforeBump);
+        Assertions.assertEquals(sharedVersionBeforeBump, jdbcTemplate.queryForObject(sql, Long.class));
+
+        // Perform SUT
+        timeDepositsDataVersion.publish("test-trace-id");
+
+        // Verify results
+        Assertions.assertEquals(sharedVersionBeforeBump + 1, jdbcTemplate.queryForObject(sql, Long.class));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND ACCRUAL ELIGIBLE TIME DEPOSITS IN ID RANGE' given accounts inside and outside their interest window
+            when the 'findAccrualEligibleTimeDepositsInIdRange' and 'countAccrualEligibleTimeDeposits' methods are called
+            should return and count only the accounts whose plan is known and whose days lie in the interest window
+            """)
+    public void testFindAccrualEligibleTimeDepositsInIdRange_givenMixedAccounts_shouldReturnEligibleOnly() {
+        // Setup expectations
+        final List<PlanEvaluator> plans = List.of(
+                PlanEvaluator.compile(plan("student", new BigDecimal("0.03"), 30, true, 200)),
+                PlanEvaluator.compile(plan("basic", new BigDecimal("0.01"), 30, false, null)));
+
+        // Perform SUT
+        final List<TimeDepositsDto> firstChunk = timeDepositsRepository.findAccrualEligibleTimeDepositsInIdRange(plans, Long.MIN_VALUE, Long.MAX_VALUE, 3);
+        final List<TimeDepositsDto> secondChunk = timeDepositsRepository.findAccrualEligibleTimeDepositsInIdRange(plans, firstChunk.get(2).getId(), Long.MAX_VALUE, 3);
+        final long eligibleCount = timeDepositsRepository.countAccrualEligibleTimeDeposits(plans);
+
+        // Verify results
+        // Account 1 is interest-free, account 5 is past the student interest end and premium is not configured
+        Assertions.assertEquals(List.of(2, 4, 7), firstChunk.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(List.of(8, 10), secondChunk.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(5, eligibleCount);
+        Assertions.assertTrue(timeDepositsRepository.findAccrualEligibleTimeDepositsInIdRange(List.of(), Long.MIN_VALUE, Long.MAX_VALUE, 10).isEmpty());
+        Assertions.assertEquals(0, timeDepositsRepository.countAccrualEligibleTimeDeposits(List.of()));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND ACCRUAL ELIGIBLE TIME DEPOSITS IN ID RANGE' given accounts stored with mixed-case plan types
+            when the pushed-down eligibility and the in-database accrual are compared with the in-application plan lookup
+            should read and accrue exactly the accounts the lookup accrues, with the same balances
+            """)
+    public void testFindAccrualEligibleTimeDepositsInIdRange_givenMixedCasePlanTypes_shouldMatchPlanLookup() {
+        // Setup expectations
+        jdbcTemplate.update("""
+                INSERT INTO time_deposits (id, plan_type, days, balance) VALUES
+                (11, 'Basic', 40, 700.00), (12, 'basic', 20, 800.00), (13, 'Premium', 60, 9000.00),
+                (14, 'premium', 45, 900.00), (15, 'Student', 100, 1200.00), (16, 'sTUDENT', 400, 1300.00)
+                """);
+        final PlanEvaluatorIndex index = PlanEvaluatorIndex.compile(List.of(
+                plan("student", new BigDecimal("0.03"), 30, true, 365),
+                plan("premium", new BigDecimal("0.05"), 45, false, null),
+                plan("basic", new BigDecimal("0.01"), 30, false, null)));
+        final List<TimeDepositsDto> expected = timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE)
+                .stream()
+                .filter(dto -> index.find(dto.getPlanType()) != null && index.find(dto.getPlanType()).accruesInterest(dto.getDays()))
+                .toList();
+
+        // Perform SUT
+        final List<TimeDepositsDto> pushedDown = timeDepositsRepository.findAccrualEligibleTimeDepositsInIdRange(index.evaluators(),
+                Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+        final long eligibleCount = timeDepositsRepository.countAccrualEligibleTimeDeposits(index.evaluators());
+        final int accruedInDatabase = timeDepositsRepository.accrueInterestInIdRange(index.evaluators(), Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // Verify results
+        Assertions.assertEquals(List.of(2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 15), expected.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(expected, pushedDown);
+        Assertions.assertEquals(expected.size(), eligibleCount);
+        Assertions.assertEquals(expected.size(), accruedInDatabase);
+        final List<TimeDepositsDto> accrued = timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+        for (TimeDepositsDto dto : expected) {
+            final TimeDepositsDto actual = accrued.stream().filter(row -> row.getId() == dto.getId()).findFirst().orElseThrow();
+            Assertions.assertEquals(index.find(dto.getPlanType()).updatedBalance(dto.getDays(), dto.getBalance()), actual.getBalance());
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND TIME DEPOSITS IN ID RANGE' given time deposit accounts exist in the database
+            when the 'findTimeDepositsInIdRange' method is called with a limit
+            should return the next page of accounts in the range ordered by ID, starting after the given ID
+            """)
+    public void testFindTimeDepositsInIdRange_givenTimeDepositsExist_shouldReturnNextChunkOrderedById() {
+        // Perform SUT
+        final List<TimeDepositsDto> firstChunk = timeDepositsRepository.findTimeDepositsInIdRange(Long.MIN_VALUE, Long.MAX_VALUE, 4);
+        final List<TimeDepositsDto> secondChunk = timeDepositsRepository.findTimeDepositsInIdRange(firstChunk.get(firstChunk.size() - 1).getId(), Long.MAX_VALUE, 4);
+        final List<TimeDepositsDto> lastChunk = timeDepositsRepository.findTimeDepositsInIdRange(8, Long.MAX_VALUE, 4);
+        final List<TimeDepositsDto> boundedChunk = timeDepositsRepository.findTimeDepositsInIdRange(2, 5, 10);
+
+        // Verify results
+        Assertions.assertEquals(List.of(1, 2, 3, 4), firstChunk.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(List.of(5, 6, 7, 8), secondChunk.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(List.of(9, 10), lastChunk.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(List.of(3, 4, 5), boundedChunk.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(new TimeDepositsDto(1, "BASIC", new BigDecimal("1000.00"), 10), firstChunk.get(0));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND MIN AND MAX TIME DEPOSIT ID' given time deposit accounts exist in the database
+            when the 'findMinTimeDepositId' and 'findMaxTimeDepositId' methods are called
+            should return the bounds of the ID space
+            """)
+    public void testFindMinAndMaxTimeDepositId_givenTimeDepositsExist_shouldReturnIdBounds() {
+        // Perform SUT and verify results
+        Assertions.assertEquals(Optional.of(1), timeDepositsRepository.findMinTimeDepositId());
+        Assertions.assertEquals(Optional.of(10), timeDepositsRepository.findMaxTimeDepositId());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'STREAM ALL TIME DEPOSITS' given time deposit accounts exist in the database
+            when the 'streamAllTimeDeposits' method is called with a fetch size smaller than the table
+            should hand every account to the consumer in ID order and return the count
+            """)
+    public void testStreamAllTimeDeposits_givenTimeDepositsExist_shouldStreamAllAccountsOrderedById() {
+        // Setup expectations
+        final List<TimeDepositsDto> streamedAccounts = new ArrayList<>();
+
+        // Perform SUT
+        final long streamedCount = timeDepositsRepository.streamAllTimeDeposits(3, streamedAccounts::add);
+
+        // Verify results
+        Assertions.assertEquals(10, streamedCount);
+        Assertions.assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), streamedAccounts.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(new TimeDepositsDto(1, "BASIC", new BigDecimal("1000.00"), 10), streamedAccounts.get(0));
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND TIME DEPOSITS PAGE' given time deposit accounts exist in the database
+            when the 'findTimeDepositsPage' method is called with a plan type and balance range
+            should return only the matching accounts after the given ID, ordered by ID
+            """)
+    public void testFindTimeDepositsPage_givenFilters_shouldReturnMatchingAccountsOrderedById() {
+        // Perform SUT
+        final List<TimeDepositsDto> unfilteredPage = timeDepositsRepository.findTimeDepositsPage(3, null, null, null, 3);
+        final List<TimeDepositsDto> planTypePage = timeDepositsRepository.findTimeDepositsPage(Long.MIN_VALUE, "BASIC", null, null, 10);
+        final List<TimeDepositsDto> balancePage = timeDepositsRepository.findTimeDepositsPage(1, null,
+                new BigDecimal("2000.00"), new BigDecimal("5000.00"), 10);
+        final List<TimeDepositsDto> combinedPage = timeDepositsRepository.findTimeDepositsPage(Long.MIN_VALUE, "PREMIUM",
+                new BigDecimal("6000.00"), null, 1);
+
+        // Verify results
+        Assertions.assertEquals(List.of(4, 5, 6), unfilteredPage.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(List.of(1, 4, 7, 10), planTypePage.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(List.of(2, 3, 5, 8), balancePage.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(List.of(new TimeDepositsDto(6, "PREMIUM", new BigDecimal("8000.00"), 120)), combinedPage);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND TIME DEPOSITS PAGE' given accounts stored with lower- and mixed-case plan types
+            when the 'findTimeDepositsPage' method is called with a plan type in any case
+            should return the accounts of that plan whatever the case they are stored in
+            """)
+    public void testFindTimeDepositsPage_givenMixedCasePlanTypes_shouldMatchIgnoringCase() {
+        // Setup expectations
+        jdbcTemplate.update("INSERT INTO time_deposits (id, plan_type, days, balance) VALUES (11, 'basic', 40, 700.00), (12, 'Basic', 50, 800.00)");
+
+        // Perform SUT
+        final List<TimeDepositsDto> upperCasePage = timeDepositsRepository.findTimeDepositsPage(Long.MIN_VALUE, "BASIC", null, null, 10);
+        final List<TimeDepositsDto> mixedCasePage = timeDepositsRepository.findTimeDepositsPage(Long.MIN_VALUE, "bAsIc", null, null, 10);
+
+        // Verify results
+        Assertions.assertEquals(List.of(1, 4, 7, 10, 11, 12), upperCasePage.stream().map(TimeDepositsDto::getId).toList());
+        Assertions.assertEquals(upperCasePage, mixedCasePage);
+        Assertions.assertEquals("Basic", mixedCasePage.get(5).getPlanType());
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND WITHDRAWALS BY TIME DEPOSIT IDS' given withdrawals exist for several deposits
+            when the 'findWithdrawalsByTimeDepositIds' method is called with a page of deposit IDs
+            should return the withdrawals of only those deposits as projections, ordered by deposit and date
+            """)
+    public void testFindWithdrawalsByTimeDepositIds_givenWithdrawalsExist_shouldReturnProjectionsForRequestedDeposits() {
+        // Perform SUT
+        final List<WithdrawalsDto> withdrawals = withdrawalsRepository.findWithdrawalsByTimeDepositIds(List.of(1, 2, 999));
+
+        // Verify results
+        Assertions.assertEquals(List.of(1, 1, 2, 2), withdrawals.stream().map(WithdrawalsDto::getTimeDepositId).toList());
+        Assertions.assertEquals(new WithdrawalsDto(1, 1, new BigDecimal("100.00"), LocalDate.of(2024, 5, 1)), withdrawals.get(0));
+        Assertions.assertEquals(new WithdrawalsDto(2, 1, new BigDecimal("50.00"), LocalDate.of(2024, 5, 10)), withdrawals.get(1));
+    }
+
+    private static PlanProperties.Plan plan(final String planType, final BigDecimal interestRate, final int interestFreeDays,
+                                            final boolean interestEnds, final Integer interestEndsAfterDays) {
+        final PlanProperties.Plan plan = new PlanProperties.Plan();
+        plan.setPlanType(planType);
+        plan.setInterestRate(interestRate);
+        plan.setInterestFreeDays(interestFreeDays);
+        plan.setInterestEnds(interestEnds);
+        plan.setInterestEndsAfterDays(interestEndsAfterDays);
+        return plan;
+    }
 }
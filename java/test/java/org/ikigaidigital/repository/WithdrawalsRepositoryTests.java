@@ -0,0 +1,102 @@
+package org.ikigaidigital.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ikigaidigital.domain.component.cache.TimeDepositsDataVersion;
+import org.ikigaidigital.domain.component.listing.ListingProperties;
+import org.ikigaidigital.domain.model.dto.WithdrawalPeriodTotalDto;
+import org.ikigaidigital.domain.model.dto.WithdrawalsDto;
+import org.ikigaidigital.repository.time.deposits.AdaptiveBatchWriter;
+import org.ikigaidigital.repository.time.deposits.BatchWriterProperties;
+import org.ikigaidigital.repository.withdrawal.WithdrawalsRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TimeDepositsDataVersion.class, ListingProperties.class, AdaptiveBatchWriter.class, BatchWriterProperties.class, SimpleMeterRegistry.class})
+public class WithdrawalsRepositoryTests {
+    @Autowired
+    private WithdrawalsRepository withdrawalsRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("""
+            test 'FIND WITHDRAWALS BY TIME DEPOSIT ID AND DATE BETWEEN' given withdrawals inside and outside a date range
+            when the 'findWithdrawalsByTimeDepositIdAndDateBetween' method is called
+            should return only that deposit's withdrawals within the range, bounds included, ordered by date
+            """)
+    public void testFindWithdrawalsByTimeDepositIdAndDateBetween_givenDateRange_shouldReturnWithdrawalsInRange() {
+        // Setup expectations
+        insertWithdrawal(101, 3, "25.00", "2024-05-31");
+        insertWithdrawal(102, 3, "10.00", "2024-07-01");
+
+        // Perform SUT
+        final List<WithdrawalsDto> withdrawals = withdrawalsRepository.findWithdrawalsByTimeDepositIdAndDateBetween(
+                3, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+
+        // Verify results
+        Assertions.assertEquals(List.of(
+                new WithdrawalsDto(5, 3, new BigDecimal("500.00"), LocalDate.of(2024, 6, 1)),
+                new WithdrawalsDto(6, 3, new BigDecimal("1000.00"), LocalDate.of(2024, 6, 15))), withdrawals);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND MONTHLY WITHDRAWAL TOTALS' given several withdrawals per deposit across months
+            when the 'findMonthlyWithdrawalTotals' method is called for a statement period
+            should return the total and count per deposit and month within the period, ordered by deposit and month
+            """)
+    public void testFindMonthlyWithdrawalTotals_givenWithdrawalsAcrossMonths_shouldReturnTotalsPerDepositAndMonth() {
+        // Setup expectations
+        insertWithdrawal(101, 2, "25.50", "2024-06-20");
+        insertWithdrawal(102, 2, "1.00", "2024-08-01");
+
+        // Perform SUT
+        final List<WithdrawalPeriodTotalDto> totals = withdrawalsRepository.findMonthlyWithdrawalTotals(
+                List.of(1, 2, 999), LocalDate.of(2024, 5, 1), LocalDate.of(2024, 7, 31));
+
+        // Verify results
+        Assertions.assertEquals(List.of(
+                new WithdrawalPeriodTotalDto(1, YearMonth.of(2024, 5), new BigDecimal("150.00"), 2),
+                new WithdrawalPeriodTotalDto(2, YearMonth.of(2024, 5), new BigDecimal("200.00"), 1),
+                new WithdrawalPeriodTotalDto(2, YearMonth.of(2024, 6), new BigDecimal("125.50"), 2)), totals);
+    }
+
+    @Test
+    @DisplayName("""
+            test 'FIND LATEST WITHDRAWALS' given several deposits, some with more withdrawals than the limit
+            when the 'findLatestWithdrawals' method is called
+            should return at most the limit of each deposit's most recent withdrawals, newest first per deposit
+            """)
+    public void testFindLatestWithdrawals_givenLimit_shouldReturnNewestFirstPerDeposit() {
+        // Setup expectations
+        insertWithdrawal(101, 4, "5.00", "2024-07-15");
+        insertWithdrawal(102, 2, "7.50", "2024-06-20");
+        insertWithdrawal(103, 2, "2.50", "2024-06-25");
+
+        // Perform SUT
+        final List<WithdrawalsDto> withdrawals = withdrawalsRepository.findLatestWithdrawals(List.of(2, 4, 5, 999), 2);
+
+        // Verify results
+        Assertions.assertEquals(List.of(103, 102, 101, 8, 10, 9), withdrawals.stream().map(WithdrawalsDto::getId).toList());
+        Assertions.assertEquals(List.of(2, 2, 4, 4, 5, 5), withdrawals.stream().map(WithdrawalsDto::getTimeDepositId).toList());
+        Assertions.assertTrue(withdrawalsRepository.findLatestWithdrawals(List.of(999), 2).isEmpty());
+    }
+
+    private void insertWithdrawal(final int id, final int timeDepositId, final String amount, final String date) {
+        jdbcTemplate.update("INSERT INTO WITHDRAWALS (ID, AMOUNT, DATE, TIME_DEPOSIT_ID) VALUES (?, ?, ?, ?)",
+                id, new BigDecimal(amount), LocalDate.parse(date), timeDepositId);
+    }
+}